@@ -0,0 +1,378 @@
+package com.fid.job.cache;
+
+import com.fid.job.dto.CategoryDTO;
+import com.fid.job.event.ProjectChangedEvent;
+import com.fid.job.mapper.CategoryMapper;
+import com.fid.job.model.Project;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 카테고리별 활성 프로젝트 수 (인메모리 증감 + 주기적 보정)
+ * - 기동 시 활성 프로젝트별 (카테고리 키, 근무 형태)를 한 번 읽어 적재하고 프로젝트마다 마지막으로 본 상태를 보관
+ * - 프로젝트 행 변경 이벤트는 변경 후 행을 보관한 상태와 비교해 바뀐 만큼만 증감
+ *   (status 가 active 로/에서 바뀌거나 work_type, 카테고리가 바뀌는 경우, 변경 전 행을 모르는 DB 변경 추적 이벤트 포함)
+ * - 적재 중 들어온 이벤트는 기록해 두었다가 적재 결과 위에 다시 반영 (적재 중에도 이전 스냅샷을 계속 제공)
+ * - 주기적으로 GROUP BY 집계와 비교해 다르거나 카테고리 정보가 바뀌었으면 프로젝트별 상태를 다시 적재
+ *   (애플리케이션 밖 변경, 이벤트 누락 대비)
+ * - 조회는 불변 스냅샷 (목록은 수정 불가, 스냅샷마다 새 DTO)
+ *
+ * 집계 기준
+ * - 카테고리 키: category_id 의 활성 카테고리 slug, 없으면 projects.category
+ * - count 는 활성 프로젝트 수, hybrid 는 onsiteCount 와 remoteCount 에 모두 포함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryStatsCache {
+
+    private static final String ACTIVE = "active";
+
+    private final CategoryMapper categoryMapper;
+    private final ResourceVersions resourceVersions;
+
+    // 적재 직렬화 (먼저 읽은 결과가 나중에 덮어쓰지 않도록, 최초 적재 시 요청이 한 번만 DB 조회)
+    private final Object reloadLock = new Object();
+
+    // 아래 필드는 this 로 동기화
+    private List<CategoryDTO> categories = Collections.emptyList();
+    private final Map<Long, String> slugs = new HashMap<>();
+    private final Map<String, WorkTypeCounts> counts = new HashMap<>();
+    // 집계에 포함된 활성 프로젝트별 마지막 상태 (비활성/삭제/카테고리 키 없음은 없음)
+    private Map<Long, State> states = new HashMap<>();
+    // 적재 중 받은 이벤트의 프로젝트별 변경 후 행 (삭제는 null 값), 적재 중이 아니면 null
+    // 상태는 적재한 카테고리 기준으로 다시 계산하도록 행을 보관
+    private Map<Long, Project> changedDuringLoad;
+    private boolean loaded;
+    // 증감 반영 횟수 (GROUP BY 집계 중 증감이 있었으면 그 주기의 비교는 건너뜀)
+    private long adjustments;
+
+    private volatile Snapshot snapshot = new Snapshot(Collections.emptyList());
+
+    @PostConstruct
+    public void seed() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.warn("카테고리 통계 초기 적재 실패 (첫 조회 시 재시도): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 활성 카테고리 목록 (display_order 순)
+     */
+    public List<CategoryDTO> getAll() {
+        return current().list;
+    }
+
+    /**
+     * @return 없거나 비활성 카테고리면 null
+     */
+    public CategoryDTO getById(Long id) {
+        return current().byId.get(id);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        if (event.getType() == ProjectChangedEvent.Type.COUNTERS) {
+            return;
+        }
+        synchronized (this) {
+            if (changedDuringLoad != null) {
+                changedDuringLoad.put(event.getProjectId(), event.getAfter());
+            }
+            if (loaded && apply(event.getProjectId(), stateOf(event.getAfter()))) {
+                adjustments++;
+                publish();
+            }
+        }
+    }
+
+    /**
+     * GROUP BY 집계, 카테고리 정보(이름, 순서 등)와 비교해 다르면 다시 적재
+     */
+    @Scheduled(initialDelayString = "${app.category-stats.reconcile-ms:300000}",
+               fixedDelayString = "${app.category-stats.reconcile-ms:300000}")
+    public void reconcile() {
+        try {
+            synchronized (reloadLock) {
+                if (!matchesDatabase()) {
+                    load();
+                }
+            }
+        } catch (Exception e) {
+            log.error("카테고리 통계 보정 실패", e);
+        }
+    }
+
+    private Snapshot current() {
+        if (!loaded()) {
+            synchronized (reloadLock) {
+                if (!loaded()) {
+                    load();
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    private synchronized boolean loaded() {
+        return loaded;
+    }
+
+    private void reload() {
+        synchronized (reloadLock) {
+            load();
+        }
+    }
+
+    /**
+     * @return 인메모리 값이 DB 와 같거나 집계 중 증감이 있어 판단을 다음 주기로 미룬 경우 true
+     */
+    private boolean matchesDatabase() {
+        long adjustmentsBefore;
+        synchronized (this) {
+            if (!loaded) {
+                return false;
+            }
+            adjustmentsBefore = adjustments;
+        }
+        List<CategoryDTO> rows = categoryMapper.findActiveCategories();
+        Map<String, WorkTypeCounts> grouped = new HashMap<>();
+        for (Map<String, Object> row : categoryMapper.countActiveProjectsByCategory()) {
+            Object category = row.get("category");
+            Object count = row.get("projectCount");
+            if (category == null || count == null) {
+                continue;
+            }
+            grouped.computeIfAbsent(category.toString(), k -> new WorkTypeCounts())
+                    .add((String) row.get("workType"), ((Number) count).longValue());
+        }
+        synchronized (this) {
+            if (adjustments != adjustmentsBefore) {
+                return true;
+            }
+            if (!counts.equals(grouped)) {
+                log.warn("카테고리 통계 보정 - 인메모리 값과 DB 집계가 달라 다시 적재");
+                return false;
+            }
+            return categories.equals(rows);
+        }
+    }
+
+    /**
+     * 카테고리와 활성 프로젝트별 상태를 읽어 교체하고, 읽는 동안 받은 이벤트를 그 위에 다시 반영
+     */
+    private void load() {
+        synchronized (this) {
+            changedDuringLoad = new HashMap<>();
+        }
+        try {
+            // DB 조회는 this 잠금 밖에서 (조회 요청과 이벤트는 적재 중에도 이전 스냅샷으로 처리)
+            List<CategoryDTO> rows = categoryMapper.findActiveCategories();
+            Map<Long, State> fresh = new HashMap<>();
+            for (Map<String, Object> row : categoryMapper.findActiveProjectCategories()) {
+                Object id = row.get("id");
+                Object category = row.get("category");
+                if (id == null || category == null) {
+                    continue;
+                }
+                fresh.put(((Number) id).longValue(), new State(category.toString(), (String) row.get("workType")));
+            }
+
+            synchronized (this) {
+                List<CategoryDTO> previousCategories = categories;
+                Map<String, WorkTypeCounts> previousCounts = new HashMap<>(counts);
+                categories = rows;
+                slugs.clear();
+                for (CategoryDTO category : rows) {
+                    slugs.put(category.getId(), category.getSlug());
+                }
+                states = new HashMap<>();
+                counts.clear();
+                for (Map.Entry<Long, State> entry : fresh.entrySet()) {
+                    apply(entry.getKey(), entry.getValue());
+                }
+                for (Map.Entry<Long, Project> entry : changedDuringLoad.entrySet()) {
+                    apply(entry.getKey(), stateOf(entry.getValue()));
+                }
+                boolean first = !loaded;
+                loaded = true;
+                if (first || !previousCategories.equals(rows) || !previousCounts.equals(counts)) {
+                    publish();
+                    if (!first) {
+                        resourceVersions.bump(ResourceVersions.CATEGORIES);
+                    }
+                }
+            }
+        } finally {
+            synchronized (this) {
+                changedDuringLoad = null;
+            }
+        }
+    }
+
+    /**
+     * 집계 대상 상태 (비활성, 삭제, 카테고리 키가 없으면 null)
+     */
+    private State stateOf(Project project) {
+        if (project == null || !ACTIVE.equals(project.getStatus())) {
+            return null;
+        }
+        String key = project.getCategoryId() != null && slugs.containsKey(project.getCategoryId())
+                ? slugs.get(project.getCategoryId())
+                : project.getCategory();
+        return key != null ? new State(key, project.getWorkType()) : null;
+    }
+
+    /**
+     * 프로젝트 상태 교체 (이전 상태를 빼고 새 상태를 더함)
+     *
+     * @return 집계가 바뀌었으면 true
+     */
+    private boolean apply(Long projectId, State state) {
+        State previous = state != null ? states.put(projectId, state) : states.remove(projectId);
+        if (Objects.equals(previous, state)) {
+            return false;
+        }
+        adjust(previous, -1);
+        adjust(state, 1);
+        return true;
+    }
+
+    private void adjust(State state, int delta) {
+        if (state == null) {
+            return;
+        }
+        WorkTypeCounts workTypeCounts = counts.computeIfAbsent(state.key, k -> new WorkTypeCounts());
+        workTypeCounts.add(state.workType, delta);
+        if (workTypeCounts.isEmpty()) {
+            counts.remove(state.key);
+        }
+    }
+
+    private void publish() {
+        List<CategoryDTO> list = new ArrayList<>(categories.size());
+        for (CategoryDTO category : categories) {
+            WorkTypeCounts workTypeCounts = counts.get(category.getSlug());
+            CategoryDTO copy = copy(category);
+            copy.setCount(workTypeCounts != null ? (int) workTypeCounts.total() : 0);
+            copy.setOnsiteCount(workTypeCounts != null ? (int) (workTypeCounts.onsite + workTypeCounts.hybrid) : 0);
+            copy.setRemoteCount(workTypeCounts != null ? (int) (workTypeCounts.remote + workTypeCounts.hybrid) : 0);
+            list.add(copy);
+        }
+        snapshot = new Snapshot(list);
+    }
+
+    private static CategoryDTO copy(CategoryDTO source) {
+        return CategoryDTO.builder()
+                .id(source.getId())
+                .name(source.getName())
+                .nameEn(source.getNameEn())
+                .slug(source.getSlug())
+                .description(source.getDescription())
+                .icon(source.getIcon())
+                .imageUrl(source.getImageUrl())
+                .isFeatured(source.getIsFeatured())
+                .colorPrimary(source.getColorPrimary())
+                .colorSecondary(source.getColorSecondary())
+                .build();
+    }
+
+    /**
+     * 근무 형태별 활성 프로젝트 수
+     */
+    private static final class WorkTypeCounts {
+        private long onsite;
+        private long remote;
+        private long hybrid;
+        private long other;
+
+        void add(String workType, long delta) {
+            if ("onsite".equals(workType)) {
+                onsite += delta;
+            } else if ("remote".equals(workType)) {
+                remote += delta;
+            } else if ("hybrid".equals(workType)) {
+                hybrid += delta;
+            } else {
+                other += delta;
+            }
+        }
+
+        long total() {
+            return onsite + remote + hybrid + other;
+        }
+
+        boolean isEmpty() {
+            return onsite == 0 && remote == 0 && hybrid == 0 && other == 0;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof WorkTypeCounts)) {
+                return false;
+            }
+            WorkTypeCounts that = (WorkTypeCounts) o;
+            return onsite == that.onsite && remote == that.remote && hybrid == that.hybrid && other == that.other;
+        }
+
+        @Override
+        public int hashCode() {
+            return (int) (31 * (31 * (31 * onsite + remote) + hybrid) + other);
+        }
+    }
+
+    /**
+     * 프로젝트 하나가 집계에 포함된 위치 (카테고리 키, 근무 형태)
+     */
+    private static final class State {
+        private final String key;
+        private final String workType;
+
+        private State(String key, String workType) {
+            this.key = key;
+            this.workType = workType;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof State)) {
+                return false;
+            }
+            State that = (State) o;
+            return key.equals(that.key) && Objects.equals(workType, that.workType);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * key.hashCode() + Objects.hashCode(workType);
+        }
+    }
+
+    private static final class Snapshot {
+        private final List<CategoryDTO> list;
+        private final Map<Long, CategoryDTO> byId;
+
+        private Snapshot(List<CategoryDTO> list) {
+            Map<Long, CategoryDTO> index = new LinkedHashMap<>();
+            for (CategoryDTO category : list) {
+                index.put(category.getId(), category);
+            }
+            this.list = Collections.unmodifiableList(list);
+            this.byId = Collections.unmodifiableMap(index);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.fid.job.cache;
+
+import com.fid.job.event.FreelancerChangedEvent;
+import com.fid.job.event.ProjectChangedEvent;
+import com.fid.job.event.ViewCountsFlushedEvent;
+import com.fid.job.mapper.FreelancerMapper;
+import com.fid.job.mapper.ProjectMapper;
+import com.fid.job.mapper.RemoteProjectMapper;
+import com.fid.job.model.Freelancer;
+import com.fid.job.model.Project;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 프로젝트/프리랜서 상세 조회 캐시 (버전 기반 near-cache)
+ * - 사용자와 무관한 상세 행(JOIN 결과)만 보관, 북마크/지원 여부와 조회수는 조회 시 호출자가 덧씌움
+ * - 엔터티별 버전 번호를 변경 이벤트(행 변경, 북마크/지원 집계 변경)마다 올려 해당 항목만 무효화
+ *   조회수 증가는 ViewCounterService 가 미반영분을 더해 주므로 무효화하지 않고, DB 에 반영된 묶음마다 해당 항목만 무효화
+ * - 애플리케이션 밖 변경(집계 보정 등)은 TTL 로 반영
+ * - getMany 류는 캐시에 없는 ID 만 IN (...) 쿼리 한 번으로 적재
+ *
+ * 지표 (Micrometer)
+ * - detail.cache.requests{region, result=hit|miss}, detail.cache.size{region}
+ */
+@Slf4j
+@Component
+public class DetailCache {
+
+    // 같은 projects 행을 보는 두 영역(일반/원격 상세)이 버전을 공유
+    private final VersionedCache.Versions projectVersions;
+    private final VersionedCache.Versions freelancerVersions;
+
+    private final VersionedCache<Project> projects;
+    private final VersionedCache<Project> remoteProjects;
+    private final VersionedCache<Freelancer> freelancers;
+
+    public DetailCache(ProjectMapper projectMapper,
+                       RemoteProjectMapper remoteProjectMapper,
+                       FreelancerMapper freelancerMapper,
+                       MeterRegistry meterRegistry,
+                       @Value("${app.detail-cache.max-entries:5000}") int maxEntries,
+                       @Value("${app.detail-cache.ttl-ms:300000}") long ttlMs) {
+        // TTL 이 지난 버전은 그 이전에 적재된 항목이 모두 만료되었으므로 정리
+        this.projectVersions = new VersionedCache.Versions(ttlMs);
+        this.freelancerVersions = new VersionedCache.Versions(ttlMs);
+        this.projects = new VersionedCache<>("project", projectVersions,
+                projectMapper::findById, projectMapper::findDetailsByIds, Project::getId,
+                DetailCache::copyProject, maxEntries, ttlMs, meterRegistry);
+        this.remoteProjects = new VersionedCache<>("remote-project", projectVersions,
+                remoteProjectMapper::findById, remoteProjectMapper::findDetailsByIds, Project::getId,
+                DetailCache::copyProject, maxEntries, ttlMs, meterRegistry);
+        this.freelancers = new VersionedCache<>("freelancer", freelancerVersions,
+                freelancerMapper::findById, freelancerMapper::findByIds, Freelancer::getId,
+                DetailCache::copyFreelancer, maxEntries, ttlMs, meterRegistry);
+    }
+
+    /**
+     * 프로젝트 상세 (ProjectMapper.findById 형태, 호출자가 수정해도 되는 복사본)
+     *
+     * @return 없으면 null
+     */
+    public Project project(Long id) {
+        return projects.get(id);
+    }
+
+    public List<Project> projects(List<Long> ids) {
+        return projects.getMany(ids);
+    }
+
+    /**
+     * 원격/상주 프로젝트 상세 (RemoteProjectMapper.findById 형태)
+     */
+    public Project remoteProject(Long id) {
+        return remoteProjects.get(id);
+    }
+
+    public List<Project> remoteProjects(List<Long> ids) {
+        return remoteProjects.getMany(ids);
+    }
+
+    /**
+     * 프리랜서 상세 (활성 사용자만)
+     */
+    public Freelancer freelancer(Long id) {
+        return freelancers.get(id);
+    }
+
+    public List<Freelancer> freelancers(List<Long> ids) {
+        return freelancers.getMany(ids);
+    }
+
+    /**
+     * 행 변경과 상세에 표시되는 북마크/지원 집계 변경 시 버전 증가 (커밋 이후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        if (event.getType() == ProjectChangedEvent.Type.COUNTERS
+                && ProjectChangedEvent.VIEWS.equals(event.getCounter())) {
+            return;
+        }
+        projectVersions.bump(event.getProjectId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFreelancerChanged(FreelancerChangedEvent event) {
+        freelancerVersions.bump(event.getFreelancerId());
+    }
+
+    /**
+     * 반영된 조회수가 캐시된 행에 없으므로 다시 적재 (미반영분이 빠지기 전에 호출됨)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onViewCountsFlushed(ViewCountsFlushedEvent event) {
+        VersionedCache.Versions versions = "projects".equals(event.getTable()) ? projectVersions
+                : "freelancers".equals(event.getTable()) ? freelancerVersions : null;
+        if (versions != null) {
+            for (Long id : event.getIds()) {
+                versions.bump(id);
+            }
+        }
+    }
+
+    /**
+     * 전체 비우기 (애플리케이션 밖 대량 변경 후)
+     */
+    public void clear() {
+        projects.clear();
+        remoteProjects.clear();
+        freelancers.clear();
+        log.info("상세 조회 캐시 전체 비움");
+    }
+
+    /**
+     * BeanUtils 복사는 얕은 복사이므로 목록 필드는 새 목록으로 복사
+     */
+    private static Project copyProject(Project source) {
+        Project copy = new Project();
+        BeanUtils.copyProperties(source, copy);
+        copy.setRequiredSkillList(copyList(source.getRequiredSkillList()));
+        copy.setPreferredSkillList(copyList(source.getPreferredSkillList()));
+        copy.setRemoteToolList(copyList(source.getRemoteToolList()));
+        copy.setCommunicationMethodList(copyList(source.getCommunicationMethodList()));
+        copy.setBenefitList(copyList(source.getBenefitList()));
+        copy.setDeliverableList(copyList(source.getDeliverableList()));
+        copy.setRequirementList(copyList(source.getRequirementList()));
+        return copy;
+    }
+
+    private static <E> List<E> copyList(List<E> source) {
+        return source == null ? null : new ArrayList<>(source);
+    }
+
+    private static Freelancer copyFreelancer(Freelancer source) {
+        Freelancer copy = new Freelancer();
+        BeanUtils.copyProperties(source, copy);
+        return copy;
+    }
+}
@@ -0,0 +1,274 @@
+package com.fid.job.cache;
+
+import com.fid.job.event.FreelancerChangedEvent;
+import com.fid.job.mapper.FreelancerMapper;
+import com.fid.job.mapper.ProjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 목록 전체 건수 캐시
+ * - 페이징/정렬을 제외한 필터 조건을 정규화한 시그니처를 키로 COUNT 결과를 보관
+ * - 테이블(도메인)별 세대(generation) 값이 바뀌면 이전 세대 항목은 무효
+ * - 세대는 프리랜서 변경 이벤트와 주기적인 테이블 지문(행 수 + 최종 수정 시각) 비교로 증가
+ *
+ * totalMode
+ * - exact    : 유효한 캐시 또는 COUNT 쿼리 (기본값)
+ * - estimate : 만료된 캐시(저장 후 estimate-max-age-ms 이내)나 인메모리 색인 크기 등 근사값 허용, 없으면 exact 와 동일
+ * - none     : 건수를 계산하지 않음 (hasNext 만 제공)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ListingCountCache {
+
+    public static final String PROJECTS = "projects";
+    public static final String FREELANCERS = "freelancers";
+
+    public static final String TOTAL_EXACT = "exact";
+    public static final String TOTAL_ESTIMATE = "estimate";
+    public static final String TOTAL_NONE = "none";
+
+    // 건수에 영향을 주지 않는 페이징/정렬/사용자 파라미터와 서비스에서 파생되는 파라미터
+    private static final Set<String> NON_FILTER_KEYS = new HashSet<>(Arrays.asList(
+            "page", "limit", "offset", "cursor", "keyset", "sortBy", "sortOrder", "totalMode",
+            "userId", "fastMode", "includeCompany", "includeClient", "includeCategory",
+            "searchIds", "skillProjectIds", "skillFreelancerIds"));
+
+    private final ProjectMapper projectMapper;
+    private final FreelancerMapper freelancerMapper;
+    private final ResourceVersions resourceVersions;
+
+    @Value("${app.count-cache.ttl-ms:60000}")
+    private long ttlMs;
+
+    // estimate 모드에서 세대가 바뀐 항목을 근사값으로 쓸 수 있는 최대 보관 시간
+    @Value("${app.count-cache.estimate-max-age-ms:600000}")
+    private long estimateMaxAgeMs;
+
+    @Value("${app.count-cache.max-entries:10000}")
+    private int maxEntries;
+
+    // 접근 순서 LinkedHashMap (LRU), entries 로 동기화
+    private final Map<String, Entry> entries = new LinkedHashMap<String, Entry>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > maxEntries;
+        }
+    };
+
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+    private final Map<String, String> fingerprints = new ConcurrentHashMap<>();
+
+    /**
+     * 필터 시그니처 생성
+     * - 값이 없는 필터는 제외, 문자열은 trim, 목록은 정렬하여 순서와 무관하게 동일 키
+     *
+     * @param domain  무효화 단위 (PROJECTS, FREELANCERS)
+     * @param listing 같은 테이블을 다른 조건으로 세는 목록 구분 (예: remote)
+     */
+    public static String signature(String domain, String listing, Map<String, Object> params) {
+        Map<String, String> filters = new TreeMap<>();
+        for (Map.Entry<String, Object> entry : params.entrySet()) {
+            if (NON_FILTER_KEYS.contains(entry.getKey())) {
+                continue;
+            }
+            String value = canonical(entry.getValue());
+            if (value != null) {
+                filters.put(entry.getKey(), value);
+            }
+        }
+        StringBuilder key = new StringBuilder(domain).append(':').append(listing).append('|');
+        for (Map.Entry<String, String> filter : filters.entrySet()) {
+            key.append(filter.getKey()).append('=').append(filter.getValue()).append('&');
+        }
+        return key.toString();
+    }
+
+    /**
+     * 지정한 필터 외에 다른 필터 조건이 없는지 여부
+     */
+    public static boolean hasOnlyFilters(Map<String, Object> params, String... allowed) {
+        Set<String> allowedKeys = new HashSet<>(Arrays.asList(allowed));
+        for (Map.Entry<String, Object> entry : params.entrySet()) {
+            if (!NON_FILTER_KEYS.contains(entry.getKey()) && !allowedKeys.contains(entry.getKey())
+                    && canonical(entry.getValue()) != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static String totalMode(Object value) {
+        if (TOTAL_ESTIMATE.equals(value) || TOTAL_NONE.equals(value)) {
+            return (String) value;
+        }
+        return TOTAL_EXACT;
+    }
+
+    /**
+     * totalMode 에 따른 전체 건수 (호출 스레드에서 실행)
+     *
+     * @param exactCount COUNT 쿼리
+     * @param estimate   근사 건수 (없으면 null 반환 가능), estimate 모드에서만 사용
+     * @return none 모드면 null
+     */
+    public Integer count(String signature, String totalMode,
+                         Supplier<Integer> exactCount, Supplier<Integer> estimate) {
+        try {
+            return countAsync(signature, totalMode, exactCount, estimate, Runnable::run).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("목록 건수 조회 중단", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * totalMode 에 따른 전체 건수
+     * 캐시/근사값으로 결정되면 완료된 Future, COUNT 쿼리가 필요하면 executor 에서 실행
+     *
+     * @return none 모드면 null 로 완료된 Future
+     */
+    public Future<Integer> countAsync(String signature, String totalMode, Supplier<Integer> exactCount,
+                                      Supplier<Integer> estimate, Executor executor) {
+        if (TOTAL_NONE.equals(totalMode)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        boolean allowApproximate = TOTAL_ESTIMATE.equals(totalMode);
+        long generation = generation(domainOf(signature)).get();
+
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(signature);
+        }
+        long age = entry == null ? 0 : System.currentTimeMillis() - entry.storedAt;
+        if (entry != null && (entry.generation == generation && age < ttlMs
+                || allowApproximate && age < estimateMaxAgeMs)) {
+            return CompletableFuture.completedFuture(entry.count);
+        }
+        if (allowApproximate && estimate != null) {
+            Integer estimated = estimate.get();
+            if (estimated != null) {
+                return CompletableFuture.completedFuture(estimated);
+            }
+        }
+
+        FutureTask<Integer> task = new FutureTask<>(() -> {
+            int count = exactCount.get();
+            synchronized (entries) {
+                entries.put(signature, new Entry(count, generation, System.currentTimeMillis()));
+            }
+            return count;
+        });
+        executor.execute(task);
+        return task;
+    }
+
+    /**
+     * 도메인(테이블)의 캐시된 건수를 모두 무효화
+     */
+    public void invalidate(String domain) {
+        generation(domain).incrementAndGet();
+        log.debug("목록 건수 캐시 무효화 - {}", domain);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFreelancerChanged(FreelancerChangedEvent event) {
+        invalidate(FREELANCERS);
+    }
+
+    /**
+     * 애플리케이션 밖에서 일어난 변경 감지: 테이블 지문이 바뀌면 해당 도메인 무효화
+     */
+    @Scheduled(initialDelayString = "${app.count-cache.check-ms:10000}",
+               fixedDelayString = "${app.count-cache.check-ms:10000}")
+    public void checkTableChanges() {
+        try {
+            checkFingerprint(PROJECTS, projectMapper.findTableFingerprint());
+            checkFingerprint(FREELANCERS, freelancerMapper.findTableFingerprint());
+        } catch (Exception e) {
+            log.warn("목록 건수 캐시 테이블 변경 확인 실패: {}", e.getMessage());
+        }
+    }
+
+    private void checkFingerprint(String domain, String fingerprint) {
+        String previous = fingerprint == null ? null : fingerprints.put(domain, fingerprint);
+        if (previous != null && !previous.equals(fingerprint)) {
+            invalidate(domain);
+            resourceVersions.bump(domain);
+        }
+    }
+
+    private AtomicLong generation(String domain) {
+        return generations.computeIfAbsent(domain, k -> new AtomicLong());
+    }
+
+    private static String domainOf(String signature) {
+        return signature.substring(0, signature.indexOf(':'));
+    }
+
+    private static String canonical(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Collection) {
+            List<String> values = new ArrayList<>();
+            for (Object item : (Collection<?>) value) {
+                String canonical = canonical(item);
+                if (canonical != null) {
+                    values.add(canonical);
+                }
+            }
+            if (values.isEmpty()) {
+                return null;
+            }
+            Collections.sort(values);
+            return String.join(",", values);
+        }
+        String text = value.toString().trim();
+        if (text.isEmpty()) {
+            return null;
+        }
+        return text.replace("%", "%25").replace("&", "%26").replace("=", "%3D").replace(",", "%2C");
+    }
+
+    private static final class Entry {
+        private final int count;
+        private final long generation;
+        private final long storedAt;
+
+        private Entry(int count, long generation, long storedAt) {
+            this.count = count;
+            this.generation = generation;
+            this.storedAt = storedAt;
+        }
+    }
+}
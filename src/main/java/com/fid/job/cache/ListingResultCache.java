@@ -0,0 +1,307 @@
+package com.fid.job.cache;
+
+import com.fid.job.event.ProjectChangedEvent;
+import com.fid.job.model.Project;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 비로그인 프로젝트 목록 결과 캐시 (/api/projects, /api/remote-projects)
+ * - 키: 목록 구분 + 정규화한 필터 시그니처 + 페이징/정렬 파라미터
+ * - 크기 제한(LRU)과 TTL 로 보관 기간 제한
+ * - 프로젝트 변경 시 변경 전후 행을 각 항목의 필터 조건으로 판정해 결과가 바뀔 수 있는 항목만 제거
+ *   (DB 변경 추적처럼 변경 전 행을 모르면 변경 후 행만 판정, 페이지 밖에서 조건을 벗어난 행의 건수 변화는 TTL 동안 유지)
+ * - 집계(조회수/지원자/북마크 수)만 바뀐 이벤트는 그 프로젝트가 페이지에 있는 항목과 그 집계로 정렬된 항목만 제거
+ *
+ * 지표 (Micrometer)
+ * - listing.result.cache.requests{result=hit|miss}
+ * - listing.result.cache.evictions{cause=size|expired}
+ * - listing.result.cache.invalidations
+ */
+@Slf4j
+@Component
+public class ListingResultCache {
+
+    public static final String PROJECTS = "all";
+    public static final String REMOTE = "remote";
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter sizeEvictions;
+    private final Counter expiredEvictions;
+    private final Counter invalidations;
+
+    @Value("${app.result-cache.ttl-ms:30000}")
+    private long ttlMs;
+
+    @Value("${app.result-cache.max-entries:2000}")
+    private int maxEntries;
+
+    // 접근 순서 LinkedHashMap (LRU), entries 로 동기화
+    private final Map<String, Entry> entries = new LinkedHashMap<String, Entry>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            if (size() > maxEntries) {
+                sizeEvictions.increment();
+                forget(eldest.getKey(), eldest.getValue());
+                return true;
+            }
+            return false;
+        }
+    };
+
+    // 집계 컬럼으로 정렬된 항목의 키 (집계 이벤트는 이 항목만 확인), entries 로 동기화
+    private final Set<String> counterSortedKeys = new HashSet<>();
+
+    // 프로젝트 ID → 그 프로젝트가 결과 페이지에 포함된 항목의 키 (집계 이벤트용), entries 로 동기화
+    private final Map<Long, Set<String>> keysByProject = new HashMap<>();
+
+    public ListingResultCache(MeterRegistry meterRegistry) {
+        this.hits = Counter.builder("listing.result.cache.requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("listing.result.cache.requests").tag("result", "miss").register(meterRegistry);
+        this.sizeEvictions = Counter.builder("listing.result.cache.evictions").tag("cause", "size").register(meterRegistry);
+        this.expiredEvictions = Counter.builder("listing.result.cache.evictions").tag("cause", "expired").register(meterRegistry);
+        this.invalidations = Counter.builder("listing.result.cache.invalidations").register(meterRegistry);
+        meterRegistry.gauge("listing.result.cache.size", entries, map -> {
+            synchronized (map) {
+                return map.size();
+            }
+        });
+    }
+
+    /**
+     * 캐시 키 (로그인 사용자 요청은 사용자별 표시값이 있어 캐시하지 않으므로 null)
+     */
+    public static String key(String listing, Map<String, Object> params) {
+        if (params.get("userId") != null) {
+            return null;
+        }
+        return ListingCountCache.signature(ListingCountCache.PROJECTS, listing, params)
+                + "#page=" + params.get("page")
+                + "&limit=" + params.get("limit")
+                + "&sortBy=" + params.get("sortBy")
+                + "&cursor=" + params.get("cursor")
+                + "&totalMode=" + params.get("totalMode")
+                + "&fastMode=" + params.get("fastMode");
+    }
+
+    /**
+     * @return 캐시된 결과 (수정 불가), 없으면 null
+     */
+    public Map<String, Object> get(String key) {
+        if (key == null) {
+            return null;
+        }
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+            if (entry != null && System.currentTimeMillis() - entry.storedAt >= ttlMs) {
+                entries.remove(key);
+                forget(key, entry);
+                expiredEvictions.increment();
+                entry = null;
+            }
+        }
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.result;
+    }
+
+    /**
+     * 결과 저장
+     *
+     * @param filters 색인 결과로 변경되기 전의 요청 파라미터 (무효화 판정용)
+     * @param pageIds 결과 페이지에 포함된 프로젝트 ID
+     * @return 캐시에 저장된(수정 불가) 결과
+     */
+    public Map<String, Object> put(String key, Map<String, Object> filters, Set<Long> pageIds,
+                                   Map<String, Object> result) {
+        Map<String, Object> cached = Collections.unmodifiableMap(result);
+        if (key != null) {
+            Entry entry = new Entry(cached, filters, pageIds, System.currentTimeMillis());
+            synchronized (entries) {
+                Entry previous = entries.put(key, entry);
+                if (previous != null) {
+                    forget(key, previous);
+                }
+                remember(key, entry);
+            }
+        }
+        return cached;
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+            counterSortedKeys.clear();
+            keysByProject.clear();
+        }
+    }
+
+    /**
+     * 변경된 행으로 결과가 달라질 수 있는 항목만 제거 (커밋 이후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        if (event.getType() == ProjectChangedEvent.Type.COUNTERS) {
+            onCounterChanged(event);
+            return;
+        }
+        int removed = 0;
+        synchronized (entries) {
+            Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<String, Entry> entry = iterator.next();
+                if (affects(entry.getValue(), event)) {
+                    iterator.remove();
+                    forget(entry.getKey(), entry.getValue());
+                    removed++;
+                }
+            }
+        }
+        if (removed > 0) {
+            invalidations.increment(removed);
+            log.debug("목록 결과 캐시 무효화 - 프로젝트 ID: {}, {}건", event.getProjectId(), removed);
+        }
+    }
+
+    /**
+     * 집계만 바뀐 이벤트 (조회수 반영마다 발생하므로 전체 항목을 훑지 않고 색인된 항목만 확인)
+     * - 그 프로젝트가 페이지에 있는 항목: 표시 값이 바뀜
+     * - 해당 집계로 정렬되는 항목: 행을 모르므로 순서가 바뀔 수 있음
+     */
+    private void onCounterChanged(ProjectChangedEvent event) {
+        int removed = 0;
+        synchronized (entries) {
+            Set<String> keys = new HashSet<>(keysByProject.getOrDefault(event.getProjectId(), Collections.emptySet()));
+            for (String key : counterSortedKeys) {
+                Entry entry = entries.get(key);
+                if (entry != null && sortedBy(entry.sortBy, event.getCounter())) {
+                    keys.add(key);
+                }
+            }
+            for (String key : keys) {
+                Entry entry = entries.remove(key);
+                if (entry != null) {
+                    forget(key, entry);
+                    removed++;
+                }
+            }
+        }
+        if (removed > 0) {
+            invalidations.increment(removed);
+        }
+    }
+
+    // entries 에 보관된 항목의 보조 색인 등록/해제 (entries 로 동기화된 상태에서 호출)
+    private void remember(String key, Entry entry) {
+        if (isCounterSort(entry.sortBy)) {
+            counterSortedKeys.add(key);
+        }
+        for (Long id : entry.pageIds) {
+            keysByProject.computeIfAbsent(id, k -> new HashSet<>()).add(key);
+        }
+    }
+
+    private void forget(String key, Entry entry) {
+        counterSortedKeys.remove(key);
+        for (Long id : entry.pageIds) {
+            Set<String> keys = keysByProject.get(id);
+            if (keys != null && keys.remove(key) && keys.isEmpty()) {
+                keysByProject.remove(id);
+            }
+        }
+    }
+
+    private static boolean isCounterSort(String sortBy) {
+        return "views".equals(sortBy) || "applications".equals(sortBy) || "popular".equals(sortBy);
+    }
+
+    private static boolean sortedBy(String sortBy, String counter) {
+        if (ProjectChangedEvent.APPLICATIONS.equals(counter)) {
+            return "applications".equals(sortBy) || "popular".equals(sortBy);
+        }
+        if (ProjectChangedEvent.VIEWS.equals(counter)) {
+            return "views".equals(sortBy) || "popular".equals(sortBy);
+        }
+        return false;
+    }
+
+    private static boolean affects(Entry entry, ProjectChangedEvent event) {
+        if (entry.pageIds.contains(event.getProjectId())) {
+            return true;
+        }
+        String sortBy = entry.sortBy;
+        if (event.isBeforeUnknown()) {
+            // 변경 전 행을 모르면(DB 변경 추적) 변경 후 행이 조건에 맞는 목록만 순서/건수가 바뀔 수 있는 것으로 판정
+            return ProjectListingPredicate.mayMatch(entry.filters, event.getAfter());
+        }
+        boolean matchedBefore = ProjectListingPredicate.mayMatch(entry.filters, event.getBefore());
+        boolean matchedAfter = ProjectListingPredicate.mayMatch(entry.filters, event.getAfter());
+        if (!matchedBefore && !matchedAfter) {
+            return false;
+        }
+        // 조건 일치 여부와 정렬 키가 그대로인 행은 이 페이지 밖에 있으므로 페이지/건수 모두 불변
+        return !(matchedBefore && matchedAfter && sameSortKey(sortBy, event.getBefore(), event.getAfter()));
+    }
+
+    private static boolean sameSortKey(String sortBy, Project before, Project after) {
+        switch (sortBy) {
+            case "latest":
+                return Objects.equals(before.getCreatedAt(), after.getCreatedAt());
+            case "deadline":
+                return Objects.equals(before.getDeadline(), after.getDeadline());
+            case "budget":
+            case "budget_high":
+                return Objects.equals(before.getBudgetMax(), after.getBudgetMax());
+            case "budget_low":
+                return Objects.equals(before.getBudgetMin(), after.getBudgetMin());
+            case "views":
+                return Objects.equals(before.getViews(), after.getViews());
+            case "applications":
+                return Objects.equals(before.getApplications(), after.getApplications());
+            case "popular":
+                return Objects.equals(before.getViews(), after.getViews())
+                        && Objects.equals(before.getApplicationsCount(), after.getApplicationsCount());
+            case "relevance":
+                // 관련도는 본문 변경에 따라 달라지므로 판단 불가
+                return false;
+            default:
+                return Objects.equals(before.getIsUrgent(), after.getIsUrgent())
+                        && Objects.equals(before.getIsFeatured(), after.getIsFeatured())
+                        && Objects.equals(before.getCreatedAt(), after.getCreatedAt());
+        }
+    }
+
+    private static final class Entry {
+        private final Map<String, Object> result;
+        private final Map<String, Object> filters;
+        private final Set<Long> pageIds;
+        private final String sortBy;
+        private final long storedAt;
+
+        private Entry(Map<String, Object> result, Map<String, Object> filters, Set<Long> pageIds, long storedAt) {
+            this.result = result;
+            this.filters = new HashMap<>(filters);
+            this.pageIds = pageIds;
+            this.sortBy = Objects.toString(filters.get("sortBy"), "");
+            this.storedAt = storedAt;
+        }
+    }
+}
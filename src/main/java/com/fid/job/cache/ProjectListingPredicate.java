@@ -0,0 +1,112 @@
+package com.fid.job.cache;
+
+import com.fid.job.index.SkillDictionary;
+import com.fid.job.model.Project;
+import com.fid.job.util.JsonArrayParser;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 프로젝트 목록 필터 조건의 Java 판정 (ProjectMapper.xml SearchConditions / RemoteProjectMapper.xml 기준)
+ * 캐시 무효화용이므로 판정할 수 없는 조건(키워드 검색, 원격 도구 등)은 일치로 간주하는 보수적 판정
+ * - 결과가 false 면 해당 행은 그 필터의 목록에 절대 포함되지 않음
+ */
+public final class ProjectListingPredicate {
+
+    private ProjectListingPredicate() {
+    }
+
+    public static boolean mayMatch(Map<String, Object> filters, Project row) {
+        if (row == null || !"active".equals(row.getStatus())) {
+            return false;
+        }
+        return equalsIgnoreCase(filters.get("projectType"), row.getProjectType())
+                && equalsIgnoreCase(filters.get("workType"), row.getWorkType())
+                && equalsIgnoreCase(filters.get("experienceLevel"), row.getExperienceLevel())
+                && equalsIgnoreCase(filters.get("category"), row.getCategory())
+                && equalsIgnoreCase(filters.get("teamSize"), row.getTeamSize())
+                && equalsIgnoreCase(filters.get("onsiteFrequency"), row.getOnsiteFrequency())
+                && equalsIgnoreCase(filters.get("urgency"), row.getUrgency())
+                && containsIgnoreCase(filters.get("location"), row.getLocation())
+                && matchesBudget(filters.get("minBudget"), filters.get("maxBudget"), row)
+                && matchesCategoryId(filters.get("categoryId"), row.getCategoryId())
+                && matchesFlag(filters.get("urgentOnly"), row.getIsUrgent())
+                && matchesFlag(filters.get("featuredOnly"), row.getIsFeatured())
+                && matchesBoolean(filters.get("flexibleHours"), row.getFlexibleHours())
+                && matchesDeadline(filters.get("deadlineWithin"), row.getDeadline())
+                && matchesSkills(filters.get("skills"), "all".equals(filters.get("skillMatch")), row);
+    }
+
+    private static boolean isEmpty(Object value) {
+        return value == null || value.toString().trim().isEmpty();
+    }
+
+    private static boolean equalsIgnoreCase(Object filter, String value) {
+        return isEmpty(filter) || (value != null && value.equalsIgnoreCase(filter.toString().trim()));
+    }
+
+    private static boolean containsIgnoreCase(Object filter, String value) {
+        return isEmpty(filter) || (value != null && value.toLowerCase(Locale.ROOT)
+                .contains(filter.toString().trim().toLowerCase(Locale.ROOT)));
+    }
+
+    private static boolean matchesBudget(Object minBudget, Object maxBudget, Project row) {
+        if (!isEmpty(minBudget) && (row.getBudgetMax() == null
+                || row.getBudgetMax().compareTo(new BigDecimal(minBudget.toString())) < 0)) {
+            return false;
+        }
+        return isEmpty(maxBudget) || (row.getBudgetMin() != null
+                && row.getBudgetMin().compareTo(new BigDecimal(maxBudget.toString())) <= 0);
+    }
+
+    private static boolean matchesCategoryId(Object filter, Long categoryId) {
+        return isEmpty(filter) || (categoryId != null && filter.toString().equals(categoryId.toString()));
+    }
+
+    private static boolean matchesFlag(Object filter, Boolean value) {
+        return !Boolean.TRUE.equals(filter) || Boolean.TRUE.equals(value);
+    }
+
+    private static boolean matchesBoolean(Object filter, Boolean value) {
+        return filter == null || filter.equals(value);
+    }
+
+    // 목록별 조건 중 넓은 쪽(마감일 상한만) 기준
+    private static boolean matchesDeadline(Object deadlineWithin, LocalDate deadline) {
+        if (isEmpty(deadlineWithin)) {
+            return true;
+        }
+        return deadline != null
+                && !deadline.isAfter(LocalDate.now().plusDays(Long.parseLong(deadlineWithin.toString())));
+    }
+
+    // 목록별 조건 중 넓은 쪽(필수 + 우대 스킬) 기준, JSON_SEARCH 와 같이 대소문자 무시 완전 일치
+    private static boolean matchesSkills(Object skills, boolean matchAll, Project row) {
+        if (!(skills instanceof Collection) || ((Collection<?>) skills).isEmpty()) {
+            return true;
+        }
+        Set<String> rowSkills = new HashSet<>();
+        for (String skill : JsonArrayParser.parsedOrParse(row.getRequiredSkillList(), row.getRequiredSkills())) {
+            rowSkills.add(SkillDictionary.normalize(skill));
+        }
+        for (String skill : JsonArrayParser.parsedOrParse(row.getPreferredSkillList(), row.getPreferredSkills())) {
+            rowSkills.add(SkillDictionary.normalize(skill));
+        }
+        for (Object skill : (Collection<?>) skills) {
+            boolean contains = skill != null && rowSkills.contains(SkillDictionary.normalize(skill.toString()));
+            if (matchAll && !contains) {
+                return false;
+            }
+            if (!matchAll && contains) {
+                return true;
+            }
+        }
+        return matchAll;
+    }
+}
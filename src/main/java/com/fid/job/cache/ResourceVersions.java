@@ -0,0 +1,173 @@
+package com.fid.job.cache;
+
+import com.fid.job.event.FreelancerChangedEvent;
+import com.fid.job.event.ProjectChangedEvent;
+import com.fid.job.mapper.ResourceVersionMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 조건부 조회(ETag / Last-Modified)용 데이터 버전 번호
+ * - 컬렉션(테이블)별 버전을 resource_versions 테이블에 두고 모든 노드가 공유 (본문 해시 없이 태그 계산)
+ *   재시작하거나 다른 노드가 응답해도 같은 데이터면 같은 버전
+ * - 요청마다 DB 를 읽지 않도록 노드마다 메모리 사본을 두고 app.etag.refresh-ms 마다, 그리고 자기 변경을 반영한 직후 갱신
+ *   (다른 노드의 변경은 갱신 주기만큼 늦게 보임, 한 번도 읽지 못했으면 조건부 조회 생략)
+ * - 버전마다 마지막 변경 시각(DB 시각)을 함께 보관 (Last-Modified)
+ * - 변경은 바로 쓰지 않고 모아 두었다가 app.etag.flush-ms 마다 이름별로 한 번씩 증가
+ *   (커밋 후 리스너에서 쓰면 원래 트랜잭션에 묶여 커밋되지 않고, 조회수처럼 잦은 변경이 한 행에 몰리지 않도록)
+ * - 조회수 변경(VIEWS)은 별도 버전(PROJECT_COUNTERS)으로 올려 조회수를 보여 주는 목록만 태그에 포함
+ *   조회가 있는 동안 매 주기 바뀌지 않도록 app.etag.counters-flush-ms 마다 한 번만 증가 (목록의 조회수는 그만큼 늦게 갱신)
+ * - 애플리케이션 밖 변경은 ListingCountCache 의 테이블 지문 비교와 ETag 유효 구간(app.etag.max-age-ms)으로 반영
+ */
+@Slf4j
+@Component
+public class ResourceVersions {
+
+    public static final String PROJECTS = ListingCountCache.PROJECTS;
+    public static final String PROJECT_COUNTERS = ListingCountCache.PROJECTS + ".counters";
+    public static final String FREELANCERS = ListingCountCache.FREELANCERS;
+    public static final String CATEGORIES = "categories";
+    public static final String NOTICES = "notices";
+    public static final String EVENTS = "events";
+
+    private static final Stamp INITIAL = new Stamp(0, 0);
+
+    private final ResourceVersionMapper resourceVersionMapper;
+    private final long countersFlushMs;
+
+    // 아직 DB 에 반영하지 않은 변경 (이름)
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+    // DB 버전의 메모리 사본 (갱신 시 통째로 교체), 아직 읽지 못했으면 null
+    private volatile Map<String, Stamp> current;
+
+    private long countersFlushedAt;
+
+    public ResourceVersions(ResourceVersionMapper resourceVersionMapper,
+                            @Value("${app.etag.counters-flush-ms:60000}") long countersFlushMs) {
+        this.resourceVersionMapper = resourceVersionMapper;
+        this.countersFlushMs = countersFlushMs;
+    }
+
+    /**
+     * 컬렉션별 현재 버전 (메모리 사본, 행이 없는 이름은 버전 0)
+     *
+     * @throws IllegalStateException 버전을 아직 한 번도 읽지 못한 경우
+     */
+    public Map<String, Stamp> collections(String... names) {
+        Map<String, Stamp> snapshot = current;
+        if (snapshot == null) {
+            throw new IllegalStateException("데이터 버전을 아직 읽지 못함");
+        }
+        Map<String, Stamp> stamps = new HashMap<>();
+        for (String name : names) {
+            stamps.put(name, snapshot.getOrDefault(name, INITIAL));
+        }
+        return stamps;
+    }
+
+    /**
+     * 메모리 사본 갱신 (다른 노드의 변경 반영)
+     */
+    @Scheduled(fixedDelayString = "${app.etag.refresh-ms:1000}")
+    public void refresh() {
+        try {
+            Map<String, Stamp> stamps = new HashMap<>();
+            for (Map<String, Object> row : resourceVersionMapper.findAll()) {
+                stamps.put((String) row.get("name"),
+                        new Stamp(((Number) row.get("version")).longValue(), ((Number) row.get("modifiedAt")).longValue()));
+            }
+            current = stamps;
+        } catch (Exception e) {
+            // 이전 사본을 유지하고 다음 주기에 다시 시도
+            log.warn("데이터 버전 조회 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 컬렉션 전체 변경 (목록/집계 응답 무효화, 다음 반영 주기에 증가)
+     */
+    public void bump(String collection) {
+        pending.add(collection);
+        log.debug("데이터 버전 증가 예약 - {}", collection);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        if (event.getType() == ProjectChangedEvent.Type.COUNTERS
+                && ProjectChangedEvent.VIEWS.equals(event.getCounter())) {
+            bump(PROJECT_COUNTERS);
+            return;
+        }
+        bump(PROJECTS);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFreelancerChanged(FreelancerChangedEvent event) {
+        bump(FREELANCERS);
+    }
+
+    @Scheduled(initialDelayString = "${app.etag.flush-ms:1000}",
+               fixedDelayString = "${app.etag.flush-ms:1000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<String> names = new ArrayList<>(pending);
+        long now = System.currentTimeMillis();
+        if (names.contains(PROJECT_COUNTERS)) {
+            if (now - countersFlushedAt < countersFlushMs) {
+                // 다음 증가 시점까지 예약 상태로 유지
+                names.remove(PROJECT_COUNTERS);
+            } else {
+                countersFlushedAt = now;
+            }
+        }
+        if (names.isEmpty()) {
+            return;
+        }
+        pending.removeAll(names);
+        for (String name : names) {
+            try {
+                resourceVersionMapper.bump(name);
+            } catch (Exception e) {
+                // 다음 주기에 다시 시도
+                pending.add(name);
+                log.warn("데이터 버전 반영 실패 - {}: {}", name, e.getMessage());
+            }
+        }
+        // 이 노드의 변경은 갱신 주기를 기다리지 않고 바로 태그에 반영
+        refresh();
+    }
+
+    /**
+     * 버전 번호와 마지막 변경 시각
+     */
+    public static final class Stamp {
+        private final long version;
+        private final long modifiedAt;
+
+        private Stamp(long version, long modifiedAt) {
+            this.version = version;
+            this.modifiedAt = modifiedAt;
+        }
+
+        public long getVersion() {
+            return version;
+        }
+
+        public long getModifiedAt() {
+            return modifiedAt;
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.fid.job.cache;
+
+import com.fid.job.event.ProjectMembershipChangedEvent;
+import com.fid.job.event.TableChangedEvent;
+import com.fid.job.mapper.ProjectMapper;
+import com.fid.job.model.Project;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자별 북마크/지원 프로젝트 ID 캐시
+ * - 사용자별로 정렬된 long 배열 두 개(북마크, 지원)를 보관하고 이진 탐색으로 판정
+ * - 첫 접근 시 DB 에서 적재, 크기 제한(LRU)과 TTL 로 보관 기간 제한
+ * - 북마크/지원 변경은 커밋 이후 이벤트로 반영 (배열은 불변, 변경 시 새 배열로 교체)
+ * - 목록/상세 쿼리의 사용자별 COUNT(*) 서브쿼리 대신 조회 후 Java 에서 플래그 설정
+ *
+ * 지표 (Micrometer)
+ * - membership.cache.requests{result=hit|miss}
+ */
+@Slf4j
+@Component
+public class UserMembershipCache {
+
+    private static final long[] EMPTY = new long[0];
+    private static final int LOCK_STRIPES = 64;
+
+    private final ProjectMapper projectMapper;
+    private final Counter hits;
+    private final Counter misses;
+
+    // 같은 사용자의 적재와 변경 반영을 직렬화 (적재 중 커밋된 변경이 덮어써지지 않도록)
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    @Value("${app.membership-cache.ttl-ms:600000}")
+    private long ttlMs;
+
+    @Value("${app.membership-cache.max-users:10000}")
+    private int maxUsers;
+
+    // 접근 순서 LinkedHashMap (LRU), entries 로 동기화
+    private final Map<Long, Membership> entries = new LinkedHashMap<Long, Membership>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Membership> eldest) {
+            return size() > maxUsers;
+        }
+    };
+
+    public UserMembershipCache(ProjectMapper projectMapper, MeterRegistry meterRegistry) {
+        this.projectMapper = projectMapper;
+        this.hits = Counter.builder("membership.cache.requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("membership.cache.requests").tag("result", "miss").register(meterRegistry);
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+        meterRegistry.gauge("membership.cache.size", entries, map -> {
+            synchronized (map) {
+                return map.size();
+            }
+        });
+    }
+
+    public boolean isBookmarked(Long userId, Long projectId) {
+        return projectId != null && Arrays.binarySearch(membership(userId).bookmarked, projectId) >= 0;
+    }
+
+    public boolean hasApplied(Long userId, Long projectId) {
+        return projectId != null && Arrays.binarySearch(membership(userId).applied, projectId) >= 0;
+    }
+
+    /**
+     * 조회 결과에 사용자별 북마크/지원 여부 설정
+     */
+    public void fill(Long userId, List<Project> projects) {
+        if (userId == null || projects.isEmpty()) {
+            return;
+        }
+        Membership membership = membership(userId);
+        for (Project project : projects) {
+            fill(membership, project);
+        }
+    }
+
+    public void fill(Long userId, Project project) {
+        if (userId != null && project != null) {
+            fill(membership(userId), project);
+        }
+    }
+
+    /**
+     * 북마크/지원 변경 반영 (커밋 이후), 적재되지 않은 사용자는 다음 접근 시 DB 에서 적재
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMembershipChanged(ProjectMembershipChangedEvent event) {
+        Long userId = event.getUserId();
+        synchronized (lockFor(userId)) {
+            Membership current;
+            synchronized (entries) {
+                current = entries.get(userId);
+            }
+            if (current == null) {
+                return;
+            }
+            long projectId = event.getProjectId();
+            Membership updated = event.getKind() == ProjectMembershipChangedEvent.Kind.BOOKMARK
+                    ? new Membership(update(current.bookmarked, projectId, event.isMember()), current.applied,
+                                     current.loadedAt)
+                    : new Membership(current.bookmarked, update(current.applied, projectId, event.isMember()),
+                                     current.loadedAt);
+            synchronized (entries) {
+                entries.put(userId, updated);
+            }
+        }
+    }
+
+    /**
+     * 삭제된 사용자 항목 제거 (DB 변경 추적)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTableChanged(TableChangedEvent event) {
+        if (event.getTable() != TableChangedEvent.Table.USERS || event.getDeletedIds().isEmpty()) {
+            return;
+        }
+        synchronized (entries) {
+            entries.keySet().removeAll(event.getDeletedIds());
+        }
+    }
+
+    public void evict(Long userId) {
+        synchronized (entries) {
+            entries.remove(userId);
+        }
+    }
+
+    private static void fill(Membership membership, Project project) {
+        project.setIsBookmarked(Arrays.binarySearch(membership.bookmarked, project.getId()) >= 0);
+        project.setHasApplied(Arrays.binarySearch(membership.applied, project.getId()) >= 0);
+    }
+
+    private Membership membership(Long userId) {
+        Membership membership = cached(userId);
+        if (membership != null) {
+            hits.increment();
+            return membership;
+        }
+        synchronized (lockFor(userId)) {
+            membership = cached(userId);
+            if (membership != null) {
+                hits.increment();
+                return membership;
+            }
+            misses.increment();
+            membership = new Membership(toSortedArray(projectMapper.findBookmarkedProjectIds(userId)),
+                                        toSortedArray(projectMapper.findAppliedProjectIds(userId)),
+                                        System.currentTimeMillis());
+            synchronized (entries) {
+                entries.put(userId, membership);
+            }
+            log.debug("사용자 북마크/지원 캐시 적재 - User ID: {}, 북마크 {}건, 지원 {}건",
+                    userId, membership.bookmarked.length, membership.applied.length);
+            return membership;
+        }
+    }
+
+    private Membership cached(Long userId) {
+        synchronized (entries) {
+            Membership membership = entries.get(userId);
+            if (membership != null && System.currentTimeMillis() - membership.loadedAt >= ttlMs) {
+                entries.remove(userId);
+                return null;
+            }
+            return membership;
+        }
+    }
+
+    private Object lockFor(Long userId) {
+        return locks[(userId.hashCode() & 0x7fffffff) % LOCK_STRIPES];
+    }
+
+    private static long[] toSortedArray(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return EMPTY;
+        }
+        long[] array = new long[ids.size()];
+        int size = 0;
+        for (Long id : ids) {
+            if (id != null) {
+                array[size++] = id;
+            }
+        }
+        array = Arrays.copyOf(array, size);
+        Arrays.sort(array);
+        return array;
+    }
+
+    private static long[] update(long[] ids, long projectId, boolean member) {
+        int index = Arrays.binarySearch(ids, projectId);
+        if (member == index >= 0) {
+            return ids;
+        }
+        long[] updated = new long[member ? ids.length + 1 : ids.length - 1];
+        if (member) {
+            int insertAt = -index - 1;
+            System.arraycopy(ids, 0, updated, 0, insertAt);
+            updated[insertAt] = projectId;
+            System.arraycopy(ids, insertAt, updated, insertAt + 1, ids.length - insertAt);
+        } else {
+            System.arraycopy(ids, 0, updated, 0, index);
+            System.arraycopy(ids, index + 1, updated, index, ids.length - index - 1);
+        }
+        return updated;
+    }
+
+    private static final class Membership {
+        private final long[] bookmarked;
+        private final long[] applied;
+        private final long loadedAt;
+
+        private Membership(long[] bookmarked, long[] applied, long loadedAt) {
+            this.bookmarked = bookmarked;
+            this.applied = applied;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.fid.job.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * 버전 번호로 무효화하는 ID -> 행 캐시 (DetailCache 의 영역 하나)
+ * - 적재 전에 읽은 버전을 함께 저장하고, 조회 시 현재 버전과 다르면 다시 적재
+ *   (적재 도중 버전이 올라가면 저장된 항목은 다음 조회에서 바로 버려짐)
+ * - 버전 맵은 같은 테이블을 보는 영역끼리 공유
+ *   버전 값은 공유 일련번호라 ID 별로 줄어들지 않고, TTL 보다 오래된 버전은 정리
+ *   (항목의 적재 시각은 적재 시작 시각이므로 정리된 버전 이전에 적재된 항목은 이미 TTL 만료)
+ * - 캐시된 행은 수정하지 않도록 항상 복사본을 반환 (목록 필드 포함, 복사 함수가 담당)
+ */
+final class VersionedCache<T> {
+
+    private final Versions versions;
+    private final Function<Long, T> loader;
+    private final Function<List<Long>, List<T>> bulkLoader;
+    private final Function<T, Long> idOf;
+    private final UnaryOperator<T> copier;
+    private final int maxEntries;
+    private final long ttlMs;
+    private final Counter hits;
+    private final Counter misses;
+
+    // 접근 순서 LinkedHashMap (LRU), entries 로 동기화
+    private final Map<Long, Entry<T>> entries;
+
+    VersionedCache(String region, Versions versions, Function<Long, T> loader,
+                   Function<List<Long>, List<T>> bulkLoader, Function<T, Long> idOf, UnaryOperator<T> copier,
+                   int maxEntries, long ttlMs, MeterRegistry meterRegistry) {
+        this.versions = versions;
+        this.loader = loader;
+        this.bulkLoader = bulkLoader;
+        this.idOf = idOf;
+        this.copier = copier;
+        this.maxEntries = maxEntries;
+        this.ttlMs = ttlMs;
+        this.entries = new LinkedHashMap<Long, Entry<T>>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry<T>> eldest) {
+                return size() > VersionedCache.this.maxEntries;
+            }
+        };
+        this.hits = Counter.builder("detail.cache.requests")
+                .tag("region", region).tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("detail.cache.requests")
+                .tag("region", region).tag("result", "miss").register(meterRegistry);
+        meterRegistry.gauge("detail.cache.size", Tags.of("region", region),
+                entries, map -> {
+                    synchronized (map) {
+                        return map.size();
+                    }
+                });
+    }
+
+    /**
+     * ID 별 버전 (변경 이벤트마다 공유 일련번호로 갱신, maxAgeMs 가 지난 버전은 정리)
+     */
+    static final class Versions {
+        private final AtomicLong sequence = new AtomicLong();
+        private final Map<Long, long[]> byId = new ConcurrentHashMap<>();
+        private final long maxAgeMs;
+        private volatile long prunedAt = System.currentTimeMillis();
+
+        Versions(long maxAgeMs) {
+            this.maxAgeMs = maxAgeMs;
+        }
+
+        void bump(Long id) {
+            if (id == null) {
+                return;
+            }
+            long now = System.currentTimeMillis();
+            byId.put(id, new long[]{sequence.incrementAndGet(), now});
+            if (now - prunedAt >= maxAgeMs) {
+                prunedAt = now;
+                byId.values().removeIf(version -> now - version[1] > maxAgeMs);
+            }
+        }
+
+        long get(Long id) {
+            long[] version = byId.get(id);
+            return version == null ? 0L : version[0];
+        }
+    }
+
+    /**
+     * 단건 조회
+     *
+     * @return 없으면 null
+     */
+    T get(Long id) {
+        if (id == null) {
+            return null;
+        }
+        long version = versions.get(id);
+        T cached = cached(id, version);
+        if (cached != null) {
+            hits.increment();
+            return copier.apply(cached);
+        }
+        misses.increment();
+        long startedAt = System.currentTimeMillis();
+        T row = loader.apply(id);
+        if (row == null) {
+            return null;
+        }
+        store(id, row, version, startedAt);
+        return copier.apply(row);
+    }
+
+    /**
+     * 다건 조회, 캐시에 없는 ID 는 한 번의 IN 쿼리로 적재 (요청 순서 유지, 없는 ID 는 제외)
+     */
+    List<T> getMany(List<Long> ids) {
+        List<T> result = new ArrayList<>(ids == null ? 0 : ids.size());
+        if (ids == null || ids.isEmpty()) {
+            return result;
+        }
+        Map<Long, T> found = new HashMap<>();
+        Map<Long, Long> missing = new LinkedHashMap<>();
+        for (Long id : ids) {
+            if (id == null || found.containsKey(id) || missing.containsKey(id)) {
+                continue;
+            }
+            long version = versions.get(id);
+            T cached = cached(id, version);
+            if (cached != null) {
+                hits.increment();
+                found.put(id, cached);
+            } else {
+                misses.increment();
+                missing.put(id, version);
+            }
+        }
+        if (!missing.isEmpty()) {
+            long startedAt = System.currentTimeMillis();
+            for (T row : bulkLoader.apply(new ArrayList<>(missing.keySet()))) {
+                Long id = idOf.apply(row);
+                Long version = missing.get(id);
+                if (version != null) {
+                    store(id, row, version, startedAt);
+                    found.put(id, row);
+                }
+            }
+        }
+        for (Long id : ids) {
+            T row = found.get(id);
+            if (row != null) {
+                result.add(copier.apply(row));
+            }
+        }
+        return result;
+    }
+
+    void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    private T cached(Long id, long version) {
+        synchronized (entries) {
+            Entry<T> entry = entries.get(id);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.version != version || System.currentTimeMillis() - entry.loadedAt >= ttlMs) {
+                entries.remove(id);
+                return null;
+            }
+            return entry.value;
+        }
+    }
+
+    /**
+     * @param startedAt 적재 시작 시각 (TTL 기준, 버전 정리와 맞추기 위해 저장 시각이 아닌 시작 시각 사용)
+     */
+    private void store(Long id, T row, long version, long startedAt) {
+        synchronized (entries) {
+            entries.put(id, new Entry<>(row, version, startedAt));
+        }
+    }
+
+    private static final class Entry<T> {
+        private final T value;
+        private final long version;
+        private final long loadedAt;
+
+        private Entry(T value, long version, long loadedAt) {
+            this.value = value;
+            this.version = version;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
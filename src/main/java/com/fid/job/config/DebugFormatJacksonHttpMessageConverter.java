@@ -0,0 +1,43 @@
+package com.fid.job.config;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.lang.Nullable;
+import org.springframework.util.MimeType;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * 디버그 헤더가 있는 요청에만 사람이 읽기 쉬운 JSON(들여쓰기 + 이스케이프)을 쓰는 컨버터
+ * 헤더 값: pretty / true / 1, 헤더 이름을 비워 두면 항상 운영 형식
+ */
+public class DebugFormatJacksonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    private final String debugHeader;
+
+    public DebugFormatJacksonHttpMessageConverter(ObjectMapper objectMapper, String debugHeader) {
+        super(objectMapper);
+        this.debugHeader = debugHeader;
+    }
+
+    @Override
+    protected ObjectWriter customizeWriter(ObjectWriter writer, @Nullable MimeType mimeType, JavaType javaType) {
+        ObjectWriter customized = super.customizeWriter(writer, mimeType, javaType);
+        return isDebugRequest() ? JacksonConfig.debugWriter(customized) : customized;
+    }
+
+    private boolean isDebugRequest() {
+        if (debugHeader == null || debugHeader.isEmpty()) {
+            return false;
+        }
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes)) {
+            return false;
+        }
+        String value = ((ServletRequestAttributes) attributes).getRequest().getHeader(debugHeader);
+        return "pretty".equalsIgnoreCase(value) || "true".equalsIgnoreCase(value) || "1".equals(value);
+    }
+}
@@ -2,27 +2,76 @@ package com.fid.job.config;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fid.job.util.SanitizingStringSerializer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 
+/**
+ * JSON 응답 직렬화 설정
+ * - 기본(운영) 프로필: 들여쓰기 없는 compact 출력, 한글 등 비 ASCII 문자는 UTF-8 그대로 출력
+ * - 디버그 헤더(app.json.debug-header, 기본 X-Debug-Json: pretty)가 있는 요청만 들여쓰기 + 비 ASCII 이스케이프 출력
+ * - Accept 헤더로 바이너리 형식 선택 가능 (application/cbor, application/x-jackson-smile), 설정은 JSON 과 동일
+ */
 @Configuration
 public class JacksonConfig {
 
     @Bean
     public ObjectMapper objectMapper(Jackson2ObjectMapperBuilder builder) {
-        ObjectMapper objectMapper = builder.build();
-        
-        // Pretty print JSON
-        objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
-        
-        // Escape non-ASCII characters
-        objectMapper.getFactory().configure(JsonGenerator.Feature.ESCAPE_NON_ASCII, true);
-        
-        // Handle invalid UTF-8 characters
-        objectMapper.getFactory().configure(JsonGenerator.Feature.STRICT_DUPLICATE_DETECTION, true);
-        
+        return applyProductionProfile(builder.build());
+    }
+
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(
+            ObjectMapper objectMapper,
+            @Value("${app.json.debug-header:X-Debug-Json}") String debugHeader) {
+        return new DebugFormatJacksonHttpMessageConverter(objectMapper, debugHeader);
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter mappingJackson2CborHttpMessageConverter(
+            Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(
+                applyProductionProfile(builder.factory(new CBORFactory()).build()));
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter mappingJackson2SmileHttpMessageConverter(
+            Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(
+                applyProductionProfile(builder.factory(new SmileFactory()).build()));
+    }
+
+    /**
+     * 운영 직렬화 프로필 (compact, UTF-8 원문 출력)
+     */
+    public static ObjectMapper applyProductionProfile(ObjectMapper objectMapper) {
+        objectMapper.disable(SerializationFeature.INDENT_OUTPUT);
+        objectMapper.getFactory().configure(JsonGenerator.Feature.ESCAPE_NON_ASCII, false);
+
+        // 출력 경로의 중복 필드 검사는 끔 (DTO 필드는 중복될 수 없음, 필드마다 검사 비용만 발생)
+        objectMapper.getFactory().configure(JsonGenerator.Feature.STRICT_DUPLICATE_DETECTION, false);
+
+        // 짝이 맞지 않는 서로게이트 문자는 직렬화하면서 제거
+        objectMapper.registerModule(SanitizingStringSerializer.module());
+
         return objectMapper;
     }
-}
\ No newline at end of file
+
+    /**
+     * 디버그용 출력 (들여쓰기 + 비 ASCII 문자 이스케이프, 이전 기본 형식)
+     */
+    @SuppressWarnings("deprecation")
+    public static ObjectWriter debugWriter(ObjectWriter writer) {
+        return writer.with(SerializationFeature.INDENT_OUTPUT)
+                .with(JsonGenerator.Feature.ESCAPE_NON_ASCII);
+    }
+}
@@ -14,6 +14,7 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedOriginPatterns("http://localhost:3000", "http://127.0.0.1:3000") // Next.js 앱의 주소
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
                 .allowedHeaders("*")
+                .exposedHeaders("ETag", "Last-Modified")
                 .allowCredentials(true)
                 .maxAge(3600);
     }
@@ -1,5 +1,6 @@
 package com.fid.job.config;
 
+import com.fid.job.interceptor.ConditionalGetInterceptor;
 import com.fid.job.interceptor.LoginCheckInterceptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
@@ -13,6 +14,9 @@ public class WebMvcConfig implements WebMvcConfigurer {
     @Autowired
     private LoginCheckInterceptor loginCheckInterceptor;
 
+    @Autowired
+    private ConditionalGetInterceptor conditionalGetInterceptor;
+
     @Override
     public void addInterceptors(@NonNull InterceptorRegistry registry) {
         registry.addInterceptor(loginCheckInterceptor)
@@ -26,5 +30,9 @@ public class WebMvcConfig implements WebMvcConfigurer {
                     "/api/insert-test-data",
                     "/api/users"  // 테스트를 위해 users API도 인증 제외
                 );
+
+        // 토큰 확인 이후 조건부 조회 (@ConditionalGet 이 붙은 조회 API 만)
+        registry.addInterceptor(conditionalGetInterceptor)
+                .addPathPatterns("/api/**");
     }
 } 
\ No newline at end of file
@@ -2,7 +2,9 @@ package com.fid.job.config;
 
 import com.corundumstudio.socketio.Configuration;
 import com.corundumstudio.socketio.SocketIOServer;
+import com.corundumstudio.socketio.protocol.JacksonJsonSupport;
 import com.corundumstudio.socketio.annotation.SpringAnnotationScanner;
+import com.fid.job.util.SanitizingStringSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.stereotype.Component;
@@ -40,6 +42,9 @@ public class WebSocketConfig {
         config.setPingInterval(25000);
         config.setUpgradeTimeout(10000);
         
+        // REST 응답과 같이 문자열의 잘못된 서로게이트 문자는 직렬화하면서 제거
+        config.setJsonSupport(new JacksonJsonSupport(SanitizingStringSerializer.module()));
+        
         return new SocketIOServer(config);
     }
 
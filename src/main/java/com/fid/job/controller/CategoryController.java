@@ -1,5 +1,7 @@
 package com.fid.job.controller;
 
+import com.fid.job.cache.ResourceVersions;
+import com.fid.job.interceptor.ConditionalGet;
 import com.fid.job.dto.CategoryDTO;
 import com.fid.job.dto.ApiResponse;
 import com.fid.job.service.CategoryService;
@@ -16,6 +18,7 @@ public class CategoryController {
 
     private final CategoryService categoryService;
 
+    @ConditionalGet({ResourceVersions.CATEGORIES, ResourceVersions.PROJECTS})
     @GetMapping
     public ResponseEntity<ApiResponse<List<CategoryDTO>>> getCategories() {
         try {
@@ -28,6 +31,7 @@ public class CategoryController {
         }
     }
     
+    @ConditionalGet({ResourceVersions.CATEGORIES, ResourceVersions.PROJECTS})
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<CategoryDTO>> getCategoryById(@PathVariable Long id) {
         try {
@@ -1,5 +1,7 @@
 package com.fid.job.controller;
 
+import com.fid.job.cache.ResourceVersions;
+import com.fid.job.interceptor.ConditionalGet;
 import com.fid.job.model.Event;
 import com.fid.job.service.EventService;
 import com.fid.job.dto.ApiResponse;
@@ -30,12 +32,14 @@ public class EventController {
         return ResponseEntity.ok(ApiResponse.success(events));
     }
 
+    @ConditionalGet(ResourceVersions.EVENTS)
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<Event>> getEvent(@PathVariable Long id) {
         Event event = eventService.findById(id);
         return ResponseEntity.ok(ApiResponse.success(event));
     }
 
+    @ConditionalGet(ResourceVersions.EVENTS)
     @GetMapping("/status/{status}")
     public ResponseEntity<ApiResponse<List<Event>>> getEventsByStatus(@PathVariable String status) {
         List<Event> events = eventService.findByStatus(status);
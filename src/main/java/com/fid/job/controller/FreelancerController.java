@@ -1,13 +1,17 @@
 package com.fid.job.controller;
 
+import com.fid.job.cache.ResourceVersions;
+import com.fid.job.interceptor.ConditionalGet;
 import com.fid.job.dto.ApiResponse;
 import com.fid.job.model.Freelancer;
 import com.fid.job.service.FreelancerService;
+import com.fid.job.service.UniqueViewerService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletRequest;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -19,10 +23,14 @@ public class FreelancerController {
     @Autowired
     private FreelancerService freelancerService;
 
+    @Autowired
+    private UniqueViewerService uniqueViewerService;
+
     /**
      * 전체 프리랜서 목록 조회 (페이징, 필터링 포함)
      * GET /api/freelancers
      */
+    @ConditionalGet(ResourceVersions.FREELANCERS)
     @GetMapping
     public ResponseEntity<ApiResponse<Map<String, Object>>> getAllFreelancers(
             @RequestParam(defaultValue = "1") int page,
@@ -34,11 +42,15 @@ public class FreelancerController {
             @RequestParam(required = false) Double minRating,
             @RequestParam(required = false) Boolean isVerified,
             @RequestParam(required = false) String skills,
+            @RequestParam(defaultValue = "any") String skillMatch,
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) String category,
             @RequestParam(required = false) String experienceRange,
             @RequestParam(required = false) String freelancerType,
-            @RequestParam(defaultValue = "created_at") String sortBy) {
+            @RequestParam(defaultValue = "created_at") String sortBy,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "exact") String totalMode,
+            @RequestParam(required = false) String facets) {
         
         try {
             log.info("프리랜서 목록 조회 요청 - 페이지: {}, 크기: {}", page, limit);
@@ -57,6 +69,10 @@ public class FreelancerController {
             params.put("experienceRange", experienceRange);
             params.put("freelancerType", freelancerType);
             params.put("sortBy", sortBy);
+            params.put("skillMatch", skillMatch);
+            params.put("cursor", cursor);
+            params.put("totalMode", totalMode);
+            params.put("facets", facets);
             
             // 기술 스택 처리 (쉼표로 구분된 문자열을 리스트로 변환)
             if (skills != null && !skills.trim().isEmpty()) {
@@ -72,6 +88,10 @@ public class FreelancerController {
             log.info("프리랜서 목록 조회 성공 - 총 {}명", result.get("totalCount"));
             return ResponseEntity.ok(ApiResponse.success(result, "프리랜서 목록을 성공적으로 조회했습니다."));
             
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 요청 - {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("잘못된 요청입니다: " + e.getMessage()));
         } catch (Exception e) {
             log.error("프리랜서 목록 조회 중 오류 발생", e);
             return ResponseEntity.internalServerError()
@@ -83,6 +103,7 @@ public class FreelancerController {
      * 선택된 프리랜서들 조회 (ID 리스트로)
      * GET /api/freelancers/selected
      */
+    @ConditionalGet(ResourceVersions.FREELANCERS)
     @GetMapping("/selected")
     public ResponseEntity<ApiResponse<List<Freelancer>>> getSelectedFreelancers(
             @RequestParam String ids) {
@@ -114,6 +135,7 @@ public class FreelancerController {
      * 기술 스택으로 프리랜서 검색
      * GET /api/freelancers/search/skills
      */
+    @ConditionalGet(ResourceVersions.FREELANCERS)
     @GetMapping("/search/skills")
     public ResponseEntity<ApiResponse<List<Freelancer>>> searchBySkills(
             @RequestParam String skills,
@@ -144,6 +166,7 @@ public class FreelancerController {
      * 경험 수준별 프리랜서 조회
      * GET /api/freelancers/experience/{level}
      */
+    @ConditionalGet(ResourceVersions.FREELANCERS)
     @GetMapping("/experience/{level}")
     public ResponseEntity<ApiResponse<List<Freelancer>>> getByExperienceLevel(
             @PathVariable String level,
@@ -172,6 +195,7 @@ public class FreelancerController {
      * 시간당 요금 범위로 프리랜서 조회
      * GET /api/freelancers/hourly-rate
      */
+    @ConditionalGet(ResourceVersions.FREELANCERS)
     @GetMapping("/hourly-rate")
     public ResponseEntity<ApiResponse<List<Freelancer>>> getByHourlyRateRange(
             @RequestParam(required = false) Double minRate,
@@ -201,6 +225,7 @@ public class FreelancerController {
      * 가용성별 프리랜서 조회
      * GET /api/freelancers/availability/{status}
      */
+    @ConditionalGet(ResourceVersions.FREELANCERS)
     @GetMapping("/availability/{status}")
     public ResponseEntity<ApiResponse<List<Freelancer>>> getByAvailability(
             @PathVariable String status,
@@ -229,6 +254,7 @@ public class FreelancerController {
      * 평점별 프리랜서 조회
      * GET /api/freelancers/rating
      */
+    @ConditionalGet(ResourceVersions.FREELANCERS)
     @GetMapping("/rating")
     public ResponseEntity<ApiResponse<List<Freelancer>>> getByRating(
             @RequestParam Double minRating,
@@ -257,6 +283,7 @@ public class FreelancerController {
      * 인증된 프리랜서만 조회
      * GET /api/freelancers/verified
      */
+    @ConditionalGet(ResourceVersions.FREELANCERS)
     @GetMapping("/verified")
     public ResponseEntity<ApiResponse<List<Freelancer>>> getVerifiedFreelancers(
             @RequestParam(defaultValue = "1") int page,
@@ -284,6 +311,7 @@ public class FreelancerController {
      * 사용자별 프리랜서 프로필 조회
      * GET /api/freelancers/user/{userId}
      */
+    @ConditionalGet(ResourceVersions.FREELANCERS)
     @GetMapping("/user/{userId}")
     public ResponseEntity<ApiResponse<Freelancer>> getFreelancerByUserId(@PathVariable Long userId) {
         try {
@@ -310,6 +338,7 @@ public class FreelancerController {
      * 프리랜서 기술 스택 목록 조회
      * GET /api/freelancers/skills
      */
+    @ConditionalGet(ResourceVersions.FREELANCERS)
     @GetMapping("/skills")
     public ResponseEntity<ApiResponse<List<String>>> freelancerSkillList() {
         try {
@@ -329,11 +358,15 @@ public class FreelancerController {
      * GET /api/freelancers/{id}
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<Freelancer>> getFreelancerById(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<Freelancer>> getFreelancerById(@PathVariable Long id,
+                                                                     HttpServletRequest request) {
         try {
             log.info("프리랜서 상세 조회 요청 - ID: {}", id);
             
             Freelancer freelancer = freelancerService.getFreelancerById(id);
+            uniqueViewerService.record(UniqueViewerService.Kind.FREELANCER, id,
+                    uniqueViewerService.viewerKey(request, null));
+            freelancer.setUniqueViewers(uniqueViewerService.counts(UniqueViewerService.Kind.FREELANCER, id));
             
             log.info("프리랜서 상세 조회 성공 - ID: {}, 이름: {}", id, freelancer.getUserFullName());
             return ResponseEntity.ok(ApiResponse.success(freelancer, "프리랜서 정보를 성공적으로 조회했습니다."));
@@ -1,9 +1,12 @@
 package com.fid.job.controller;
 
+import com.fid.job.cache.ResourceVersions;
+import com.fid.job.interceptor.ConditionalGet;
 import com.fid.job.dto.ApiResponse;
 import com.fid.job.dto.ProjectApplicationRequest;
 import com.fid.job.model.Project;
 import com.fid.job.service.ProjectService;
+import com.fid.job.service.UniqueViewerService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -23,10 +26,12 @@ import java.util.Map;
 public class ProjectController {
     
     private final ProjectService projectService;
+    private final UniqueViewerService uniqueViewerService;
     
     /**
      * 프로젝트 목록 조회
      */
+    @ConditionalGet({ResourceVersions.PROJECTS, ResourceVersions.PROJECT_COUNTERS})
     @GetMapping
     public ResponseEntity<ApiResponse> getAllProjects(
             @RequestParam(defaultValue = "1") int page,
@@ -37,6 +42,7 @@ public class ProjectController {
             @RequestParam(required = false) String location,
             @RequestParam(required = false) String experienceLevel,
             @RequestParam(required = false) List<String> skills,
+            @RequestParam(defaultValue = "any") String skillMatch,
             @RequestParam(required = false) Integer minBudget,
             @RequestParam(required = false) Integer maxBudget,
             @RequestParam(required = false) Long categoryId,
@@ -45,6 +51,9 @@ public class ProjectController {
             @RequestParam(required = false) Integer deadlineWithin,
             @RequestParam(defaultValue = "latest") String sortBy,
             @RequestParam(defaultValue = "true") boolean fastMode,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "exact") String totalMode,
+            @RequestParam(required = false) String facets,
             HttpServletRequest request) {
         
         try {
@@ -57,6 +66,7 @@ public class ProjectController {
             params.put("location", location);
             params.put("experienceLevel", experienceLevel);
             params.put("skills", skills);
+            params.put("skillMatch", skillMatch);
             params.put("minBudget", minBudget);
             params.put("maxBudget", maxBudget);
             params.put("categoryId", categoryId);
@@ -65,6 +75,9 @@ public class ProjectController {
             params.put("deadlineWithin", deadlineWithin);
             params.put("sortBy", sortBy);
             params.put("fastMode", fastMode);
+            params.put("cursor", cursor);
+            params.put("totalMode", totalMode);
+            params.put("facets", facets);
             
             // 로그인한 사용자 ID 가져오기 (JWT 토큰에서)
             Long userId = getUserIdFromRequest(request);
@@ -75,6 +88,9 @@ public class ProjectController {
             Map<String, Object> result = projectService.getAllProjects(params);
             
             return ResponseEntity.ok(ApiResponse.success(result, "프로젝트 목록 조회 성공"));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(e.getMessage()));
         } catch (Exception e) {
             log.error("프로젝트 목록 조회 중 오류 발생", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -93,6 +109,11 @@ public class ProjectController {
         try {
             Long userId = getUserIdFromRequest(request);
             Project project = projectService.getProjectById(id, userId);
+            if (project != null) {
+                uniqueViewerService.record(UniqueViewerService.Kind.PROJECT, id,
+                        uniqueViewerService.viewerKey(request, userId));
+                project.setUniqueViewers(uniqueViewerService.counts(UniqueViewerService.Kind.PROJECT, id));
+            }
             
             return ResponseEntity.ok(ApiResponse.success(project, "프로젝트 상세 조회 성공"));
         } catch (Exception e) {
@@ -230,10 +251,12 @@ public class ProjectController {
     /**
      * 북마크한 프로젝트 목록
      */
+    @ConditionalGet({ResourceVersions.PROJECTS, ResourceVersions.PROJECT_COUNTERS})
     @GetMapping("/bookmarked")
     public ResponseEntity<ApiResponse> getBookmarkedProjects(
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(required = false) String cursor,
             HttpServletRequest request) {
         
         try {
@@ -246,10 +269,14 @@ public class ProjectController {
             Map<String, Object> params = new HashMap<>();
             params.put("page", page);
             params.put("limit", limit);
+            params.put("cursor", cursor);
             
             Map<String, Object> result = projectService.getBookmarkedProjects(userId, params);
             
             return ResponseEntity.ok(ApiResponse.success(result, "북마크한 프로젝트 목록 조회 성공"));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(e.getMessage()));
         } catch (Exception e) {
             log.error("북마크 프로젝트 목록 조회 중 오류 발생", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -260,6 +287,7 @@ public class ProjectController {
     /**
      * 관련 프로젝트 조회
      */
+    @ConditionalGet({ResourceVersions.PROJECTS, ResourceVersions.PROJECT_COUNTERS})
     @GetMapping("/{id}/related")
     public ResponseEntity<ApiResponse> getRelatedProjects(
             @PathVariable Long id,
@@ -279,6 +307,7 @@ public class ProjectController {
     /**
      * 인기 프로젝트 조회
      */
+    @ConditionalGet({ResourceVersions.PROJECTS, ResourceVersions.PROJECT_COUNTERS})
     @GetMapping("/popular")
     public ResponseEntity<ApiResponse> getPopularProjects(
             @RequestParam(defaultValue = "10") int limit) {
@@ -297,6 +326,7 @@ public class ProjectController {
     /**
      * 긴급 프로젝트 조회
      */
+    @ConditionalGet({ResourceVersions.PROJECTS, ResourceVersions.PROJECT_COUNTERS})
     @GetMapping("/urgent")
     public ResponseEntity<ApiResponse> getUrgentProjects(
             @RequestParam(defaultValue = "10") int limit) {
@@ -320,17 +350,22 @@ public class ProjectController {
     public ResponseEntity<ApiResponse> getProjectQuestions(
             @PathVariable Long id,
             @RequestParam(defaultValue = "1") int page,
-            @RequestParam(defaultValue = "20") int limit) {
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(required = false) String cursor) {
         
         try {
             Map<String, Object> params = new HashMap<>();
             params.put("projectId", id);
             params.put("page", page);
             params.put("limit", limit);
+            params.put("cursor", cursor);
             
             Map<String, Object> result = projectService.getProjectQuestions(params);
             
             return ResponseEntity.ok(ApiResponse.success(result, "프로젝트 질문 목록 조회 성공"));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(e.getMessage()));
         } catch (Exception e) {
             log.error("프로젝트 질문 목록 조회 중 오류 발생 - ID: {}", id, e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -377,17 +412,22 @@ public class ProjectController {
     public ResponseEntity<ApiResponse> getProjectReviews(
             @PathVariable Long id,
             @RequestParam(defaultValue = "1") int page,
-            @RequestParam(defaultValue = "20") int limit) {
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(required = false) String cursor) {
         
         try {
             Map<String, Object> params = new HashMap<>();
             params.put("projectId", id);
             params.put("page", page);
             params.put("limit", limit);
+            params.put("cursor", cursor);
             
             Map<String, Object> result = projectService.getProjectReviews(params);
             
             return ResponseEntity.ok(ApiResponse.success(result, "프로젝트 후기 목록 조회 성공"));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(e.getMessage()));
         } catch (Exception e) {
             log.error("프로젝트 후기 목록 조회 중 오류 발생 - ID: {}", id, e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
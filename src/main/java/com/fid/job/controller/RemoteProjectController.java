@@ -1,8 +1,11 @@
 package com.fid.job.controller;
 
+import com.fid.job.cache.ResourceVersions;
+import com.fid.job.interceptor.ConditionalGet;
 import com.fid.job.dto.ApiResponse;
 import com.fid.job.dto.RemoteProjectDTO;
 import com.fid.job.service.RemoteProjectService;
+import com.fid.job.service.UniqueViewerService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -21,10 +24,12 @@ import java.util.Map;
 public class RemoteProjectController {
     
     private final RemoteProjectService remoteProjectService;
+    private final UniqueViewerService uniqueViewerService;
     
     /**
      * 상주/재택 프로젝트 목록 조회
      */
+    @ConditionalGet({ResourceVersions.PROJECTS, ResourceVersions.PROJECT_COUNTERS})
     @GetMapping
     public ResponseEntity<ApiResponse> getRemoteProjects(
             @RequestParam(defaultValue = "1") int page,
@@ -34,10 +39,14 @@ public class RemoteProjectController {
             @RequestParam(required = false) String location,
             @RequestParam(required = false) String experienceLevel,
             @RequestParam(required = false) List<String> skills,
+            @RequestParam(defaultValue = "any") String skillMatch,
             @RequestParam(required = false) String teamSize,
             @RequestParam(required = false) String onsiteFrequency,
             @RequestParam(required = false) Boolean flexibleHours,
             @RequestParam(defaultValue = "latest") String sortBy,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "exact") String totalMode,
+            @RequestParam(required = false) String facets,
             HttpServletRequest request) {
         
         try {
@@ -49,10 +58,14 @@ public class RemoteProjectController {
             params.put("location", location);
             params.put("experienceLevel", experienceLevel);
             params.put("skills", skills);
+            params.put("skillMatch", skillMatch);
             params.put("teamSize", teamSize);
             params.put("onsiteFrequency", onsiteFrequency);
             params.put("flexibleHours", flexibleHours);
             params.put("sortBy", sortBy);
+            params.put("cursor", cursor);
+            params.put("totalMode", totalMode);
+            params.put("facets", facets);
             
             // 로그인한 사용자 ID 가져오기
             Long userId = getUserIdFromRequest(request);
@@ -63,6 +76,9 @@ public class RemoteProjectController {
             Map<String, Object> result = remoteProjectService.getRemoteProjects(params);
             
             return ResponseEntity.ok(ApiResponse.success(result, "프로젝트 목록 조회 성공"));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(e.getMessage()));
         } catch (Exception e) {
             log.error("프로젝트 목록 조회 중 오류 발생", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -89,6 +105,9 @@ public class RemoteProjectController {
             
             // 조회수 증가
             remoteProjectService.incrementViewCount(id);
+            uniqueViewerService.record(UniqueViewerService.Kind.PROJECT, id,
+                    uniqueViewerService.viewerKey(request, userId));
+            project.setUniqueViewers(uniqueViewerService.counts(UniqueViewerService.Kind.PROJECT, id));
             
             return ResponseEntity.ok(ApiResponse.success(project, "프로젝트 상세 조회 성공"));
         } catch (Exception e) {
@@ -101,6 +120,7 @@ public class RemoteProjectController {
     /**
      * 원격근무 프로젝트 목록 조회
      */
+    @ConditionalGet({ResourceVersions.PROJECTS, ResourceVersions.PROJECT_COUNTERS})
     @GetMapping("/remote")
     public ResponseEntity<ApiResponse> getRemoteOnlyProjects(
             @RequestParam(defaultValue = "1") int page,
@@ -111,6 +131,8 @@ public class RemoteProjectController {
             @RequestParam(required = false) List<String> remoteTools,
             @RequestParam(required = false) List<String> communicationMethods,
             @RequestParam(defaultValue = "latest") String sortBy,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "exact") String totalMode,
             HttpServletRequest request) {
         
         try {
@@ -124,6 +146,8 @@ public class RemoteProjectController {
             params.put("remoteTools", remoteTools);
             params.put("communicationMethods", communicationMethods);
             params.put("sortBy", sortBy);
+            params.put("cursor", cursor);
+            params.put("totalMode", totalMode);
             
             Long userId = getUserIdFromRequest(request);
             if (userId != null) {
@@ -133,6 +157,9 @@ public class RemoteProjectController {
             Map<String, Object> result = remoteProjectService.getRemoteProjects(params);
             
             return ResponseEntity.ok(ApiResponse.success(result, "원격근무 프로젝트 목록 조회 성공"));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(e.getMessage()));
         } catch (Exception e) {
             log.error("원격근무 프로젝트 목록 조회 중 오류 발생", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -143,6 +170,7 @@ public class RemoteProjectController {
     /**
      * 상주근무 프로젝트 목록 조회
      */
+    @ConditionalGet({ResourceVersions.PROJECTS, ResourceVersions.PROJECT_COUNTERS})
     @GetMapping("/onsite")
     public ResponseEntity<ApiResponse> getOnsiteProjects(
             @RequestParam(defaultValue = "1") int page,
@@ -155,6 +183,8 @@ public class RemoteProjectController {
             @RequestParam(required = false) Boolean parkingAvailable,
             @RequestParam(required = false) Boolean mealProvided,
             @RequestParam(defaultValue = "latest") String sortBy,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "exact") String totalMode,
             HttpServletRequest request) {
         
         try {
@@ -170,6 +200,8 @@ public class RemoteProjectController {
             params.put("parkingAvailable", parkingAvailable);
             params.put("mealProvided", mealProvided);
             params.put("sortBy", sortBy);
+            params.put("cursor", cursor);
+            params.put("totalMode", totalMode);
             
             Long userId = getUserIdFromRequest(request);
             if (userId != null) {
@@ -179,6 +211,9 @@ public class RemoteProjectController {
             Map<String, Object> result = remoteProjectService.getRemoteProjects(params);
             
             return ResponseEntity.ok(ApiResponse.success(result, "상주근무 프로젝트 목록 조회 성공"));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(e.getMessage()));
         } catch (Exception e) {
             log.error("상주근무 프로젝트 목록 조회 중 오류 발생", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -189,6 +224,7 @@ public class RemoteProjectController {
     /**
      * 하이브리드 프로젝트 목록 조회
      */
+    @ConditionalGet({ResourceVersions.PROJECTS, ResourceVersions.PROJECT_COUNTERS})
     @GetMapping("/hybrid")
     public ResponseEntity<ApiResponse> getHybridProjects(
             @RequestParam(defaultValue = "1") int page,
@@ -200,6 +236,8 @@ public class RemoteProjectController {
             @RequestParam(required = false) String onsiteFrequency,
             @RequestParam(required = false) Boolean flexibleHours,
             @RequestParam(defaultValue = "latest") String sortBy,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "exact") String totalMode,
             HttpServletRequest request) {
         
         try {
@@ -214,6 +252,8 @@ public class RemoteProjectController {
             params.put("onsiteFrequency", onsiteFrequency);
             params.put("flexibleHours", flexibleHours);
             params.put("sortBy", sortBy);
+            params.put("cursor", cursor);
+            params.put("totalMode", totalMode);
             
             Long userId = getUserIdFromRequest(request);
             if (userId != null) {
@@ -223,6 +263,9 @@ public class RemoteProjectController {
             Map<String, Object> result = remoteProjectService.getRemoteProjects(params);
             
             return ResponseEntity.ok(ApiResponse.success(result, "하이브리드 프로젝트 목록 조회 성공"));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(e.getMessage()));
         } catch (Exception e) {
             log.error("하이브리드 프로젝트 목록 조회 중 오류 발생", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -230,9 +273,25 @@ public class RemoteProjectController {
         }
     }
     
+    /**
+     * 시장 통계 (대시보드용, 백그라운드에서 갱신되는 스냅샷 한 번으로 모든 분포/평균 제공)
+     */
+    @ConditionalGet(ResourceVersions.PROJECTS)
+    @GetMapping("/insights")
+    public ResponseEntity<ApiResponse> getMarketInsights() {
+        try {
+            return ResponseEntity.ok(ApiResponse.success(remoteProjectService.getMarketInsights(), "시장 통계 조회 성공"));
+        } catch (Exception e) {
+            log.error("시장 통계 조회 중 오류 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("시장 통계 조회 실패: " + e.getMessage()));
+        }
+    }
+    
     /**
      * 프로젝트 기술 스택 목록 조회
      */
+    @ConditionalGet(ResourceVersions.PROJECTS)
     @GetMapping("/skills")
     public ResponseEntity<ApiResponse> getProjectSkills() {
         try {
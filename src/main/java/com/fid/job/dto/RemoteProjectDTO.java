@@ -5,11 +5,11 @@ import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fid.job.util.JsonArrayParser;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.ArrayList;
-import java.util.stream.Collectors;
 
 @Data
 @NoArgsConstructor
@@ -80,6 +80,7 @@ public class RemoteProjectDTO {
     // 실시간 통계
     private Integer viewCount;
     private Integer bookmarkCount;
+    private UniqueViewers uniqueViewers; // 상세 조회 시에만 채워짐
     
     // 유연근무제
     private Boolean flexibleHours;
@@ -135,7 +136,7 @@ public class RemoteProjectDTO {
         private String status; // upcoming, current, completed
     }
     
-    // Project 엔티티로부터 RemoteProjectDTO 생성
+    // Project 엔티티로부터 RemoteProjectDTO 생성 (JSON 배열 컬럼은 조회 시 파싱된 목록 사용)
     public static RemoteProjectDTO fromProject(com.fid.job.model.Project project) {
         return RemoteProjectDTO.builder()
                 .id(project.getId())
@@ -157,21 +158,22 @@ public class RemoteProjectDTO {
                         .deadline(project.getDeadline() != null ? project.getDeadline().atStartOfDay() : null)
                         .urgency(project.getUrgency())
                         .build())
-                .skills(parseJsonArray(project.getRequiredSkills()))
+                .skills(JsonArrayParser.parsedOrParse(project.getRequiredSkillList(), project.getRequiredSkills()))
                 .category(project.getCategory())
                 .workType(project.getWorkType())
                 .location(project.getLocation())
-                .requirements(parseJsonArray(project.getRequirements()))
-                .deliverables(parseJsonArray(project.getDeliverables()))
+                .requirements(JsonArrayParser.parsedOrParse(project.getRequirementList(), project.getRequirements()))
+                .deliverables(JsonArrayParser.parsedOrParse(project.getDeliverableList(), project.getDeliverables()))
                 .applicationDeadline(project.getDeadline() != null ? project.getDeadline().atStartOfDay() : null)
                 .status(project.getStatus())
                 .applicationsCount(project.getApplicationsCount())
                 .postedDate(project.getCreatedAt())
                 .experienceLevel(project.getExperienceLevel())
-                .communicationMethods(parseJsonArray(project.getCommunicationMethods()))
+                .communicationMethods(JsonArrayParser.parsedOrParse(project.getCommunicationMethodList(),
+                        project.getCommunicationMethods()))
                 .timezone(project.getTimezone())
                 .preferredWorkingHours(project.getPreferredWorkingHours())
-                .remoteTools(parseJsonArray(project.getRemoteTools()))
+                .remoteTools(JsonArrayParser.parsedOrParse(project.getRemoteToolList(), project.getRemoteTools()))
                 .teamSize(project.getTeamSize())
                 .developmentMethodology(project.getDevelopmentMethodology())
                 .codeReviewProcess(project.getCodeReviewProcess())
@@ -181,7 +183,7 @@ public class RemoteProjectDTO {
                 .parkingAvailable(project.getParkingAvailable())
                 .mealProvided(project.getMealProvided())
                 .equipmentProvided(project.getEquipmentProvided())
-                .benefits(parseJsonArray(project.getBenefits()))
+                .benefits(JsonArrayParser.parsedOrParse(project.getBenefitList(), project.getBenefits()))
                 .projectStages(parseProjectStages(project.getProjectStages()))
                 .viewCount(project.getViewCount())
                 .bookmarkCount(project.getBookmarkCount())
@@ -190,35 +192,20 @@ public class RemoteProjectDTO {
                 .build();
     }
     
-    private static List<String> parseJsonArray(String jsonString) {
-        if (jsonString == null || jsonString.isEmpty()) {
-            return new ArrayList<>();
-        }
-        try {
-            com.fasterxml.jackson.databind.ObjectMapper mapper = new com.fasterxml.jackson.databind.ObjectMapper();
-            return mapper.readValue(jsonString, List.class);
-        } catch (Exception e) {
-            return new ArrayList<>();
+    private static List<ProjectStage> parseProjectStages(String jsonString) {
+        List<ProjectStage> stages = new ArrayList<>();
+        for (Map<String, Object> stage : JsonArrayParser.parseObjects(jsonString)) {
+            stages.add(ProjectStage.builder()
+                    .name(text(stage.get("name")))
+                    .description(text(stage.get("description")))
+                    .duration(text(stage.get("duration")))
+                    .status(text(stage.get("status")))
+                    .build());
         }
+        return stages;
     }
     
-    private static List<ProjectStage> parseProjectStages(String jsonString) {
-        if (jsonString == null || jsonString.isEmpty()) {
-            return new ArrayList<>();
-        }
-        try {
-            com.fasterxml.jackson.databind.ObjectMapper mapper = new com.fasterxml.jackson.databind.ObjectMapper();
-            List<Map<String, Object>> stages = mapper.readValue(jsonString, List.class);
-            return stages.stream()
-                    .map(stage -> ProjectStage.builder()
-                            .name((String) stage.get("name"))
-                            .description((String) stage.get("description"))
-                            .duration((String) stage.get("duration"))
-                            .status((String) stage.get("status"))
-                            .build())
-                    .collect(Collectors.toList());
-        } catch (Exception e) {
-            return new ArrayList<>();
-        }
+    private static String text(Object value) {
+        return value == null ? null : value.toString();
     }
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.fid.job.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 고유 방문자 수 (HyperLogLog 근사값, 오늘 포함 기간)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UniqueViewers {
+    private Long daily;
+    private Long weekly;
+    private Long monthly;
+}
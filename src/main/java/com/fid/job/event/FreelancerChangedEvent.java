@@ -0,0 +1,23 @@
+package com.fid.job.event;
+
+import com.fid.job.model.Freelancer;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 프리랜서 프로필 변경 이벤트 (등록/수정/삭제)
+ * 인메모리 색인/캐시가 구독하여 자신의 상태를 갱신
+ */
+@Getter
+@AllArgsConstructor
+public class FreelancerChangedEvent {
+
+    private final Long freelancerId;
+
+    // 변경 후 프로필, 삭제된 경우 null
+    private final Freelancer freelancer;
+
+    public boolean isDeleted() {
+        return freelancer == null;
+    }
+}
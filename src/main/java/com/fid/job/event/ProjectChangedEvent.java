@@ -0,0 +1,66 @@
+package com.fid.job.event;
+
+import com.fid.job.model.Project;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 프로젝트 변경 이벤트
+ * 인메모리 색인/캐시가 구독하여 자신의 상태를 갱신
+ *
+ * - CREATED/UPDATED/DELETED : 변경 전후 행(before/after)을 함께 전달, 없는 쪽은 null
+ *                            DB 변경 추적으로 감지한 변경은 변경 전 행을 모름 (isBeforeUnknown)
+ * - COUNTERS               : 북마크/지원/조회수 등 집계 컬럼만 변경 (counter 에 변경된 집계 이름, delta 에 증감량)
+ */
+@Getter
+@AllArgsConstructor
+public class ProjectChangedEvent {
+
+    public enum Type { CREATED, UPDATED, DELETED, COUNTERS }
+
+    public static final String BOOKMARKS = "bookmarks";
+    public static final String APPLICATIONS = "applications";
+    public static final String VIEWS = "views";
+
+    private final Long projectId;
+    private final Type type;
+
+    // 변경 전 행, 신규 등록이거나 알 수 없으면 null
+    private final Project before;
+
+    // 변경 후 행, 삭제되었거나 알 수 없으면 null
+    private final Project after;
+
+    // COUNTERS 이벤트의 변경된 집계 이름
+    private final String counter;
+
+    // COUNTERS 이벤트의 증감량
+    private final long delta;
+
+    public static ProjectChangedEvent counters(Long projectId, String counter) {
+        return counters(projectId, counter, 1);
+    }
+
+    public static ProjectChangedEvent counters(Long projectId, String counter, long delta) {
+        return new ProjectChangedEvent(projectId, Type.COUNTERS, null, null, counter, delta);
+    }
+
+    public static ProjectChangedEvent rowChanged(Long projectId, Project before, Project after) {
+        Type type = before == null ? Type.CREATED : after == null ? Type.DELETED : Type.UPDATED;
+        return new ProjectChangedEvent(projectId, type, before, after, null, 0);
+    }
+
+    /**
+     * DB 변경 추적으로 감지한 변경 (변경 전 행은 알 수 없음, after 가 null 이면 삭제되었거나 더 이상 조회되지 않음)
+     */
+    public static ProjectChangedEvent observed(Long projectId, Project after) {
+        return new ProjectChangedEvent(projectId, after == null ? Type.DELETED : Type.UPDATED, null, after, null, 0);
+    }
+
+    /**
+     * 변경 전 행이 있었을 수 있지만 전달되지 않음 (증감으로 유지하는 구독자는 다시 적재해야 함)
+     */
+    public boolean isBeforeUnknown() {
+        return before == null && (type == Type.UPDATED || type == Type.DELETED);
+    }
+}
@@ -0,0 +1,22 @@
+package com.fid.job.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 사용자의 프로젝트 북마크/지원 여부 변경 이벤트
+ * 사용자별 소속 캐시가 커밋 이후 구독하여 갱신 (write-through)
+ */
+@Getter
+@AllArgsConstructor
+public class ProjectMembershipChangedEvent {
+
+    public enum Kind { BOOKMARK, APPLICATION }
+
+    private final Long userId;
+    private final Long projectId;
+    private final Kind kind;
+
+    // 변경 후 소속 여부 (북마크 추가/지원 true, 북마크 삭제 false)
+    private final boolean member;
+}
@@ -0,0 +1,52 @@
+package com.fid.job.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Set;
+
+/**
+ * DB 변경 추적으로 감지한 테이블 행 변경 이벤트 (조회 주기마다 테이블별 한 묶음)
+ * 애플리케이션 밖 변경(관리자 SQL, 배치)도 포함, 같은 변경이 한 번 이상 전달될 수 있음
+ *
+ * - projects/freelancers 는 행 단위 이벤트(ProjectChangedEvent, FreelancerChangedEvent)도 함께 발행
+ * - users/companies 변경은 이를 조인해 보여주는 프로젝트/프리랜서의 행 단위 이벤트로도 전달
+ */
+@Getter
+@AllArgsConstructor
+public class TableChangedEvent {
+
+    public enum Table {
+        PROJECTS("projects"), FREELANCERS("freelancers"), USERS("users"), COMPANIES("companies");
+
+        private final String tableName;
+
+        Table(String tableName) {
+            this.tableName = tableName;
+        }
+
+        public String tableName() {
+            return tableName;
+        }
+
+        /**
+         * @return 추적 대상이 아니면 null
+         */
+        public static Table of(String tableName) {
+            for (Table table : values()) {
+                if (table.tableName.equals(tableName)) {
+                    return table;
+                }
+            }
+            return null;
+        }
+    }
+
+    private final Table table;
+
+    // 추가/수정된 행 ID
+    private final Set<Long> changedIds;
+
+    // 삭제된 행 ID
+    private final Set<Long> deletedIds;
+}
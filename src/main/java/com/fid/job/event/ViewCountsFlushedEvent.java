@@ -0,0 +1,21 @@
+package com.fid.job.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Set;
+
+/**
+ * 지연 반영하던 조회수가 DB 에 반영된 묶음 (ViewCounterService 가 반영 중 값을 비우기 직전에 발행)
+ * 조회수를 포함한 행을 캐시하는 구독자는 이 ID 들의 캐시된 행을 버려야 함
+ * (캐시된 DB 값 + 미반영분이 반영 후 미반영분만큼 줄어들지 않도록)
+ */
+@Getter
+@AllArgsConstructor
+public class ViewCountsFlushedEvent {
+
+    // 반영된 테이블 (projects, freelancers, notices)
+    private final String table;
+
+    private final Set<Long> ids;
+}
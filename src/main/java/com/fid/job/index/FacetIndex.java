@@ -0,0 +1,770 @@
+package com.fid.job.index;
+
+import com.fid.job.cache.ProjectListingPredicate;
+import com.fid.job.event.FreelancerChangedEvent;
+import com.fid.job.event.ProjectChangedEvent;
+import com.fid.job.mapper.FreelancerMapper;
+import com.fid.job.mapper.ProjectMapper;
+import com.fid.job.model.Freelancer;
+import com.fid.job.model.Project;
+import com.fid.job.util.JsonArrayParser;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * 목록 화면 필터 사이드바용 패싯 건수 (facets=workType,experienceLevel,skills,location,categoryId,budgetBucket)
+ * - 활성 프로젝트/프리랜서의 패싯 컬럼을 값별 ID 비트맵(RoaringBitmap)으로 유지, 스킬은 SkillBitmapIndex 의 사전 공유
+ * - 패싯마다 "자기 필터를 뺀 나머지 현재 필터" 결과와 값별 비트맵의 교집합 크기로 건수 계산 (GROUP BY 쿼리 없음)
+ * - 패싯이 아닌 필터(프로젝트 유형, 긴급, 마감일 등)는 보관 중인 행에 ProjectListingPredicate 판정으로 적용
+ * - 변경 이벤트는 모아 두었다가 app.facets.apply-ms 마다 한 번에 반영 (copy-on-write)
+ *   반영 한 번에 행 맵과 전체 비트맵은 한 번만 복사하고, 바뀐 값의 비트맵도 배치당 한 번만 복사
+ *   (이벤트마다 전체를 복사하지 않도록, 반영 전까지 조회는 이전 테이블 사용)
+ * - 주기적으로 DB 에서 다시 읽어 재구축, 읽는 동안 들어온 변경은 교체 후 다시 적용
+ *   첫 구축도 예약 작업(app.facets.initial-delay-ms)에서 하며, 준비 전 조회는 null (호출 측에서 패싯 생략)
+ *
+ * 목록별 기준
+ * - 프로젝트 목록: 스킬은 필수 + 우대, 키워드는 ProjectSearchIndex 결과로 제한
+ * - 원격 프로젝트 목록: 스킬은 필수만
+ * - 프리랜서 목록: workType(선호 근무 형태), experienceLevel, skills 만 제공 (그 외 패싯 이름은 무시)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FacetIndex {
+
+    public static final String WORK_TYPE = "workType";
+    public static final String EXPERIENCE_LEVEL = "experienceLevel";
+    public static final String SKILLS = "skills";
+    public static final String LOCATION = "location";
+    public static final String CATEGORY_ID = "categoryId";
+    public static final String BUDGET_BUCKET = "budgetBucket";
+
+    private static final List<String> PROJECT_FACETS = Arrays.asList(
+            WORK_TYPE, EXPERIENCE_LEVEL, SKILLS, LOCATION, CATEGORY_ID, BUDGET_BUCKET);
+    private static final List<String> FREELANCER_FACETS = Arrays.asList(WORK_TYPE, EXPERIENCE_LEVEL, SKILLS);
+
+    // 비트맵으로 처리하는 필터 키 (나머지 필터는 행 판정)
+    private static final Set<String> PROJECT_FACET_FILTERS = new HashSet<>(Arrays.asList(
+            WORK_TYPE, EXPERIENCE_LEVEL, SKILLS, "skillMatch", LOCATION, CATEGORY_ID, "minBudget", "maxBudget", "search"));
+    private static final Set<String> FREELANCER_FACET_FILTERS = new HashSet<>(Arrays.asList(
+            EXPERIENCE_LEVEL, SKILLS, "skillMatch"));
+
+    // 필터가 아닌 목록 파라미터
+    private static final Set<String> NON_FILTER_KEYS = new HashSet<>(Arrays.asList(
+            "page", "limit", "offset", "cursor", "keyset", "sortBy", "sortOrder", "totalMode",
+            "userId", "fastMode", "includeCompany", "includeClient", "includeCategory"));
+
+    private final ProjectMapper projectMapper;
+    private final FreelancerMapper freelancerMapper;
+    private final SkillBitmapIndex skillBitmapIndex;
+
+    // 값 목록 최대 개수 (예산 구간은 항상 전체)
+    @Value("${app.facets.max-values:30}")
+    private int maxValues;
+
+    // 예산 구간 경계 (budget_max 기준, 없으면 budget_min)
+    @Value("${app.facets.budget-buckets:1000000,3000000,5000000,10000000}")
+    private long[] budgetBuckets;
+
+    private volatile Table<Project> projects;
+    private volatile Table<Freelancer> freelancers;
+
+    // 아직 반영하지 않은 변경 (ID -> 새 문서, 삭제/비활성은 null), this 로 동기화
+    // 같은 ID 는 마지막 변경만 남음 (문서는 변경 후 행 전체이므로)
+    private final Map<Integer, Doc<Project>> pendingProjects = new LinkedHashMap<>();
+    private final Map<Integer, Doc<Freelancer>> pendingFreelancers = new LinkedHashMap<>();
+
+    // 마지막 재구축 조회 이후의 변경 (재구축 중 들어온 변경을 새 테이블에 다시 적용), this 로 동기화
+    private final Map<Integer, Change<Project>> recentProjects = new LinkedHashMap<>();
+    private final Map<Integer, Change<Freelancer>> recentFreelancers = new LinkedHashMap<>();
+    private long sequence;
+
+    /**
+     * facets 파라미터 해석 (쉼표 구분, 모르는 이름 무시, 요청 순서 유지)
+     */
+    public static List<String> parse(Object facetsParam) {
+        if (facetsParam == null) {
+            return Collections.emptyList();
+        }
+        Set<String> names = new LinkedHashSet<>();
+        for (String name : facetsParam.toString().split(",")) {
+            if (PROJECT_FACETS.contains(name.trim())) {
+                names.add(name.trim());
+            }
+        }
+        return new ArrayList<>(names);
+    }
+
+    /**
+     * 프로젝트 목록 패싯 건수
+     *
+     * @param filters          목록 필터 (페이징 등 필터가 아닌 키는 무시)
+     * @param searchIds        키워드 검색 결과 ID (검색이 없으면 null)
+     * @param includePreferred 스킬 필터/패싯에 우대 스킬 포함 여부
+     * @return 패싯 이름 -> [{value, count}], 색인이 아직 준비되지 않았으면 null
+     */
+    public Map<String, Object> projectFacets(Map<String, Object> filters, List<String> facets,
+                                             Collection<Long> searchIds, boolean includePreferred) {
+        Table<Project> table = projects;
+        if (table == null) {
+            return null;
+        }
+        Map<String, RoaringBitmap> facetFilters = new HashMap<>();
+        putIfPresent(facetFilters, WORK_TYPE, equalsFilter(table, WORK_TYPE, filters.get(WORK_TYPE)));
+        putIfPresent(facetFilters, EXPERIENCE_LEVEL, equalsFilter(table, EXPERIENCE_LEVEL, filters.get(EXPERIENCE_LEVEL)));
+        putIfPresent(facetFilters, LOCATION, containsFilter(table, filters.get(LOCATION)));
+        putIfPresent(facetFilters, CATEGORY_ID, equalsFilter(table, CATEGORY_ID, filters.get(CATEGORY_ID)));
+        putIfPresent(facetFilters, SKILLS, skillFilter(table, filters.get(SKILLS),
+                "all".equals(filters.get("skillMatch")), includePreferred));
+        if (!isEmpty(filters.get("minBudget")) || !isEmpty(filters.get("maxBudget"))) {
+            Map<String, Object> budget = new HashMap<>();
+            budget.put("minBudget", filters.get("minBudget"));
+            budget.put("maxBudget", filters.get("maxBudget"));
+            facetFilters.put(BUDGET_BUCKET, rowFilter(table, row -> ProjectListingPredicate.mayMatch(budget, row)));
+        }
+
+        RoaringBitmap base = table.all;
+        if (searchIds != null) {
+            RoaringBitmap searched = new RoaringBitmap();
+            for (Long id : searchIds) {
+                searched.add(toIntId(id));
+            }
+            base = RoaringBitmap.and(base, searched);
+        }
+        Map<String, Object> residual = residual(filters, PROJECT_FACET_FILTERS);
+        if (!residual.isEmpty()) {
+            base = RoaringBitmap.and(base, rowFilter(table, row -> ProjectListingPredicate.mayMatch(residual, row)));
+        }
+        return count(table, facets, PROJECT_FACETS, base, facetFilters, includePreferred);
+    }
+
+    /**
+     * 프리랜서 목록 패싯 건수 (색인이 아직 준비되지 않았으면 null)
+     */
+    public Map<String, Object> freelancerFacets(Map<String, Object> filters, List<String> facets) {
+        Table<Freelancer> table = freelancers;
+        if (table == null) {
+            return null;
+        }
+        Map<String, RoaringBitmap> facetFilters = new HashMap<>();
+        putIfPresent(facetFilters, EXPERIENCE_LEVEL, equalsFilter(table, EXPERIENCE_LEVEL, filters.get(EXPERIENCE_LEVEL)));
+        putIfPresent(facetFilters, SKILLS, skillFilter(table, filters.get(SKILLS),
+                "all".equals(filters.get("skillMatch")), false));
+
+        RoaringBitmap base = table.all;
+        Map<String, Object> residual = residual(filters, FREELANCER_FACET_FILTERS);
+        if (!residual.isEmpty()) {
+            base = RoaringBitmap.and(base, rowFilter(table, row -> freelancerMatches(residual, row)));
+        }
+        return count(table, facets, FREELANCER_FACETS, base, facetFilters, false);
+    }
+
+    @Scheduled(initialDelayString = "${app.facets.initial-delay-ms:0}",
+               fixedDelayString = "${app.facets.reconcile-ms:300000}")
+    public void reconcile() {
+        try {
+            reloadProjects();
+        } catch (Exception e) {
+            log.error("프로젝트 패싯 색인 재구축 실패", e);
+        }
+        try {
+            reloadFreelancers();
+        } catch (Exception e) {
+            log.error("프리랜서 패싯 색인 재구축 실패", e);
+        }
+    }
+
+    /**
+     * 프로젝트 행 변경 반영 (활성 프로젝트만 유지)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        if (event.getType() == ProjectChangedEvent.Type.COUNTERS || event.getProjectId() == null) {
+            return;
+        }
+        Project after = event.getAfter();
+        Doc<Project> doc = after != null && "active".equals(after.getStatus()) ? projectDoc(after) : null;
+        Integer id = toIntId(event.getProjectId());
+        synchronized (this) {
+            // 첫 구축 전에도 기록 (구축이 DB 를 읽는 중일 수 있음)
+            recentProjects.remove(id);
+            recentProjects.put(id, new Change<>(++sequence, doc));
+            if (projects != null) {
+                pendingProjects.put(id, doc);
+            }
+        }
+    }
+
+    /**
+     * 프리랜서 등록/수정/삭제 반영
+     * 이벤트의 프로필은 요청 값이라 일부 컬럼이 비어 있을 수 있으므로 해당 행을 다시 읽음
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFreelancerChanged(FreelancerChangedEvent event) {
+        if (event.getFreelancerId() == null) {
+            return;
+        }
+        Doc<Freelancer> doc = null;
+        if (!event.isDeleted()) {
+            List<Freelancer> rows = freelancerMapper.findFacetDocuments(event.getFreelancerId());
+            doc = rows.isEmpty() ? null : freelancerDoc(rows.get(0));
+        }
+        Integer id = toIntId(event.getFreelancerId());
+        synchronized (this) {
+            recentFreelancers.remove(id);
+            recentFreelancers.put(id, new Change<>(++sequence, doc));
+            if (freelancers != null) {
+                pendingFreelancers.put(id, doc);
+            }
+        }
+    }
+
+    /**
+     * 모아 둔 변경을 한 번에 반영
+     * 재구축 교체 시 대기 중인 변경은 조회 이후 변경과 함께 반영되므로 비움
+     */
+    @Scheduled(initialDelayString = "${app.facets.apply-ms:500}",
+               fixedDelayString = "${app.facets.apply-ms:500}")
+    public synchronized void applyPending() {
+        if (projects != null && !pendingProjects.isEmpty()) {
+            projects = projects.withAll(pendingProjects);
+            pendingProjects.clear();
+        }
+        if (freelancers != null && !pendingFreelancers.isEmpty()) {
+            freelancers = freelancers.withAll(pendingFreelancers);
+            pendingFreelancers.clear();
+        }
+    }
+
+    private void reloadProjects() {
+        long start = System.currentTimeMillis();
+        long readFrom;
+        synchronized (this) {
+            readFrom = sequence;
+        }
+        // DB 조회와 파싱은 잠금 밖에서
+        Map<Integer, Doc<Project>> docs = new HashMap<>();
+        for (Project project : projectMapper.findFacetDocuments()) {
+            docs.put(toIntId(project.getId()), projectDoc(project));
+        }
+        Table<Project> table = Table.build(docs);
+        int replayed;
+        synchronized (this) {
+            projects = replay(table, recentProjects, readFrom);
+            replayed = recentProjects.size();
+            pendingProjects.clear();
+        }
+        log.info("프로젝트 패싯 색인 재구축 완료 - {}건, 재적용 변경 {}건, {}ms",
+                docs.size(), replayed, System.currentTimeMillis() - start);
+    }
+
+    private void reloadFreelancers() {
+        long start = System.currentTimeMillis();
+        long readFrom;
+        synchronized (this) {
+            readFrom = sequence;
+        }
+        Map<Integer, Doc<Freelancer>> docs = new HashMap<>();
+        for (Freelancer freelancer : freelancerMapper.findFacetDocuments(null)) {
+            docs.put(toIntId(freelancer.getId()), freelancerDoc(freelancer));
+        }
+        Table<Freelancer> table = Table.build(docs);
+        int replayed;
+        synchronized (this) {
+            freelancers = replay(table, recentFreelancers, readFrom);
+            replayed = recentFreelancers.size();
+            pendingFreelancers.clear();
+        }
+        log.info("프리랜서 패싯 색인 재구축 완료 - {}건, 재적용 변경 {}건, {}ms",
+                docs.size(), replayed, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 새로 읽은 테이블에 조회 시작 이후의 변경을 적용 (조회 전 변경은 읽은 결과에 포함되어 있으므로 버림), this 잠금 안에서 호출
+     */
+    private static <T> Table<T> replay(Table<T> table, Map<Integer, Change<T>> recent, long readFrom) {
+        recent.values().removeIf(change -> change.sequence <= readFrom);
+        if (recent.isEmpty()) {
+            return table;
+        }
+        Map<Integer, Doc<T>> changes = new LinkedHashMap<>();
+        for (Map.Entry<Integer, Change<T>> entry : recent.entrySet()) {
+            changes.put(entry.getKey(), entry.getValue().doc);
+        }
+        return table.withAll(changes);
+    }
+
+    private Doc<Project> projectDoc(Project project) {
+        Map<String, String> values = new HashMap<>();
+        values.put(WORK_TYPE, project.getWorkType());
+        values.put(EXPERIENCE_LEVEL, project.getExperienceLevel());
+        values.put(LOCATION, project.getLocation());
+        values.put(CATEGORY_ID, project.getCategoryId() != null ? project.getCategoryId().toString() : null);
+        values.put(BUDGET_BUCKET, budgetBucket(project.getBudgetMax() != null ? project.getBudgetMax() : project.getBudgetMin()));
+        return new Doc<>(project, values,
+                encode(JsonArrayParser.parsedOrParse(project.getRequiredSkillList(), project.getRequiredSkills())),
+                encode(JsonArrayParser.parsedOrParse(project.getPreferredSkillList(), project.getPreferredSkills())));
+    }
+
+    private Doc<Freelancer> freelancerDoc(Freelancer freelancer) {
+        Map<String, String> values = new HashMap<>();
+        values.put(WORK_TYPE, freelancer.getPreferredWorkType());
+        values.put(EXPERIENCE_LEVEL, freelancer.getExperienceLevel());
+        return new Doc<>(freelancer, values,
+                encode(JsonArrayParser.parseStrings(freelancer.getSkills())), Collections.<Integer>emptySet());
+    }
+
+    private Set<Integer> encode(List<String> skills) {
+        SkillDictionary dictionary = skillBitmapIndex.getDictionary();
+        Set<Integer> skillIds = new HashSet<>();
+        for (String skill : skills) {
+            skillIds.add(dictionary.encode(skill));
+        }
+        return skillIds;
+    }
+
+    /**
+     * 예산 구간 이름 ("0-1000000", "1000000-3000000", ..., "10000000+")
+     */
+    private String budgetBucket(BigDecimal budget) {
+        if (budget == null) {
+            return null;
+        }
+        long lower = 0;
+        for (long bound : budgetBuckets) {
+            if (budget.compareTo(BigDecimal.valueOf(bound)) < 0) {
+                return lower + "-" + bound;
+            }
+            lower = bound;
+        }
+        return lower + "+";
+    }
+
+    private List<String> budgetBucketNames() {
+        List<String> names = new ArrayList<>(budgetBuckets.length + 1);
+        long lower = 0;
+        for (long bound : budgetBuckets) {
+            names.add(lower + "-" + bound);
+            lower = bound;
+        }
+        names.add(lower + "+");
+        return names;
+    }
+
+    /**
+     * 패싯별 건수: (기본 조건 AND 자기 외 패싯 필터) 결과와 값별 비트맵의 교집합 크기
+     */
+    private <T> Map<String, Object> count(Table<T> table, List<String> facets, List<String> supported,
+                                          RoaringBitmap base, Map<String, RoaringBitmap> facetFilters,
+                                          boolean includePreferred) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        for (String facet : facets) {
+            if (!supported.contains(facet)) {
+                continue;
+            }
+            RoaringBitmap scope = base;
+            for (Map.Entry<String, RoaringBitmap> filter : facetFilters.entrySet()) {
+                if (!filter.getKey().equals(facet)) {
+                    scope = RoaringBitmap.and(scope, filter.getValue());
+                }
+            }
+
+            List<Map<String, Object>> values;
+            if (SKILLS.equals(facet)) {
+                SkillDictionary dictionary = skillBitmapIndex.getDictionary();
+                Map<String, Long> counts = new HashMap<>();
+                Set<Integer> skillIds = new HashSet<>(table.required.keySet());
+                if (includePreferred) {
+                    skillIds.addAll(table.preferred.keySet());
+                }
+                for (Integer skillId : skillIds) {
+                    long count = RoaringBitmap.andCardinality(scope, table.skill(skillId, includePreferred));
+                    if (count > 0) {
+                        counts.put(dictionary.decode(skillId), count);
+                    }
+                }
+                values = top(counts);
+            } else if (BUDGET_BUCKET.equals(facet)) {
+                Map<String, RoaringBitmap> column = table.column(facet);
+                values = new ArrayList<>();
+                for (String bucket : budgetBucketNames()) {
+                    RoaringBitmap ids = column.get(bucket);
+                    values.add(entry(bucket, ids != null ? RoaringBitmap.andCardinality(scope, ids) : 0L));
+                }
+            } else {
+                Map<String, Long> counts = new HashMap<>();
+                for (Map.Entry<String, RoaringBitmap> value : table.column(facet).entrySet()) {
+                    long count = RoaringBitmap.andCardinality(scope, value.getValue());
+                    if (count > 0) {
+                        counts.put(value.getKey(), count);
+                    }
+                }
+                values = top(counts);
+            }
+            result.put(facet, values);
+        }
+        return result;
+    }
+
+    /**
+     * 건수 내림차순(같으면 값 이름순) 상위 max-values 개
+     */
+    private List<Map<String, Object>> top(Map<String, Long> counts) {
+        List<Map.Entry<String, Long>> entries = new ArrayList<>(counts.entrySet());
+        entries.sort(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+        List<Map<String, Object>> values = new ArrayList<>(Math.min(maxValues, entries.size()));
+        for (int i = 0; i < entries.size() && values.size() < maxValues; i++) {
+            values.add(entry(entries.get(i).getKey(), entries.get(i).getValue()));
+        }
+        return values;
+    }
+
+    private static Map<String, Object> entry(String value, long count) {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("value", value);
+        entry.put("count", count);
+        return entry;
+    }
+
+    /**
+     * 값이 필터와 대소문자 무시 일치하는 행 (필터가 없으면 null)
+     */
+    private static RoaringBitmap equalsFilter(Table<?> table, String facet, Object filter) {
+        if (isEmpty(filter)) {
+            return null;
+        }
+        String expected = filter.toString().trim();
+        return table.union(facet, value -> value.equalsIgnoreCase(expected));
+    }
+
+    /**
+     * 지역이 필터 문자열을 포함하는 행 (LIKE '%..%' 와 같은 기준)
+     */
+    private static RoaringBitmap containsFilter(Table<?> table, Object filter) {
+        if (isEmpty(filter)) {
+            return null;
+        }
+        String expected = filter.toString().trim().toLowerCase(Locale.ROOT);
+        return table.union(LOCATION, value -> value.toLowerCase(Locale.ROOT).contains(expected));
+    }
+
+    private RoaringBitmap skillFilter(Table<?> table, Object skills, boolean matchAll, boolean includePreferred) {
+        if (!(skills instanceof Collection) || ((Collection<?>) skills).isEmpty()) {
+            return null;
+        }
+        RoaringBitmap result = null;
+        for (Object skill : (Collection<?>) skills) {
+            Integer skillId = skill == null ? null : skillBitmapIndex.getDictionary().lookup(skill.toString());
+            RoaringBitmap matched = skillId == null ? new RoaringBitmap() : table.skill(skillId, includePreferred);
+            if (result == null) {
+                result = matched.clone();
+            } else {
+                result = matchAll ? RoaringBitmap.and(result, matched) : RoaringBitmap.or(result, matched);
+            }
+        }
+        return result;
+    }
+
+    private static <T> RoaringBitmap rowFilter(Table<T> table, Predicate<T> predicate) {
+        RoaringBitmap matched = new RoaringBitmap();
+        for (Map.Entry<Integer, Doc<T>> doc : table.docs.entrySet()) {
+            if (predicate.test(doc.getValue().row)) {
+                matched.add(doc.getKey());
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * 비트맵으로 처리하지 않는 나머지 필터 (값이 있는 것만)
+     */
+    private static Map<String, Object> residual(Map<String, Object> filters, Set<String> facetFilters) {
+        Map<String, Object> residual = new HashMap<>();
+        for (Map.Entry<String, Object> filter : filters.entrySet()) {
+            if (!facetFilters.contains(filter.getKey()) && !NON_FILTER_KEYS.contains(filter.getKey())
+                    && !isEmpty(filter.getValue())) {
+                residual.put(filter.getKey(), filter.getValue());
+            }
+        }
+        return residual;
+    }
+
+    /**
+     * 프리랜서 목록 조건 판정 (FreelancerMapper.xml SearchConditions 중 패싯이 아닌 조건)
+     */
+    private static boolean freelancerMatches(Map<String, Object> filters, Freelancer row) {
+        Object availability = filters.get("availability");
+        if (!isEmpty(availability) && !availability.toString().equals(row.getAvailability())) {
+            return false;
+        }
+        Object freelancerType = filters.get("freelancerType");
+        if (!isEmpty(freelancerType) && !"전체".equals(freelancerType)
+                && !freelancerType.toString().equals(row.getFreelancerType())) {
+            return false;
+        }
+        Object minRating = filters.get("minRating");
+        if (minRating instanceof Number && (row.getRating() == null
+                || row.getRating().doubleValue() < ((Number) minRating).doubleValue())) {
+            return false;
+        }
+        Object experienceRange = filters.get("experienceRange");
+        if (!isEmpty(experienceRange)) {
+            Integer years = row.getExperienceYears();
+            switch (experienceRange.toString()) {
+                case "3년이하":
+                    return years != null && years <= 3;
+                case "6년이하":
+                    return years != null && years <= 6;
+                case "10년이하":
+                    return years != null && years <= 10;
+                case "10년초과":
+                    return years != null && years > 10;
+                default:
+                    return true;
+            }
+        }
+        return true;
+    }
+
+    private static void putIfPresent(Map<String, RoaringBitmap> filters, String facet, RoaringBitmap bitmap) {
+        if (bitmap != null) {
+            filters.put(facet, bitmap);
+        }
+    }
+
+    private static boolean isEmpty(Object value) {
+        return value == null || value.toString().trim().isEmpty()
+                || value instanceof Collection && ((Collection<?>) value).isEmpty();
+    }
+
+    private static int toIntId(Long id) {
+        if (id == null || id < 0 || id > 0xFFFFFFFFL) {
+            throw new IllegalArgumentException("비트맵 색인 범위를 벗어난 ID: " + id);
+        }
+        return (int) id.longValue();
+    }
+
+    /**
+     * 재구축 조회 이후의 변경 (doc 이 null 이면 삭제되었거나 비활성)
+     */
+    private static final class Change<T> {
+        private final long sequence;
+        private final Doc<T> doc;
+
+        private Change(long sequence, Doc<T> doc) {
+            this.sequence = sequence;
+            this.doc = doc;
+        }
+    }
+
+    /**
+     * 행 한 건의 패싯 값 (패싯 이름 -> 값, 값이 없으면 null)과 스킬 ID
+     */
+    private static final class Doc<T> {
+        private final T row;
+        private final Map<String, String> values;
+        private final Set<Integer> required;
+        private final Set<Integer> preferred;
+
+        private Doc(T row, Map<String, String> values, Set<Integer> required, Set<Integer> preferred) {
+            this.row = row;
+            this.values = values;
+            this.required = required;
+            this.preferred = preferred;
+        }
+    }
+
+    /**
+     * 패싯 컬럼 테이블 (불변, 변경 시 바뀐 비트맵만 복사한 새 테이블로 교체)
+     */
+    private static final class Table<T> {
+        private static final RoaringBitmap EMPTY = new RoaringBitmap();
+
+        private final Map<Integer, Doc<T>> docs;
+        private final RoaringBitmap all;
+        // 패싯 이름 -> 값 -> ID
+        private final Map<String, Map<String, RoaringBitmap>> columns;
+        // 스킬 ID -> ID
+        private final Map<Integer, RoaringBitmap> required;
+        private final Map<Integer, RoaringBitmap> preferred;
+
+        private Table(Map<Integer, Doc<T>> docs, RoaringBitmap all, Map<String, Map<String, RoaringBitmap>> columns,
+                      Map<Integer, RoaringBitmap> required, Map<Integer, RoaringBitmap> preferred) {
+            this.docs = docs;
+            this.all = all;
+            this.columns = columns;
+            this.required = required;
+            this.preferred = preferred;
+        }
+
+        static <T> Table<T> build(Map<Integer, Doc<T>> docs) {
+            RoaringBitmap all = new RoaringBitmap();
+            Map<String, Map<String, RoaringBitmap>> columns = new HashMap<>();
+            Map<Integer, RoaringBitmap> required = new HashMap<>();
+            Map<Integer, RoaringBitmap> preferred = new HashMap<>();
+            for (Map.Entry<Integer, Doc<T>> entry : docs.entrySet()) {
+                int id = entry.getKey();
+                Doc<T> doc = entry.getValue();
+                all.add(id);
+                for (Map.Entry<String, String> value : doc.values.entrySet()) {
+                    if (value.getValue() != null) {
+                        columns.computeIfAbsent(value.getKey(), k -> new HashMap<>())
+                                .computeIfAbsent(value.getValue(), k -> new RoaringBitmap()).add(id);
+                    }
+                }
+                for (Integer skillId : doc.required) {
+                    required.computeIfAbsent(skillId, k -> new RoaringBitmap()).add(id);
+                }
+                for (Integer skillId : doc.preferred) {
+                    preferred.computeIfAbsent(skillId, k -> new RoaringBitmap()).add(id);
+                }
+            }
+            all.runOptimize();
+            for (Map<String, RoaringBitmap> column : columns.values()) {
+                column.values().forEach(RoaringBitmap::runOptimize);
+            }
+            required.values().forEach(RoaringBitmap::runOptimize);
+            preferred.values().forEach(RoaringBitmap::runOptimize);
+            return new Table<>(docs, all, columns, required, preferred);
+        }
+
+        /**
+         * 여러 행을 교체/삭제한 새 테이블 (값이 null 이면 삭제)
+         * 행 맵과 전체 비트맵은 한 번 복사, 패싯 값/스킬 비트맵은 처음 바뀔 때 한 번만 복사한 뒤 배치 안에서 직접 수정
+         */
+        Table<T> withAll(Map<Integer, Doc<T>> changes) {
+            Map<Integer, Doc<T>> nextDocs = new HashMap<>(docs);
+            RoaringBitmap nextAll = all.clone();
+            Map<String, Map<String, RoaringBitmap>> nextColumns = new HashMap<>(columns);
+            Set<String> copiedColumns = new HashSet<>();
+            Map<Integer, RoaringBitmap> nextRequired = new HashMap<>(required);
+            Map<Integer, RoaringBitmap> nextPreferred = new HashMap<>(preferred);
+            // 이 배치에서 새로 만든(복사한) 비트맵, 이전 테이블과 공유하지 않으므로 직접 수정 가능
+            Set<RoaringBitmap> owned = Collections.newSetFromMap(new IdentityHashMap<>());
+
+            for (Map.Entry<Integer, Doc<T>> change : changes.entrySet()) {
+                int id = change.getKey();
+                Doc<T> doc = change.getValue();
+                Doc<T> previous = nextDocs.get(id);
+                if (doc != null) {
+                    nextDocs.put(id, doc);
+                    nextAll.add(id);
+                } else {
+                    nextDocs.remove(id);
+                    nextAll.remove(id);
+                }
+
+                Set<String> facets = new HashSet<>();
+                if (previous != null) {
+                    facets.addAll(previous.values.keySet());
+                }
+                if (doc != null) {
+                    facets.addAll(doc.values.keySet());
+                }
+                for (String facet : facets) {
+                    String before = previous != null ? previous.values.get(facet) : null;
+                    String after = doc != null ? doc.values.get(facet) : null;
+                    if (Objects.equals(before, after)) {
+                        continue;
+                    }
+                    if (copiedColumns.add(facet)) {
+                        nextColumns.put(facet, new HashMap<>(columns.getOrDefault(facet, Collections.emptyMap())));
+                    }
+                    move(nextColumns.get(facet), before, after, id, owned);
+                }
+                moveSkills(nextRequired, previous != null ? previous.required : null, doc != null ? doc.required : null, id, owned);
+                moveSkills(nextPreferred, previous != null ? previous.preferred : null, doc != null ? doc.preferred : null, id, owned);
+            }
+            return new Table<>(nextDocs, nextAll, nextColumns, nextRequired, nextPreferred);
+        }
+
+        Map<String, RoaringBitmap> column(String facet) {
+            return columns.getOrDefault(facet, Collections.emptyMap());
+        }
+
+        RoaringBitmap skill(int skillId, boolean includePreferred) {
+            RoaringBitmap ids = required.getOrDefault(skillId, EMPTY);
+            return includePreferred ? RoaringBitmap.or(ids, preferred.getOrDefault(skillId, EMPTY)) : ids;
+        }
+
+        /**
+         * 조건에 맞는 값들의 비트맵 합집합
+         */
+        RoaringBitmap union(String facet, Predicate<String> accept) {
+            RoaringBitmap result = new RoaringBitmap();
+            for (Map.Entry<String, RoaringBitmap> value : column(facet).entrySet()) {
+                if (accept.test(value.getKey())) {
+                    result.or(value.getValue());
+                }
+            }
+            return result;
+        }
+
+        /**
+         * from 값의 비트맵에서 빼고 to 값의 비트맵에 추가 (공유 중인 비트맵은 복사 후 교체, 비면 제거)
+         */
+        private static <K> void move(Map<K, RoaringBitmap> bitmaps, K from, K to, int id, Set<RoaringBitmap> owned) {
+            if (from != null && bitmaps.containsKey(from)) {
+                RoaringBitmap bitmap = writable(bitmaps, from, owned);
+                bitmap.remove(id);
+                if (bitmap.isEmpty()) {
+                    bitmaps.remove(from);
+                }
+            }
+            if (to != null) {
+                writable(bitmaps, to, owned).add(id);
+            }
+        }
+
+        private static void moveSkills(Map<Integer, RoaringBitmap> bitmaps, Set<Integer> before, Set<Integer> after,
+                                       int id, Set<RoaringBitmap> owned) {
+            if (before != null) {
+                for (Integer skillId : before) {
+                    if (after == null || !after.contains(skillId)) {
+                        move(bitmaps, skillId, null, id, owned);
+                    }
+                }
+            }
+            if (after != null) {
+                for (Integer skillId : after) {
+                    if (before == null || !before.contains(skillId)) {
+                        move(bitmaps, null, skillId, id, owned);
+                    }
+                }
+            }
+        }
+
+        private static <K> RoaringBitmap writable(Map<K, RoaringBitmap> bitmaps, K key, Set<RoaringBitmap> owned) {
+            RoaringBitmap current = bitmaps.get(key);
+            if (current != null && owned.contains(current)) {
+                return current;
+            }
+            RoaringBitmap next = current != null ? current.clone() : new RoaringBitmap();
+            owned.add(next);
+            bitmaps.put(key, next);
+            return next;
+        }
+    }
+}
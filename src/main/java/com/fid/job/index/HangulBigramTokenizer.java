@@ -0,0 +1,73 @@
+package com.fid.job.index;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색 색인용 토크나이저
+ * - 한글 음절 연속 구간은 2-gram 으로 분해 (한 글자 구간은 그대로 사용)
+ * - 영문/숫자 구간은 소문자 단어 단위로 사용 (C++, C# 처럼 뒤에 붙는 +, # 은 단어에 포함)
+ * - 그 외 문자는 구분자로 취급
+ * 토큰은 부분 문자열 검색(LIKE '%검색어%')과 일대일로 대응하지 않음
+ * (한 글자 토큰은 그 글자를 포함한 2-gram 과 일치하지 않고, 영문 단어는 java 가 javascript 와 다른 토큰)
+ * 따라서 검색 시에는 후보 추출에만 사용하고 실제 일치 여부는 원문으로 확인해야 함 (ProjectSearchIndex 참고)
+ */
+public final class HangulBigramTokenizer {
+
+    private HangulBigramTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            char ch = text.charAt(i);
+
+            if (isHangul(ch)) {
+                int start = i;
+                while (i < length && isHangul(text.charAt(i))) {
+                    i++;
+                }
+                if (i - start == 1) {
+                    tokens.add(String.valueOf(ch));
+                } else {
+                    for (int j = start; j < i - 1; j++) {
+                        tokens.add(text.substring(j, j + 2));
+                    }
+                }
+            } else if (Character.isLetterOrDigit(ch)) {
+                int start = i;
+                while (i < length && Character.isLetterOrDigit(text.charAt(i)) && !isHangul(text.charAt(i))) {
+                    i++;
+                }
+                while (i < length && (text.charAt(i) == '+' || text.charAt(i) == '#')) {
+                    i++;
+                }
+                tokens.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+            } else {
+                i++;
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 한글 2-gram 토큰 여부 (색인 용어와 그대로 비교 가능한 토큰)
+     * 한 글자 한글 토큰과 영문/숫자 단어는 더 긴 색인 용어의 일부일 수 있으므로 false
+     */
+    public static boolean isBigram(String token) {
+        return token.length() == 2 && isHangul(token.charAt(0)) && isHangul(token.charAt(1));
+    }
+
+    private static boolean isHangul(char ch) {
+        return (ch >= '\uAC00' && ch <= '\uD7A3')   // 완성형 음절
+                || (ch >= '\u3131' && ch <= '\u318E') // 호환 자모
+                || (ch >= '\u1100' && ch <= '\u11FF'); // 자모
+    }
+}
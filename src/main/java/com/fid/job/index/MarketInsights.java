@@ -0,0 +1,240 @@
+package com.fid.job.index;
+
+import com.fid.job.mapper.RemoteProjectMapper;
+import com.fid.job.model.Project;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 원격/상주 시장 통계 스냅샷 (근무 형태별 건수, 지역/원격 도구/팀 규모 분포, 유연근무, 상주 복리후생, 평균 예산)
+ * - 활성 프로젝트를 스트리밍으로 한 번 순회하며 모든 통계를 함께 계산 (통계마다 테이블을 스캔하지 않음)
+ * - 백그라운드에서 주기적으로 새 스냅샷을 만들어 교체, 조회는 락 없이 현재 스냅샷 반환
+ * - 스냅샷은 불변 (목록/맵 수정 불가)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MarketInsights {
+
+    private static final List<String> WORK_TYPES = Arrays.asList("remote", "onsite", "hybrid");
+    private static final List<String> TEAM_SIZE_ORDER = Arrays.asList("1-5", "6-10", "11-20", "21-50", "50+");
+
+    // 건수 내림차순, 같으면 이름순
+    private static final Comparator<Map.Entry<String, Long>> BY_COUNT = Map.Entry.<String, Long>comparingByValue()
+            .reversed()
+            .thenComparing(Map.Entry.comparingByKey());
+
+    // 팀 규모 구간 순서, 목록에 없는 값은 뒤로
+    private static final Comparator<Map.Entry<String, Long>> BY_TEAM_SIZE = Comparator.comparingInt(entry ->
+            TEAM_SIZE_ORDER.contains(entry.getKey()) ? TEAM_SIZE_ORDER.indexOf(entry.getKey()) : TEAM_SIZE_ORDER.size());
+
+    private final RemoteProjectMapper remoteProjectMapper;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * 현재 스냅샷 (아직 없으면 호출 스레드에서 계산)
+     */
+    public Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                current = snapshot;
+                if (current == null) {
+                    current = compute();
+                    snapshot = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    @Scheduled(initialDelayString = "${app.market-insights.initial-delay-ms:0}",
+               fixedDelayString = "${app.market-insights.refresh-ms:300000}")
+    public void refresh() {
+        try {
+            snapshot = compute();
+        } catch (Exception e) {
+            log.error("시장 통계 스냅샷 갱신 실패", e);
+        }
+    }
+
+    private Snapshot compute() {
+        long start = System.currentTimeMillis();
+        Accumulator accumulator = new Accumulator();
+        remoteProjectMapper.scanActiveProjectsForInsights(context -> accumulator.add(context.getResultObject()));
+        Snapshot computed = accumulator.toSnapshot(System.currentTimeMillis() - start);
+        log.debug("시장 통계 스냅샷 갱신 - 활성 프로젝트 {}건, {}ms", computed.getProjectCount(), computed.getScanMillis());
+        return computed;
+    }
+
+    /**
+     * 한 번 순회하며 모든 통계를 누적
+     */
+    private static final class Accumulator {
+        private long projectCount;
+        private final Map<String, Long> workTypes = new HashMap<>();
+        private final Map<String, Long> locations = new HashMap<>();
+        private final Map<String, Long> remoteTools = new HashMap<>();
+        private final Map<String, Long> teamSizes = new HashMap<>();
+        private long flexible;
+        private long fixed;
+        private long parking;
+        private long meal;
+        private long equipment;
+        // 근무 형태별 [건수, budget_min 합, budget_max 합] (work_type 이 없으면 null 키)
+        private final Map<String, BigDecimal[]> budgets = new HashMap<>();
+
+        void add(Project project) {
+            projectCount++;
+            String workType = project.getWorkType();
+            if (workType != null) {
+                workTypes.merge(workType, 1L, Long::sum);
+            }
+            boolean onsite = "onsite".equals(workType) || "hybrid".equals(workType);
+            boolean remote = "remote".equals(workType) || "hybrid".equals(workType);
+
+            if (onsite) {
+                if (project.getLocation() != null) {
+                    locations.merge(project.getLocation(), 1L, Long::sum);
+                }
+                if (Boolean.TRUE.equals(project.getParkingAvailable())) {
+                    parking++;
+                }
+                if (Boolean.TRUE.equals(project.getMealProvided())) {
+                    meal++;
+                }
+                if (Boolean.TRUE.equals(project.getEquipmentProvided())) {
+                    equipment++;
+                }
+            }
+            if (remote && project.getRemoteToolList() != null) {
+                for (String tool : project.getRemoteToolList()) {
+                    remoteTools.merge(tool, 1L, Long::sum);
+                }
+            }
+            if (project.getTeamSize() != null) {
+                teamSizes.merge(project.getTeamSize(), 1L, Long::sum);
+            }
+            if (Boolean.TRUE.equals(project.getFlexibleHours())) {
+                flexible++;
+            } else if (Boolean.FALSE.equals(project.getFlexibleHours())) {
+                fixed++;
+            }
+            if (project.getBudgetMin() != null && project.getBudgetMax() != null) {
+                BigDecimal[] sums = budgets.computeIfAbsent(workType,
+                        k -> new BigDecimal[]{BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO});
+                sums[0] = sums[0].add(BigDecimal.ONE);
+                sums[1] = sums[1].add(project.getBudgetMin());
+                sums[2] = sums[2].add(project.getBudgetMax());
+            }
+        }
+
+        Snapshot toSnapshot(long scanMillis) {
+            Map<String, Long> workTypeCounts = new LinkedHashMap<>();
+            for (String workType : WORK_TYPES) {
+                workTypeCounts.put(workType, workTypes.getOrDefault(workType, 0L));
+            }
+
+            Map<String, Long> flexibleHours = new LinkedHashMap<>();
+            flexibleHours.put("flexible", flexible);
+            flexibleHours.put("fixed", fixed);
+
+            Map<String, Long> onsiteBenefits = new LinkedHashMap<>();
+            onsiteBenefits.put("parking", parking);
+            onsiteBenefits.put("meal", meal);
+            onsiteBenefits.put("equipment", equipment);
+
+            List<Map<String, Object>> budgetByWorkType = new ArrayList<>();
+            for (Map.Entry<String, BigDecimal[]> entry : budgets.entrySet()) {
+                BigDecimal count = entry.getValue()[0];
+                BigDecimal avgMin = entry.getValue()[1].divide(count, 2, RoundingMode.HALF_UP);
+                BigDecimal avgMax = entry.getValue()[2].divide(count, 2, RoundingMode.HALF_UP);
+                Map<String, Object> row = new LinkedHashMap<>();
+                row.put("work_type", entry.getKey());
+                row.put("avg_min", avgMin);
+                row.put("avg_max", avgMax);
+                row.put("avg_budget", avgMin.add(avgMax).divide(BigDecimal.valueOf(2), 2, RoundingMode.HALF_UP));
+                budgetByWorkType.add(Collections.unmodifiableMap(row));
+            }
+
+            return new Snapshot(projectCount,
+                    Collections.unmodifiableMap(workTypeCounts),
+                    distribution(locations, "location", BY_COUNT),
+                    distribution(remoteTools, "tool", BY_COUNT),
+                    distribution(teamSizes, "team_size", BY_TEAM_SIZE.thenComparing(BY_COUNT)),
+                    Collections.unmodifiableMap(flexibleHours),
+                    Collections.unmodifiableMap(onsiteBenefits),
+                    Collections.unmodifiableList(budgetByWorkType),
+                    LocalDateTime.now(),
+                    scanMillis);
+        }
+
+        /**
+         * {key, count} 목록
+         */
+        private static List<Map<String, Object>> distribution(Map<String, Long> counts, String keyName,
+                                                              Comparator<Map.Entry<String, Long>> order) {
+            List<Map.Entry<String, Long>> entries = new ArrayList<>(counts.entrySet());
+            entries.sort(order);
+            List<Map<String, Object>> rows = new ArrayList<>(entries.size());
+            for (Map.Entry<String, Long> entry : entries) {
+                Map<String, Object> row = new LinkedHashMap<>();
+                row.put(keyName, entry.getKey());
+                row.put("count", entry.getValue());
+                rows.add(Collections.unmodifiableMap(row));
+            }
+            return Collections.unmodifiableList(rows);
+        }
+    }
+
+    /**
+     * 시장 통계 스냅샷 (불변)
+     * 분포 목록의 각 항목 형태는 기존 집계 쿼리와 같음 ({location|tool|team_size, count})
+     */
+    @Getter
+    public static final class Snapshot {
+        private final long projectCount;
+        private final Map<String, Long> workTypes;
+        private final List<Map<String, Object>> locations;
+        private final List<Map<String, Object>> remoteTools;
+        private final List<Map<String, Object>> teamSizes;
+        private final Map<String, Long> flexibleHours;
+        private final Map<String, Long> onsiteBenefits;
+        private final List<Map<String, Object>> budgetByWorkType;
+        private final LocalDateTime generatedAt;
+        private final long scanMillis;
+
+        private Snapshot(long projectCount, Map<String, Long> workTypes,
+                         List<Map<String, Object>> locations, List<Map<String, Object>> remoteTools,
+                         List<Map<String, Object>> teamSizes, Map<String, Long> flexibleHours,
+                         Map<String, Long> onsiteBenefits, List<Map<String, Object>> budgetByWorkType,
+                         LocalDateTime generatedAt, long scanMillis) {
+            this.projectCount = projectCount;
+            this.workTypes = workTypes;
+            this.locations = locations;
+            this.remoteTools = remoteTools;
+            this.teamSizes = teamSizes;
+            this.flexibleHours = flexibleHours;
+            this.onsiteBenefits = onsiteBenefits;
+            this.budgetByWorkType = budgetByWorkType;
+            this.generatedAt = generatedAt;
+            this.scanMillis = scanMillis;
+        }
+    }
+}
@@ -0,0 +1,1000 @@
+package com.fid.job.index;
+
+import com.fid.job.event.ProjectChangedEvent;
+import com.fid.job.event.TableChangedEvent;
+import com.fid.job.mapper.ProjectMapper;
+import com.fid.job.model.Project;
+import com.fid.job.service.ChangeTrackingPoller;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 프로젝트 목록 필터/정렬용 열 지향(columnar) 인메모리 카탈로그
+ * - 활성 프로젝트를 ID 순으로 정렬해 열마다 기본형 배열로 보관
+ *   저카디널리티 문자열(project_type, work_type 등)은 열별 사전의 byte 코드, 예산은 원 단위 * 100 long,
+ *   마감일은 epoch day int, 등록일은 epoch 초 long, 긴급/추천/유연근무는 비트 플래그 byte
+ * - 필터는 "코드 -> 허용 여부" 표를 미리 만든 뒤 열 배열을 한 번씩 도는 단순 루프로 판정 (행 수가 많으면 fork/join 분할)
+ * - 정렬은 (정렬 키 << 행 번호 비트 | 행 번호) 로 묶은 long 배열 정렬 (행 번호가 ID 순이므로 동률은 ID 순)
+ * - 변경 이벤트는 행 맵에 반영하고 배열은 백그라운드에서 다시 만듦 (app.project-catalog.rebuild-delay-ms 동안 모아 한 번)
+ *   재구성이 끝날 때까지 조회는 이전 배열 사용 (요청 스레드에서 재구성하지 않음), 주기적으로 DB 에서 다시 읽음
+ *   DB 를 읽는 동안 들어온 변경은 새 행 맵에 다시 적용 (변경 번호로 조회 시작 이후 변경만 골라냄)
+ * - DB 에서 다시 읽을 때마다 열 배열을 스냅샷 파일로 저장 (app.project-catalog.snapshot-path, 비우면 사용 안 함)
+ *   기동 시 스냅샷이 있으면 메모리 매핑으로 읽어 DB 조회 없이 바로 서비스하고,
+ *   스냅샷에 기록된 변경 위치부터 ChangeTrackingPoller 가 다시 전달하는 변경으로 따라잡음
+ *
+ * 판정 기준은 ProjectMapper.xml SearchConditions / OrderByClause 와 같아야 함
+ * 카탈로그로 정확히 해석할 수 없는 요청(조회수/지원자순 정렬, 원격 도구 조건, 키워드/스킬 색인 미사용 등)은 null 을 반환해 SQL 로 처리
+ */
+@Slf4j
+@Component
+public class ProjectCatalog {
+
+    // 카탈로그로 판정하는 필터 (search, skills 는 호출자가 색인 결과를 넘긴 경우만)
+    private static final Set<String> SUPPORTED_FILTERS = new HashSet<>(Arrays.asList(
+            "search", "skills", "projectType", "workType", "location", "minBudget", "maxBudget",
+            "experienceLevel", "categoryId", "urgentOnly", "featuredOnly", "deadlineWithin",
+            "teamSize", "onsiteFrequency", "flexibleHours", "urgency"));
+
+    // 필터가 아닌 목록 파라미터
+    private static final Set<String> NON_FILTER_KEYS = new HashSet<>(Arrays.asList(
+            "page", "limit", "offset", "cursor", "keyset", "sortBy", "sortOrder", "totalMode", "skillMatch",
+            "userId", "fastMode", "includeCompany", "includeClient", "includeCategory",
+            "searchIds", "skillProjectIds"));
+
+    private static final Set<String> SUPPORTED_SORTS = new HashSet<>(Arrays.asList(
+            "default", "latest", "deadline", "budget", "relevance"));
+
+    private static final byte URGENT = 1;
+    private static final byte FEATURED = 2;
+    private static final byte FLEXIBLE = 4;
+    private static final byte FIXED = 8;
+    // is_urgent / is_featured 가 false 로 저장된 행 (둘 다 없으면 NULL)
+    private static final byte NOT_URGENT = 16;
+    private static final byte NOT_FEATURED = 32;
+
+    private static final int NO_DEADLINE = Integer.MIN_VALUE;
+    private static final long NO_BUDGET = Long.MIN_VALUE;
+    private static final long NO_CATEGORY = Long.MIN_VALUE;
+
+    // 열 구성이 바뀌면 올림 (다른 버전의 스냅샷은 버리고 DB 에서 재구축)
+    private static final int SNAPSHOT_VERSION = 3;
+
+    private final ProjectMapper projectMapper;
+    private final ChangeTrackingPoller changeTrackingPoller;
+    private final int parallelThreshold;
+    private final String snapshotPath;
+    private final long rebuildDelayMs;
+    private final ScheduledExecutorService rebuilder =
+            Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("project-catalog-"));
+    // DB 재적재 직렬화 (최초 적재 시 요청이 한 번만 DB 조회)
+    private final Object reloadLock = new Object();
+
+    // 이보다 오래된 스냅샷은 버림 (삭제 기록 보관 기간 안이어야 따라잡을 수 있음)
+    @Value("${app.project-catalog.snapshot-max-age-ms:21600000}")
+    private long snapshotMaxAgeMs;
+
+    // 아래 필드는 this 로 동기화 (ID -> 행)
+    private final Map<Long, Project> rows = new HashMap<>();
+    // 마지막 DB 조회 시작 이후의 변경 (적재 중 들어온 변경을 새 행 맵에 다시 적용)
+    private final Map<Long, Change> recent = new LinkedHashMap<>();
+    private long sequence;
+    private boolean loaded;
+    private boolean dirty;
+    private boolean rebuildScheduled;
+    // 행 맵 변경 번호와 현재 배열이 반영한 번호 (늦게 끝난 재구성이 더 새 배열을 덮어쓰지 않도록)
+    private long rowsVersion;
+    private long columnsVersion;
+    // 스냅샷으로 기동한 직후의 첫 주기 재구축은 건너뜀
+    private boolean restored;
+
+    private volatile Columns columns;
+
+    public ProjectCatalog(ProjectMapper projectMapper, ChangeTrackingPoller changeTrackingPoller,
+                          @Value("${app.project-catalog.parallel-threshold:100000}") int parallelThreshold,
+                          @Value("${app.project-catalog.snapshot-path:}") String snapshotPath,
+                          @Value("${app.project-catalog.rebuild-delay-ms:200}") long rebuildDelayMs) {
+        this.projectMapper = projectMapper;
+        this.changeTrackingPoller = changeTrackingPoller;
+        this.parallelThreshold = parallelThreshold;
+        this.snapshotPath = snapshotPath.trim();
+        this.rebuildDelayMs = rebuildDelayMs;
+    }
+
+    /**
+     * DB 조회 시작 이후의 프로젝트 변경 (after 가 null 이거나 비활성이면 제거)
+     */
+    private static final class Change {
+        private final long sequence;
+        private final Project after;
+
+        private Change(long sequence, Project after) {
+            this.sequence = sequence;
+            this.after = after;
+        }
+    }
+
+    /**
+     * 목록 한 페이지 (행은 호출자가 ID 로 채움)
+     */
+    @Getter
+    public static final class Page {
+        private final List<Long> ids;
+        private final int totalCount;
+        private final boolean hasNext;
+
+        private Page(List<Long> ids, int totalCount, boolean hasNext) {
+            this.ids = ids;
+            this.totalCount = totalCount;
+            this.hasNext = hasNext;
+        }
+    }
+
+    /**
+     * 필터/정렬/페이지를 카탈로그에서 계산
+     *
+     * @param filters      목록 필터 (페이징 등 필터가 아닌 키는 무시)
+     * @param searchIds    키워드 검색 색인 결과 (관련도 순), 검색이 없으면 null
+     * @param skillMatches 스킬 비트맵 색인 결과, 스킬 필터가 없으면 null
+     * @param sortKey      실제 적용되는 정렬 기준 (default, latest, deadline, budget, relevance ...)
+     * @param afterId      커서 페이징의 이전 페이지 마지막 ID (없으면 null, relevance 는 offset 사용)
+     * @return 카탈로그로 정확히 해석할 수 없으면 null
+     */
+    public Page query(Map<String, Object> filters, List<Long> searchIds, RoaringBitmap skillMatches,
+                      String sortKey, Object afterId, int offset, int limit) {
+        if (!SUPPORTED_SORTS.contains(sortKey) || !supported(filters)
+                || hasValue(filters.get("search")) && searchIds == null
+                || hasValue(filters.get("skills")) && skillMatches == null) {
+            return null;
+        }
+        Columns current;
+        try {
+            current = current();
+        } catch (RuntimeException e) {
+            log.warn("프로젝트 카탈로그를 사용할 수 없어 SQL 로 조회: {}", e.getMessage());
+            return null;
+        }
+
+        long[] matched;
+        try {
+            matched = current.filter(filters, parallelThreshold);
+        } catch (NumberFormatException e) {
+            // 숫자가 아닌 categoryId/예산/기간 값은 SQL 과 같은 결과를 보장할 수 없으므로 SQL 로 처리
+            log.debug("프로젝트 카탈로그로 해석할 수 없는 필터 값이라 SQL 로 조회: {}", e.getMessage());
+            return null;
+        }
+        if (searchIds != null) {
+            and(matched, current.rowsOf(searchIds));
+        }
+        if (skillMatches != null) {
+            long[] skillRows = new long[matched.length];
+            skillMatches.forEach((int id) -> {
+                int row = current.rowOf(Integer.toUnsignedLong(id));
+                if (row >= 0) {
+                    skillRows[row >>> 6] |= 1L << row;
+                }
+            });
+            and(matched, skillRows);
+        }
+
+        int[] ordered = "relevance".equals(sortKey)
+                ? current.searchOrder(matched, searchIds)
+                : current.sort(matched, sortKey);
+
+        int start = offset;
+        if (afterId != null && !"relevance".equals(sortKey)) {
+            int afterRow = afterId instanceof Number ? current.rowOf(((Number) afterId).longValue()) : -1;
+            int position = -1;
+            for (int i = 0; afterRow >= 0 && i < ordered.length; i++) {
+                if (ordered[i] == afterRow) {
+                    position = i;
+                    break;
+                }
+            }
+            if (position < 0) {
+                // 커서 행이 바뀌었거나 사라졌으면 정렬 키 기준 SQL 키셋 조회로 처리
+                return null;
+            }
+            start = position + 1;
+        }
+
+        int end = Math.min(ordered.length, start + limit);
+        List<Long> ids = new ArrayList<>(Math.max(0, end - start));
+        for (int i = start; i < end; i++) {
+            ids.add(current.ids[ordered[i]]);
+        }
+        return new Page(ids, ordered.length, end < ordered.length);
+    }
+
+    @Scheduled(initialDelayString = "${app.project-catalog.initial-delay-ms:0}",
+               fixedDelayString = "${app.project-catalog.refresh-ms:300000}")
+    public void refresh() {
+        synchronized (this) {
+            if (restored) {
+                restored = false;
+                return;
+            }
+        }
+        try {
+            reload();
+        } catch (Exception e) {
+            log.error("프로젝트 카탈로그 재구축 실패", e);
+        }
+    }
+
+    /**
+     * 프로젝트 행 변경 반영 (활성 프로젝트만 유지, 배열은 백그라운드에서 재구성)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        if (event.getType() == ProjectChangedEvent.Type.COUNTERS || event.getProjectId() == null) {
+            return;
+        }
+        Project after = event.getAfter();
+        synchronized (this) {
+            // 첫 적재 전에도 기록 (적재가 DB 를 읽는 중일 수 있음)
+            recent.remove(event.getProjectId());
+            recent.put(event.getProjectId(), new Change(++sequence, after));
+            if (!loaded) {
+                return;
+            }
+            apply(event.getProjectId(), after);
+            rowsVersion++;
+            markDirty();
+        }
+    }
+
+    /**
+     * 행 맵에 변경 한 건 반영 (this 잠금 안에서 호출)
+     */
+    private void apply(Long projectId, Project after) {
+        if (after != null && "active".equals(after.getStatus())) {
+            rows.put(projectId, after);
+        } else {
+            rows.remove(projectId);
+        }
+    }
+
+    private void markDirty() {
+        dirty = true;
+        if (!rebuildScheduled) {
+            rebuildScheduled = true;
+            rebuilder.schedule(this::rebuild, rebuildDelayMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuilder.shutdownNow();
+    }
+
+    /**
+     * 현재 배열 (최초 적재 전이면 DB 에서 적재, 이후에는 재구성 중이어도 이전 배열을 그대로 반환)
+     */
+    private Columns current() {
+        Columns current = columns;
+        if (current == null) {
+            synchronized (reloadLock) {
+                if (columns == null) {
+                    reload();
+                }
+            }
+            current = columns;
+        }
+        return current;
+    }
+
+    /**
+     * 모아 둔 변경으로 배열 재구성 (행 복사만 잠금 안에서, 구성은 잠금 밖에서)
+     * 재구성 중 들어온 변경은 다시 예약된 다음 재구성에서 반영
+     */
+    private void rebuild() {
+        List<Project> snapshot;
+        long version;
+        synchronized (this) {
+            rebuildScheduled = false;
+            if (!dirty) {
+                return;
+            }
+            dirty = false;
+            snapshot = new ArrayList<>(rows.values());
+            version = rowsVersion;
+        }
+        try {
+            Columns built = Columns.build(snapshot);
+            synchronized (this) {
+                if (version > columnsVersion) {
+                    columns = built;
+                    columnsVersion = version;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("프로젝트 카탈로그 배열 재구성 실패 (다음 변경 또는 주기 재구축에서 재시도)", e);
+        }
+    }
+
+    /**
+     * 스냅샷 파일이 있으면 DB 대신 스냅샷으로 적재 (없거나 손상/버전 불일치면 첫 조회/주기 재구축에서 DB 로 적재)
+     */
+    @PostConstruct
+    public void restore() {
+        // 변경 추적이 꺼져 있으면 스냅샷 이후 변경을 따라잡을 수 없으므로 DB 에서 적재
+        if (snapshotPath.isEmpty() || !changeTrackingPoller.isEnabled()) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        try {
+            SnapshotFile.Contents contents = SnapshotFile.read(Paths.get(snapshotPath), SNAPSHOT_VERSION);
+            if (contents == null) {
+                return;
+            }
+            if (System.currentTimeMillis() - contents.getWrittenAt() > snapshotMaxAgeMs) {
+                log.info("프로젝트 카탈로그 스냅샷이 오래되어 사용하지 않음 - 작성 시각 {}", Instant.ofEpochMilli(contents.getWrittenAt()));
+                return;
+            }
+            ByteBuffer body = contents.getBody();
+            ChangeTrackingPoller.Position position = readPosition(body);
+            Columns read = Columns.readFrom(body);
+            List<Project> projects = read.toProjects();
+            synchronized (this) {
+                if (loaded) {
+                    return;
+                }
+                for (Project project : projects) {
+                    rows.put(project.getId(), project);
+                }
+                loaded = true;
+                dirty = false;
+                restored = true;
+                columns = read;
+                columnsVersion = ++rowsVersion;
+            }
+            changeTrackingPoller.resumeFrom(TableChangedEvent.Table.PROJECTS, position);
+            log.info("프로젝트 카탈로그 스냅샷 복원 - {}건, 작성 시각 {}, {}ms", read.size,
+                    Instant.ofEpochMilli(contents.getWrittenAt()), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.warn("프로젝트 카탈로그 스냅샷 복원 실패 (DB 에서 재구축): {}", e.getMessage());
+        }
+    }
+
+    private void reload() {
+        synchronized (reloadLock) {
+            load();
+        }
+    }
+
+    private void load() {
+        long start = System.currentTimeMillis();
+        long readFrom;
+        synchronized (this) {
+            readFrom = sequence;
+        }
+        // 적재 전 변경 위치를 먼저 읽어 스냅샷이 그 위치까지의 변경을 모두 포함하도록 함
+        ChangeTrackingPoller.Position position = snapshotPath.isEmpty() || !changeTrackingPoller.isEnabled()
+                ? null : highWaterMark();
+        // DB 조회와 배열 구성은 잠금 밖에서
+        List<Project> loaded = projectMapper.findFacetDocuments();
+        Columns built = Columns.build(loaded);
+        int replayed;
+        synchronized (this) {
+            rows.clear();
+            for (Project project : loaded) {
+                rows.put(project.getId(), project);
+            }
+            this.loaded = true;
+            columns = built;
+            columnsVersion = ++rowsVersion;
+            // 조회 시작 전 변경은 읽은 행에 포함되어 있고, 이후 변경은 다시 적용해 배열을 재구성
+            recent.values().removeIf(change -> change.sequence <= readFrom);
+            replayed = recent.size();
+            if (recent.isEmpty()) {
+                dirty = false;
+            } else {
+                for (Map.Entry<Long, Change> entry : recent.entrySet()) {
+                    apply(entry.getKey(), entry.getValue().after);
+                }
+                rowsVersion++;
+                markDirty();
+            }
+        }
+        log.info("프로젝트 카탈로그 재구축 완료 - {}건, 재적용 변경 {}건, {}ms",
+                built.size, replayed, System.currentTimeMillis() - start);
+        if (position != null) {
+            writeSnapshot(built, position);
+        }
+    }
+
+    private ChangeTrackingPoller.Position highWaterMark() {
+        try {
+            return changeTrackingPoller.position(TableChangedEvent.Table.PROJECTS);
+        } catch (Exception e) {
+            log.warn("프로젝트 변경 위치 조회 실패 (스냅샷 저장 생략): {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeSnapshot(Columns built, ChangeTrackingPoller.Position position) {
+        long start = System.currentTimeMillis();
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(built.size * 64 + 1024);
+            DataOutputStream out = new DataOutputStream(bytes);
+            writePosition(out, position);
+            built.writeTo(out);
+            out.flush();
+            Path path = Paths.get(snapshotPath);
+            SnapshotFile.write(path, SNAPSHOT_VERSION, bytes.toByteArray());
+            log.debug("프로젝트 카탈로그 스냅샷 저장 - {}, {}bytes, {}ms", path, bytes.size(),
+                    System.currentTimeMillis() - start);
+        } catch (IOException e) {
+            log.warn("프로젝트 카탈로그 스냅샷 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private static void writePosition(DataOutputStream out, ChangeTrackingPoller.Position position) throws IOException {
+        putDateTime(out, position.getUpdatedAt());
+        out.writeLong(position.getId());
+        putDateTime(out, position.getTombstoneAt());
+        out.writeLong(position.getTombstoneSeq());
+    }
+
+    private static ChangeTrackingPoller.Position readPosition(ByteBuffer in) {
+        LocalDateTime updatedAt = getDateTime(in);
+        long id = in.getLong();
+        LocalDateTime tombstoneAt = getDateTime(in);
+        return new ChangeTrackingPoller.Position(updatedAt, id, tombstoneAt, in.getLong());
+    }
+
+    private static void putDateTime(DataOutputStream out, LocalDateTime value) throws IOException {
+        SnapshotFile.putString(out, value != null ? value.toString() : null);
+    }
+
+    private static LocalDateTime getDateTime(ByteBuffer in) {
+        String value = SnapshotFile.getString(in);
+        return value != null ? LocalDateTime.parse(value) : null;
+    }
+
+    private static boolean supported(Map<String, Object> filters) {
+        for (Map.Entry<String, Object> filter : filters.entrySet()) {
+            if (!NON_FILTER_KEYS.contains(filter.getKey()) && !SUPPORTED_FILTERS.contains(filter.getKey())
+                    && hasValue(filter.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasValue(Object value) {
+        if (value instanceof Collection) {
+            return !((Collection<?>) value).isEmpty();
+        }
+        return value != null && !value.toString().trim().isEmpty();
+    }
+
+    private static void and(long[] target, long[] other) {
+        for (int i = 0; i < target.length; i++) {
+            target[i] &= other[i];
+        }
+    }
+
+    /**
+     * 열 배열 (불변, 행 번호 = ID 오름차순 위치)
+     */
+    private static final class Columns {
+        private final int size;
+        private final long[] ids;
+        private final Dictionary projectTypes = new Dictionary();
+        private final Dictionary workTypes = new Dictionary();
+        private final Dictionary experienceLevels = new Dictionary();
+        private final Dictionary teamSizes = new Dictionary();
+        private final Dictionary onsiteFrequencies = new Dictionary();
+        private final Dictionary urgencies = new Dictionary();
+        private final byte[] projectType;
+        private final byte[] workType;
+        private final byte[] experienceLevel;
+        private final byte[] teamSize;
+        private final byte[] onsiteFrequency;
+        private final byte[] urgency;
+        // 지역은 값이 많아 int 코드
+        private final List<String> locationValues = new ArrayList<>();
+        private final int[] location;
+        private final long[] categoryId;
+        private final byte[] flags;
+        // 원 단위 * 100, 하한은 올림/상한은 내림 (정수 필터와 정확히 비교)
+        private final long[] budgetMin;
+        private final long[] budgetMax;
+        private final int[] deadline;
+        private final long[] createdAt;
+
+        private Columns(int size) {
+            this.size = size;
+            this.ids = new long[size];
+            this.projectType = new byte[size];
+            this.workType = new byte[size];
+            this.experienceLevel = new byte[size];
+            this.teamSize = new byte[size];
+            this.onsiteFrequency = new byte[size];
+            this.urgency = new byte[size];
+            this.location = new int[size];
+            this.categoryId = new long[size];
+            this.flags = new byte[size];
+            this.budgetMin = new long[size];
+            this.budgetMax = new long[size];
+            this.deadline = new int[size];
+            this.createdAt = new long[size];
+        }
+
+        static Columns build(Collection<Project> projects) {
+            List<Project> sorted = new ArrayList<>(projects);
+            sorted.sort((a, b) -> Long.compare(a.getId(), b.getId()));
+            Columns columns = new Columns(sorted.size());
+            Map<String, Integer> locationCodes = new HashMap<>();
+            columns.locationValues.add(null);
+            for (int row = 0; row < sorted.size(); row++) {
+                Project project = sorted.get(row);
+                columns.ids[row] = project.getId();
+                columns.projectType[row] = columns.projectTypes.encode(project.getProjectType());
+                columns.workType[row] = columns.workTypes.encode(project.getWorkType());
+                columns.experienceLevel[row] = columns.experienceLevels.encode(project.getExperienceLevel());
+                columns.teamSize[row] = columns.teamSizes.encode(project.getTeamSize());
+                columns.onsiteFrequency[row] = columns.onsiteFrequencies.encode(project.getOnsiteFrequency());
+                columns.urgency[row] = columns.urgencies.encode(project.getUrgency());
+                columns.location[row] = project.getLocation() == null ? 0
+                        : locationCodes.computeIfAbsent(project.getLocation(), value -> {
+                            columns.locationValues.add(value);
+                            return columns.locationValues.size() - 1;
+                        });
+                columns.categoryId[row] = project.getCategoryId() != null ? project.getCategoryId() : NO_CATEGORY;
+                byte flag = 0;
+                if (Boolean.TRUE.equals(project.getIsUrgent())) {
+                    flag |= URGENT;
+                } else if (Boolean.FALSE.equals(project.getIsUrgent())) {
+                    flag |= NOT_URGENT;
+                }
+                if (Boolean.TRUE.equals(project.getIsFeatured())) {
+                    flag |= FEATURED;
+                } else if (Boolean.FALSE.equals(project.getIsFeatured())) {
+                    flag |= NOT_FEATURED;
+                }
+                if (Boolean.TRUE.equals(project.getFlexibleHours())) {
+                    flag |= FLEXIBLE;
+                } else if (Boolean.FALSE.equals(project.getFlexibleHours())) {
+                    flag |= FIXED;
+                }
+                columns.flags[row] = flag;
+                columns.budgetMin[row] = cents(project.getBudgetMin(), RoundingMode.CEILING);
+                columns.budgetMax[row] = cents(project.getBudgetMax(), RoundingMode.FLOOR);
+                columns.deadline[row] = project.getDeadline() != null
+                        ? (int) project.getDeadline().toEpochDay() : NO_DEADLINE;
+                LocalDateTime created = project.getCreatedAt();
+                columns.createdAt[row] = created != null ? created.toEpochSecond(ZoneOffset.UTC) : 0;
+            }
+            return columns;
+        }
+
+        private static long cents(BigDecimal value, RoundingMode rounding) {
+            return value != null ? value.movePointRight(2).setScale(0, rounding).longValue() : NO_BUDGET;
+        }
+
+        /**
+         * 스냅샷 본문: 행 수, 사전, 열 배열 순
+         */
+        void writeTo(DataOutputStream out) throws IOException {
+            out.writeInt(size);
+            for (Dictionary dictionary : dictionaries()) {
+                dictionary.writeTo(out);
+            }
+            out.writeInt(locationValues.size() - 1);
+            for (int code = 1; code < locationValues.size(); code++) {
+                SnapshotFile.putString(out, locationValues.get(code));
+            }
+            for (int row = 0; row < size; row++) {
+                out.writeLong(ids[row]);
+            }
+            for (byte[] column : byteColumns()) {
+                out.write(column);
+            }
+            for (int row = 0; row < size; row++) {
+                out.writeInt(location[row]);
+            }
+            for (int row = 0; row < size; row++) {
+                out.writeLong(categoryId[row]);
+            }
+            for (int row = 0; row < size; row++) {
+                out.writeLong(budgetMin[row]);
+            }
+            for (int row = 0; row < size; row++) {
+                out.writeLong(budgetMax[row]);
+            }
+            for (int row = 0; row < size; row++) {
+                out.writeInt(deadline[row]);
+            }
+            for (int row = 0; row < size; row++) {
+                out.writeLong(createdAt[row]);
+            }
+        }
+
+        /**
+         * 매핑된 스냅샷 본문에서 열 배열로 일괄 복사 (writeTo 와 같은 순서)
+         */
+        static Columns readFrom(ByteBuffer in) {
+            Columns columns = new Columns(in.getInt());
+            for (Dictionary dictionary : columns.dictionaries()) {
+                dictionary.readFrom(in);
+            }
+            int locations = in.getInt();
+            columns.locationValues.add(null);
+            for (int i = 0; i < locations; i++) {
+                columns.locationValues.add(SnapshotFile.getString(in));
+            }
+            in.asLongBuffer().get(columns.ids);
+            in.position(in.position() + columns.size * 8);
+            for (byte[] column : columns.byteColumns()) {
+                in.get(column);
+            }
+            in.asIntBuffer().get(columns.location);
+            in.position(in.position() + columns.size * 4);
+            for (long[] column : Arrays.asList(columns.categoryId, columns.budgetMin, columns.budgetMax)) {
+                in.asLongBuffer().get(column);
+                in.position(in.position() + columns.size * 8);
+            }
+            in.asIntBuffer().get(columns.deadline);
+            in.position(in.position() + columns.size * 4);
+            in.asLongBuffer().get(columns.createdAt);
+            in.position(in.position() + columns.size * 8);
+            return columns;
+        }
+
+        /**
+         * 열 값을 행으로 되돌림 (스냅샷 복원 후 변경 이벤트를 반영해 다시 만들 때 사용, 카탈로그가 쓰는 컬럼만)
+         */
+        List<Project> toProjects() {
+            List<Project> projects = new ArrayList<>(size);
+            for (int row = 0; row < size; row++) {
+                Project project = new Project();
+                project.setId(ids[row]);
+                project.setStatus("active");
+                project.setProjectType(projectTypes.decode(projectType[row]));
+                project.setWorkType(workTypes.decode(workType[row]));
+                project.setExperienceLevel(experienceLevels.decode(experienceLevel[row]));
+                project.setTeamSize(teamSizes.decode(teamSize[row]));
+                project.setOnsiteFrequency(onsiteFrequencies.decode(onsiteFrequency[row]));
+                project.setUrgency(urgencies.decode(urgency[row]));
+                project.setLocation(locationValues.get(location[row]));
+                project.setCategoryId(categoryId[row] != NO_CATEGORY ? categoryId[row] : null);
+                project.setIsUrgent((flags[row] & URGENT) != 0 ? Boolean.TRUE
+                        : (flags[row] & NOT_URGENT) != 0 ? Boolean.FALSE : null);
+                project.setIsFeatured((flags[row] & FEATURED) != 0 ? Boolean.TRUE
+                        : (flags[row] & NOT_FEATURED) != 0 ? Boolean.FALSE : null);
+                project.setFlexibleHours((flags[row] & FLEXIBLE) != 0 ? Boolean.TRUE
+                        : (flags[row] & FIXED) != 0 ? Boolean.FALSE : null);
+                project.setBudgetMin(budgetMin[row] != NO_BUDGET ? BigDecimal.valueOf(budgetMin[row], 2) : null);
+                project.setBudgetMax(budgetMax[row] != NO_BUDGET ? BigDecimal.valueOf(budgetMax[row], 2) : null);
+                project.setDeadline(deadline[row] != NO_DEADLINE ? LocalDate.ofEpochDay(deadline[row]) : null);
+                project.setCreatedAt(LocalDateTime.ofEpochSecond(createdAt[row], 0, ZoneOffset.UTC));
+                projects.add(project);
+            }
+            return projects;
+        }
+
+        private List<Dictionary> dictionaries() {
+            return Arrays.asList(projectTypes, workTypes, experienceLevels, teamSizes, onsiteFrequencies, urgencies);
+        }
+
+        private List<byte[]> byteColumns() {
+            return Arrays.asList(projectType, workType, experienceLevel, teamSize, onsiteFrequency, urgency, flags);
+        }
+
+        int rowOf(long id) {
+            return Arrays.binarySearch(ids, id);
+        }
+
+        long[] rowsOf(Collection<Long> projectIds) {
+            long[] bits = new long[(size + 63) >>> 6];
+            for (Long id : projectIds) {
+                int row = id != null ? rowOf(id) : -1;
+                if (row >= 0) {
+                    bits[row >>> 6] |= 1L << row;
+                }
+            }
+            return bits;
+        }
+
+        /**
+         * 필터에 맞는 행 비트셋 (64행 단위 블록을 나눠 병렬 판정 가능)
+         */
+        long[] filter(Map<String, Object> filters, int parallelThreshold) {
+            Predicate predicate = new Predicate(this, filters);
+            long[] bits = new long[(size + 63) >>> 6];
+            if (size >= parallelThreshold) {
+                // 블록마다 담당 워드가 달라 쓰기 경합 없음 (공용 ForkJoinPool)
+                int blocks = (bits.length + 63) >>> 6;
+                IntStream.range(0, blocks).parallel().forEach(block ->
+                        predicate.evaluate(bits, block << 12, Math.min(size, (block + 1) << 12)));
+            } else {
+                predicate.evaluate(bits, 0, size);
+            }
+            return bits;
+        }
+
+        /**
+         * 정렬 키를 행 번호와 함께 long 하나로 묶어 기본형 정렬
+         * (OrderByClause 와 같은 순서, 동률은 ID 내림차순 - deadline 은 오름차순)
+         */
+        int[] sort(long[] matched, String sortKey) {
+            int count = 0;
+            for (long word : matched) {
+                count += Long.bitCount(word);
+            }
+            int rowBits = Math.max(1, 32 - Integer.numberOfLeadingZeros(size));
+            long rowMask = (1L << rowBits) - 1;
+            long keyLimit = (1L << (63 - rowBits)) - 1;
+            long[] keys = new long[count];
+            int n = 0;
+            for (int w = 0; w < matched.length; w++) {
+                long word = matched[w];
+                while (word != 0) {
+                    int row = (w << 6) + Long.numberOfTrailingZeros(word);
+                    word &= word - 1;
+                    long key;
+                    switch (sortKey) {
+                        case "latest":
+                            // created_at DESC, id DESC
+                            key = (keyLimit - clamp(createdAt[row], keyLimit)) << rowBits | (rowMask - row);
+                            break;
+                        case "deadline":
+                            // deadline ASC (NULL 먼저), id ASC
+                            key = (deadline[row] == NO_DEADLINE ? 0 : 1 + clamp(deadline[row], keyLimit - 1)) << rowBits | row;
+                            break;
+                        case "budget":
+                            // budget_max DESC (NULL 마지막), id DESC
+                            key = (keyLimit - (budgetMax[row] == NO_BUDGET ? 0 : 1 + clamp(budgetMax[row], keyLimit - 1)))
+                                    << rowBits | (rowMask - row);
+                            break;
+                        default:
+                            // is_urgent DESC, is_featured DESC (true > false > NULL), created_at DESC, id DESC
+                            long rank = rank(flags[row], URGENT, NOT_URGENT) * 3 + rank(flags[row], FEATURED, NOT_FEATURED);
+                            long created = clamp(createdAt[row], keyLimit >>> 4);
+                            key = (keyLimit - (rank << (59 - rowBits) | created)) << rowBits | (rowMask - row);
+                            break;
+                    }
+                    keys[n++] = key;
+                }
+            }
+            if (keys.length >= 1 << 13) {
+                Arrays.parallelSort(keys);
+            } else {
+                Arrays.sort(keys);
+            }
+            int[] ordered = new int[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                int row = (int) (keys[i] & rowMask);
+                ordered[i] = "deadline".equals(sortKey) ? row : (int) (rowMask - row);
+            }
+            return ordered;
+        }
+
+        /**
+         * 관련도 순: 검색 색인 결과 순서를 유지한 채 필터에 맞는 행만
+         */
+        int[] searchOrder(long[] matched, List<Long> searchIds) {
+            int[] ordered = new int[searchIds.size()];
+            int n = 0;
+            for (Long id : searchIds) {
+                int row = id != null ? rowOf(id) : -1;
+                if (row >= 0 && (matched[row >>> 6] & (1L << row)) != 0) {
+                    ordered[n++] = row;
+                }
+            }
+            return Arrays.copyOf(ordered, n);
+        }
+
+        private static long rank(byte flag, byte whenTrue, byte whenFalse) {
+            return (flag & whenTrue) != 0 ? 2 : (flag & whenFalse) != 0 ? 1 : 0;
+        }
+
+        private static long clamp(long value, long max) {
+            return Math.max(0, Math.min(max, value));
+        }
+    }
+
+    /**
+     * 필터 한 건을 열별 허용 표/경계값으로 바꾼 판정기
+     */
+    private static final class Predicate {
+        private final Columns columns;
+        private final boolean[] projectType;
+        private final boolean[] workType;
+        private final boolean[] experienceLevel;
+        private final boolean[] teamSize;
+        private final boolean[] onsiteFrequency;
+        private final boolean[] urgency;
+        private final boolean[] location;
+        private final boolean byCategory;
+        private final long categoryId;
+        private final byte requiredFlags;
+        private final long minBudget;
+        private final long maxBudget;
+        private final int deadlineFrom;
+        private final int deadlineTo;
+
+        Predicate(Columns columns, Map<String, Object> filters) {
+            this.columns = columns;
+            this.projectType = columns.projectTypes.accepting(filters.get("projectType"));
+            this.workType = columns.workTypes.accepting(filters.get("workType"));
+            this.experienceLevel = columns.experienceLevels.accepting(filters.get("experienceLevel"));
+            this.teamSize = columns.teamSizes.accepting(filters.get("teamSize"));
+            this.onsiteFrequency = columns.onsiteFrequencies.accepting(filters.get("onsiteFrequency"));
+            this.urgency = columns.urgencies.accepting(filters.get("urgency"));
+            this.location = locationAccepting(columns.locationValues, filters.get("location"));
+
+            Object category = filters.get("categoryId");
+            this.byCategory = hasValue(category);
+            this.categoryId = byCategory ? Long.parseLong(category.toString().trim()) : NO_CATEGORY;
+
+            byte required = 0;
+            if (Boolean.TRUE.equals(filters.get("urgentOnly"))) {
+                required |= URGENT;
+            }
+            if (Boolean.TRUE.equals(filters.get("featuredOnly"))) {
+                required |= FEATURED;
+            }
+            Object flexible = filters.get("flexibleHours");
+            if (Boolean.TRUE.equals(flexible)) {
+                required |= FLEXIBLE;
+            } else if (Boolean.FALSE.equals(flexible)) {
+                required |= FIXED;
+            }
+            this.requiredFlags = required;
+
+            Object min = filters.get("minBudget");
+            Object max = filters.get("maxBudget");
+            this.minBudget = hasValue(min) ? new BigDecimal(min.toString().trim()).movePointRight(2).longValue() : NO_BUDGET;
+            this.maxBudget = hasValue(max) ? new BigDecimal(max.toString().trim()).movePointRight(2).longValue() : NO_BUDGET;
+
+            // deadline >= CURDATE() AND deadline <= CURDATE() + N
+            Object within = filters.get("deadlineWithin");
+            if (hasValue(within)) {
+                LocalDate today = LocalDate.now();
+                this.deadlineFrom = (int) today.toEpochDay();
+                this.deadlineTo = (int) today.plusDays(Long.parseLong(within.toString().trim())).toEpochDay();
+            } else {
+                this.deadlineFrom = NO_DEADLINE;
+                this.deadlineTo = NO_DEADLINE;
+            }
+        }
+
+        /**
+         * [from, to) 행을 판정해 비트셋에 기록 (from 은 64 의 배수)
+         */
+        void evaluate(long[] bits, int from, int to) {
+            Columns c = columns;
+            for (int row = from; row < to; row++) {
+                boolean match = (projectType == null || projectType[c.projectType[row] & 0xFF])
+                        & (workType == null || workType[c.workType[row] & 0xFF])
+                        & (experienceLevel == null || experienceLevel[c.experienceLevel[row] & 0xFF])
+                        & (teamSize == null || teamSize[c.teamSize[row] & 0xFF])
+                        & (onsiteFrequency == null || onsiteFrequency[c.onsiteFrequency[row] & 0xFF])
+                        & (urgency == null || urgency[c.urgency[row] & 0xFF])
+                        & (location == null || location[c.location[row]])
+                        & (!byCategory || c.categoryId[row] == categoryId)
+                        & (c.flags[row] & requiredFlags) == requiredFlags
+                        & (minBudget == NO_BUDGET || c.budgetMax[row] != NO_BUDGET && c.budgetMax[row] >= minBudget)
+                        & (maxBudget == NO_BUDGET || c.budgetMin[row] != NO_BUDGET && c.budgetMin[row] <= maxBudget)
+                        & (deadlineFrom == NO_DEADLINE || c.deadline[row] != NO_DEADLINE
+                                && c.deadline[row] >= deadlineFrom && c.deadline[row] <= deadlineTo);
+                if (match) {
+                    bits[row >>> 6] |= 1L << row;
+                }
+            }
+        }
+
+        // LIKE CONCAT('%', ?, '%') (대소문자 무시 콜레이션 기준)
+        private static boolean[] locationAccepting(List<String> values, Object filter) {
+            if (!hasValue(filter)) {
+                return null;
+            }
+            String expected = filter.toString().toLowerCase(Locale.ROOT);
+            boolean[] accept = new boolean[values.size()];
+            for (int code = 1; code < values.size(); code++) {
+                accept[code] = values.get(code).toLowerCase(Locale.ROOT).contains(expected);
+            }
+            return accept;
+        }
+    }
+
+    /**
+     * 열별 문자열 사전 (코드 0 은 NULL, 최대 255 개 값)
+     * 값이 255 개를 넘는 열은 카탈로그를 만들 수 없으므로 예외 (설계상 저카디널리티 열만 사용)
+     */
+    private static final class Dictionary {
+        private final Map<String, Byte> codes = new LinkedHashMap<>();
+        private final List<String> values = new ArrayList<>(Collections.singletonList((String) null));
+
+        byte encode(String value) {
+            if (value == null) {
+                return 0;
+            }
+            Byte code = codes.get(value);
+            if (code == null) {
+                if (values.size() > 255) {
+                    throw new IllegalStateException("카탈로그 사전 크기 초과: " + value);
+                }
+                code = (byte) values.size();
+                codes.put(value, code);
+                values.add(value);
+            }
+            return code;
+        }
+
+        String decode(byte code) {
+            return values.get(code & 0xFF);
+        }
+
+        void writeTo(DataOutputStream out) throws IOException {
+            out.writeInt(values.size() - 1);
+            for (int code = 1; code < values.size(); code++) {
+                SnapshotFile.putString(out, values.get(code));
+            }
+        }
+
+        /**
+         * 저장된 순서대로 다시 등록 (코드가 저장 당시와 같아짐)
+         */
+        void readFrom(ByteBuffer in) {
+            int count = in.getInt();
+            for (int i = 0; i < count; i++) {
+                encode(SnapshotFile.getString(in));
+            }
+        }
+
+        /**
+         * 필터와 대소문자 무시 일치하는 코드 표 (필터가 없으면 null)
+         */
+        boolean[] accepting(Object filter) {
+            if (!hasValue(filter)) {
+                return null;
+            }
+            String expected = filter.toString();
+            boolean[] accept = new boolean[256];
+            for (int code = 1; code < values.size(); code++) {
+                accept[code] = values.get(code).equalsIgnoreCase(expected);
+            }
+            return accept;
+        }
+    }
+}
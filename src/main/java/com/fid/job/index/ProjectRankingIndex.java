@@ -0,0 +1,364 @@
+package com.fid.job.index;
+
+import com.fid.job.event.ProjectChangedEvent;
+import com.fid.job.mapper.ProjectMapper;
+import com.fid.job.model.Project;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 인기/긴급 프로젝트 상위 K 뷰 (ProjectMapper.findPopularProjects / findUrgentProjects 대체)
+ * - 인기: 최근 30일 등록 활성 프로젝트를 (조회수 * 0.3 + 지원자 수 * 0.7) 점수의 인덱스 힙으로 유지
+ *   조회/지원 이벤트마다 해당 프로젝트 점수만 조정 (O(log n))
+ * - 긴급: 마감일이 지나지 않은 긴급 활성 프로젝트를 (마감일, 최근 등록) 순 스킵 리스트로 유지
+ * - 30일 창을 벗어나거나 마감일이 지난 프로젝트는 조회 시 건너뛰고 주기적으로 제거
+ * - 행 데이터(조회수 등 표시값 포함)는 주기적 재적재와 행 변경 이벤트로 갱신
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectRankingIndex {
+
+    private static final int POPULAR_WINDOW_DAYS = 30;
+    private static final double VIEW_WEIGHT = 0.3;
+    private static final double APPLICATION_WEIGHT = 0.7;
+
+    private static final Comparator<UrgentKey> URGENT_ORDER = Comparator
+            .comparing((UrgentKey key) -> key.deadline)
+            .thenComparing(key -> key.createdAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(key -> key.id, Comparator.reverseOrder());
+
+    private final ProjectMapper projectMapper;
+
+    // 인기 순위 (this 로 동기화)
+    private final IndexedHeap popular = new IndexedHeap();
+    private final Map<Long, Project> popularRows = new HashMap<>();
+    private final Map<Long, long[]> popularCounts = new HashMap<>();
+
+    // 긴급 순위 (조회는 락 없이 앞에서부터 순회, 재적재 시 다 채운 새 맵으로 교체)
+    // 변경은 this 로 동기화, urgentKeys 는 this 안에서만 사용
+    private volatile ConcurrentSkipListMap<UrgentKey, Project> urgent = new ConcurrentSkipListMap<>(URGENT_ORDER);
+    private Map<Long, UrgentKey> urgentKeys = new HashMap<>();
+
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 인기 프로젝트 상위 limit 개
+     *
+     * @return 색인 준비 전이면 null
+     */
+    public synchronized List<Project> popular(int limit) {
+        if (!ready) {
+            return null;
+        }
+        LocalDateTime windowStart = LocalDateTime.now().minusDays(POPULAR_WINDOW_DAYS);
+        List<Project> result = new ArrayList<>(Math.max(0, limit));
+        // 힙 배열을 최대 우선순위부터 탐색 (전체 정렬 없이 상위 K 개만 확인)
+        PriorityQueue<Integer> frontier = new PriorityQueue<>((a, b) -> popular.compare(a, b));
+        if (popular.size() > 0) {
+            frontier.add(0);
+        }
+        while (!frontier.isEmpty() && result.size() < limit) {
+            int slot = frontier.poll();
+            Project row = popularRows.get(popular.idAt(slot));
+            if (row != null && inPopularWindow(row, windowStart)) {
+                result.add(row);
+            }
+            for (int child = 2 * slot + 1; child <= 2 * slot + 2 && child < popular.size(); child++) {
+                frontier.add(child);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 긴급 프로젝트 상위 limit 개 (마감일 임박 순)
+     *
+     * @return 색인 준비 전이면 null
+     */
+    public List<Project> urgent(int limit) {
+        if (!ready) {
+            return null;
+        }
+        LocalDate today = LocalDate.now();
+        List<Project> result = new ArrayList<>(Math.max(0, limit));
+        for (Map.Entry<UrgentKey, Project> entry : urgent.entrySet()) {
+            if (result.size() >= limit) {
+                break;
+            }
+            if (!entry.getKey().deadline.isBefore(today)) {
+                result.add(entry.getValue());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 후보 프로젝트 전체 재적재 (행 데이터와 집계값 보정)
+     */
+    @Scheduled(initialDelayString = "${app.ranking-index.initial-delay-ms:0}",
+               fixedDelayString = "${app.ranking-index.refresh-ms:300000}")
+    public void refresh() {
+        long start = System.currentTimeMillis();
+        try {
+            List<Project> candidates = projectMapper.findRankingCandidates();
+            // 긴급 맵은 락 없이 읽히므로 잠금 밖에서 다 채운 뒤 교체 (비어 있는 맵이 보이지 않도록)
+            ConcurrentSkipListMap<UrgentKey, Project> nextUrgent = new ConcurrentSkipListMap<>(URGENT_ORDER);
+            Map<Long, UrgentKey> nextUrgentKeys = new HashMap<>();
+            for (Project project : candidates) {
+                putUrgent(project, nextUrgent, nextUrgentKeys);
+            }
+            int popularSize;
+            int urgentSize;
+            synchronized (this) {
+                popular.clear();
+                popularRows.clear();
+                popularCounts.clear();
+                for (Project project : candidates) {
+                    putPopular(project);
+                }
+                urgent = nextUrgent;
+                urgentKeys = nextUrgentKeys;
+                ready = true;
+                popularSize = popularRows.size();
+                urgentSize = nextUrgent.size();
+            }
+            log.info("인기/긴급 프로젝트 순위 재적재 완료 - 인기 후보 {}개, 긴급 {}개, {}ms",
+                    popularSize, urgentSize, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("인기/긴급 프로젝트 순위 재적재 실패", e);
+        }
+    }
+
+    /**
+     * 30일 창을 벗어난 인기 후보와 마감일이 지난 긴급 프로젝트 제거
+     */
+    @Scheduled(fixedDelayString = "${app.ranking-index.prune-ms:60000}")
+    public synchronized void prune() {
+        LocalDateTime windowStart = LocalDateTime.now().minusDays(POPULAR_WINDOW_DAYS);
+        Iterator<Map.Entry<Long, Project>> rows = popularRows.entrySet().iterator();
+        while (rows.hasNext()) {
+            Map.Entry<Long, Project> entry = rows.next();
+            if (!inPopularWindow(entry.getValue(), windowStart)) {
+                popular.remove(entry.getKey());
+                popularCounts.remove(entry.getKey());
+                rows.remove();
+            }
+        }
+        LocalDate today = LocalDate.now();
+        while (!urgent.isEmpty() && urgent.firstKey().deadline.isBefore(today)) {
+            urgentKeys.remove(urgent.pollFirstEntry().getKey().id);
+        }
+    }
+
+    /**
+     * 조회/지원 집계 변경과 행 변경 반영 (커밋 이후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onProjectChanged(ProjectChangedEvent event) {
+        if (!ready || event.getProjectId() == null) {
+            return;
+        }
+        Long id = event.getProjectId();
+        if (event.getType() == ProjectChangedEvent.Type.COUNTERS) {
+            long[] counts = popularCounts.get(id);
+            if (counts == null) {
+                return;
+            }
+            if (ProjectChangedEvent.VIEWS.equals(event.getCounter())) {
+                counts[0] += event.getDelta();
+            } else if (ProjectChangedEvent.APPLICATIONS.equals(event.getCounter())) {
+                counts[1] += event.getDelta();
+            } else {
+                return;
+            }
+            popular.update(id, score(counts[0], counts[1]));
+            return;
+        }
+        remove(id);
+        Project after = event.getAfter();
+        if (after != null && "active".equals(after.getStatus())) {
+            put(after);
+        }
+    }
+
+    private void put(Project project) {
+        putPopular(project);
+        putUrgent(project, urgent, urgentKeys);
+    }
+
+    private void putPopular(Project project) {
+        Long id = project.getId();
+        if (inPopularWindow(project, LocalDateTime.now().minusDays(POPULAR_WINDOW_DAYS))) {
+            long[] counts = {toLong(project.getViews()), toLong(project.getApplications())};
+            popularRows.put(id, project);
+            popularCounts.put(id, counts);
+            popular.update(id, score(counts[0], counts[1]));
+        }
+    }
+
+    private static void putUrgent(Project project, Map<UrgentKey, Project> target, Map<Long, UrgentKey> keys) {
+        if (Boolean.TRUE.equals(project.getIsUrgent()) && project.getDeadline() != null
+                && !project.getDeadline().isBefore(LocalDate.now())) {
+            UrgentKey key = new UrgentKey(project.getDeadline(), project.getCreatedAt(), project.getId());
+            target.put(key, project);
+            keys.put(project.getId(), key);
+        }
+    }
+
+    private void remove(Long id) {
+        popular.remove(id);
+        popularRows.remove(id);
+        popularCounts.remove(id);
+        UrgentKey key = urgentKeys.remove(id);
+        if (key != null) {
+            urgent.remove(key);
+        }
+    }
+
+    private static boolean inPopularWindow(Project project, LocalDateTime windowStart) {
+        return project.getCreatedAt() != null && !project.getCreatedAt().isBefore(windowStart);
+    }
+
+    private static double score(long views, long applications) {
+        return views * VIEW_WEIGHT + applications * APPLICATION_WEIGHT;
+    }
+
+    private static long toLong(Integer value) {
+        return value == null ? 0L : value;
+    }
+
+    /**
+     * 프로젝트 ID 로 위치를 찾아 점수를 갱신/삭제할 수 있는 최대 힙 (점수 같으면 ID 큰 순)
+     */
+    static final class IndexedHeap {
+        private long[] ids = new long[64];
+        private double[] scores = new double[64];
+        private int size;
+        private final Map<Long, Integer> positions = new HashMap<>();
+
+        int size() {
+            return size;
+        }
+
+        long idAt(int slot) {
+            return ids[slot];
+        }
+
+        /**
+         * 슬롯 a 가 b 보다 앞 순위면 음수
+         */
+        int compare(int a, int b) {
+            int byScore = Double.compare(scores[b], scores[a]);
+            return byScore != 0 ? byScore : Long.compare(ids[b], ids[a]);
+        }
+
+        void update(long id, double score) {
+            Integer slot = positions.get(id);
+            if (slot == null) {
+                if (size == ids.length) {
+                    ids = Arrays.copyOf(ids, size * 2);
+                    scores = Arrays.copyOf(scores, size * 2);
+                }
+                slot = size++;
+                ids[slot] = id;
+                positions.put(id, slot);
+            }
+            scores[slot] = score;
+            siftDown(siftUp(slot));
+        }
+
+        void remove(long id) {
+            Integer slot = positions.remove(id);
+            if (slot == null) {
+                return;
+            }
+            int last = --size;
+            if (slot != last) {
+                move(last, slot);
+                siftDown(siftUp(slot));
+            }
+        }
+
+        void clear() {
+            size = 0;
+            positions.clear();
+        }
+
+        private int siftUp(int slot) {
+            while (slot > 0) {
+                int parent = (slot - 1) / 2;
+                if (compare(slot, parent) >= 0) {
+                    break;
+                }
+                swap(slot, parent);
+                slot = parent;
+            }
+            return slot;
+        }
+
+        private void siftDown(int slot) {
+            while (true) {
+                int best = slot;
+                for (int child = 2 * slot + 1; child <= 2 * slot + 2 && child < size; child++) {
+                    if (compare(child, best) < 0) {
+                        best = child;
+                    }
+                }
+                if (best == slot) {
+                    return;
+                }
+                swap(slot, best);
+                slot = best;
+            }
+        }
+
+        private void swap(int a, int b) {
+            long id = ids[a];
+            double score = scores[a];
+            ids[a] = ids[b];
+            scores[a] = scores[b];
+            ids[b] = id;
+            scores[b] = score;
+            positions.put(ids[a], a);
+            positions.put(ids[b], b);
+        }
+
+        private void move(int from, int to) {
+            ids[to] = ids[from];
+            scores[to] = scores[from];
+            positions.put(ids[to], to);
+        }
+    }
+
+    private static final class UrgentKey {
+        private final LocalDate deadline;
+        private final LocalDateTime createdAt;
+        private final long id;
+
+        private UrgentKey(LocalDate deadline, LocalDateTime createdAt, long id) {
+            this.deadline = deadline;
+            this.createdAt = createdAt;
+            this.id = id;
+        }
+    }
+}
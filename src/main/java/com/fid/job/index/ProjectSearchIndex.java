@@ -0,0 +1,523 @@
+package com.fid.job.index;
+
+import com.fid.job.event.ProjectChangedEvent;
+import com.fid.job.mapper.ProjectMapper;
+import com.fid.job.model.Project;
+import com.fid.job.util.JsonArrayParser;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 프로젝트 키워드 검색용 인메모리 역색인
+ * - 제목, 설명, 회사명, 기술 스택을 한글 2-gram / 영문 단어 토큰으로 색인하여 후보를 추리고
+ *   후보마다 정규화(소문자)한 원문에 검색어가 포함되는지 확인 (SQL LIKE '%검색어%' 와 같은 결과 집합)
+ * - 한 글자 한글, 영문 단어 토큰은 그 토큰을 포함하는 색인 용어 전체로 확장 (java -> java, javascript)
+ * - 확장 용어가 너무 많거나 LIKE 와일드카드(%, _, \)가 포함된 검색어는 null 을 반환해 SQL 로 처리
+ * - BM25 로 점수를 매겨 일치 결과 전체를 점수 순으로 반환
+ * - 프로젝트 변경 이벤트는 변경된 행만 다시 토큰화해 반영 (기준 색인의 이전 문서는 가리고 변경분 문서는 순차 확인)
+ * - projects 테이블에서 주기적으로 전체 재색인해 변경분을 기준 색인으로 합침 (조회는 락 없이 수행)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    // 필드별 가중치 (단순화한 BM25F)
+    private static final int TITLE_WEIGHT = 3;
+    private static final int SKILL_WEIGHT = 2;
+    private static final int COMPANY_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    // 원문 확인용 필드 구분자 (검색어가 필드 경계를 넘어 일치하지 않도록)
+    private static final char FIELD_SEPARATOR = '\u0000';
+
+    private final ProjectMapper projectMapper;
+
+    // 한 글자/영문 토큰 하나가 확장될 수 있는 최대 색인 용어 수 (넘으면 SQL 검색)
+    @Value("${app.search-index.max-expansion:200}")
+    private int maxExpansion;
+
+    // SQL IN 조건으로 넘길 최대 ID 수 (넘으면 SQL 은 LIKE 조건으로 같은 결과를 조회)
+    @Value("${app.search-index.max-id-list:5000}")
+    private int maxIdList;
+
+    private volatile Segments segments;
+
+    // 마지막 재색인 이후 변경된 프로젝트 (ID 별 최신 변경, 재색인 중 도착한 변경은 새 색인에 다시 적용)
+    private final Map<Long, Change> changes = new LinkedHashMap<>();
+    private long sequence;
+
+    /**
+     * 색인이 한 번 이상 구축되었는지 여부
+     */
+    public boolean isReady() {
+        return segments != null;
+    }
+
+    /**
+     * 색인된 활성 프로젝트 수 (색인 준비 전이면 -1)
+     */
+    public int size() {
+        Segments current = segments;
+        return current == null ? -1 : current.size;
+    }
+
+    /**
+     * 활성 프로젝트 전체를 다시 읽어 색인을 재구축 (이벤트 누락/불일치 보정)
+     */
+    @Scheduled(initialDelayString = "${app.search-index.initial-delay-ms:0}",
+               fixedDelayString = "${app.search-index.reconcile-ms:300000}")
+    public void refresh() {
+        long start = System.currentTimeMillis();
+        long readFrom;
+        synchronized (this) {
+            readFrom = sequence;
+        }
+        try {
+            List<Project> documents = projectMapper.findSearchDocuments();
+            Snapshot built = Snapshot.build(documents);
+            int replayed;
+            synchronized (this) {
+                // 읽기 전에 반영된 변경은 조회 결과에 포함되어 있음
+                changes.values().removeIf(change -> change.sequence <= readFrom);
+                replayed = changes.size();
+                segments = Segments.of(built, changes.values());
+            }
+            log.info("프로젝트 검색 색인 갱신 완료 - 문서 {}개, 토큰 {}개, 재적용 변경 {}건, {}ms",
+                    built.docIds.length, built.postings.size(), replayed, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("프로젝트 검색 색인 갱신 실패", e);
+        }
+    }
+
+    /**
+     * 프로젝트 등록/수정/삭제 반영 (커밋 이후, 활성 프로젝트만 색인), 집계 컬럼 변경은 무시
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        if (event.getType() == ProjectChangedEvent.Type.COUNTERS || event.getProjectId() == null) {
+            return;
+        }
+        Project after = event.getAfter();
+        boolean active = after != null && "active".equals(after.getStatus());
+        Doc doc = active ? Doc.of(event.getProjectId(), after) : null;
+        synchronized (this) {
+            changes.remove(event.getProjectId());
+            changes.put(event.getProjectId(), new Change(++sequence, event.getProjectId(), doc));
+            Segments current = segments;
+            if (current != null) {
+                segments = Segments.of(current.base, changes.values());
+            }
+        }
+    }
+
+    /**
+     * 프로젝트 목록 검색 조건(제목, 설명, 회사명, 필수 기술 스택)과 같은 결과를 반환
+     */
+    public List<Long> search(String query) {
+        return search(query, true, true);
+    }
+
+    /**
+     * 검색어를 포함하는 프로젝트 ID 전체를 BM25 점수 순으로 반환 (제목, 설명은 항상 검색)
+     *
+     * @param includeCompany 회사명도 검색할지 여부 (SQL includeCompany 조건과 동일)
+     * @param includeSkills  필수 기술 스택도 검색할지 여부 (원격 프로젝트 검색은 제목/설명만)
+     * @return 일치하는 ID 목록, 색인이 없거나 색인으로 정확히 해석할 수 없는 검색어면 null (SQL 검색으로 대체)
+     */
+    public List<Long> search(String query, boolean includeCompany, boolean includeSkills) {
+        Segments current = segments;
+        if (current == null || query == null) {
+            return null;
+        }
+        String needle = query.trim().toLowerCase(Locale.ROOT);
+        if (needle.isEmpty() || needle.indexOf('%') >= 0 || needle.indexOf('_') >= 0 || needle.indexOf('\\') >= 0) {
+            return null;
+        }
+
+        Set<String> tokens = new LinkedHashSet<>(HangulBigramTokenizer.tokenize(needle));
+        if (tokens.isEmpty()) {
+            return null;
+        }
+
+        // 토큰마다 일치할 수 있는 색인 용어 목록 (2-gram 은 그대로, 한 글자/영문 단어는 포함하는 용어로 확장)
+        Snapshot base = current.base;
+        List<Postings[]> groups = new ArrayList<>(tokens.size());
+        boolean baseMatches = true;
+        for (String token : tokens) {
+            Postings[] group = base.expand(token, maxExpansion);
+            if (group == null) {
+                log.debug("검색어 토큰 확장 한도 초과로 SQL 검색 사용 - 토큰: {}", token);
+                return null;
+            }
+            baseMatches &= group.length > 0;
+            groups.add(group);
+        }
+        // 후보 수가 적은 토큰부터 교집합
+        groups.sort(Comparator.comparingInt(ProjectSearchIndex::docFrequency));
+
+        BitSet candidates = baseMatches ? null : new BitSet();
+        for (Postings[] group : groups) {
+            if (candidates != null && candidates.isEmpty()) {
+                break;
+            }
+            BitSet docs = new BitSet(base.docIds.length);
+            for (Postings postings : group) {
+                for (int doc : postings.docs) {
+                    docs.set(doc);
+                }
+            }
+            if (candidates == null) {
+                candidates = docs;
+            } else {
+                candidates.and(docs);
+            }
+        }
+        candidates.andNot(current.masked);
+
+        int docCount = current.size;
+        List<ScoredDoc> ranked = new ArrayList<>();
+        for (int doc = candidates.nextSetBit(0); doc >= 0; doc = candidates.nextSetBit(doc + 1)) {
+            if (!base.contains(doc, needle, includeCompany, includeSkills)) {
+                continue;
+            }
+            double norm = K1 * (1 - B + B * base.docLengths[doc] / base.avgDocLength);
+            double score = 0;
+            for (Postings[] group : groups) {
+                for (Postings postings : group) {
+                    int pos = Arrays.binarySearch(postings.docs, doc);
+                    if (pos >= 0) {
+                        score += idf(postings.docs.length, docCount) * bm25(postings.freqs[pos], norm);
+                    }
+                }
+            }
+            ranked.add(new ScoredDoc(score, base.docIds[doc]));
+        }
+        // 재색인 이후 변경된 문서는 원문을 직접 확인하고 기준 색인의 문서 빈도로 점수 계산
+        for (Doc doc : current.changed) {
+            if (doc.contains(needle, includeCompany, includeSkills)) {
+                ranked.add(new ScoredDoc(doc.score(tokens, base, docCount), doc.id));
+            }
+        }
+
+        ranked.sort(Collections.reverseOrder());
+        List<Long> ids = new ArrayList<>(ranked.size());
+        for (ScoredDoc scored : ranked) {
+            ids.add(scored.id);
+        }
+        return ids;
+    }
+
+    public boolean fitsIdList(List<Long> ids) {
+        return ids != null && ids.size() <= maxIdList;
+    }
+
+    /**
+     * 목록 파라미터의 includeCompany 값 해석 (SQL 조건과 같이 지정되지 않으면 회사명 포함)
+     */
+    public static boolean includeCompany(Object value) {
+        return !(Boolean.FALSE.equals(value) || "false".equals(value));
+    }
+
+    private static int docFrequency(Postings[] group) {
+        int total = 0;
+        for (Postings postings : group) {
+            total += postings.docs.length;
+        }
+        return total;
+    }
+
+    private static double bm25(int tf, double norm) {
+        return tf * (K1 + 1) / (tf + norm);
+    }
+
+    private static double idf(int df, int docCount) {
+        return Math.log(1 + (docCount - df + 0.5) / (df + 0.5));
+    }
+
+    private static boolean matchesTerm(String token, String term) {
+        return HangulBigramTokenizer.isBigram(token) ? token.equals(term) : term.contains(token);
+    }
+
+    private static final class ScoredDoc implements Comparable<ScoredDoc> {
+        private final double score;
+        private final long id;
+
+        private ScoredDoc(double score, long id) {
+            this.score = score;
+            this.id = id;
+        }
+
+        private int compareTo(double otherScore, long otherId) {
+            int cmp = Double.compare(score, otherScore);
+            // 동점이면 최신(큰 ID) 프로젝트를 우선
+            return cmp != 0 ? cmp : Long.compare(id, otherId);
+        }
+
+        @Override
+        public int compareTo(ScoredDoc other) {
+            return compareTo(other.score, other.id);
+        }
+    }
+
+    private static final class Postings {
+        private final int[] docs;
+        private final int[] freqs;
+
+        private Postings(int[] docs, int[] freqs) {
+            this.docs = docs;
+            this.freqs = freqs;
+        }
+    }
+
+    /**
+     * 한 프로젝트의 정규화 원문과 가중 용어 빈도
+     */
+    private static final class Doc {
+        private final long id;
+        // 원문 확인용 정규화 텍스트 (제목+설명, 회사명, 필수 기술 스택)
+        private final String content;
+        private final String company;
+        private final String skills;
+        private final Map<String, Integer> termFreqs;
+        private final int length;
+
+        private Doc(long id, String content, String company, String skills, Map<String, Integer> termFreqs, int length) {
+            this.id = id;
+            this.content = content;
+            this.company = company;
+            this.skills = skills;
+            this.termFreqs = termFreqs;
+            this.length = length;
+        }
+
+        private static Doc of(long id, Project project) {
+            String content = normalize(project.getTitle()) + FIELD_SEPARATOR + normalize(project.getDescription());
+            String company = project.getCompanyName() == null ? null : normalize(project.getCompanyName());
+            List<String> requiredSkills = JsonArrayParser.parseStrings(project.getRequiredSkills());
+            String skills = requiredSkills.isEmpty() ? null
+                    : normalize(String.join(String.valueOf(FIELD_SEPARATOR), requiredSkills));
+
+            Map<String, Integer> termFreqs = new HashMap<>();
+            int length = 0;
+            length += collect(termFreqs, project.getTitle(), TITLE_WEIGHT);
+            length += collect(termFreqs, project.getCompanyName(), COMPANY_WEIGHT);
+            length += collect(termFreqs, project.getRequiredSkills(), SKILL_WEIGHT);
+            length += collect(termFreqs, project.getPreferredSkills(), SKILL_WEIGHT);
+            length += collect(termFreqs, project.getDescription(), DESCRIPTION_WEIGHT);
+            return new Doc(id, content, company, skills, termFreqs, length);
+        }
+
+        private boolean contains(String needle, boolean includeCompany, boolean includeSkills) {
+            return content.contains(needle)
+                    || includeCompany && company != null && company.contains(needle)
+                    || includeSkills && skills != null && skills.contains(needle);
+        }
+
+        private double score(Collection<String> tokens, Snapshot base, int docCount) {
+            double norm = K1 * (1 - B + B * length / base.avgDocLength);
+            double score = 0;
+            for (String token : tokens) {
+                for (Map.Entry<String, Integer> entry : termFreqs.entrySet()) {
+                    if (matchesTerm(token, entry.getKey())) {
+                        Postings postings = base.postings.get(entry.getKey());
+                        int df = postings == null ? 1 : postings.docs.length;
+                        score += idf(df, docCount) * bm25(entry.getValue(), norm);
+                    }
+                }
+            }
+            return score;
+        }
+
+        private static String normalize(String text) {
+            return text == null ? "" : text.toLowerCase(Locale.ROOT);
+        }
+
+        private static int collect(Map<String, Integer> termFreqs, String text, int weight) {
+            List<String> tokens = HangulBigramTokenizer.tokenize(text);
+            for (String token : tokens) {
+                termFreqs.merge(token, weight, Integer::sum);
+            }
+            return tokens.size() * weight;
+        }
+    }
+
+    /**
+     * 재색인 이후의 프로젝트 변경 (doc 이 null 이면 삭제되었거나 비활성)
+     */
+    private static final class Change {
+        private final long sequence;
+        private final long id;
+        private final Doc doc;
+
+        private Change(long sequence, long id, Doc doc) {
+            this.sequence = sequence;
+            this.id = id;
+            this.doc = doc;
+        }
+    }
+
+    /**
+     * 기준 색인 + 재색인 이후 변경분 (변경 시 통째로 교체)
+     */
+    private static final class Segments {
+        private final Snapshot base;
+        // 변경되어 기준 색인에서 가릴 문서 위치
+        private final BitSet masked;
+        // 변경 후 활성 문서
+        private final List<Doc> changed;
+        private final int size;
+
+        private Segments(Snapshot base, BitSet masked, List<Doc> changed) {
+            this.base = base;
+            this.masked = masked;
+            this.changed = changed;
+            this.size = base.docIds.length - masked.cardinality() + changed.size();
+        }
+
+        private static Segments of(Snapshot base, Collection<Change> changes) {
+            BitSet masked = new BitSet();
+            List<Doc> changed = new ArrayList<>();
+            for (Change change : changes) {
+                int pos = Arrays.binarySearch(base.docIds, change.id);
+                if (pos >= 0) {
+                    masked.set(pos);
+                }
+                if (change.doc != null) {
+                    changed.add(change.doc);
+                }
+            }
+            return new Segments(base, masked, changed);
+        }
+    }
+
+    private static final class PostingsBuilder {
+        private int[] docs = new int[4];
+        private int[] freqs = new int[4];
+        private int size;
+
+        private void add(int doc, int freq) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+            docs[size] = doc;
+            freqs[size] = freq;
+            size++;
+        }
+
+        private Postings build() {
+            return new Postings(Arrays.copyOf(docs, size), Arrays.copyOf(freqs, size));
+        }
+    }
+
+    private static final class Snapshot {
+        private final long[] docIds;
+        private final int[] docLengths;
+        private final double avgDocLength;
+        private final Map<String, Postings> postings;
+        // 한 글자/영문 토큰 확장용 색인 용어 목록
+        private final String[] terms;
+        // 원문 확인용 정규화 텍스트 (제목+설명, 회사명, 필수 기술 스택)
+        private final String[] contents;
+        private final String[] companies;
+        private final String[] skills;
+
+        private Snapshot(long[] docIds, int[] docLengths, double avgDocLength, Map<String, Postings> postings,
+                         String[] contents, String[] companies, String[] skills) {
+            this.docIds = docIds;
+            this.docLengths = docLengths;
+            this.avgDocLength = avgDocLength;
+            this.postings = postings;
+            this.terms = postings.keySet().toArray(new String[0]);
+            this.contents = contents;
+            this.companies = companies;
+            this.skills = skills;
+        }
+
+        /**
+         * @return 토큰과 일치할 수 있는 색인 용어의 postings (없으면 빈 배열), 확장 한도를 넘으면 null
+         */
+        private Postings[] expand(String token, int maxExpansion) {
+            if (HangulBigramTokenizer.isBigram(token)) {
+                Postings exact = postings.get(token);
+                return exact == null ? new Postings[0] : new Postings[]{exact};
+            }
+            List<Postings> matched = new ArrayList<>();
+            for (String term : terms) {
+                if (term.contains(token)) {
+                    if (matched.size() == maxExpansion) {
+                        return null;
+                    }
+                    matched.add(postings.get(term));
+                }
+            }
+            return matched.toArray(new Postings[0]);
+        }
+
+        private boolean contains(int doc, String needle, boolean includeCompany, boolean includeSkills) {
+            return contents[doc].contains(needle)
+                    || includeCompany && companies[doc] != null && companies[doc].contains(needle)
+                    || includeSkills && skills[doc] != null && skills[doc].contains(needle);
+        }
+
+        private static Snapshot build(List<Project> documents) {
+            // 변경분 반영 시 ID 로 문서 위치를 찾도록 ID 순으로 배치
+            List<Project> sorted = new ArrayList<>(documents);
+            sorted.sort(Comparator.comparing(Project::getId));
+
+            int size = sorted.size();
+            long[] docIds = new long[size];
+            int[] docLengths = new int[size];
+            String[] contents = new String[size];
+            String[] companies = new String[size];
+            String[] skills = new String[size];
+            long totalLength = 0;
+            Map<String, PostingsBuilder> builders = new HashMap<>();
+
+            for (int doc = 0; doc < size; doc++) {
+                Project project = sorted.get(doc);
+                Doc document = Doc.of(project.getId(), project);
+                docIds[doc] = document.id;
+                contents[doc] = document.content;
+                companies[doc] = document.company;
+                skills[doc] = document.skills;
+                docLengths[doc] = document.length;
+                totalLength += document.length;
+
+                for (Map.Entry<String, Integer> entry : document.termFreqs.entrySet()) {
+                    builders.computeIfAbsent(entry.getKey(), k -> new PostingsBuilder())
+                            .add(doc, entry.getValue());
+                }
+            }
+
+            Map<String, Postings> postings = new HashMap<>(builders.size() * 2);
+            for (Map.Entry<String, PostingsBuilder> entry : builders.entrySet()) {
+                postings.put(entry.getKey(), entry.getValue().build());
+            }
+            double avgDocLength = size == 0 ? 1.0 : Math.max(1.0, (double) totalLength / size);
+            return new Snapshot(docIds, docLengths, avgDocLength, postings, contents, companies, skills);
+        }
+    }
+}
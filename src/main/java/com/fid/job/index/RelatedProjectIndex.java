@@ -0,0 +1,319 @@
+package com.fid.job.index;
+
+import com.fid.job.event.ProjectChangedEvent;
+import com.fid.job.mapper.ProjectMapper;
+import com.fid.job.model.Project;
+import com.fid.job.util.JsonArrayParser;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 관련 프로젝트 색인 (MinHash + LSH)
+ * - 프로젝트 특성 집합: 필수/우대 스킬(정규화) + 카테고리
+ * - 특성 집합마다 MinHash 서명(해시 64개)을 만들고 2개씩 32개 밴드로 나누어 LSH 버킷에 등록
+ *   (유사도 약 0.2 이상인 쌍이 높은 확률로 같은 버킷에 들어감)
+ * - 같은 버킷 후보만 실제 Jaccard 유사도로 비교해 프로젝트별 상위 이웃 목록을 미리 계산
+ * - 조회는 미리 계산한 목록을 그대로 반환 (락 없음)
+ * - 프로젝트 변경 이벤트로 해당 프로젝트와 영향받는 이웃 목록만 갱신, 전체는 주기적으로 재구축
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RelatedProjectIndex {
+
+    private static final int HASHES = 64;
+    private static final int ROWS_PER_BAND = 2;
+    private static final int BANDS = HASHES / ROWS_PER_BAND;
+    private static final long[] SEEDS = seeds();
+
+    private final ProjectMapper projectMapper;
+
+    // 프로젝트별로 미리 계산해 둘 이웃 수 (조회 limit 상한)
+    @Value("${app.related-index.neighbours:20}")
+    private int neighbourCount;
+
+    // 버킷 하나에서 비교할 최대 후보 수 (ID 가 큰 = 최근 프로젝트 우선), 흔한 특성 조합의 비교 폭증 방지
+    @Value("${app.related-index.max-bucket-scan:200}")
+    private int maxBucketScan;
+
+    // 아래 상태는 this 로 동기화해 변경, neighbours 조회만 락 없이 수행
+    private Map<Long, int[]> features = new HashMap<>();
+    private Map<Long, int[]> signatures = new HashMap<>();
+    private Map<Long, TreeSet<Long>> buckets = new HashMap<>();
+    private volatile Map<Long, long[]> neighbours;
+
+    public boolean isReady() {
+        return neighbours != null;
+    }
+
+    /**
+     * 유사도 순 관련 프로젝트 ID (최대 neighbours 개)
+     *
+     * @return 색인이 준비되지 않았거나 색인에 없는 프로젝트(비활성 등)면 null
+     */
+    public List<Long> related(Long projectId, int limit) {
+        Map<Long, long[]> current = neighbours;
+        if (current == null || projectId == null) {
+            return null;
+        }
+        long[] ids = current.get(projectId);
+        if (ids == null) {
+            return null;
+        }
+        int size = Math.min(Math.max(0, limit), ids.length);
+        List<Long> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(ids[i]);
+        }
+        return result;
+    }
+
+    /**
+     * 활성 프로젝트 전체를 다시 읽어 색인 재구축
+     */
+    @Scheduled(initialDelayString = "${app.related-index.initial-delay-ms:0}",
+               fixedDelayString = "${app.related-index.rebuild-ms:600000}")
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        try {
+            Map<Long, int[]> builtFeatures = new HashMap<>();
+            Map<Long, int[]> builtSignatures = new HashMap<>();
+            Map<Long, TreeSet<Long>> builtBuckets = new HashMap<>();
+            for (Project project : projectMapper.findSkillDocuments()) {
+                int[] projectFeatures = features(project);
+                if (projectFeatures.length == 0) {
+                    continue;
+                }
+                int[] signature = signature(projectFeatures);
+                builtFeatures.put(project.getId(), projectFeatures);
+                builtSignatures.put(project.getId(), signature);
+                addToBuckets(builtBuckets, project.getId(), signature);
+            }
+            Map<Long, long[]> builtNeighbours = new ConcurrentHashMap<>();
+            for (Long id : builtFeatures.keySet()) {
+                builtNeighbours.put(id, computeNeighbours(id, builtFeatures, builtSignatures, builtBuckets));
+            }
+            synchronized (this) {
+                features = builtFeatures;
+                signatures = builtSignatures;
+                buckets = builtBuckets;
+                neighbours = builtNeighbours;
+            }
+            log.info("관련 프로젝트 색인 재구축 완료 - 프로젝트 {}개, 버킷 {}개, {}ms",
+                    builtFeatures.size(), builtBuckets.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("관련 프로젝트 색인 재구축 실패", e);
+        }
+    }
+
+    /**
+     * 프로젝트 등록/수정/삭제 반영 (커밋 이후), 집계 컬럼 변경은 무시
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        if (event.getType() == ProjectChangedEvent.Type.COUNTERS || event.getProjectId() == null) {
+            return;
+        }
+        Project after = event.getAfter();
+        boolean active = after != null && "active".equals(after.getStatus());
+        update(event.getProjectId(), active ? features(after) : new int[0]);
+    }
+
+    private synchronized void update(Long id, int[] projectFeatures) {
+        Map<Long, long[]> current = neighbours;
+        if (current == null) {
+            return;
+        }
+        int[] previous = features.get(id);
+        if (previous != null && Arrays.equals(previous, projectFeatures)) {
+            return;
+        }
+
+        // 이전 버킷에서 제거하고, 이 프로젝트를 이웃으로 가졌던 프로젝트는 다시 계산
+        Set<Long> affected = new HashSet<>();
+        if (previous != null) {
+            int[] oldSignature = signatures.remove(id);
+            features.remove(id);
+            affected.addAll(candidates(id, oldSignature, buckets));
+            removeFromBuckets(buckets, id, oldSignature);
+            current.remove(id);
+        }
+
+        if (projectFeatures.length > 0) {
+            int[] signature = signature(projectFeatures);
+            features.put(id, projectFeatures);
+            signatures.put(id, signature);
+            addToBuckets(buckets, id, signature);
+            affected.addAll(candidates(id, signature, buckets));
+            current.put(id, computeNeighbours(id, features, signatures, buckets));
+        }
+
+        for (Long other : affected) {
+            if (features.containsKey(other)) {
+                current.put(other, computeNeighbours(other, features, signatures, buckets));
+            }
+        }
+        log.debug("관련 프로젝트 색인 갱신 - ID: {}, 이웃 재계산 {}건", id, affected.size());
+    }
+
+    private long[] computeNeighbours(Long id, Map<Long, int[]> allFeatures, Map<Long, int[]> allSignatures,
+                                     Map<Long, TreeSet<Long>> allBuckets) {
+        int[] own = allFeatures.get(id);
+        List<Scored> scored = new ArrayList<>();
+        for (Long candidate : candidates(id, allSignatures.get(id), allBuckets)) {
+            double similarity = jaccard(own, allFeatures.get(candidate));
+            if (similarity > 0) {
+                scored.add(new Scored(candidate, similarity));
+            }
+        }
+        // 유사도 내림차순, 같으면 최근(ID 큰) 프로젝트 우선
+        Collections.sort(scored, (a, b) -> a.similarity != b.similarity
+                ? Double.compare(b.similarity, a.similarity)
+                : Long.compare(b.id, a.id));
+        long[] ids = new long[Math.min(neighbourCount, scored.size())];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = scored.get(i).id;
+        }
+        return ids;
+    }
+
+    private Set<Long> candidates(Long id, int[] signature, Map<Long, TreeSet<Long>> allBuckets) {
+        Set<Long> candidates = new HashSet<>();
+        for (int band = 0; band < BANDS; band++) {
+            TreeSet<Long> members = allBuckets.get(bandKey(band, signature));
+            if (members == null) {
+                continue;
+            }
+            Iterator<Long> iterator = members.descendingIterator();
+            for (int scanned = 0; iterator.hasNext() && scanned < maxBucketScan; scanned++) {
+                candidates.add(iterator.next());
+            }
+        }
+        candidates.remove(id);
+        return candidates;
+    }
+
+    private static void addToBuckets(Map<Long, TreeSet<Long>> allBuckets, Long id, int[] signature) {
+        for (int band = 0; band < BANDS; band++) {
+            allBuckets.computeIfAbsent(bandKey(band, signature), k -> new TreeSet<>()).add(id);
+        }
+    }
+
+    private static void removeFromBuckets(Map<Long, TreeSet<Long>> allBuckets, Long id, int[] signature) {
+        for (int band = 0; band < BANDS; band++) {
+            long key = bandKey(band, signature);
+            TreeSet<Long> members = allBuckets.get(key);
+            if (members != null && members.remove(id) && members.isEmpty()) {
+                allBuckets.remove(key);
+            }
+        }
+    }
+
+    /**
+     * 특성 해시의 정렬된 배열 (스킬은 정규화, 카테고리는 별도 접두어)
+     */
+    static int[] features(Project project) {
+        Set<String> tokens = new HashSet<>();
+        for (String skill : JsonArrayParser.parsedOrParse(project.getRequiredSkillList(), project.getRequiredSkills())) {
+            tokens.add("s:" + SkillDictionary.normalize(skill));
+        }
+        for (String skill : JsonArrayParser.parsedOrParse(project.getPreferredSkillList(), project.getPreferredSkills())) {
+            tokens.add("s:" + SkillDictionary.normalize(skill));
+        }
+        if (project.getCategoryId() != null) {
+            tokens.add("c:" + project.getCategoryId());
+        }
+        int[] hashes = new int[tokens.size()];
+        int n = 0;
+        for (String token : tokens) {
+            hashes[n++] = (int) mix(token.hashCode());
+        }
+        Arrays.sort(hashes);
+        return hashes;
+    }
+
+    static int[] signature(int[] projectFeatures) {
+        int[] signature = new int[HASHES];
+        for (int i = 0; i < HASHES; i++) {
+            long min = Long.MAX_VALUE;
+            for (int feature : projectFeatures) {
+                long hash = mix(feature ^ SEEDS[i]) & 0xFFFFFFFFL;
+                if (hash < min) {
+                    min = hash;
+                }
+            }
+            signature[i] = (int) min;
+        }
+        return signature;
+    }
+
+    static double jaccard(int[] a, int[] b) {
+        int i = 0;
+        int j = 0;
+        int common = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                common++;
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        int union = a.length + b.length - common;
+        return union == 0 ? 0 : (double) common / union;
+    }
+
+    private static long bandKey(int band, int[] signature) {
+        long key = band;
+        for (int r = 0; r < ROWS_PER_BAND; r++) {
+            key = key * 0x9E3779B97F4A7C15L + signature[band * ROWS_PER_BAND + r];
+        }
+        return mix(key);
+    }
+
+    // splitmix64 마무리 함수
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static long[] seeds() {
+        long[] seeds = new long[HASHES];
+        long state = 0x2545F4914F6CDD1DL;
+        for (int i = 0; i < HASHES; i++) {
+            state += 0x9E3779B97F4A7C15L;
+            seeds[i] = mix(state);
+        }
+        return seeds;
+    }
+
+    private static final class Scored {
+        private final long id;
+        private final double similarity;
+
+        private Scored(long id, double similarity) {
+            this.id = id;
+            this.similarity = similarity;
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package com.fid.job.index;
+
+import com.fid.job.event.FreelancerChangedEvent;
+import com.fid.job.event.ProjectChangedEvent;
+import com.fid.job.mapper.FreelancerMapper;
+import com.fid.job.mapper.ProjectMapper;
+import com.fid.job.model.Freelancer;
+import com.fid.job.model.Project;
+import com.fid.job.util.JsonArrayParser;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 기술 스택 비트맵 색인
+ * - 스킬 문자열을 SkillDictionary 로 int ID 로 변환
+ * - 스킬 ID 별로 프로젝트(필수/우대 스킬)와 프리랜서 ID 의 압축 비트맵(RoaringBitmap) 유지
+ * - 다중 스킬 필터는 비트맵 합집합(OR)/교집합(AND) 으로 계산
+ * - 프로젝트/프리랜서 변경은 이벤트로 즉시 반영, 전체는 주기적으로 DB 와 재동기화
+ *
+ * 비트맵은 변경 시 복사 후 교체(copy-on-write)하므로 조회는 락 없이 수행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SkillBitmapIndex {
+
+    private final ProjectMapper projectMapper;
+    private final FreelancerMapper freelancerMapper;
+
+    private final SkillDictionary dictionary = new SkillDictionary();
+
+    // SQL 에 ID 목록(IN)으로 넘길 최대 건수, 초과 시 기존 JSON_SEARCH 조건 사용
+    @Value("${app.skill-index.max-id-list:5000}")
+    private int maxIdList;
+
+    private volatile Snapshot snapshot;
+
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    public SkillDictionary getDictionary() {
+        return dictionary;
+    }
+
+    /**
+     * DB 에서 전체 스킬 정보를 다시 읽어 비트맵 재구축 (누락/불일치 보정)
+     */
+    @Scheduled(initialDelayString = "${app.skill-index.initial-delay-ms:0}",
+               fixedDelayString = "${app.skill-index.reconcile-ms:300000}")
+    public void reconcile() {
+        long start = System.currentTimeMillis();
+        try {
+            Map<Integer, RoaringBitmap> required = new HashMap<>();
+            Map<Integer, RoaringBitmap> preferred = new HashMap<>();
+            for (Project project : projectMapper.findSkillDocuments()) {
+                int id = toIntId(project.getId());
+                addAll(required, id, encode(JsonArrayParser.parsedOrParse(
+                        project.getRequiredSkillList(), project.getRequiredSkills())));
+                addAll(preferred, id, encode(JsonArrayParser.parsedOrParse(
+                        project.getPreferredSkillList(), project.getPreferredSkills())));
+            }
+
+            Map<Integer, RoaringBitmap> freelancers = new HashMap<>();
+            for (Freelancer freelancer : freelancerMapper.findSkillDocuments()) {
+                addAll(freelancers, toIntId(freelancer.getId()), encode(JsonArrayParser.parseStrings(freelancer.getSkills())));
+            }
+
+            optimize(required);
+            optimize(preferred);
+            optimize(freelancers);
+            synchronized (this) {
+                snapshot = new Snapshot(required, preferred, freelancers);
+            }
+            log.info("스킬 비트맵 색인 재동기화 완료 - 스킬 {}개, {}ms",
+                    dictionary.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("스킬 비트맵 색인 재동기화 실패", e);
+        }
+    }
+
+    /**
+     * 프로젝트 등록/수정/삭제 반영 (커밋 이후, 활성 프로젝트만 색인)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        if (event.getType() == ProjectChangedEvent.Type.COUNTERS || event.getProjectId() == null) {
+            return;
+        }
+        Project after = event.getAfter();
+        boolean active = after != null && "active".equals(after.getStatus());
+        Set<Integer> required = active
+                ? encode(JsonArrayParser.parsedOrParse(after.getRequiredSkillList(), after.getRequiredSkills()))
+                : new HashSet<Integer>();
+        Set<Integer> preferred = active
+                ? encode(JsonArrayParser.parsedOrParse(after.getPreferredSkillList(), after.getPreferredSkills()))
+                : new HashSet<Integer>();
+        int id = toIntId(event.getProjectId());
+        synchronized (this) {
+            Snapshot current = snapshot;
+            if (current == null) {
+                return;
+            }
+            snapshot = new Snapshot(withMembership(current.projectRequired, id, required),
+                    withMembership(current.projectPreferred, id, preferred), current.freelancers);
+        }
+    }
+
+    /**
+     * 프리랜서 등록/수정/삭제 반영 (커밋 이후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFreelancerChanged(FreelancerChangedEvent event) {
+        if (event.getFreelancerId() == null) {
+            return;
+        }
+        Set<Integer> skillIds = event.isDeleted()
+                ? new HashSet<Integer>()
+                : encode(JsonArrayParser.parseStrings(event.getFreelancer().getSkills()));
+        int id = toIntId(event.getFreelancerId());
+        synchronized (this) {
+            Snapshot current = snapshot;
+            if (current == null) {
+                return;
+            }
+            snapshot = new Snapshot(current.projectRequired, current.projectPreferred,
+                    withMembership(current.freelancers, id, skillIds));
+        }
+    }
+
+    /**
+     * 스킬 조건에 맞는 프로젝트 ID 비트맵
+     *
+     * @param includePreferred 우대 스킬까지 포함해 일치 여부 판단
+     * @param matchAll         true 면 모든 스킬 포함(AND), false 면 하나 이상 포함(OR)
+     * @return 색인이 준비되지 않았거나 스킬이 없으면 null
+     */
+    public RoaringBitmap matchProjects(Collection<?> skills, boolean includePreferred, boolean matchAll) {
+        Snapshot current = snapshot;
+        if (current == null || skills == null || skills.isEmpty()) {
+            return null;
+        }
+        RoaringBitmap result = null;
+        for (Object skill : skills) {
+            Integer skillId = skill == null ? null : dictionary.lookup(skill.toString());
+            RoaringBitmap matched = skillId == null ? new RoaringBitmap() : current.projectRequired(skillId);
+            if (includePreferred && skillId != null) {
+                matched = RoaringBitmap.or(matched, current.projectPreferred(skillId));
+            }
+            result = combine(result, matched, matchAll);
+            if (matchAll && result.isEmpty()) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 스킬 조건에 맞는 프리랜서 ID 비트맵
+     *
+     * @return 색인이 준비되지 않았거나 스킬이 없으면 null
+     */
+    public RoaringBitmap matchFreelancers(Collection<?> skills, boolean matchAll) {
+        Snapshot current = snapshot;
+        if (current == null || skills == null || skills.isEmpty()) {
+            return null;
+        }
+        RoaringBitmap result = null;
+        for (Object skill : skills) {
+            Integer skillId = skill == null ? null : dictionary.lookup(skill.toString());
+            RoaringBitmap matched = skillId == null ? new RoaringBitmap() : current.freelancer(skillId);
+            result = combine(result, matched, matchAll);
+            if (matchAll && result.isEmpty()) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * SQL IN 조건으로 넘기기에 충분히 작은 결과인지 여부
+     */
+    public boolean fitsIdList(RoaringBitmap bitmap) {
+        return bitmap != null && bitmap.getLongCardinality() <= maxIdList;
+    }
+
+    public static List<Long> toIdList(RoaringBitmap bitmap) {
+        List<Long> ids = new ArrayList<>(bitmap.getCardinality());
+        bitmap.forEach((int id) -> ids.add(Integer.toUnsignedLong(id)));
+        return ids;
+    }
+
+    private static RoaringBitmap combine(RoaringBitmap acc, RoaringBitmap next, boolean matchAll) {
+        if (acc == null) {
+            return next.clone();
+        }
+        return matchAll ? RoaringBitmap.and(acc, next) : RoaringBitmap.or(acc, next);
+    }
+
+    private Set<Integer> encode(List<String> skills) {
+        Set<Integer> skillIds = new HashSet<>();
+        for (String skill : skills) {
+            skillIds.add(dictionary.encode(skill));
+        }
+        return skillIds;
+    }
+
+    private static void addAll(Map<Integer, RoaringBitmap> bitmaps, int id, Set<Integer> skillIds) {
+        for (Integer skillId : skillIds) {
+            bitmaps.computeIfAbsent(skillId, k -> new RoaringBitmap()).add(id);
+        }
+    }
+
+    private static void optimize(Map<Integer, RoaringBitmap> bitmaps) {
+        for (RoaringBitmap bitmap : bitmaps.values()) {
+            bitmap.runOptimize();
+        }
+    }
+
+    /**
+     * 한 엔티티의 스킬 구성을 반영한 새 비트맵 맵 생성 (변경된 비트맵만 복사)
+     */
+    private static Map<Integer, RoaringBitmap> withMembership(Map<Integer, RoaringBitmap> bitmaps,
+                                                              int id, Set<Integer> skillIds) {
+        Map<Integer, RoaringBitmap> next = new HashMap<>(bitmaps);
+        for (Map.Entry<Integer, RoaringBitmap> entry : bitmaps.entrySet()) {
+            boolean member = skillIds.contains(entry.getKey());
+            if (entry.getValue().contains(id) != member) {
+                RoaringBitmap copy = entry.getValue().clone();
+                if (member) {
+                    copy.add(id);
+                } else {
+                    copy.remove(id);
+                }
+                next.put(entry.getKey(), copy);
+            }
+        }
+        for (Integer skillId : skillIds) {
+            if (!bitmaps.containsKey(skillId)) {
+                RoaringBitmap bitmap = new RoaringBitmap();
+                bitmap.add(id);
+                next.put(skillId, bitmap);
+            }
+        }
+        return next;
+    }
+
+    private static int toIntId(Long id) {
+        if (id == null || id < 0 || id > 0xFFFFFFFFL) {
+            throw new IllegalArgumentException("비트맵 색인 범위를 벗어난 ID: " + id);
+        }
+        return (int) id.longValue();
+    }
+
+    private static final class Snapshot {
+        private static final RoaringBitmap EMPTY = new RoaringBitmap();
+
+        private final Map<Integer, RoaringBitmap> projectRequired;
+        private final Map<Integer, RoaringBitmap> projectPreferred;
+        private final Map<Integer, RoaringBitmap> freelancers;
+
+        private Snapshot(Map<Integer, RoaringBitmap> projectRequired,
+                         Map<Integer, RoaringBitmap> projectPreferred,
+                         Map<Integer, RoaringBitmap> freelancers) {
+            this.projectRequired = projectRequired;
+            this.projectPreferred = projectPreferred;
+            this.freelancers = freelancers;
+        }
+
+        private RoaringBitmap projectRequired(int skillId) {
+            return projectRequired.getOrDefault(skillId, EMPTY);
+        }
+
+        private RoaringBitmap projectPreferred(int skillId) {
+            return projectPreferred.getOrDefault(skillId, EMPTY);
+        }
+
+        private RoaringBitmap freelancer(int skillId) {
+            return freelancers.getOrDefault(skillId, EMPTY);
+        }
+    }
+}
@@ -0,0 +1,288 @@
+package com.fid.job.index;
+
+import com.fid.job.event.FreelancerChangedEvent;
+import com.fid.job.event.ProjectChangedEvent;
+import com.fid.job.mapper.FreelancerMapper;
+import com.fid.job.mapper.ProjectMapper;
+import com.fid.job.model.Freelancer;
+import com.fid.job.model.Project;
+import com.fid.job.util.JsonArrayParser;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 기술 스택 카탈로그 (스킬별 프로젝트/프리랜서 수)
+ * - 프로젝트 필수 스킬은 근무 형태별, 우대 스킬과 프리랜서 스킬은 전체 건수로 유지
+ * - 엔터티별 스킬 구성을 기억해 두고 변경 이벤트마다 차이만 증감 (한 엔터티 안의 중복 스킬은 한 번만 셈)
+ * - 스킬 이름은 SkillBitmapIndex 의 사전을 공유 (대소문자/공백 무시, 처음 등록된 표기로 표시)
+ * - 주기적으로 DB 에서 다시 읽어 재구축 (누락/불일치 보정)
+ * - 목록(전체 스킬, 상위 20개)은 변경 시 미리 만들어 둔 불변 스냅샷으로 조회
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SkillCatalog {
+
+    public static final int TOP_LIMIT = 20;
+
+    // 원격 프로젝트 상위 스킬에 포함하는 근무 형태
+    private static final Set<String> REMOTE_WORK_TYPES = new HashSet<>(Arrays.asList("remote", "full-remote", "hybrid"));
+
+    private final ProjectMapper projectMapper;
+    private final FreelancerMapper freelancerMapper;
+    private final SkillBitmapIndex skillBitmapIndex;
+
+    // 아래 필드는 this 로 동기화
+    private final Map<Long, ProjectSkills> projects = new HashMap<>();
+    private final Map<Long, Set<Integer>> freelancers = new HashMap<>();
+    private final Map<String, Map<Integer, Long>> requiredByWorkType = new HashMap<>();
+    private final Map<Integer, Long> preferred = new HashMap<>();
+    private final Map<Integer, Long> freelancerSkills = new HashMap<>();
+
+    private volatile Snapshot snapshot;
+
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    /**
+     * 활성 프로젝트의 필수/우대 스킬 전체 (이름순)
+     */
+    public List<String> projectSkills() {
+        return current().projectSkills;
+    }
+
+    /**
+     * 원격/하이브리드 활성 프로젝트의 필수 스킬 상위 20개 (건수순)
+     */
+    public List<String> topRemoteProjectSkills() {
+        return current().topRemoteProjectSkills;
+    }
+
+    /**
+     * 프리랜서 스킬 상위 20개 (건수순)
+     */
+    public List<String> topFreelancerSkills() {
+        return current().topFreelancerSkills;
+    }
+
+    @Scheduled(initialDelayString = "${app.skill-catalog.initial-delay-ms:0}",
+               fixedDelayString = "${app.skill-catalog.reconcile-ms:300000}")
+    public void reconcile() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.error("기술 스택 카탈로그 재구축 실패", e);
+        }
+    }
+
+    /**
+     * 프로젝트 행 변경 반영 (활성 프로젝트만 집계)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        if (event.getType() == ProjectChangedEvent.Type.COUNTERS || event.getProjectId() == null) {
+            return;
+        }
+        Project after = event.getAfter();
+        ProjectSkills skills = after != null && "active".equals(after.getStatus()) ? skillsOf(after) : null;
+        synchronized (this) {
+            if (snapshot == null) {
+                return;
+            }
+            removeProject(projects.remove(event.getProjectId()));
+            if (skills != null) {
+                addProject(event.getProjectId(), skills);
+            }
+            publish();
+        }
+    }
+
+    /**
+     * 프리랜서 등록/수정/삭제 반영
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFreelancerChanged(FreelancerChangedEvent event) {
+        if (event.getFreelancerId() == null) {
+            return;
+        }
+        Set<Integer> skills = event.isDeleted() ? null : encode(JsonArrayParser.parseStrings(event.getFreelancer().getSkills()));
+        synchronized (this) {
+            if (snapshot == null) {
+                return;
+            }
+            adjust(freelancerSkills, freelancers.remove(event.getFreelancerId()), -1);
+            if (skills != null) {
+                freelancers.put(event.getFreelancerId(), skills);
+                adjust(freelancerSkills, skills, 1);
+            }
+            publish();
+        }
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            reload();
+            current = snapshot;
+        }
+        return current;
+    }
+
+    private void reload() {
+        long start = System.currentTimeMillis();
+        // DB 조회와 파싱은 잠금 밖에서
+        Map<Long, ProjectSkills> loadedProjects = new HashMap<>();
+        for (Project project : projectMapper.findSkillDocuments()) {
+            loadedProjects.put(project.getId(), skillsOf(project));
+        }
+        Map<Long, Set<Integer>> loadedFreelancers = new HashMap<>();
+        for (Freelancer freelancer : freelancerMapper.findSkillDocuments()) {
+            loadedFreelancers.put(freelancer.getId(), encode(JsonArrayParser.parseStrings(freelancer.getSkills())));
+        }
+
+        synchronized (this) {
+            projects.clear();
+            requiredByWorkType.clear();
+            preferred.clear();
+            for (Map.Entry<Long, ProjectSkills> entry : loadedProjects.entrySet()) {
+                addProject(entry.getKey(), entry.getValue());
+            }
+            freelancers.clear();
+            freelancerSkills.clear();
+            for (Map.Entry<Long, Set<Integer>> entry : loadedFreelancers.entrySet()) {
+                freelancers.put(entry.getKey(), entry.getValue());
+                adjust(freelancerSkills, entry.getValue(), 1);
+            }
+            publish();
+        }
+        log.info("기술 스택 카탈로그 재구축 완료 - 프로젝트 {}건, 프리랜서 {}건, {}ms",
+                loadedProjects.size(), loadedFreelancers.size(), System.currentTimeMillis() - start);
+    }
+
+    private void addProject(Long id, ProjectSkills skills) {
+        projects.put(id, skills);
+        adjust(requiredByWorkType.computeIfAbsent(skills.workType, k -> new HashMap<>()), skills.required, 1);
+        adjust(preferred, skills.preferred, 1);
+    }
+
+    private void removeProject(ProjectSkills skills) {
+        if (skills == null) {
+            return;
+        }
+        Map<Integer, Long> counts = requiredByWorkType.get(skills.workType);
+        if (counts != null) {
+            adjust(counts, skills.required, -1);
+        }
+        adjust(preferred, skills.preferred, -1);
+    }
+
+    private static void adjust(Map<Integer, Long> counts, Set<Integer> skillIds, long delta) {
+        if (skillIds == null) {
+            return;
+        }
+        for (Integer skillId : skillIds) {
+            Long next = counts.merge(skillId, delta, Long::sum);
+            if (next != null && next <= 0) {
+                counts.remove(skillId);
+            }
+        }
+    }
+
+    /**
+     * 현재 집계로 조회용 목록을 다시 만듦 (this 로 동기화된 상태에서 호출)
+     */
+    private void publish() {
+        SkillDictionary dictionary = skillBitmapIndex.getDictionary();
+
+        Set<Integer> allProjectSkills = new HashSet<>(preferred.keySet());
+        Map<Integer, Long> remoteRequired = new HashMap<>();
+        for (Map.Entry<String, Map<Integer, Long>> entry : requiredByWorkType.entrySet()) {
+            allProjectSkills.addAll(entry.getValue().keySet());
+            if (REMOTE_WORK_TYPES.contains(entry.getKey())) {
+                for (Map.Entry<Integer, Long> count : entry.getValue().entrySet()) {
+                    remoteRequired.merge(count.getKey(), count.getValue(), Long::sum);
+                }
+            }
+        }
+        List<String> projectSkills = new ArrayList<>(allProjectSkills.size());
+        for (Integer skillId : allProjectSkills) {
+            projectSkills.add(dictionary.decode(skillId));
+        }
+        projectSkills.sort(String.CASE_INSENSITIVE_ORDER);
+
+        snapshot = new Snapshot(Collections.unmodifiableList(projectSkills),
+                top(remoteRequired, dictionary), top(freelancerSkills, dictionary));
+    }
+
+    /**
+     * 건수 상위 TOP_LIMIT 개 (같으면 이름순)
+     */
+    private static List<String> top(Map<Integer, Long> counts, SkillDictionary dictionary) {
+        List<Map.Entry<Integer, Long>> entries = new ArrayList<>(counts.entrySet());
+        entries.sort(Map.Entry.<Integer, Long>comparingByValue().reversed()
+                .thenComparing(entry -> dictionary.decode(entry.getKey()), Comparator.nullsLast(Comparator.naturalOrder())));
+        List<String> names = new ArrayList<>(Math.min(TOP_LIMIT, entries.size()));
+        for (int i = 0; i < entries.size() && names.size() < TOP_LIMIT; i++) {
+            names.add(dictionary.decode(entries.get(i).getKey()));
+        }
+        return Collections.unmodifiableList(names);
+    }
+
+    private ProjectSkills skillsOf(Project project) {
+        return new ProjectSkills(project.getWorkType(),
+                encode(JsonArrayParser.parsedOrParse(project.getRequiredSkillList(), project.getRequiredSkills())),
+                encode(JsonArrayParser.parsedOrParse(project.getPreferredSkillList(), project.getPreferredSkills())));
+    }
+
+    private Set<Integer> encode(List<String> skills) {
+        SkillDictionary dictionary = skillBitmapIndex.getDictionary();
+        Set<Integer> skillIds = new LinkedHashSet<>();
+        for (String skill : skills) {
+            skillIds.add(dictionary.encode(skill));
+        }
+        return skillIds;
+    }
+
+    /**
+     * 프로젝트 한 건의 스킬 구성 (work_type 이 없으면 null 키)
+     */
+    private static final class ProjectSkills {
+        private final String workType;
+        private final Set<Integer> required;
+        private final Set<Integer> preferred;
+
+        private ProjectSkills(String workType, Set<Integer> required, Set<Integer> preferred) {
+            this.workType = workType;
+            this.required = required;
+            this.preferred = preferred;
+        }
+    }
+
+    private static final class Snapshot {
+        private final List<String> projectSkills;
+        private final List<String> topRemoteProjectSkills;
+        private final List<String> topFreelancerSkills;
+
+        private Snapshot(List<String> projectSkills, List<String> topRemoteProjectSkills,
+                         List<String> topFreelancerSkills) {
+            this.projectSkills = projectSkills;
+            this.topRemoteProjectSkills = topRemoteProjectSkills;
+            this.topFreelancerSkills = topFreelancerSkills;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.fid.job.index;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 기술 스택 문자열 <-> int ID 사전
+ * - 대소문자/앞뒤 공백을 무시하고 같은 스킬로 취급 (DB 의 JSON_SEARCH 대소문자 무시 비교와 동일)
+ * - ID 는 0 부터 순차 발급되며 재사용하지 않음
+ */
+public class SkillDictionary {
+
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private final List<String> names = new CopyOnWriteArrayList<>();
+
+    /**
+     * 스킬 ID 조회, 없으면 새로 발급
+     */
+    public int encode(String skill) {
+        String key = normalize(skill);
+        Integer id = ids.get(key);
+        if (id != null) {
+            return id;
+        }
+        synchronized (this) {
+            id = ids.get(key);
+            if (id == null) {
+                id = names.size();
+                names.add(skill.trim());
+                ids.put(key, id);
+            }
+            return id;
+        }
+    }
+
+    /**
+     * 스킬 ID 조회 (발급하지 않음)
+     *
+     * @return 등록되지 않은 스킬이면 null
+     */
+    public Integer lookup(String skill) {
+        if (skill == null) {
+            return null;
+        }
+        return ids.get(normalize(skill));
+    }
+
+    /**
+     * 스킬 ID 에 해당하는 이름 (처음 등록된 표기)
+     */
+    public String decode(int id) {
+        return id >= 0 && id < names.size() ? names.get(id) : null;
+    }
+
+    public int size() {
+        return names.size();
+    }
+
+    public static String normalize(String skill) {
+        return skill.trim().toLowerCase(Locale.ROOT);
+    }
+}
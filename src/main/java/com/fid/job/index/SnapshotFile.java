@@ -0,0 +1,125 @@
+package com.fid.job.index;
+
+import lombok.Getter;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * 인메모리 색인 스냅샷 파일 (형식 버전 + CRC32 검사, 읽기는 읽기 전용 메모리 매핑)
+ * 형식: MAGIC(int) | 버전(int) | 작성 시각(long, epoch ms) | 본문 길이(int) | 본문 CRC32(long) | 본문
+ * - 쓰기는 같은 디렉터리의 임시 파일에 쓰고 fsync 후 원자적 이동 (읽는 쪽이 쓰다 만 파일을 보지 않도록)
+ * - 매직/버전/길이/CRC 가 맞지 않으면 IOException (호출자는 DB 에서 재구축)
+ * - 본문 안의 숫자는 big-endian, 문자열은 (길이 int + UTF-8 바이트, 길이 -1 은 null)
+ */
+final class SnapshotFile {
+
+    private static final int MAGIC = 0x46494453; // "FIDS"
+    private static final int HEADER_BYTES = 4 + 4 + 8 + 4 + 8;
+
+    private SnapshotFile() {
+    }
+
+    @Getter
+    static final class Contents {
+        private final long writtenAt;
+        private final ByteBuffer body;
+
+        private Contents(long writtenAt, ByteBuffer body) {
+            this.writtenAt = writtenAt;
+            this.body = body;
+        }
+    }
+
+    static void write(Path path, int version, byte[] body) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(body, 0, body.length);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        header.putInt(MAGIC).putInt(version).putLong(System.currentTimeMillis()).putInt(body.length).putLong(crc.getValue());
+        header.flip();
+
+        Path parent = path.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                ByteBuffer content = ByteBuffer.wrap(body);
+                while (header.hasRemaining()) {
+                    channel.write(header);
+                }
+                while (content.hasRemaining()) {
+                    channel.write(content);
+                }
+                channel.force(true);
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * @return 파일이 없으면 null
+     */
+    static Contents read(Path path, int version) throws IOException {
+        ByteBuffer mapped;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_BYTES) {
+                throw new IOException("스냅샷 헤더 손상: " + path);
+            }
+            // 매핑은 채널을 닫아도 유지됨
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+        if (mapped.getInt() != MAGIC) {
+            throw new IOException("스냅샷 파일 형식이 아님: " + path);
+        }
+        int fileVersion = mapped.getInt();
+        if (fileVersion != version) {
+            throw new IOException("스냅샷 버전 불일치: " + fileVersion + " (기대 " + version + ")");
+        }
+        long writtenAt = mapped.getLong();
+        int length = mapped.getInt();
+        long checksum = mapped.getLong();
+        if (length != mapped.remaining()) {
+            throw new IOException("스냅샷 길이 불일치: " + path);
+        }
+        ByteBuffer body = mapped.slice();
+        CRC32 crc = new CRC32();
+        crc.update(body.duplicate());
+        if (crc.getValue() != checksum) {
+            throw new IOException("스냅샷 체크섬 불일치: " + path);
+        }
+        return new Contents(writtenAt, body);
+    }
+
+    static void putString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static String getString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
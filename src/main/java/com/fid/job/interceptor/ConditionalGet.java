@@ -0,0 +1,22 @@
+package com.fid.job.interceptor;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 조건부 조회 대상 조회 API 표시 (ConditionalGetInterceptor 가 처리)
+ * - 응답이 의존하는 데이터 버전으로 ETag / Last-Modified 를 계산
+ * - If-None-Match / If-Modified-Since 가 일치하면 핸들러를 실행하지 않고 304 응답
+ * - GET 조회에만 사용, 핸들러에 부수 효과(조회수 증가 등)가 있으면 304 에서 빠지므로 붙이지 않음
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConditionalGet {
+
+    /**
+     * 응답이 의존하는 컬렉션 (ResourceVersions 상수)
+     */
+    String[] value();
+}
@@ -0,0 +1,154 @@
+package com.fid.job.interceptor;
+
+import com.fid.job.cache.ResourceVersions;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Map;
+
+/**
+ * @ConditionalGet 조회 API 의 ETag / Last-Modified 처리
+ * - 태그 = 유효 구간 번호 + 의존 데이터 버전(노드 공유, 노드별 메모리 사본에서 읽음) + 표현 구분값(Accept, 디버그 헤더, Authorization 의 SHA-256)
+ *   같은 URL 이라도 응답 형식(JSON/CBOR/Smile)이나 사용자별 표시(북마크 여부 등)가 다르면 다른 태그
+ * - 버전은 핸들러 실행 전에 읽으므로 처리 중 변경이 있어도 다음 요청에서 새로 받음
+ * - 일치하면 핸들러(매퍼 조회, 직렬화)를 실행하지 않고 304
+ *   핸들러에 부수 효과(조회수, 고유 방문자 기록)가 있는 상세 조회에는 붙이지 않음
+ * - 애플리케이션이 모르는 변경은 유효 구간(app.etag.max-age-ms)이 지나면 태그가 바뀌어 반영
+ * - GET/HEAD 요청만 처리 (POST 는 조회용이라도 캐시 검증 대상이 아님)
+ * - 버전을 아직 읽지 못했으면 태그 없이 그대로 처리
+ *
+ * 지표 (Micrometer)
+ * - http.conditional.requests{result=not_modified|modified}
+ */
+@Slf4j
+@Component
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    private final ResourceVersions resourceVersions;
+    private final MeterRegistry meterRegistry;
+    private final String debugHeader;
+    private final long maxAgeMs;
+
+    public ConditionalGetInterceptor(ResourceVersions resourceVersions,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${app.json.debug-header:X-Debug-Json}") String debugHeader,
+                                     @Value("${app.etag.max-age-ms:300000}") long maxAgeMs) {
+        this.resourceVersions = resourceVersions;
+        this.meterRegistry = meterRegistry;
+        this.debugHeader = debugHeader;
+        this.maxAgeMs = Math.max(1000, maxAgeMs);
+    }
+
+    @Override
+    public boolean preHandle(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull Object handler) {
+        if (!(handler instanceof HandlerMethod)
+                || !("GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod()))) {
+            return true;
+        }
+        ConditionalGet conditional = ((HandlerMethod) handler).getMethodAnnotation(ConditionalGet.class);
+        if (conditional == null) {
+            return true;
+        }
+
+        Map<String, ResourceVersions.Stamp> stamps;
+        try {
+            stamps = resourceVersions.collections(conditional.value());
+        } catch (Exception e) {
+            log.warn("데이터 버전 조회 실패, 조건부 조회 생략: {}", e.getMessage());
+            return true;
+        }
+
+        long now = System.currentTimeMillis();
+        long bucket = now / maxAgeMs;
+        long lastModified = bucket * maxAgeMs;
+
+        StringBuilder etag = new StringBuilder("\"").append(Long.toString(bucket, 36));
+        for (String collection : conditional.value()) {
+            ResourceVersions.Stamp stamp = stamps.get(collection);
+            etag.append('-').append(Long.toString(stamp.getVersion(), 36));
+            lastModified = Math.max(lastModified, stamp.getModifiedAt());
+        }
+        etag.append('-').append(variant(request)).append('"');
+        String tag = etag.toString();
+
+        response.setHeader(HttpHeaders.ETAG, tag);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        response.setHeader(HttpHeaders.VARY, "Accept, Authorization");
+
+        if (notModified(request, tag, lastModified)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            meterRegistry.counter("http.conditional.requests", "result", "not_modified").increment();
+            return false;
+        }
+        meterRegistry.counter("http.conditional.requests", "result", "modified").increment();
+        return true;
+    }
+
+    private static boolean notModified(HttpServletRequest request, String tag, long lastModified) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            // If-None-Match 는 약한 비교 (W/ 접두어 무시)
+            for (String candidate : ifNoneMatch.split(",")) {
+                String trimmed = candidate.trim();
+                if (trimmed.startsWith("W/")) {
+                    trimmed = trimmed.substring(2);
+                }
+                if ("*".equals(trimmed) || tag.equals(trimmed)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        long ifModifiedSince;
+        try {
+            ifModifiedSince = request.getDateHeader(HttpHeaders.IF_MODIFIED_SINCE);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        // HTTP 날짜는 초 단위
+        return ifModifiedSince >= 0 && lastModified / 1000 <= ifModifiedSince / 1000;
+    }
+
+    /**
+     * 표현 구분값 (헤더마다 길이를 앞에 붙여 경계가 섞이지 않게 한 뒤 SHA-256, base64url 앞 22자, 약 128비트)
+     */
+    private String variant(HttpServletRequest request) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        update(digest, request.getHeader(HttpHeaders.ACCEPT));
+        update(digest, debugHeader == null || debugHeader.isEmpty() ? null : request.getHeader(debugHeader));
+        update(digest, request.getHeader(HttpHeaders.AUTHORIZATION));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(digest.digest()).substring(0, 22);
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        if (value == null) {
+            digest.update(new byte[]{-1, -1, -1, -1});
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        int length = bytes.length;
+        digest.update(new byte[]{(byte) (length >>> 24), (byte) (length >>> 16), (byte) (length >>> 8), (byte) length});
+        digest.update(bytes);
+    }
+}
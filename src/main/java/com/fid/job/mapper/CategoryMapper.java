@@ -4,9 +4,11 @@ import com.fid.job.dto.CategoryDTO;
 import org.apache.ibatis.annotations.Mapper;
 
 import java.util.List;
+import java.util.Map;
 
 @Mapper
 public interface CategoryMapper {
-    List<CategoryDTO> findAllCategories();
-    CategoryDTO findCategoryById(Long id);
+    List<CategoryDTO> findActiveCategories();
+    List<Map<String, Object>> countActiveProjectsByCategory();
+    List<Map<String, Object>> findActiveProjectCategories();
 }
\ No newline at end of file
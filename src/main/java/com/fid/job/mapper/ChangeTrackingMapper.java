@@ -0,0 +1,48 @@
+package com.fid.job.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DB 변경 추적 (table/column 은 TableChangedEvent.Table 의 고정 이름만 전달)
+ */
+@Mapper
+public interface ChangeTrackingMapper {
+
+    // 삭제 기록(tombstone) 테이블 존재 여부
+    boolean existsTombstoneTable();
+
+    // tombstone 삭제 트리거(<테이블>_change_tombstone)가 있는 테이블
+    List<String> findDeleteTriggerTables();
+
+    // 워터마크 인덱스(idx_<테이블>_updated_at_id)가 있는 테이블
+    List<String> findWatermarkIndexTables();
+
+    // 마지막 변경 (updatedAt, id), 행이 없으면 null
+    Map<String, Object> findLatestChange(@Param("table") String table);
+
+    // (since, afterId) 이후의 변경 (id, updatedAt, ageMs), (updated_at, id) 순, since 가 null 이면 처음부터
+    List<Map<String, Object>> findChangesAfter(@Param("table") String table,
+                                               @Param("since") LocalDateTime since,
+                                               @Param("afterId") long afterId,
+                                               @Param("limit") int limit);
+
+    // 마지막 tombstone (deletedAt, seq), 없으면 null
+    Map<String, Object> findLatestTombstone();
+
+    // (since, afterSeq) 이후의 tombstone (seq, deletedAt, tableName, entityId, ageMs), (deleted_at, seq) 순
+    List<Map<String, Object>> findTombstonesAfter(@Param("since") LocalDateTime since,
+                                                  @Param("afterSeq") long afterSeq,
+                                                  @Param("limit") int limit);
+
+    // 보관 기간이 지난 tombstone 삭제
+    int deleteTombstonesBefore(@Param("retentionHours") int retentionHours);
+
+    // 다른 테이블 행을 참조하는 행 ID (예: company_id 로 프로젝트 조회)
+    List<Long> findReferencingIds(@Param("table") String table,
+                                  @Param("column") String column,
+                                  @Param("ids") List<Long> ids);
+}
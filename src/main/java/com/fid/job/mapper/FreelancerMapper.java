@@ -51,9 +51,12 @@ public interface FreelancerMapper {
     // 프리랜서 프로필 삭제
     void delete(@Param("id") Long id);
     
-    // 조회수 증가
-    void incrementViewCount(@Param("id") Long id);
-
-    // 프리랜서 기술 목록 조회
-    List<String> freelancerSkillList();
+    // 스킬 비트맵 색인용 활성 프리랜서 스킬 컬럼 조회
+    List<Freelancer> findSkillDocuments();
+    
+    // 패싯 색인용 활성 프리랜서 필터 컬럼 조회 (id 가 있으면 한 건)
+    List<Freelancer> findFacetDocuments(@Param("id") Long id);
+    
+    // 목록 건수 캐시 무효화 판단용 테이블 지문 (행 수 + 최종 수정 시각)
+    String findTableFingerprint();
 }
\ No newline at end of file
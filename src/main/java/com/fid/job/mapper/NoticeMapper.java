@@ -18,7 +18,5 @@ public interface NoticeMapper {
 
     void delete(Long id);
 
-    void incrementReadCount(Long id);
-
     int testConnection();
 }
\ No newline at end of file
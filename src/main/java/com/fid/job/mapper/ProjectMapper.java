@@ -16,14 +16,32 @@ public interface ProjectMapper {
     // 전체 프로젝트 수 조회 (페이징용)
     int countAll(@Param("params") Map<String, Object> params);
     
+    // 검색 색인용 활성 프로젝트 텍스트 컬럼 조회
+    List<Project> findSearchDocuments();
+    
+    // 스킬 비트맵 색인용 활성 프로젝트 스킬 컬럼 조회
+    List<Project> findSkillDocuments();
+    
+    // 패싯 색인/프로젝트 카탈로그용 활성 프로젝트 필터, 정렬 컬럼 조회
+    List<Project> findFacetDocuments();
+    
+    // 목록 건수 캐시 무효화 판단용 테이블 지문 (행 수 + 최종 수정 시각)
+    String findTableFingerprint();
+    
     // 특정 프로젝트 상세 조회
-    Project findById(@Param("id") Long id, @Param("userId") Long userId);
+    Project findById(@Param("id") Long id);
     
-    // 조회수 증가
-    void incrementViewCount(@Param("id") Long id);
+    // ID 목록으로 상세 조회 (findById 와 같은 컬럼, 상태 무관)
+    List<Project> findDetailsByIds(@Param("ids") List<Long> ids);
+    
+    // 프로젝트 지원 (영향 행 수: 신규 1, 이미 지원한 경우 0)
+    int insertApplication(@Param("projectId") Long projectId, 
+                           @Param("userId") Long userId, 
+                           @Param("coverLetter") String coverLetter,
+                           @Param("proposedBudget") BigDecimal proposedBudget);
     
-    // 프로젝트 지원
-    void insertApplication(@Param("projectId") Long projectId, 
+    // 기존 지원 내용 갱신
+    int updateApplication(@Param("projectId") Long projectId, 
                            @Param("userId") Long userId, 
                            @Param("coverLetter") String coverLetter,
                            @Param("proposedBudget") BigDecimal proposedBudget);
@@ -31,15 +49,33 @@ public interface ProjectMapper {
     // 지원 여부 확인
     boolean hasApplied(@Param("projectId") Long projectId, @Param("userId") Long userId);
     
-    // 북마크 추가
-    void insertBookmark(@Param("projectId") Long projectId, @Param("userId") Long userId);
+    // 북마크 추가 (영향 행 수: 신규 1, 이미 있으면 0)
+    int insertBookmark(@Param("projectId") Long projectId, @Param("userId") Long userId);
     
     // 북마크 삭제
-    void deleteBookmark(@Param("projectId") Long projectId, @Param("userId") Long userId);
+    int deleteBookmark(@Param("projectId") Long projectId, @Param("userId") Long userId);
+    
+    // 북마크 수 컬럼 증감
+    void addBookmarkCount(@Param("projectId") Long projectId, @Param("delta") int delta);
+    
+    // 지원자 수 컬럼 증가
+    void incrementApplicationCount(@Param("projectId") Long projectId);
+    
+    // 집계 컬럼 보정 대상 최대 ID
+    long findMaxId();
+    
+    // ID 구간의 북마크/지원자 수 컬럼 보정 (보정된 행 수)
+    int reconcileCounters(@Param("fromId") long fromId, @Param("toId") long toId);
     
     // 북마크 여부 확인
     boolean isBookmarked(@Param("projectId") Long projectId, @Param("userId") Long userId);
     
+    // 사용자의 북마크 프로젝트 ID
+    List<Long> findBookmarkedProjectIds(@Param("userId") Long userId);
+    
+    // 사용자의 지원 프로젝트 ID
+    List<Long> findAppliedProjectIds(@Param("userId") Long userId);
+    
     // 북마크 수 조회
     int countBookmarks(@Param("projectId") Long projectId);
     
@@ -49,6 +85,9 @@ public interface ProjectMapper {
     // 관련 프로젝트 조회
     List<Project> findRelatedProjects(@Param("projectId") Long projectId, @Param("limit") int limit);
     
+    // 인기/긴급 순위 후보 조회
+    List<Project> findRankingCandidates();
+    
     // 인기 프로젝트 조회
     List<Project> findPopularProjects(@Param("limit") int limit);
     
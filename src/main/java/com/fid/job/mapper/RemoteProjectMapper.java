@@ -3,6 +3,7 @@ package com.fid.job.mapper;
 import com.fid.job.model.Project;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
 
 import java.util.List;
 import java.util.Map;
@@ -23,27 +24,17 @@ public interface RemoteProjectMapper {
     /**
      * 프로젝트 상세 조회
      */
-    Project findById(@Param("id") Long id, @Param("userId") Long userId);
+    Project findById(@Param("id") Long id);
     
     /**
-     * 프로젝트 조회수 증가
+     * ID 목록으로 상세 조회 (findById 와 같은 컬럼)
      */
-    void incrementViewCount(@Param("id") Long id);
+    List<Project> findDetailsByIds(@Param("ids") List<Long> ids);
     
     /**
-     * 근무 형태별 프로젝트 개수 조회
+     * 시장 통계(MarketInsights)용 활성 프로젝트 스트리밍 조회 (집계에 필요한 컬럼만)
      */
-    int countByWorkType(@Param("workType") String workType);
-    
-    /**
-     * 지역별 상주 프로젝트 분포
-     */
-    List<Map<String, Object>> getProjectDistributionByLocation();
-    
-    /**
-     * 원격 도구별 프로젝트 분포
-     */
-    List<Map<String, Object>> getProjectDistributionByRemoteTools();
+    void scanActiveProjectsForInsights(ResultHandler<Project> handler);
     
     /**
      * 원격근무 프로젝트에서 사용되는 도구 목록
@@ -54,34 +45,4 @@ public interface RemoteProjectMapper {
      * 상주근무 프로젝트의 지역 목록
      */
     List<String> getUniqueOnsiteLocations();
-    
-    /**
-     * 팀 규모별 프로젝트 분포
-     */
-    List<Map<String, Object>> getProjectDistributionByTeamSize();
-    
-    /**
-     * 유연근무제 여부별 프로젝트 개수
-     */
-    Map<String, Object> countByFlexibleHours();
-    
-    /**
-     * 주차/식사 제공 여부별 상주 프로젝트 개수
-     */
-    Map<String, Object> countOnsiteBenefits();
-    
-    /**
-     * 근무 형태별 평균 예산
-     */
-    Map<String, Object> getAverageBudgetByWorkType();
-    
-    /**
-     * 프로젝트에 사용된 모든 기술 스택 목록 조회
-     */
-    List<String> getAllProjectSkills();
-    
-    /**
-     * 프로젝트 기술 스택 상위 20개 조회
-     */
-    List<String> getTopProjectSkills();
 }
\ No newline at end of file
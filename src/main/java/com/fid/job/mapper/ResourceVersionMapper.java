@@ -0,0 +1,19 @@
+package com.fid.job.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 조건부 조회용 데이터 버전 (모든 노드가 공유)
+ */
+@Mapper
+public interface ResourceVersionMapper {
+
+    // 버전 증가 (행이 없으면 1 로 생성), 마지막 변경 시각은 DB 시각
+    void bump(@Param("name") String name);
+
+    // 전체 버전 (name, version, modifiedAt epoch ms), 이름 수만큼의 작은 테이블이라 노드별 메모리 사본 갱신에 사용
+    List<Map<String, Object>> findAll();
+}
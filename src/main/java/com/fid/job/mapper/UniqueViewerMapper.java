@@ -0,0 +1,22 @@
+package com.fid.job.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+@Mapper
+public interface UniqueViewerMapper {
+    
+    // 대상의 기간 내 일별 스케치 조회 (day, registers), 노드별 행을 모두 반환
+    List<Map<String, Object>> findSketches(@Param("entityType") String entityType,
+                                           @Param("entityId") Long entityId,
+                                           @Param("fromDay") LocalDate fromDay);
+    
+    // 이 노드의 일별 스케치 일괄 저장 (entityType, entityId, day, registers)
+    void upsertSketches(@Param("nodeId") String nodeId, @Param("sketches") List<Map<String, Object>> sketches);
+    
+    // 보관 기간이 지난 스케치 삭제
+    int deleteSketchesBefore(@Param("day") LocalDate day);
+}
@@ -0,0 +1,14 @@
+package com.fid.job.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import java.util.Map;
+
+@Mapper
+public interface ViewCounterMapper {
+    
+    // 조회수 일괄 증가 (table/column 은 ViewCounterService.Target 상수만 사용)
+    int addViewCounts(@Param("table") String table,
+                      @Param("column") String column,
+                      @Param("counts") Map<Long, Long> counts);
+}
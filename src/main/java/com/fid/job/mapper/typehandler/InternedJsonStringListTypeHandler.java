@@ -0,0 +1,11 @@
+package com.fid.job.mapper.typehandler;
+
+/**
+ * 값 종류가 적은 JSON 배열 컬럼(스킬, 도구, 소통 방법)용 - 같은 값은 같은 문자열 인스턴스를 공유
+ */
+public class InternedJsonStringListTypeHandler extends JsonStringListTypeHandler {
+
+    public InternedJsonStringListTypeHandler() {
+        super(true);
+    }
+}
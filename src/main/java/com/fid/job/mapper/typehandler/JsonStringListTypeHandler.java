@@ -0,0 +1,55 @@
+package com.fid.job.mapper.typehandler;
+
+import com.fid.job.util.JsonArrayParser;
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * JSON 배열 컬럼 <-> List&lt;String&gt; (ResultSet 에서 한 번만 파싱)
+ * 자유 입력 값(요구사항, 산출물, 복지 등)용, 값 종류가 적은 컬럼은 InternedJsonStringListTypeHandler 사용
+ *
+ * resultMap 에서 typeHandler 로 지정해 사용 (List 전체의 기본 핸들러로 등록하지 않음)
+ */
+public class JsonStringListTypeHandler extends BaseTypeHandler<List<String>> {
+
+    private final boolean intern;
+
+    public JsonStringListTypeHandler() {
+        this(false);
+    }
+
+    protected JsonStringListTypeHandler(boolean intern) {
+        this.intern = intern;
+    }
+
+    @Override
+    public void setNonNullParameter(PreparedStatement ps, int i, List<String> parameter, JdbcType jdbcType)
+            throws SQLException {
+        ps.setString(i, JsonArrayParser.toJson(parameter));
+    }
+
+    @Override
+    public List<String> getNullableResult(ResultSet rs, String columnName) throws SQLException {
+        return parse(rs.getString(columnName));
+    }
+
+    @Override
+    public List<String> getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+        return parse(rs.getString(columnIndex));
+    }
+
+    @Override
+    public List<String> getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+        return parse(cs.getString(columnIndex));
+    }
+
+    private List<String> parse(String json) {
+        return json == null ? null : JsonArrayParser.parseStrings(json, intern);
+    }
+}
@@ -1,5 +1,6 @@
 package com.fid.job.model;
 
+import com.fid.job.dto.UniqueViewers;
 import lombok.Data;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -23,6 +24,7 @@ public class Freelancer {
     private Integer totalReviews;
     private Integer completedProjects;
     private Integer viewCount;
+    private UniqueViewers uniqueViewers; // 상세 조회 시에만 채워짐
     private Integer projectCount;
     private Boolean isVerified;
     private LocalDateTime verificationDate;
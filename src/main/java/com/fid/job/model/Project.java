@@ -1,9 +1,12 @@
 package com.fid.job.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fid.job.dto.UniqueViewers;
 import lombok.Data;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Data
 public class Project {
@@ -46,6 +49,8 @@ public class Project {
     private Boolean isBookmarked;
     private Boolean hasApplied;
     private Integer bookmarkCount;
+    private LocalDateTime bookmarkedAt; // 북마크 목록 조회 시에만 채워짐
+    private UniqueViewers uniqueViewers; // 상세 조회 시에만 채워짐
     
     // 원격/상주 프로젝트 관련 필드
     private String remoteTools; // JSON
@@ -73,4 +78,13 @@ public class Project {
     // budget 관련
     private String budget;
     private String requirements; // JSON
+    
+    // JSON 배열 컬럼을 조회 시점에 파싱한 값 (resultMap 의 JSON 배열 TypeHandler, API 응답에는 미포함)
+    @JsonIgnore private List<String> requiredSkillList;
+    @JsonIgnore private List<String> preferredSkillList;
+    @JsonIgnore private List<String> remoteToolList;
+    @JsonIgnore private List<String> communicationMethodList;
+    @JsonIgnore private List<String> benefitList;
+    @JsonIgnore private List<String> deliverableList;
+    @JsonIgnore private List<String> requirementList;
 }
\ No newline at end of file
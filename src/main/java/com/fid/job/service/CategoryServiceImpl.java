@@ -1,31 +1,30 @@
 package com.fid.job.service;
 
+import com.fid.job.cache.CategoryStatsCache;
 import com.fid.job.dto.CategoryDTO;
-import com.fid.job.mapper.CategoryMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class CategoryServiceImpl implements CategoryService {
     
-    private final CategoryMapper categoryMapper;
+    // 카테고리별 프로젝트 수는 인메모리 집계 스냅샷에서 제공
+    private final CategoryStatsCache categoryStatsCache;
     
     @Override
     public List<CategoryDTO> getAllCategories() {
         log.info("Fetching all categories");
-        return categoryMapper.findAllCategories();
+        return categoryStatsCache.getAll();
     }
     
     @Override
     public CategoryDTO getCategoryById(Long id) {
         log.info("Fetching category with id: {}", id);
-        return categoryMapper.findCategoryById(id);
+        return categoryStatsCache.getById(id);
     }
 }
\ No newline at end of file
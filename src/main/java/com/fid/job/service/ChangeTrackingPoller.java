@@ -0,0 +1,507 @@
+package com.fid.job.service;
+
+import com.fid.job.event.FreelancerChangedEvent;
+import com.fid.job.event.ProjectChangedEvent;
+import com.fid.job.event.TableChangedEvent;
+import com.fid.job.event.TableChangedEvent.Table;
+import com.fid.job.mapper.ChangeTrackingMapper;
+import com.fid.job.mapper.FreelancerMapper;
+import com.fid.job.mapper.ProjectMapper;
+import com.fid.job.model.Freelancer;
+import com.fid.job.model.Project;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * DB 변경 추적 (projects, freelancers, users, companies)
+ * - 테이블별 (updated_at, id) 워터마크 이후의 변경 행을 짧은 주기로 배치 조회해 변경 이벤트로 발행
+ *   (애플리케이션이 이벤트를 발행하지 않는 변경 - 관리자 SQL, 배치 작업 - 도 인메모리 색인/캐시에 반영)
+ * - 삭제는 트리거가 남기는 change_tombstones 를 (deleted_at, seq) 순으로 읽어 반영
+ * - tombstone 테이블/삭제 트리거/워터마크 인덱스는 db/migration/V4__change_tracking.sql 로 배포
+ *   기동 시 존재 여부만 확인하고, 하나라도 없으면 오류를 남기고 변경 추적을 끔 (각 색인의 주기적 재구축으로만 반영)
+ * - 기동 후 첫 조회는 현재 위치를 워터마크로 잡기만 함 (기존 행은 각 색인이 직접 적재)
+ * - updated_at/deleted_at 은 커밋 시각이 아니라 문장 실행 시각이라 긴 트랜잭션의 행은 워터마크보다 이른 시각으로 늦게 보임
+ *   매 주기 워터마크 - overlap-seconds 부터 다시 조회하고, 이미 발행한 (id, updated_at) / tombstone seq 는 건너뜀
+ *   overlap-seconds 보다 오래 걸리는 트랜잭션의 변경은 놓칠 수 있음 (각 색인의 주기적 재구축으로만 반영)
+ * - 워터마크는 이벤트 발행이 끝난 뒤에만 전진 (같은 변경이 다시 전달될 수 있으므로 구독자는 멱등 처리)
+ * - users/companies 변경은 이를 조인해 보여주는 프로젝트(client_id, company_id)와 프리랜서(user_id)로 전파
+ * - 스냅샷으로 기동한 색인은 resumeFrom 으로 스냅샷의 변경 위치부터 다시 전달받아 따라잡음
+ *
+ * 지표 (Micrometer)
+ * - change.tracking.rows{table, kind=changed|deleted} : 발행한 행 수
+ * - change.tracking.lag{table}                       : 행 변경 시각부터 감지까지 걸린 시간
+ * - change.tracking.staleness{table}                 : 마지막 성공 조회 이후 경과 초
+ * - change.tracking.failures                         : 조회 실패 횟수
+ */
+@Slf4j
+@Component
+public class ChangeTrackingPoller {
+
+    private static final String TOMBSTONES = "tombstones";
+
+    private final ChangeTrackingMapper changeTrackingMapper;
+    private final ProjectMapper projectMapper;
+    private final FreelancerMapper freelancerMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Map<Table, Counter> changedRows = new EnumMap<>(Table.class);
+    private final Map<Table, Counter> deletedRows = new EnumMap<>(Table.class);
+    private final Map<Table, Timer> lags = new EnumMap<>(Table.class);
+    private final Map<String, AtomicLong> lastPolled = new HashMap<>();
+    private final Counter failures;
+
+    // 아래 필드는 조회 스레드에서만 사용 (poll 이 synchronized), 첫 조회 전에는 없음
+    private final Map<Table, Tracker> trackers = new EnumMap<>(Table.class);
+    private Tracker tombstones;
+
+    // 스키마 객체가 모두 있을 때만 true (verifySchema)
+    private volatile boolean enabled;
+
+    @Value("${app.change-tracking.batch-size:500}")
+    private int batchSize;
+
+    // 한 주기에 테이블별로 읽을 최대 배치 수 (밀린 변경은 다음 주기에 이어서)
+    @Value("${app.change-tracking.max-batches:20}")
+    private int maxBatches;
+
+    // 매 주기 다시 조회하는 구간 (배포 환경의 가장 긴 쓰기 트랜잭션보다 길게)
+    @Value("${app.change-tracking.overlap-seconds:60}")
+    private int overlapSeconds;
+
+    @Value("${app.change-tracking.tombstone-retention-hours:24}")
+    private int tombstoneRetentionHours;
+
+    public ChangeTrackingPoller(ChangeTrackingMapper changeTrackingMapper, ProjectMapper projectMapper,
+                                FreelancerMapper freelancerMapper, ApplicationEventPublisher eventPublisher,
+                                MeterRegistry meterRegistry) {
+        this.changeTrackingMapper = changeTrackingMapper;
+        this.projectMapper = projectMapper;
+        this.freelancerMapper = freelancerMapper;
+        this.eventPublisher = eventPublisher;
+        long now = System.currentTimeMillis();
+        for (Table table : Table.values()) {
+            changedRows.put(table, Counter.builder("change.tracking.rows")
+                    .tag("table", table.tableName()).tag("kind", "changed").register(meterRegistry));
+            deletedRows.put(table, Counter.builder("change.tracking.rows")
+                    .tag("table", table.tableName()).tag("kind", "deleted").register(meterRegistry));
+            lags.put(table, Timer.builder("change.tracking.lag")
+                    .description("행 변경 시각부터 변경 추적이 감지하기까지 걸린 시간")
+                    .tag("table", table.tableName()).register(meterRegistry));
+            lastPolled.put(table.tableName(), new AtomicLong(now));
+        }
+        lastPolled.put(TOMBSTONES, new AtomicLong(now));
+        for (Map.Entry<String, AtomicLong> entry : lastPolled.entrySet()) {
+            meterRegistry.gauge("change.tracking.staleness", Tags.of("table", entry.getKey()), entry.getValue(),
+                    polled -> (System.currentTimeMillis() - polled.get()) / 1000.0);
+        }
+        this.failures = Counter.builder("change.tracking.failures").register(meterRegistry);
+    }
+
+    /**
+     * tombstone 테이블, 삭제 트리거, 워터마크 인덱스 존재 확인 (만들지 않음)
+     * 하나라도 없거나 확인에 실패하면 변경 추적을 끔
+     */
+    @PostConstruct
+    public void verifySchema() {
+        List<String> missing = new ArrayList<>();
+        try {
+            if (!changeTrackingMapper.existsTombstoneTable()) {
+                missing.add("change_tombstones");
+            }
+            Set<String> triggers = new HashSet<>(changeTrackingMapper.findDeleteTriggerTables());
+            Set<String> indexes = new HashSet<>(changeTrackingMapper.findWatermarkIndexTables());
+            for (Table table : Table.values()) {
+                if (!triggers.contains(table.tableName())) {
+                    missing.add(table.tableName() + "_change_tombstone");
+                }
+                if (!indexes.contains(table.tableName())) {
+                    missing.add("idx_" + table.tableName() + "_updated_at_id");
+                }
+            }
+        } catch (Exception e) {
+            log.error("변경 추적 스키마 확인 실패 - 변경 추적 비활성: {}", e.getMessage());
+            return;
+        }
+        if (!missing.isEmpty()) {
+            log.error("변경 추적 스키마 객체 없음 {} - 변경 추적 비활성 (db/migration/V4__change_tracking.sql 적용 필요)", missing);
+            return;
+        }
+        enabled = true;
+    }
+
+    /**
+     * 변경 추적 사용 가능 여부 (false 면 위치 조회/재개도 사용할 수 없음)
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Scheduled(initialDelayString = "${app.change-tracking.poll-ms:5000}",
+               fixedDelayString = "${app.change-tracking.poll-ms:5000}")
+    public synchronized void poll() {
+        if (!enabled) {
+            return;
+        }
+        for (Table table : Table.values()) {
+            try {
+                pollChanges(table);
+                lastPolled.get(table.tableName()).set(System.currentTimeMillis());
+            } catch (Exception e) {
+                failures.increment();
+                log.warn("변경 추적 조회 실패 - {}: {}", table.tableName(), e.getMessage());
+            }
+        }
+        try {
+            pollTombstones();
+            lastPolled.get(TOMBSTONES).set(System.currentTimeMillis());
+        } catch (Exception e) {
+            failures.increment();
+            log.warn("삭제 추적 조회 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 현재 DB 의 변경 위치 (마지막 변경 + 마지막 tombstone)
+     * 이 위치를 읽은 뒤 적재한 색인은 이 위치까지 커밋된 변경을 모두 포함
+     * (아직 커밋되지 않은 이전 시각의 변경은 재개 후 재조회 구간에서 전달됨)
+     */
+    public Position position(Table table) {
+        if (!enabled) {
+            throw new IllegalStateException("변경 추적 비활성");
+        }
+        Watermark tombstone = latestTombstone();
+        Watermark change = latestChange(table);
+        return new Position(change.updatedAt, change.id, tombstone.updatedAt, tombstone.id);
+    }
+
+    /**
+     * 스냅샷에서 복원한 색인이 따라잡도록 워터마크를 그 위치로 되돌림 (이미 더 이전이면 그대로)
+     * 되돌린 구간(과 그 앞의 재조회 구간)의 변경은 모든 구독자에게 다시 전달됨
+     */
+    public synchronized void resumeFrom(Table table, Position position) {
+        Watermark resumed = new Watermark(position.getUpdatedAt(), position.getId());
+        Tracker current = trackers.get(table);
+        if (current == null || resumed.isBefore(current.mark)) {
+            trackers.put(table, new Tracker(resumed));
+        }
+        Watermark tombstone = new Watermark(position.getTombstoneAt(), position.getTombstoneSeq());
+        if (tombstones == null || tombstone.isBefore(tombstones.mark)) {
+            tombstones = new Tracker(tombstone);
+        }
+        log.info("변경 추적 재개 위치 - {} {}/{}, tombstone {}/{}", table.tableName(),
+                position.getUpdatedAt(), position.getId(), position.getTombstoneAt(), position.getTombstoneSeq());
+    }
+
+    @Scheduled(initialDelayString = "${app.change-tracking.purge-ms:3600000}",
+               fixedDelayString = "${app.change-tracking.purge-ms:3600000}")
+    public void purgeTombstones() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            int purged = changeTrackingMapper.deleteTombstonesBefore(tombstoneRetentionHours);
+            log.debug("보관 기간이 지난 삭제 기록 정리 - {}건", purged);
+        } catch (Exception e) {
+            log.warn("삭제 기록 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    private void pollChanges(Table table) {
+        Tracker tracker = trackers.get(table);
+        if (tracker == null) {
+            trackers.put(table, new Tracker(latestChange(table)));
+            return;
+        }
+        Watermark from = tracker.scanFrom(overlapSeconds);
+        for (int batch = 0; batch < maxBatches; batch++) {
+            List<Map<String, Object>> rows = changeTrackingMapper.findChangesAfter(
+                    table.tableName(), from.updatedAt, from.id, batchSize);
+            List<Long> ids = new ArrayList<>(rows.size());
+            List<Watermark> fresh = new ArrayList<>(rows.size());
+            for (Map<String, Object> row : rows) {
+                Watermark change = new Watermark(toDateTime(row.get("updatedAt")), toLong(row.get("id")));
+                if (!tracker.isPublished(change)) {
+                    ids.add(change.id);
+                    fresh.add(change);
+                    recordLag(table, row.get("ageMs"));
+                }
+            }
+            if (!ids.isEmpty()) {
+                publishChanged(table, ids);
+                eventPublisher.publishEvent(new TableChangedEvent(table, new LinkedHashSet<>(ids), Collections.emptySet()));
+                changedRows.get(table).increment(ids.size());
+                tracker.published(fresh);
+            }
+            if (rows.size() < batchSize) {
+                tracker.caughtUp(overlapSeconds);
+                return;
+            }
+            Map<String, Object> last = rows.get(rows.size() - 1);
+            from = new Watermark(toDateTime(last.get("updatedAt")), toLong(last.get("id")));
+            tracker.pageRead(from);
+        }
+        log.info("변경 추적 - {} 밀린 변경이 남아 다음 주기에 이어서 조회", table.tableName());
+    }
+
+    private void pollTombstones() {
+        if (tombstones == null) {
+            tombstones = new Tracker(latestTombstone());
+            return;
+        }
+        Watermark from = tombstones.scanFrom(overlapSeconds);
+        for (int batch = 0; batch < maxBatches; batch++) {
+            List<Map<String, Object>> rows = changeTrackingMapper.findTombstonesAfter(from.updatedAt, from.id, batchSize);
+            Map<Table, List<Long>> deleted = new EnumMap<>(Table.class);
+            List<Watermark> fresh = new ArrayList<>(rows.size());
+            for (Map<String, Object> row : rows) {
+                Watermark tombstone = new Watermark(toDateTime(row.get("deletedAt")), toLong(row.get("seq")));
+                if (tombstones.isPublished(tombstone)) {
+                    continue;
+                }
+                fresh.add(tombstone);
+                Table table = Table.of((String) row.get("tableName"));
+                if (table != null) {
+                    deleted.computeIfAbsent(table, k -> new ArrayList<>()).add(toLong(row.get("entityId")));
+                    recordLag(table, row.get("ageMs"));
+                }
+            }
+            for (Map.Entry<Table, List<Long>> entry : deleted.entrySet()) {
+                publishDeleted(entry.getKey(), entry.getValue());
+                eventPublisher.publishEvent(new TableChangedEvent(entry.getKey(), Collections.emptySet(),
+                        new LinkedHashSet<>(entry.getValue())));
+                deletedRows.get(entry.getKey()).increment(entry.getValue().size());
+            }
+            tombstones.published(fresh);
+            if (rows.size() < batchSize) {
+                tombstones.caughtUp(overlapSeconds);
+                return;
+            }
+            Map<String, Object> last = rows.get(rows.size() - 1);
+            from = new Watermark(toDateTime(last.get("deletedAt")), toLong(last.get("seq")));
+            tombstones.pageRead(from);
+        }
+    }
+
+    private Watermark latestChange(Table table) {
+        Map<String, Object> latest = changeTrackingMapper.findLatestChange(table.tableName());
+        return latest == null ? Watermark.START
+                : new Watermark(toDateTime(latest.get("updatedAt")), toLong(latest.get("id")));
+    }
+
+    private Watermark latestTombstone() {
+        Map<String, Object> latest = changeTrackingMapper.findLatestTombstone();
+        return latest == null ? Watermark.START
+                : new Watermark(toDateTime(latest.get("deletedAt")), toLong(latest.get("seq")));
+    }
+
+    /**
+     * 변경된 행을 다시 읽어 행 단위 이벤트 발행 (더 이상 조회되지 않는 행은 삭제로 전달)
+     */
+    private void publishChanged(Table table, List<Long> ids) {
+        switch (table) {
+            case PROJECTS:
+                publishProjects(ids);
+                break;
+            case FREELANCERS:
+                publishFreelancers(ids);
+                break;
+            case USERS:
+                publishReferencing(ids);
+                break;
+            case COMPANIES:
+                publishProjects(changeTrackingMapper.findReferencingIds(Table.PROJECTS.tableName(), "company_id", ids));
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void publishDeleted(Table table, List<Long> ids) {
+        switch (table) {
+            case PROJECTS:
+                for (Long id : ids) {
+                    eventPublisher.publishEvent(ProjectChangedEvent.observed(id, null));
+                }
+                break;
+            case FREELANCERS:
+                for (Long id : ids) {
+                    eventPublisher.publishEvent(new FreelancerChangedEvent(id, null));
+                }
+                break;
+            default:
+                // 참조하던 행이 남아 있으면(ON DELETE SET NULL 등) 다시 읽어 반영
+                publishChanged(table, ids);
+                break;
+        }
+    }
+
+    private void publishReferencing(List<Long> userIds) {
+        publishFreelancers(changeTrackingMapper.findReferencingIds(Table.FREELANCERS.tableName(), "user_id", userIds));
+        publishProjects(changeTrackingMapper.findReferencingIds(Table.PROJECTS.tableName(), "client_id", userIds));
+    }
+
+    private void publishProjects(List<Long> ids) {
+        for (List<Long> chunk : chunks(ids)) {
+            Map<Long, Project> rows = new HashMap<>();
+            for (Project project : projectMapper.findDetailsByIds(chunk)) {
+                rows.put(project.getId(), project);
+            }
+            for (Long id : chunk) {
+                eventPublisher.publishEvent(ProjectChangedEvent.observed(id, rows.get(id)));
+            }
+        }
+    }
+
+    private void publishFreelancers(List<Long> ids) {
+        for (List<Long> chunk : chunks(ids)) {
+            Map<Long, Freelancer> rows = new HashMap<>();
+            for (Freelancer freelancer : freelancerMapper.findByIds(chunk)) {
+                rows.put(freelancer.getId(), freelancer);
+            }
+            for (Long id : chunk) {
+                eventPublisher.publishEvent(new FreelancerChangedEvent(id, rows.get(id)));
+            }
+        }
+    }
+
+    private List<List<Long>> chunks(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Long> distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < distinct.size(); from += batchSize) {
+            chunks.add(distinct.subList(from, Math.min(distinct.size(), from + batchSize)));
+        }
+        return chunks;
+    }
+
+    private void recordLag(Table table, Object ageMs) {
+        if (ageMs instanceof Number) {
+            lags.get(table).record(Math.max(0L, ((Number) ageMs).longValue()), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static long toLong(Object value) {
+        return ((Number) value).longValue();
+    }
+
+    private static LocalDateTime toDateTime(Object value) {
+        if (value instanceof Timestamp) {
+            return ((Timestamp) value).toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+
+    /**
+     * 변경 위치 (updatedAt / tombstoneAt 이 null 이면 처음부터)
+     */
+    @Getter
+    public static final class Position {
+        private final LocalDateTime updatedAt;
+        private final long id;
+        private final LocalDateTime tombstoneAt;
+        private final long tombstoneSeq;
+
+        public Position(LocalDateTime updatedAt, long id, LocalDateTime tombstoneAt, long tombstoneSeq) {
+            this.updatedAt = updatedAt;
+            this.id = id;
+            this.tombstoneAt = tombstoneAt;
+            this.tombstoneSeq = tombstoneSeq;
+        }
+    }
+
+    /**
+     * 테이블(또는 tombstone)별 조회 상태
+     * - mark: 발행한 가장 마지막 위치, cursor: 이전 주기에 다 읽지 못한 경우 이어서 읽을 위치
+     * - published: 재조회 구간 안에서 이미 발행한 키(id / seq)와 그 시각 (구간을 벗어나면 정리)
+     */
+    private static final class Tracker {
+        private Watermark mark;
+        private Watermark cursor;
+        private final Map<Long, LocalDateTime> published = new HashMap<>();
+
+        private Tracker(Watermark mark) {
+            this.mark = mark;
+        }
+
+        Watermark scanFrom(int overlapSeconds) {
+            if (cursor != null) {
+                return cursor;
+            }
+            return mark.updatedAt == null ? Watermark.START
+                    : new Watermark(mark.updatedAt.minusSeconds(overlapSeconds), Long.MIN_VALUE);
+        }
+
+        boolean isPublished(Watermark change) {
+            return change.updatedAt.equals(published.get(change.id));
+        }
+
+        void published(List<Watermark> changes) {
+            for (Watermark change : changes) {
+                published.put(change.id, change.updatedAt);
+                if (mark.isBefore(change)) {
+                    mark = change;
+                }
+            }
+        }
+
+        void pageRead(Watermark last) {
+            cursor = last;
+        }
+
+        void caughtUp(int overlapSeconds) {
+            cursor = null;
+            if (mark.updatedAt != null) {
+                LocalDateTime horizon = mark.updatedAt.minusSeconds(overlapSeconds);
+                published.values().removeIf(at -> at.isBefore(horizon));
+            }
+        }
+    }
+
+    /**
+     * (시각, 키) 위치 (updatedAt 이 null 이면 처음부터)
+     */
+    private static final class Watermark {
+        private static final Watermark START = new Watermark(null, 0L);
+
+        private final LocalDateTime updatedAt;
+        private final long id;
+
+        private Watermark(LocalDateTime updatedAt, long id) {
+            this.updatedAt = updatedAt;
+            this.id = id;
+        }
+
+        boolean isBefore(Watermark other) {
+            if (updatedAt == null || other.updatedAt == null) {
+                return updatedAt == null && other.updatedAt != null;
+            }
+            int compared = updatedAt.compareTo(other.updatedAt);
+            return compared < 0 || compared == 0 && id < other.id;
+        }
+    }
+}
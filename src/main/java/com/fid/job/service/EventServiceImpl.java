@@ -1,5 +1,6 @@
 package com.fid.job.service;
 
+import com.fid.job.cache.ResourceVersions;
 import com.fid.job.mapper.EventMapper;
 import com.fid.job.model.Event;
 import lombok.RequiredArgsConstructor;
@@ -12,11 +13,13 @@ import java.util.List;
 public class EventServiceImpl implements EventService {
 
     private final EventMapper eventMapper;
+    private final ResourceVersions resourceVersions;
 
     @Override
     @Transactional
     public void create(Event event) {
         eventMapper.insert(event);
+        resourceVersions.bump(ResourceVersions.EVENTS);
     }
 
     @Override
@@ -38,11 +41,13 @@ public class EventServiceImpl implements EventService {
     @Transactional
     public void update(Event event) {
         eventMapper.update(event);
+        resourceVersions.bump(ResourceVersions.EVENTS);
     }
 
     @Override
     @Transactional
     public void delete(Long id) {
         eventMapper.delete(id);
+        resourceVersions.bump(ResourceVersions.EVENTS);
     }
 } 
\ No newline at end of file
@@ -1,12 +1,22 @@
 package com.fid.job.service;
 
+import com.fid.job.cache.DetailCache;
+import com.fid.job.cache.ListingCountCache;
+import com.fid.job.event.FreelancerChangedEvent;
+import com.fid.job.index.FacetIndex;
+import com.fid.job.index.SkillBitmapIndex;
+import com.fid.job.index.SkillCatalog;
 import com.fid.job.mapper.FreelancerMapper;
 import com.fid.job.model.Freelancer;
+import com.fid.job.util.PageCursor;
+import org.roaringbitmap.RoaringBitmap;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -17,9 +27,46 @@ public class FreelancerServiceImpl implements FreelancerService {
 
     @Autowired
     private FreelancerMapper freelancerMapper;
+    
+    @Autowired
+    private SkillBitmapIndex skillBitmapIndex;
+    
+    @Autowired
+    private ListingCountCache listingCountCache;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Autowired
+    private ViewCounterService viewCounterService;
+    
+    @Autowired
+    private DetailCache detailCache;
+    
+    @Autowired
+    private SkillCatalog skillCatalog;
+    
+    @Autowired
+    private FacetIndex facetIndex;
 
     @Override
     public Map<String, Object> getAllFreelancers(Map<String, Object> params) {
+        // 패싯 건수는 목록 조회와 별도로 패싯 색인에서 계산해 응답에 추가
+        List<String> facets = FacetIndex.parse(params.remove("facets"));
+        if (facets.isEmpty()) {
+            return listFreelancers(params);
+        }
+        Map<String, Object> filters = new HashMap<>(params);
+        Map<String, Object> result = listFreelancers(params);
+        // 패싯 색인이 첫 구축 전이면 패싯 생략
+        Map<String, Object> facetCounts = facetIndex.freelancerFacets(filters, facets);
+        if (facetCounts != null) {
+            result.put("facets", facetCounts);
+        }
+        return result;
+    }
+    
+    private Map<String, Object> listFreelancers(Map<String, Object> params) {
         log.info("전체 프리랜서 목록 조회 - 파라미터: {}", params);
         
         // 페이징 처리
@@ -27,21 +74,69 @@ public class FreelancerServiceImpl implements FreelancerService {
         int limit = (Integer) params.getOrDefault("limit", 10);
         int offset = (page - 1) * limit;
         
+        // 커서(키셋) 페이징: 이전 페이지 마지막 행의 (정렬 키, ID) 이후부터 조회하여 OFFSET 스캔 제거
+        String sortKey = freelancerSortKey((String) params.get("sortBy"), (String) params.get("sortOrder"));
+        Object cursorParam = params.get("cursor");
+        if (cursorParam instanceof String && !((String) cursorParam).trim().isEmpty()) {
+            params.put("keyset", PageCursor.decode(((String) cursorParam).trim(), sortKey, 2));
+            offset = 0;
+        }
+        
         params.put("offset", offset);
-        params.put("limit", limit);
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        params.put("limit", limit + 1);
+        
+        // 건수 캐시 키 (페이징/정렬 제외 필터 조건)
+        String totalMode = ListingCountCache.totalMode(params.get("totalMode"));
+        String countSignature = ListingCountCache.signature(ListingCountCache.FREELANCERS, "all", params);
+        boolean skillFiltersOnly = ListingCountCache.hasOnlyFilters(params, "skills", "skillMatch");
+        
+        // 기술 스택 필터: 스킬 비트맵 색인으로 후보 ID 계산 (OR/AND)
+        RoaringBitmap skillMatches = null;
+        Object skillsParam = params.get("skills");
+        if (skillsParam instanceof List && !((List<?>) skillsParam).isEmpty()) {
+            boolean matchAll = "all".equals(params.get("skillMatch"));
+            skillMatches = skillBitmapIndex.matchFreelancers((List<?>) skillsParam, matchAll);
+            if (skillMatches != null && skillMatches.isEmpty()) {
+                Map<String, Object> result = new HashMap<>();
+                result.put("freelancers", Collections.emptyList());
+                result.put("totalCount", 0);
+                result.put("totalPages", 0);
+                result.put("currentPage", page);
+                result.put("limit", limit);
+                result.put("hasNext", false);
+                result.put("nextCursor", null);
+                return result;
+            }
+            if (skillBitmapIndex.fitsIdList(skillMatches)) {
+                params.put("skillFreelancerIds", SkillBitmapIndex.toIdList(skillMatches));
+            }
+        }
         
         List<Freelancer> freelancers = freelancerMapper.findAll(params);
-        int totalCount = freelancerMapper.countAll(params);
-        int totalPages = (int) Math.ceil((double) totalCount / limit);
+        boolean hasNext = freelancers.size() > limit;
+        if (hasNext) {
+            freelancers = freelancers.subList(0, limit);
+        }
+        // 스킬 조건만 있으면 비트맵 크기를 근사 건수로 사용 (totalMode=estimate)
+        final Integer estimatedCount = skillFiltersOnly && skillMatches != null ? skillMatches.getCardinality() : null;
+        Integer totalCount = listingCountCache.count(countSignature, totalMode,
+                () -> freelancerMapper.countAll(params), () -> estimatedCount);
         
         Map<String, Object> result = new HashMap<>();
         result.put("freelancers", freelancers);
-        result.put("totalCount", totalCount);
-        result.put("totalPages", totalPages);
+        if (totalCount != null) {
+            result.put("totalCount", totalCount);
+            result.put("totalPages", (int) Math.ceil((double) totalCount / limit));
+        }
+        result.put("totalMode", totalMode);
         result.put("currentPage", page);
         result.put("limit", limit);
+        result.put("hasNext", hasNext);
+        result.put("nextCursor", hasNext
+                ? freelancerCursor(sortKey, freelancers.get(freelancers.size() - 1)) : null);
         
-        log.info("프리랜서 목록 조회 완료 - 총 {}명, {}페이지", totalCount, totalPages);
+        log.info("프리랜서 목록 조회 완료 - 총 {}명 ({})", totalCount, totalMode);
         return result;
     }
 
@@ -49,15 +144,16 @@ public class FreelancerServiceImpl implements FreelancerService {
     @Transactional
     public Freelancer getFreelancerById(Long id) {
         log.info("프리랜서 상세 조회 - ID: {}", id);
-        Freelancer freelancer = freelancerMapper.findById(id);
+        Freelancer freelancer = detailCache.freelancer(id);
         if (freelancer == null) {
             log.warn("프리랜서를 찾을 수 없음 - ID: {}", id);
             throw new RuntimeException("프리랜서를 찾을 수 없습니다.");
         }
         
-        // 조회수 증가
-        freelancerMapper.incrementViewCount(id);
-        log.debug("프리랜서 조회수 증가 - ID: {}", id);
+        // 조회수 증가 (지연 반영), 응답에는 미반영분을 포함한 조회수 표시
+        viewCounterService.increment(ViewCounterService.Target.FREELANCER, id);
+        freelancer.setViewCount(viewCounterService.live(ViewCounterService.Target.FREELANCER, id,
+                freelancer.getViewCount()));
         
         return freelancer;
     }
@@ -74,7 +170,7 @@ public class FreelancerServiceImpl implements FreelancerService {
         if (ids == null || ids.isEmpty()) {
             throw new IllegalArgumentException("프리랜서 ID 목록이 비어있습니다.");
         }
-        return freelancerMapper.findByIds(ids);
+        return detailCache.freelancers(ids);
     }
 
     @Override
@@ -83,6 +179,14 @@ public class FreelancerServiceImpl implements FreelancerService {
         if (skills == null || skills.isEmpty()) {
             throw new IllegalArgumentException("검색할 기술 스택이 없습니다.");
         }
+        
+        RoaringBitmap skillMatches = skillBitmapIndex.matchFreelancers(skills, false);
+        if (skillMatches != null && skillMatches.isEmpty()) {
+            return Collections.emptyList();
+        }
+        if (skillBitmapIndex.fitsIdList(skillMatches)) {
+            params.put("skillFreelancerIds", SkillBitmapIndex.toIdList(skillMatches));
+        }
         return freelancerMapper.findBySkills(skills, params);
     }
 
@@ -139,6 +243,7 @@ public class FreelancerServiceImpl implements FreelancerService {
         }
         
         freelancerMapper.insert(freelancer);
+        eventPublisher.publishEvent(new FreelancerChangedEvent(freelancer.getId(), freelancer));
         log.info("프리랜서 프로필 등록 완료 - ID: {}", freelancer.getId());
     }
 
@@ -154,6 +259,7 @@ public class FreelancerServiceImpl implements FreelancerService {
         }
         
         freelancerMapper.update(freelancer);
+        eventPublisher.publishEvent(new FreelancerChangedEvent(freelancer.getId(), freelancer));
         log.info("프리랜서 프로필 수정 완료 - ID: {}", freelancer.getId());
     }
 
@@ -169,12 +275,50 @@ public class FreelancerServiceImpl implements FreelancerService {
         }
         
         freelancerMapper.delete(id);
+        eventPublisher.publishEvent(new FreelancerChangedEvent(id, null));
         log.info("프리랜서 프로필 삭제 완료 - ID: {}", id);
     }
 
     @Override
     public List<String> freelancerSkillList() {
         log.info("프리랜서 기술 목록 조회");
-        return freelancerMapper.freelancerSkillList();
+        return skillCatalog.topFreelancerSkills();
+    }
+
+    /**
+     * 실제 적용되는 정렬 기준과 방향 (FreelancerMapper.xml SortColumn / SortDirection 과 동일한 분기)
+     */
+    private static String freelancerSortKey(String sortBy, String sortOrder) {
+        String key = "rating".equals(sortBy) || "experience".equals(sortBy) || "viewCount".equals(sortBy)
+                || "projectCount".equals(sortBy) || "hourlyRate".equals(sortBy) ? sortBy : "createdAt";
+        return key + ("asc".equals(sortOrder) ? ":asc" : ":desc");
+    }
+
+    /**
+     * 페이지 마지막 행으로 다음 페이지 커서 생성 (키는 SortColumn 원본 값, NULL 은 그대로 전달)
+     */
+    private static String freelancerCursor(String sortKey, Freelancer last) {
+        Object key;
+        switch (sortKey.substring(0, sortKey.indexOf(':'))) {
+            case "rating":
+                key = last.getRating();
+                break;
+            case "experience":
+                key = last.getExperienceYears();
+                break;
+            case "viewCount":
+                key = last.getViewCount();
+                break;
+            case "projectCount":
+                key = last.getCompletedProjects();
+                break;
+            case "hourlyRate":
+                key = last.getHourlyRate();
+                break;
+            default:
+                key = last.getCreatedAt();
+                break;
+        }
+        return PageCursor.encode(sortKey, key, last.getId());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,105 @@
+package com.fid.job.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 목록 보조 쿼리(전체 건수 등) 전용 실행기
+ * - 목록 조회는 요청 스레드에서, 건수 조회는 이 실행기에서 동시에 수행 (각각 별도 커넥션)
+ * - 스레드 수를 제한해 Hikari 커넥션 풀(최대 20)을 보조 쿼리가 점유하지 못하도록 보호
+ * - 대기열이 가득 차면 요청 스레드에서 직접 실행 (기존 순차 실행과 동일)
+ * - 실행기 지표는 listing.query 이름으로 Micrometer 에 등록
+ */
+@Slf4j
+@Component
+public class ListingQueryExecutor implements Executor {
+
+    private final ThreadPoolExecutor pool;
+    private final ExecutorService executor;
+    private final Counter timeouts;
+    private final Counter failures;
+    private final long timeoutMs;
+
+    public ListingQueryExecutor(MeterRegistry meterRegistry,
+                                @Value("${app.listing-query.pool-size:6}") int poolSize,
+                                @Value("${app.listing-query.queue-capacity:100}") int queueCapacity,
+                                @Value("${app.listing-query.timeout-ms:5000}") long timeoutMs) {
+        Counter rejections = Counter.builder("listing.query.rejected")
+                .description("대기열 초과로 요청 스레드에서 실행된 보조 쿼리 수")
+                .register(meterRegistry);
+        this.pool = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<Runnable>(queueCapacity),
+                new CustomizableThreadFactory("listing-query-"),
+                (task, executor) -> {
+                    rejections.increment();
+                    if (!executor.isShutdown()) {
+                        task.run();
+                    }
+                });
+        this.pool.allowCoreThreadTimeOut(true);
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, pool, "listing.query");
+        this.timeouts = Counter.builder("listing.query.timeouts")
+                .description("제한 시간 안에 끝나지 않아 결과를 버린 보조 쿼리 수")
+                .register(meterRegistry);
+        this.failures = Counter.builder("listing.query.failures")
+                .description("실패한 보조 쿼리 수")
+                .register(meterRegistry);
+        this.timeoutMs = timeoutMs;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        executor.execute(task);
+    }
+
+    /**
+     * 요청 기준 마감 시각 (System.nanoTime 기준)
+     */
+    public long deadline() {
+        return System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+    }
+
+    /**
+     * 마감 시각까지 결과 대기
+     * 시간 초과/실패 시 null 을 반환하고 아직 시작하지 않은 작업은 취소
+     * (실행 중인 JDBC 호출은 인터럽트하지 않고 매퍼의 statement timeout 으로 종료)
+     *
+     * @param description 로그용 작업 설명
+     */
+    public <T> T await(Future<T> future, long deadline, String description) {
+        try {
+            return future.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            timeouts.increment();
+            log.warn("{} 조회 시간 초과 ({}ms) - 결과 없이 응답", description, timeoutMs);
+        } catch (ExecutionException e) {
+            failures.increment();
+            log.warn("{} 조회 실패 - 결과 없이 응답: {}", description, e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+}
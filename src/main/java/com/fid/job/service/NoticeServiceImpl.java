@@ -1,5 +1,6 @@
 package com.fid.job.service;
 
+import com.fid.job.cache.ResourceVersions;
 import com.fid.job.mapper.NoticeMapper;
 import com.fid.job.model.Notice;
 import org.springframework.stereotype.Service;
@@ -15,6 +16,8 @@ import lombok.RequiredArgsConstructor;
 public class NoticeServiceImpl implements NoticeService {
 
     private final NoticeMapper noticeMapper;
+    private final ViewCounterService viewCounterService;
+    private final ResourceVersions resourceVersions;
 
     @Override
     public List<Notice> getMainNotices() {
@@ -53,7 +56,9 @@ public class NoticeServiceImpl implements NoticeService {
     public Notice findById(Long id) {
         Notice notice = noticeMapper.findById(id);
         if (notice != null) {
-            noticeMapper.incrementReadCount(id);
+            // 조회수 증가 (지연 반영)
+            viewCounterService.increment(ViewCounterService.Target.NOTICE, id);
+            notice.setReadCount(viewCounterService.live(ViewCounterService.Target.NOTICE, id, notice.getReadCount()));
         }
         return notice;
     }
@@ -62,6 +67,7 @@ public class NoticeServiceImpl implements NoticeService {
     @Transactional
     public void create(Notice notice) {
         noticeMapper.insert(notice);
+        resourceVersions.bump(ResourceVersions.NOTICES);
     }
 
     // @Override
@@ -73,12 +79,14 @@ public class NoticeServiceImpl implements NoticeService {
     @Transactional
     public void update(Notice notice) {
         noticeMapper.update(notice);
+        resourceVersions.bump(ResourceVersions.NOTICES);
     }
 
     @Override
     @Transactional
     public void delete(Long id) {
         noticeMapper.delete(id);
+        resourceVersions.bump(ResourceVersions.NOTICES);
     }
 
     @Override
@@ -0,0 +1,54 @@
+package com.fid.job.service;
+
+import com.fid.job.mapper.ProjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 프로젝트 집계 컬럼(bookmark_count, applications/applications_count) 보정
+ * - 평상시에는 북마크/지원 등록 트랜잭션에서 컬럼을 직접 증감
+ * - 애플리케이션 밖 변경이나 누락으로 생긴 차이를 ID 구간 단위로 나누어 실제 행 수로 보정
+ *   (구간마다 별도 UPDATE 로 실행해 긴 잠금을 피함)
+ * - bookmark_count 컬럼은 db/migration/V1__projects_bookmark_count.sql 로 배포 전에 적용
+ * - 전체 테이블을 훑으므로 기동 직후에는 실행하지 않고, 여러 노드 중 한 노드에서만 켜서 사용
+ *   (app.counter-reconcile.enabled)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectCounterReconciler {
+
+    private final ProjectMapper projectMapper;
+
+    @Value("${app.counter-reconcile.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${app.counter-reconcile.enabled:false}")
+    private boolean enabled;
+
+    @Scheduled(initialDelayString = "${app.counter-reconcile.initial-delay-ms:900000}",
+               fixedDelayString = "${app.counter-reconcile.interval-ms:3600000}")
+    public void reconcile() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        try {
+            long maxId = projectMapper.findMaxId();
+            int repaired = 0;
+            for (long fromId = 1; fromId <= maxId; fromId += chunkSize) {
+                repaired += projectMapper.reconcileCounters(fromId, fromId + chunkSize - 1);
+            }
+            if (repaired > 0) {
+                log.warn("프로젝트 집계 컬럼 보정 - {}건, {}ms", repaired, System.currentTimeMillis() - start);
+            } else {
+                log.debug("프로젝트 집계 컬럼 보정 - 차이 없음, {}ms", System.currentTimeMillis() - start);
+            }
+        } catch (Exception e) {
+            log.error("프로젝트 집계 컬럼 보정 실패", e);
+        }
+    }
+}
@@ -1,18 +1,36 @@
 package com.fid.job.service;
 
+import com.fid.job.cache.DetailCache;
+import com.fid.job.cache.ListingCountCache;
+import com.fid.job.cache.ListingResultCache;
+import com.fid.job.cache.UserMembershipCache;
+import com.fid.job.event.ProjectChangedEvent;
+import com.fid.job.event.ProjectMembershipChangedEvent;
+import com.fid.job.index.FacetIndex;
+import com.fid.job.index.ProjectCatalog;
+import com.fid.job.index.ProjectRankingIndex;
+import com.fid.job.index.ProjectSearchIndex;
+import com.fid.job.index.RelatedProjectIndex;
+import com.fid.job.index.SkillBitmapIndex;
 import com.fid.job.mapper.ProjectMapper;
 import com.fid.job.model.Project;
-import com.fid.job.util.JsonSanitizer;
+import com.fid.job.util.PageCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.concurrent.Future;
 
 @Service
 @Slf4j
@@ -20,11 +38,60 @@ import java.util.stream.Collectors;
 public class ProjectServiceImpl implements ProjectService {
     
     private final ProjectMapper projectMapper;
+    private final ProjectSearchIndex projectSearchIndex;
+    private final SkillBitmapIndex skillBitmapIndex;
+    private final RelatedProjectIndex relatedProjectIndex;
+    private final ProjectRankingIndex projectRankingIndex;
+    private final ViewCounterService viewCounterService;
+    private final ListingCountCache listingCountCache;
+    private final ListingQueryExecutor listingQueryExecutor;
+    private final ListingResultCache listingResultCache;
+    private final UserMembershipCache userMembershipCache;
+    private final DetailCache detailCache;
+    private final FacetIndex facetIndex;
+    private final ProjectCatalog projectCatalog;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Override
     public Map<String, Object> getAllProjects(Map<String, Object> params) {
+        // 패싯 건수는 목록(결과 캐시 포함)과 별도로 패싯 색인에서 계산해 응답에 추가
+        List<String> facets = FacetIndex.parse(params.remove("facets"));
+        if (facets.isEmpty()) {
+            return listProjects(params);
+        }
+        Map<String, Object> filters = new HashMap<>(params);
+        Map<String, Object> result = new HashMap<>(listProjects(params));
+        
+        // 키워드 검색은 목록과 같은 검색 색인 결과로 제한, 색인으로 해석되지 않으면 패싯 생략
+        List<Long> searchIds = null;
+        Object searchParam = filters.get("search");
+        if (searchParam instanceof String && !((String) searchParam).trim().isEmpty()) {
+            searchIds = projectSearchIndex.search(((String) searchParam).trim(),
+                    ProjectSearchIndex.includeCompany(filters.get("includeCompany")), true);
+            if (searchIds == null) {
+                log.debug("검색 색인을 사용할 수 없어 패싯 생략 - 검색어: {}", searchParam);
+                return result;
+            }
+        }
+        // 패싯 색인이 첫 구축 전이면 패싯 생략
+        Map<String, Object> facetCounts = facetIndex.projectFacets(filters, facets, searchIds, true);
+        if (facetCounts != null) {
+            result.put("facets", facetCounts);
+        }
+        return result;
+    }
+    
+    private Map<String, Object> listProjects(Map<String, Object> params) {
         log.info("프로젝트 목록 조회 - 파라미터: {}", params);
         
+        // 비로그인 요청은 결과 캐시 사용 (동일 필터 조합이 반복되는 홈/목록 화면)
+        String resultKey = ListingResultCache.key(ListingResultCache.PROJECTS, params);
+        Map<String, Object> cachedResult = listingResultCache.get(resultKey);
+        if (cachedResult != null) {
+            return cachedResult;
+        }
+        Map<String, Object> filters = new HashMap<>(params);
+        
         // 페이징 처리
         int page = 1;
         int limit = 20;
@@ -69,25 +136,168 @@ public class ProjectServiceImpl implements ProjectService {
             params.put("includeCategory", false);
         }
         
-        List<Project> projects = projectMapper.findAll(params);
+        // 건수 캐시 키: 색인 결과로 파라미터가 바뀌기 전의 필터 조건으로 생성
+        String totalMode = ListingCountCache.totalMode(params.get("totalMode"));
+        String countSignature = ListingCountCache.signature(ListingCountCache.PROJECTS, "all", params);
+        boolean indexedFiltersOnly = ListingCountCache.hasOnlyFilters(params, "search", "skills", "skillMatch");
+        
+        // 키워드 검색: 인메모리 색인으로 대상 ID 를 먼저 구하고 SQL 은 ID 로만 조회
+        List<Long> searchIds = null;
+        Object searchParam = params.get("search");
+        boolean hasSearch = searchParam instanceof String && !((String) searchParam).trim().isEmpty();
+        if (hasSearch) {
+            searchIds = projectSearchIndex.search(((String) searchParam).trim(),
+                    ProjectSearchIndex.includeCompany(params.get("includeCompany")), true);
+            if (searchIds != null && searchIds.isEmpty()) {
+                return emptyProjectPage(page, limit);
+            }
+        }
         
-        // Sanitize project data
-        List<Project> sanitizedProjects = projects.stream()
-            .map(this::sanitizeProject)
-            .collect(Collectors.toList());
+        // 기술 스택 필터: 스킬 비트맵 색인으로 후보 ID 계산 (OR/AND)
+        RoaringBitmap skillMatches = null;
+        Object skillsParam = params.get("skills");
+        boolean hasSkills = skillsParam instanceof List && !((List<?>) skillsParam).isEmpty();
+        if (hasSkills) {
+            boolean matchAll = "all".equals(params.get("skillMatch"));
+            skillMatches = skillBitmapIndex.matchProjects((List<?>) skillsParam, true, matchAll);
+            if (skillMatches != null && skillMatches.isEmpty()) {
+                return emptyProjectPage(page, limit);
+            }
+            if (skillMatches != null && searchIds != null) {
+                // 검색 결과(관련도 순)를 유지한 채 스킬 조건으로 걸러내고 SQL 스킬 조건은 생략
+                List<Long> filtered = new ArrayList<>();
+                for (Long id : searchIds) {
+                    if (skillMatches.contains(id.intValue())) {
+                        filtered.add(id);
+                    }
+                }
+                if (filtered.isEmpty()) {
+                    return emptyProjectPage(page, limit);
+                }
+                searchIds = filtered;
+                params.put("skills", null);
+            } else if (skillBitmapIndex.fitsIdList(skillMatches)) {
+                params.put("skillProjectIds", SkillBitmapIndex.toIdList(skillMatches));
+            }
+        }
         
-        int totalCount = projectMapper.countAll(params);
-        int totalPages = (int) Math.ceil((double) totalCount / limit);
+        // SQL 경로는 ID 목록이 너무 길면 LIKE 조건으로 같은 결과를 조회 (관련도 순 대신 기본 정렬, 카탈로그는 전체 목록 사용)
+        if (projectSearchIndex.fitsIdList(searchIds)) {
+            params.put("searchIds", searchIds);
+        }
+        
+        // 커서(키셋) 페이징: 이전 페이지 마지막 행의 정렬 키 이후부터 조회하여 OFFSET 스캔 제거
+        String sortKey = projectSortKey((String) params.get("sortBy"), searchIds != null);
+        String cursor = cursorParam(params);
+        if (cursor != null) {
+            if ("relevance".equals(sortKey)) {
+                // 관련도 순은 색인 결과 내 위치를 커서로 사용
+                offset = toInt(PageCursor.decode(cursor, sortKey, 2).get("k1"));
+            } else {
+                params.put("keyset", PageCursor.decode(cursor, sortKey, "default".equals(sortKey) ? 4 : 2));
+                offset = 0;
+            }
+            params.put("offset", offset);
+        }
+        
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        params.put("limit", limit + 1);
+        
+        // 필터가 색인으로만 해석되면 색인 결과 크기를 근사 건수로 사용 (totalMode=estimate)
+        Integer indexedCount = null;
+        if (indexedFiltersOnly) {
+            if (searchIds != null) {
+                indexedCount = searchIds.size();
+            } else if (!hasSearch && skillMatches != null) {
+                indexedCount = skillMatches.getCardinality();
+            } else if (!hasSearch && !hasSkills && projectSearchIndex.size() >= 0) {
+                indexedCount = projectSearchIndex.size();
+            }
+        }
+        final Integer estimatedCount = indexedCount;
+        
+        // 필터/정렬이 프로젝트 카탈로그로 해석되면 페이지 ID 와 건수를 메모리에서 구하고 해당 행만 상세 캐시에서 채움
+        Object afterId = params.get("keyset") instanceof Map ? ((Map<?, ?>) params.get("keyset")).get("id") : null;
+        ProjectCatalog.Page catalogPage = projectCatalog.query(filters, searchIds, skillMatches,
+                sortKey, afterId, offset, limit);
+        if (catalogPage != null) {
+            List<Project> projects = new ArrayList<>(catalogPage.getIds().size());
+            for (Project project : detailCache.projects(catalogPage.getIds())) {
+                // 카탈로그 갱신 전에 비활성화된 행은 제외
+                if ("active".equals(project.getStatus())) {
+                    projects.add(project);
+                }
+            }
+            userMembershipCache.fill((Long) params.get("userId"), projects);
+            
+            Map<String, Object> result = new HashMap<>();
+            result.put("projects", projects);
+            if (!ListingCountCache.TOTAL_NONE.equals(totalMode)) {
+                // 카탈로그 건수는 항상 정확한 값
+                totalMode = ListingCountCache.TOTAL_EXACT;
+                result.put("totalCount", catalogPage.getTotalCount());
+                result.put("totalPages", (int) Math.ceil((double) catalogPage.getTotalCount() / limit));
+            }
+            result.put("totalMode", totalMode);
+            result.put("currentPage", page);
+            result.put("limit", limit);
+            result.put("hasNext", catalogPage.isHasNext());
+            result.put("nextCursor", catalogPage.isHasNext() && !projects.isEmpty()
+                    ? projectCursor(sortKey, projects.get(projects.size() - 1), offset + limit) : null);
+            
+            log.info("프로젝트 목록 조회 완료 (카탈로그) - 총 {}개", catalogPage.getTotalCount());
+            return listingResultCache.put(resultKey, filters, new HashSet<>(catalogPage.getIds()), result);
+        }
+        
+        // 전체 건수는 전용 실행기에서 목록 조회와 동시에 수행 (캐시/근사값이면 즉시 완료)
+        // 다른 스레드에서 읽으므로 조회 조건의 불변 복사본을 넘김
+        long deadline = listingQueryExecutor.deadline();
+        Map<String, Object> countParams = Collections.unmodifiableMap(new HashMap<>(params));
+        Future<Integer> totalFuture = listingCountCache.countAsync(countSignature, totalMode,
+                () -> projectMapper.countAll(countParams), () -> estimatedCount, listingQueryExecutor);
+        List<Project> projects;
+        try {
+            projects = projectMapper.findAll(params);
+        } catch (RuntimeException e) {
+            totalFuture.cancel(false);
+            throw e;
+        }
+        boolean hasNext = projects.size() > limit;
+        if (hasNext) {
+            projects = projects.subList(0, limit);
+        }
+        
+        // 로그인 사용자의 북마크/지원 여부는 사용자별 캐시로 설정
+        userMembershipCache.fill((Long) params.get("userId"), projects);
+        
+        // 건수 조회가 제한 시간 안에 끝나지 않거나 실패하면 건수 없이 응답 (hasNext 로 페이징)
+        Integer totalCount = listingQueryExecutor.await(totalFuture, deadline, "프로젝트 목록 건수");
+        boolean countSkipped = totalCount == null && !ListingCountCache.TOTAL_NONE.equals(totalMode);
+        if (totalCount == null) {
+            totalMode = ListingCountCache.TOTAL_NONE;
+        }
         
         Map<String, Object> result = new HashMap<>();
-        result.put("projects", sanitizedProjects);
-        result.put("totalCount", totalCount);
-        result.put("totalPages", totalPages);
+        result.put("projects", projects);
+        if (totalCount != null) {
+            result.put("totalCount", totalCount);
+            result.put("totalPages", (int) Math.ceil((double) totalCount / limit));
+        }
+        result.put("totalMode", totalMode);
         result.put("currentPage", page);
         result.put("limit", limit);
+        result.put("hasNext", hasNext);
+        result.put("nextCursor", hasNext
+                ? projectCursor(sortKey, projects.get(projects.size() - 1), offset + limit) : null);
         
-        log.info("프로젝트 목록 조회 완료 - 총 {}개, {}페이지", totalCount, totalPages);
-        return result;
+        log.info("프로젝트 목록 조회 완료 - 총 {}개 ({})", totalCount, totalMode);
+        
+        // 건수를 얻지 못한 응답은 캐시하지 않음
+        Set<Long> pageIds = new HashSet<>();
+        for (Project project : projects) {
+            pageIds.add(project.getId());
+        }
+        return listingResultCache.put(countSkipped ? null : resultKey, filters, pageIds, result);
     }
     
     @Override
@@ -95,17 +305,20 @@ public class ProjectServiceImpl implements ProjectService {
     public Project getProjectById(Long id, Long userId) {
         log.info("프로젝트 상세 조회 - ID: {}, User ID: {}", id, userId);
         
-        // 조회수 증가
-        projectMapper.incrementViewCount(id);
-        
-        // 프로젝트 조회 (userId 전달)
-        Project project = projectMapper.findById(id, userId);
+        // 프로젝트 조회 (상세 캐시의 복사본에 사용자별 값 설정)
+        Project project = detailCache.project(id);
         if (project == null) {
             log.warn("프로젝트를 찾을 수 없음 - ID: {}", id);
             throw new RuntimeException("프로젝트를 찾을 수 없습니다.");
         }
         
-        return sanitizeProject(project);
+        // 조회수 증가 (지연 반영), 응답에는 미반영분을 포함한 조회수 표시
+        viewCounterService.increment(ViewCounterService.Target.PROJECT, id);
+        eventPublisher.publishEvent(ProjectChangedEvent.counters(id, ProjectChangedEvent.VIEWS));
+        project.setViews(viewCounterService.live(ViewCounterService.Target.PROJECT, id, project.getViews()));
+        userMembershipCache.fill(userId, project);
+        
+        return project;
     }
     
     @Override
@@ -113,13 +326,13 @@ public class ProjectServiceImpl implements ProjectService {
         log.info("프로젝트 상세 조회 (WebSocket용) - ID: {}", id);
         
         // 프로젝트 조회 (userId 없이)
-        Project project = projectMapper.findById(id, null);
+        Project project = detailCache.project(id);
         if (project == null) {
             log.warn("프로젝트를 찾을 수 없음 - ID: {}", id);
             throw new RuntimeException("프로젝트를 찾을 수 없습니다.");
         }
         
-        return sanitizeProject(project);
+        return project;
     }
     
     @Override
@@ -128,13 +341,13 @@ public class ProjectServiceImpl implements ProjectService {
         log.info("프로젝트 지원 - Project ID: {}, User ID: {}", projectId, userId);
         
         // 이미 지원했는지 확인
-        if (projectMapper.hasApplied(projectId, userId)) {
+        if (userMembershipCache.hasApplied(userId, projectId)) {
             log.warn("이미 지원한 프로젝트 - Project ID: {}, User ID: {}", projectId, userId);
             throw new RuntimeException("이미 지원한 프로젝트입니다.");
         }
         
         // 프로젝트 존재 확인
-        Project project = projectMapper.findById(projectId, null);
+        Project project = detailCache.project(projectId);
         if (project == null) {
             throw new RuntimeException("프로젝트를 찾을 수 없습니다.");
         }
@@ -143,8 +356,15 @@ public class ProjectServiceImpl implements ProjectService {
             throw new RuntimeException("지원할 수 없는 프로젝트입니다.");
         }
         
-        // 지원하기
-        projectMapper.insertApplication(projectId, userId, coverLetter, proposedBudget);
+        // 지원하기 (새로 추가된 경우만 지원자 수 증가, 이미 있던 지원은 내용만 갱신)
+        if (projectMapper.insertApplication(projectId, userId, coverLetter, proposedBudget) == 1) {
+            projectMapper.incrementApplicationCount(projectId);
+            eventPublisher.publishEvent(ProjectChangedEvent.counters(projectId, ProjectChangedEvent.APPLICATIONS));
+        } else {
+            projectMapper.updateApplication(projectId, userId, coverLetter, proposedBudget);
+        }
+        eventPublisher.publishEvent(new ProjectMembershipChangedEvent(
+                userId, projectId, ProjectMembershipChangedEvent.Kind.APPLICATION, true));
         log.info("프로젝트 지원 완료 - Project ID: {}, User ID: {}", projectId, userId);
     }
     
@@ -153,14 +373,14 @@ public class ProjectServiceImpl implements ProjectService {
     public boolean toggleBookmark(Long projectId, Long userId) {
         log.info("북마크 토글 - Project ID: {}, User ID: {}", projectId, userId);
         
-        boolean isBookmarked = projectMapper.isBookmarked(projectId, userId);
+        boolean isBookmarked = userMembershipCache.isBookmarked(userId, projectId);
         
         if (isBookmarked) {
-            projectMapper.deleteBookmark(projectId, userId);
+            deleteBookmark(projectId, userId);
             log.info("북마크 제거됨 - Project ID: {}, User ID: {}", projectId, userId);
             return false;
         } else {
-            projectMapper.insertBookmark(projectId, userId);
+            insertBookmark(projectId, userId);
             log.info("북마크 추가됨 - Project ID: {}, User ID: {}", projectId, userId);
             return true;
         }
@@ -171,24 +391,48 @@ public class ProjectServiceImpl implements ProjectService {
     public void addBookmark(Long projectId, Long userId) {
         log.info("북마크 추가 - Project ID: {}, User ID: {}", projectId, userId);
         
-        if (projectMapper.isBookmarked(projectId, userId)) {
+        if (userMembershipCache.isBookmarked(userId, projectId)) {
             log.warn("이미 북마크된 프로젝트 - Project ID: {}, User ID: {}", projectId, userId);
             return;
         }
         
-        projectMapper.insertBookmark(projectId, userId);
+        insertBookmark(projectId, userId);
     }
     
     @Override
     @Transactional
     public void removeBookmark(Long projectId, Long userId) {
         log.info("북마크 제거 - Project ID: {}, User ID: {}", projectId, userId);
-        projectMapper.deleteBookmark(projectId, userId);
+        deleteBookmark(projectId, userId);
+    }
+    
+    // 북마크 행과 북마크 수 컬럼을 같은 트랜잭션에서 변경 (실제로 추가/삭제된 경우만 증감하고 집계 이벤트 발행)
+    // 사용자별 북마크 캐시는 커밋 이후 이벤트로 반영
+    private boolean insertBookmark(Long projectId, Long userId) {
+        boolean inserted = projectMapper.insertBookmark(projectId, userId) == 1;
+        if (inserted) {
+            projectMapper.addBookmarkCount(projectId, 1);
+            eventPublisher.publishEvent(ProjectChangedEvent.counters(projectId, ProjectChangedEvent.BOOKMARKS));
+        }
+        eventPublisher.publishEvent(new ProjectMembershipChangedEvent(
+                userId, projectId, ProjectMembershipChangedEvent.Kind.BOOKMARK, true));
+        return inserted;
+    }
+    
+    private boolean deleteBookmark(Long projectId, Long userId) {
+        boolean deleted = projectMapper.deleteBookmark(projectId, userId) > 0;
+        if (deleted) {
+            projectMapper.addBookmarkCount(projectId, -1);
+            eventPublisher.publishEvent(ProjectChangedEvent.counters(projectId, ProjectChangedEvent.BOOKMARKS));
+        }
+        eventPublisher.publishEvent(new ProjectMembershipChangedEvent(
+                userId, projectId, ProjectMembershipChangedEvent.Kind.BOOKMARK, false));
+        return deleted;
     }
     
     @Override
     public boolean isBookmarked(Long projectId, Long userId) {
-        return projectMapper.isBookmarked(projectId, userId);
+        return userMembershipCache.isBookmarked(userId, projectId);
     }
     
     @Override
@@ -229,15 +473,33 @@ public class ProjectServiceImpl implements ProjectService {
         
         int offset = (page - 1) * limit;
         
+        String cursor = cursorParam(params);
+        if (cursor != null) {
+            params.put("keyset", PageCursor.decode(cursor, "bookmarked", 2));
+            offset = 0;
+        }
+        
         params.put("offset", offset);
-        params.put("limit", limit);
+        params.put("limit", limit + 1);
         
         List<Project> projects = projectMapper.findBookmarkedProjects(userId, params);
+        boolean hasNext = projects.size() > limit;
+        if (hasNext) {
+            projects = projects.subList(0, limit);
+        }
+        userMembershipCache.fill(userId, projects);
         
         Map<String, Object> result = new HashMap<>();
         result.put("projects", projects);
         result.put("currentPage", page);
         result.put("limit", limit);
+        result.put("hasNext", hasNext);
+        if (hasNext) {
+            Project last = projects.get(projects.size() - 1);
+            result.put("nextCursor", PageCursor.encode("bookmarked", last.getBookmarkedAt(), last.getId()));
+        } else {
+            result.put("nextCursor", null);
+        }
         
         return result;
     }
@@ -245,19 +507,38 @@ public class ProjectServiceImpl implements ProjectService {
     @Override
     public List<Project> getRelatedProjects(Long projectId, int limit) {
         log.info("관련 프로젝트 조회 - Project ID: {}, Limit: {}", projectId, limit);
-        return projectMapper.findRelatedProjects(projectId, limit);
+        
+        // 관련 프로젝트 색인(MinHash/LSH)의 유사도 순 이웃, 색인에 없으면 기존 SQL 조회
+        List<Long> relatedIds = relatedProjectIndex.related(projectId, limit);
+        if (relatedIds == null) {
+            return projectMapper.findRelatedProjects(projectId, limit);
+        }
+        if (relatedIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        // 상세 캐시에서 일괄 조회 (없는 ID 만 IN 쿼리), 유사도 순서 유지
+        List<Project> related = new ArrayList<>(relatedIds.size());
+        for (Project project : detailCache.projects(relatedIds)) {
+            if ("active".equals(project.getStatus())) {
+                related.add(project);
+            }
+        }
+        return related;
     }
     
     @Override
     public List<Project> getPopularProjects(int limit) {
         log.info("인기 프로젝트 조회 - Limit: {}", limit);
-        return projectMapper.findPopularProjects(limit);
+        // 인메모리 순위 색인, 준비 전이면 SQL 조회
+        List<Project> projects = projectRankingIndex.popular(limit);
+        return projects != null ? projects : projectMapper.findPopularProjects(limit);
     }
     
     @Override
     public List<Project> getUrgentProjects(int limit) {
         log.info("긴급 프로젝트 조회 - Limit: {}", limit);
-        return projectMapper.findUrgentProjects(limit);
+        List<Project> projects = projectRankingIndex.urgent(limit);
+        return projects != null ? projects : projectMapper.findUrgentProjects(limit);
     }
     
     @Override
@@ -272,7 +553,8 @@ public class ProjectServiceImpl implements ProjectService {
     @Transactional
     public void incrementViewCount(Long projectId) {
         log.info("프로젝트 조회수 증가 - ID: {}", projectId);
-        projectMapper.incrementViewCount(projectId);
+        viewCounterService.increment(ViewCounterService.Target.PROJECT, projectId);
+        eventPublisher.publishEvent(ProjectChangedEvent.counters(projectId, ProjectChangedEvent.VIEWS));
     }
     
     @Override
@@ -311,10 +593,20 @@ public class ProjectServiceImpl implements ProjectService {
         
         int offset = (page - 1) * limit;
         
+        String cursor = cursorParam(params);
+        if (cursor != null) {
+            params.put("keyset", PageCursor.decode(cursor, "questions", 2));
+            offset = 0;
+        }
+        
         params.put("offset", offset);
-        params.put("limit", limit);
+        params.put("limit", limit + 1);
         
         List<Map<String, Object>> questions = projectMapper.findProjectQuestions(params);
+        boolean hasNext = questions.size() > limit;
+        if (hasNext) {
+            questions = questions.subList(0, limit);
+        }
         int totalCount = projectMapper.countProjectQuestions(params);
         
         Map<String, Object> result = new HashMap<>();
@@ -322,6 +614,13 @@ public class ProjectServiceImpl implements ProjectService {
         result.put("totalCount", totalCount);
         result.put("currentPage", page);
         result.put("limit", limit);
+        result.put("hasNext", hasNext);
+        if (hasNext) {
+            Map<String, Object> last = questions.get(questions.size() - 1);
+            result.put("nextCursor", PageCursor.encode("questions", last.get("createdAt"), last.get("id")));
+        } else {
+            result.put("nextCursor", null);
+        }
         
         return result;
     }
@@ -375,10 +674,20 @@ public class ProjectServiceImpl implements ProjectService {
         
         int offset = (page - 1) * limit;
         
+        String cursor = cursorParam(params);
+        if (cursor != null) {
+            params.put("keyset", PageCursor.decode(cursor, "reviews", 2));
+            offset = 0;
+        }
+        
         params.put("offset", offset);
-        params.put("limit", limit);
+        params.put("limit", limit + 1);
         
         List<Map<String, Object>> reviews = projectMapper.findProjectReviews(params);
+        boolean hasNext = reviews.size() > limit;
+        if (hasNext) {
+            reviews = reviews.subList(0, limit);
+        }
         int totalCount = projectMapper.countProjectReviews(params);
         
         Map<String, Object> result = new HashMap<>();
@@ -386,6 +695,13 @@ public class ProjectServiceImpl implements ProjectService {
         result.put("totalCount", totalCount);
         result.put("currentPage", page);
         result.put("limit", limit);
+        result.put("hasNext", hasNext);
+        if (hasNext) {
+            Map<String, Object> last = reviews.get(reviews.size() - 1);
+            result.put("nextCursor", PageCursor.encode("reviews", last.get("createdAt"), last.get("id")));
+        } else {
+            result.put("nextCursor", null);
+        }
         
         return result;
     }
@@ -405,48 +721,67 @@ public class ProjectServiceImpl implements ProjectService {
     }
     
     /**
-     * Sanitize project data to remove invalid characters
+     * 조건에 맞는 프로젝트가 없을 때의 빈 페이지 응답
      */
-    private Project sanitizeProject(Project project) {
-        if (project == null) {
-            return null;
-        }
-        
-        // Sanitize all string fields
-        project.setTitle(JsonSanitizer.sanitize(project.getTitle()));
-        project.setDescription(JsonSanitizer.sanitize(project.getDescription()));
-        project.setCategory(JsonSanitizer.sanitize(project.getCategory()));
-        project.setProjectType(JsonSanitizer.sanitize(project.getProjectType()));
-        project.setBudgetType(JsonSanitizer.sanitize(project.getBudgetType()));
-        project.setWorkType(JsonSanitizer.sanitize(project.getWorkType()));
-        project.setLocation(JsonSanitizer.sanitize(project.getLocation()));
-        project.setDuration(JsonSanitizer.sanitize(project.getDuration()));
-        project.setRequiredSkills(JsonSanitizer.sanitize(project.getRequiredSkills()));
-        project.setPreferredSkills(JsonSanitizer.sanitize(project.getPreferredSkills()));
-        project.setExperienceLevel(JsonSanitizer.sanitize(project.getExperienceLevel()));
-        project.setStatus(JsonSanitizer.sanitize(project.getStatus()));
-        project.setCompanyName(JsonSanitizer.sanitize(project.getCompanyName()));
-        project.setCompanyLogo(JsonSanitizer.sanitize(project.getCompanyLogo()));
-        project.setClientName(JsonSanitizer.sanitize(project.getClientName()));
-        project.setCategoryName(JsonSanitizer.sanitize(project.getCategoryName()));
-        project.setRemoteTools(JsonSanitizer.sanitize(project.getRemoteTools()));
-        project.setCommunicationMethods(JsonSanitizer.sanitize(project.getCommunicationMethods()));
-        project.setTeamSize(JsonSanitizer.sanitize(project.getTeamSize()));
-        project.setDevelopmentMethodology(JsonSanitizer.sanitize(project.getDevelopmentMethodology()));
-        project.setCodeReviewProcess(JsonSanitizer.sanitize(project.getCodeReviewProcess()));
-        project.setWorkingHours(JsonSanitizer.sanitize(project.getWorkingHours()));
-        project.setTimezone(JsonSanitizer.sanitize(project.getTimezone()));
-        project.setOnsiteRequirements(JsonSanitizer.sanitize(project.getOnsiteRequirements()));
-        project.setOnsiteFrequency(JsonSanitizer.sanitize(project.getOnsiteFrequency()));
-        project.setOfficeLocation(JsonSanitizer.sanitize(project.getOfficeLocation()));
-        project.setBenefits(JsonSanitizer.sanitize(project.getBenefits()));
-        project.setPreferredWorkingHours(JsonSanitizer.sanitize(project.getPreferredWorkingHours()));
-        project.setDeliverables(JsonSanitizer.sanitize(project.getDeliverables()));
-        project.setProjectStages(JsonSanitizer.sanitize(project.getProjectStages()));
-        project.setUrgency(JsonSanitizer.sanitize(project.getUrgency()));
-        project.setBudget(JsonSanitizer.sanitize(project.getBudget()));
-        project.setRequirements(JsonSanitizer.sanitize(project.getRequirements()));
-        
-        return project;
+    private Map<String, Object> emptyProjectPage(int page, int limit) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("projects", Collections.emptyList());
+        result.put("totalCount", 0);
+        result.put("totalPages", 0);
+        result.put("currentPage", page);
+        result.put("limit", limit);
+        result.put("hasNext", false);
+        result.put("nextCursor", null);
+        return result;
+    }
+    
+    private static String cursorParam(Map<String, Object> params) {
+        Object cursor = params.get("cursor");
+        return cursor instanceof String && !((String) cursor).trim().isEmpty() ? ((String) cursor).trim() : null;
+    }
+    
+    private static int toInt(Object value) {
+        if (value instanceof Number) {
+            return Math.max(0, ((Number) value).intValue());
+        }
+        throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+    }
+    
+    /**
+     * 실제 적용되는 정렬 기준 (ProjectMapper.xml OrderByClause 와 동일한 분기)
+     */
+    private static String projectSortKey(String sortBy, boolean hasSearchIds) {
+        if ("latest".equals(sortBy) || "deadline".equals(sortBy) || "budget".equals(sortBy)
+                || "views".equals(sortBy) || "applications".equals(sortBy)) {
+            return sortBy;
+        }
+        if ("relevance".equals(sortBy) && hasSearchIds) {
+            return sortBy;
+        }
+        return "default";
+    }
+    
+    /**
+     * 페이지 마지막 행으로 다음 페이지 커서 생성
+     * 키 순서는 ProjectMapper.xml KeysetCondition 과 일치해야 함 (NULL 은 그대로 전달)
+     */
+    private static String projectCursor(String sortKey, Project last, int nextOffset) {
+        switch (sortKey) {
+            case "latest":
+                return PageCursor.encode(sortKey, last.getCreatedAt(), last.getId());
+            case "deadline":
+                return PageCursor.encode(sortKey, last.getDeadline(), last.getId());
+            case "budget":
+                return PageCursor.encode(sortKey, last.getBudgetMax(), last.getId());
+            case "views":
+                return PageCursor.encode(sortKey, last.getViews(), last.getId());
+            case "applications":
+                return PageCursor.encode(sortKey, last.getApplications(), last.getId());
+            case "relevance":
+                return PageCursor.encode(sortKey, nextOffset, last.getId());
+            default:
+                return PageCursor.encode(sortKey, last.getIsUrgent(), last.getIsFeatured(),
+                        last.getCreatedAt(), last.getId());
+        }
     }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.fid.job.service;
 
 import com.fid.job.dto.RemoteProjectDTO;
+import com.fid.job.index.MarketInsights;
 import java.util.List;
 import java.util.Map;
 
@@ -36,6 +37,11 @@ public interface RemoteProjectService {
      */
     Map<String, Object> searchHybridProjects(Map<String, Object> params);
     
+    /**
+     * 시장 통계 스냅샷 (근무 형태/지역/원격 도구/팀 규모 분포, 유연근무, 상주 복리후생, 평균 예산)
+     */
+    MarketInsights.Snapshot getMarketInsights();
+    
     /**
      * 근무 형태별 프로젝트 통계
      */
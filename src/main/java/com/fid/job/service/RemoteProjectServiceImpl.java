@@ -1,18 +1,33 @@
 package com.fid.job.service;
 
+import com.fid.job.cache.DetailCache;
+import com.fid.job.cache.ListingCountCache;
+import com.fid.job.cache.ListingResultCache;
 import com.fid.job.dto.RemoteProjectDTO;
+import com.fid.job.event.ProjectChangedEvent;
+import com.fid.job.index.FacetIndex;
+import com.fid.job.index.MarketInsights;
+import com.fid.job.index.ProjectSearchIndex;
+import com.fid.job.index.SkillCatalog;
+import com.fid.job.index.SkillBitmapIndex;
 import com.fid.job.mapper.RemoteProjectMapper;
 import com.fid.job.model.Project;
-import com.fid.job.util.JsonSanitizer;
+import com.fid.job.util.PageCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.concurrent.Future;
 
 @Service
 @Slf4j
@@ -20,11 +35,60 @@ import java.util.stream.Collectors;
 public class RemoteProjectServiceImpl implements RemoteProjectService {
     
     private final RemoteProjectMapper remoteProjectMapper;
+    private final SkillBitmapIndex skillBitmapIndex;
+    private final ListingCountCache listingCountCache;
+    private final ListingQueryExecutor listingQueryExecutor;
+    private final ListingResultCache listingResultCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ViewCounterService viewCounterService;
+    private final DetailCache detailCache;
+    private final MarketInsights marketInsights;
+    private final SkillCatalog skillCatalog;
+    private final FacetIndex facetIndex;
+    private final ProjectSearchIndex projectSearchIndex;
     
     @Override
     public Map<String, Object> getRemoteProjects(Map<String, Object> params) {
+        // 패싯 건수는 목록(결과 캐시 포함)과 별도로 패싯 색인에서 계산해 응답에 추가 (스킬은 필수 스킬 기준)
+        List<String> facets = FacetIndex.parse(params.remove("facets"));
+        if (facets.isEmpty()) {
+            return listRemoteProjects(params);
+        }
+        Map<String, Object> filters = new HashMap<>(params);
+        Map<String, Object> result = new HashMap<>(listRemoteProjects(params));
+        
+        // 키워드 조건(제목/설명 LIKE)은 같은 필드만 확인하는 검색 색인 결과로 대체, 색인으로 해석되지 않으면 패싯 생략
+        List<Long> searchIds = null;
+        Object searchParam = filters.get("search");
+        if (searchParam instanceof String && !((String) searchParam).trim().isEmpty()) {
+            searchIds = projectSearchIndex.search(((String) searchParam).trim(), false, false);
+            if (searchIds == null) {
+                log.debug("검색 색인을 사용할 수 없어 패싯 생략 - 검색어: {}", searchParam);
+                return result;
+            }
+        }
+        // 패싯 색인이 첫 구축 전이면 패싯 생략
+        Map<String, Object> facetCounts = facetIndex.projectFacets(filters, facets, searchIds, false);
+        if (facetCounts != null) {
+            result.put("facets", facetCounts);
+        }
+        return result;
+    }
+    
+    private Map<String, Object> listRemoteProjects(Map<String, Object> params) {
         log.info("프로젝트 목록 조회 - 파라미터: {}", params);
         
+        // 응답(RemoteProjectDTO)에 사용자별 필드가 없으므로 로그인 여부와 무관하게 같은 결과
+        params.remove("userId");
+        
+        // 비로그인 요청은 결과 캐시 사용 (근무 형태별 목록 등 동일 필터 조합 반복)
+        String resultKey = ListingResultCache.key(ListingResultCache.REMOTE, params);
+        Map<String, Object> cachedResult = listingResultCache.get(resultKey);
+        if (cachedResult != null) {
+            return cachedResult;
+        }
+        Map<String, Object> filters = new HashMap<>(params);
+        
         // 페이징 처리
         int page = 1;
         int limit = 10;
@@ -58,34 +122,99 @@ public class RemoteProjectServiceImpl implements RemoteProjectService {
         }
         
         int offset = (page - 1) * limit;
+        
+        // 커서(키셋) 페이징: 이전 페이지 마지막 행의 정렬 키 이후부터 조회하여 OFFSET 스캔 제거
+        String sortKey = remoteSortKey((String) params.get("sortBy"));
+        Object cursorParam = params.get("cursor");
+        if (cursorParam instanceof String && !((String) cursorParam).trim().isEmpty()) {
+            params.put("keyset", PageCursor.decode(((String) cursorParam).trim(), sortKey,
+                    "popular".equals(sortKey) ? 3 : 2));
+            offset = 0;
+        }
         params.put("offset", offset);
-        params.put("limit", limit);
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        params.put("limit", limit + 1);
+        
+        // 건수 캐시 키 (페이징/정렬 제외 필터 조건)
+        String totalMode = ListingCountCache.totalMode(params.get("totalMode"));
+        String countSignature = ListingCountCache.signature(ListingCountCache.PROJECTS, "remote", params);
         
         // 기본값 설정
         params.put("includeCompany", true);
         params.put("includeClient", true);
         params.put("includeCategory", true);
         
-        List<Project> projects = remoteProjectMapper.findRemoteProjects(params);
+        // 기술 스택 필터: 스킬 비트맵 색인으로 후보 ID 계산 (필수 스킬 기준)
+        Object skillsParam = params.get("skills");
+        if (skillsParam instanceof List && !((List<?>) skillsParam).isEmpty()) {
+            boolean matchAll = "all".equals(params.get("skillMatch"));
+            RoaringBitmap skillMatches = skillBitmapIndex.matchProjects((List<?>) skillsParam, false, matchAll);
+            if (skillMatches != null && skillMatches.isEmpty()) {
+                Map<String, Object> result = new HashMap<>();
+                result.put("projects", Collections.emptyList());
+                result.put("totalCount", 0);
+                result.put("totalPages", 0);
+                result.put("currentPage", page);
+                result.put("limit", limit);
+                result.put("hasNext", false);
+                result.put("nextCursor", null);
+                return result;
+            }
+            if (skillBitmapIndex.fitsIdList(skillMatches)) {
+                params.put("skillProjectIds", SkillBitmapIndex.toIdList(skillMatches));
+            }
+        }
+        
+        // 전체 건수는 전용 실행기에서 목록 조회와 동시에 수행 (캐시 적중이면 즉시 완료)
+        // 다른 스레드에서 읽으므로 조회 조건의 불변 복사본을 넘김
+        long deadline = listingQueryExecutor.deadline();
+        Map<String, Object> countParams = Collections.unmodifiableMap(new HashMap<>(params));
+        Future<Integer> totalFuture = listingCountCache.countAsync(countSignature, totalMode,
+                () -> remoteProjectMapper.countRemoteProjects(countParams), null, listingQueryExecutor);
+        List<Project> projects;
+        try {
+            projects = remoteProjectMapper.findRemoteProjects(params);
+        } catch (RuntimeException e) {
+            totalFuture.cancel(false);
+            throw e;
+        }
+        boolean hasNext = projects.size() > limit;
+        if (hasNext) {
+            projects = projects.subList(0, limit);
+        }
         
-        // Sanitize project data
-        List<RemoteProjectDTO> sanitizedProjects = projects.stream()
-            .map(this::sanitizeProject)
-            .map(RemoteProjectDTO::fromProject)
-            .collect(Collectors.toList());
+        List<RemoteProjectDTO> remoteProjects = new ArrayList<>(projects.size());
+        for (Project project : projects) {
+            remoteProjects.add(RemoteProjectDTO.fromProject(project));
+        }
         
-        int totalCount = remoteProjectMapper.countRemoteProjects(params);
-        int totalPages = (int) Math.ceil((double) totalCount / limit);
+        // 건수 조회가 제한 시간 안에 끝나지 않거나 실패하면 건수 없이 응답 (hasNext 로 페이징)
+        Integer totalCount = listingQueryExecutor.await(totalFuture, deadline, "프로젝트 목록 건수");
+        boolean countSkipped = totalCount == null && !ListingCountCache.TOTAL_NONE.equals(totalMode);
+        if (totalCount == null) {
+            totalMode = ListingCountCache.TOTAL_NONE;
+        }
         
         Map<String, Object> result = new HashMap<>();
-        result.put("projects", sanitizedProjects);
-        result.put("totalCount", totalCount);
-        result.put("totalPages", totalPages);
+        result.put("projects", remoteProjects);
+        if (totalCount != null) {
+            result.put("totalCount", totalCount);
+            result.put("totalPages", (int) Math.ceil((double) totalCount / limit));
+        }
+        result.put("totalMode", totalMode);
         result.put("currentPage", page);
         result.put("limit", limit);
+        result.put("hasNext", hasNext);
+        result.put("nextCursor", hasNext ? remoteCursor(sortKey, projects.get(projects.size() - 1)) : null);
         
-        log.info("프로젝트 목록 조회 완료 - 총 {}개, {}페이지", totalCount, totalPages);
-        return result;
+        log.info("프로젝트 목록 조회 완료 - 총 {}개 ({})", totalCount, totalMode);
+        
+        // 건수를 얻지 못한 응답은 캐시하지 않음
+        Set<Long> pageIds = new HashSet<>();
+        for (Project project : projects) {
+            pageIds.add(project.getId());
+        }
+        return listingResultCache.put(countSkipped ? null : resultKey, filters, pageIds, result);
     }
     
     @Override
@@ -93,15 +222,16 @@ public class RemoteProjectServiceImpl implements RemoteProjectService {
     public RemoteProjectDTO getRemoteProjectById(Long id, Long userId) {
         log.info("프로젝트 상세 조회 - ID: {}, User ID: {}", id, userId);
         
-        // 프로젝트 조회
-        Project project = remoteProjectMapper.findById(id, userId);
+        // 프로젝트 조회 (상세 캐시의 복사본)
+        Project project = detailCache.remoteProject(id);
         if (project == null) {
             log.warn("프로젝트를 찾을 수 없음 - ID: {}", id);
             return null;
         }
+        project.setViewCount(viewCounterService.live(ViewCounterService.Target.PROJECT, id, project.getViewCount()));
         
         // Project를 RemoteProjectDTO로 변환
-        RemoteProjectDTO remoteProject = RemoteProjectDTO.fromProject(sanitizeProject(project));
+        RemoteProjectDTO remoteProject = RemoteProjectDTO.fromProject(project);
         
         // 클라이언트 정보 보강 (필요시)
         if (remoteProject.getClient() != null) {
@@ -118,7 +248,8 @@ public class RemoteProjectServiceImpl implements RemoteProjectService {
     @Transactional
     public void incrementViewCount(Long projectId) {
         log.info("프로젝트 조회수 증가 - ID: {}", projectId);
-        remoteProjectMapper.incrementViewCount(projectId);
+        viewCounterService.increment(ViewCounterService.Target.PROJECT, projectId);
+        eventPublisher.publishEvent(ProjectChangedEvent.counters(projectId, ProjectChangedEvent.VIEWS));
     }
     
     @Override
@@ -139,14 +270,20 @@ public class RemoteProjectServiceImpl implements RemoteProjectService {
         return getRemoteProjects(params);
     }
     
+    @Override
+    public MarketInsights.Snapshot getMarketInsights() {
+        return marketInsights.snapshot();
+    }
+    
     @Override
     public Map<String, Object> getProjectStatsByWorkType() {
         log.info("근무 형태별 프로젝트 통계 조회");
         
+        // 기존 응답과 같이 건수는 Integer (스냅샷은 Long)
         Map<String, Object> stats = new HashMap<>();
-        stats.put("remote", remoteProjectMapper.countByWorkType("remote"));
-        stats.put("onsite", remoteProjectMapper.countByWorkType("onsite"));
-        stats.put("hybrid", remoteProjectMapper.countByWorkType("hybrid"));
+        for (Map.Entry<String, Long> entry : marketInsights.snapshot().getWorkTypes().entrySet()) {
+            stats.put(entry.getKey(), entry.getValue().intValue());
+        }
         
         return stats;
     }
@@ -155,11 +292,11 @@ public class RemoteProjectServiceImpl implements RemoteProjectService {
     public Map<String, Object> getOnsiteProjectsByLocation() {
         log.info("지역별 상주 프로젝트 분포 조회");
         
-        List<Map<String, Object>> distribution = remoteProjectMapper.getProjectDistributionByLocation();
+        List<Map<String, Object>> distribution = marketInsights.snapshot().getLocations();
         
         Map<String, Object> result = new HashMap<>();
         result.put("distribution", distribution);
-        result.put("total", distribution.stream().mapToInt(d -> (Integer) d.get("count")).sum());
+        result.put("total", distribution.stream().mapToInt(d -> ((Number) d.get("count")).intValue()).sum());
         
         return result;
     }
@@ -168,7 +305,7 @@ public class RemoteProjectServiceImpl implements RemoteProjectService {
     public Map<String, Object> getProjectsByRemoteTools() {
         log.info("원격 도구별 프로젝트 분포 조회");
         
-        List<Map<String, Object>> distribution = remoteProjectMapper.getProjectDistributionByRemoteTools();
+        List<Map<String, Object>> distribution = marketInsights.snapshot().getRemoteTools();
         
         Map<String, Object> result = new HashMap<>();
         result.put("distribution", distribution);
@@ -181,7 +318,7 @@ public class RemoteProjectServiceImpl implements RemoteProjectService {
     public List<String> getProjectSkills() {
         log.info("프로젝트 기술 스택 목록 조회");
         
-        List<String> skills = remoteProjectMapper.getAllProjectSkills();
+        List<String> skills = skillCatalog.projectSkills();
         log.info("프로젝트 기술 스택 조회 완료 - 총 {}개", skills.size());
         
         return skills;
@@ -191,55 +328,39 @@ public class RemoteProjectServiceImpl implements RemoteProjectService {
     public List<String> getTopProjectSkills() {
         log.info("프로젝트 기술 스택 상위 20개 조회");
         
-        List<String> skills = remoteProjectMapper.getTopProjectSkills();
+        List<String> skills = skillCatalog.topRemoteProjectSkills();
         log.info("프로젝트 기술 스택 상위 20개 조회 완료");
         
         return skills;
     }
     
     /**
-     * Sanitize project data to remove invalid characters
+     * 실제 적용되는 정렬 기준 (RemoteProjectMapper.xml findRemoteProjects 의 ORDER BY 분기와 동일)
      */
-    private Project sanitizeProject(Project project) {
-        if (project == null) {
-            return null;
+    private static String remoteSortKey(String sortBy) {
+        if ("deadline".equals(sortBy) || "budget_high".equals(sortBy)
+                || "budget_low".equals(sortBy) || "popular".equals(sortBy)) {
+            return sortBy;
+        }
+        return "latest";
+    }
+    
+    /**
+     * 페이지 마지막 행으로 다음 페이지 커서 생성
+     * 키 순서는 findRemoteProjects 의 keyset 조건과 일치해야 함 (NULL 은 그대로 전달)
+     */
+    private static String remoteCursor(String sortKey, Project last) {
+        switch (sortKey) {
+            case "deadline":
+                return PageCursor.encode(sortKey, last.getDeadline(), last.getId());
+            case "budget_high":
+                return PageCursor.encode(sortKey, last.getBudgetMax(), last.getId());
+            case "budget_low":
+                return PageCursor.encode(sortKey, last.getBudgetMin(), last.getId());
+            case "popular":
+                return PageCursor.encode(sortKey, last.getViews(), last.getApplicationsCount(), last.getId());
+            default:
+                return PageCursor.encode(sortKey, last.getCreatedAt(), last.getId());
         }
-        
-        // Sanitize all string fields
-        project.setTitle(JsonSanitizer.sanitize(project.getTitle()));
-        project.setDescription(JsonSanitizer.sanitize(project.getDescription()));
-        project.setCategory(JsonSanitizer.sanitize(project.getCategory()));
-        project.setProjectType(JsonSanitizer.sanitize(project.getProjectType()));
-        project.setBudgetType(JsonSanitizer.sanitize(project.getBudgetType()));
-        project.setWorkType(JsonSanitizer.sanitize(project.getWorkType()));
-        project.setLocation(JsonSanitizer.sanitize(project.getLocation()));
-        project.setDuration(JsonSanitizer.sanitize(project.getDuration()));
-        project.setRequiredSkills(JsonSanitizer.sanitize(project.getRequiredSkills()));
-        project.setPreferredSkills(JsonSanitizer.sanitize(project.getPreferredSkills()));
-        project.setExperienceLevel(JsonSanitizer.sanitize(project.getExperienceLevel()));
-        project.setStatus(JsonSanitizer.sanitize(project.getStatus()));
-        project.setCompanyName(JsonSanitizer.sanitize(project.getCompanyName()));
-        project.setCompanyLogo(JsonSanitizer.sanitize(project.getCompanyLogo()));
-        project.setClientName(JsonSanitizer.sanitize(project.getClientName()));
-        project.setCategoryName(JsonSanitizer.sanitize(project.getCategoryName()));
-        project.setRemoteTools(JsonSanitizer.sanitize(project.getRemoteTools()));
-        project.setCommunicationMethods(JsonSanitizer.sanitize(project.getCommunicationMethods()));
-        project.setTeamSize(JsonSanitizer.sanitize(project.getTeamSize()));
-        project.setDevelopmentMethodology(JsonSanitizer.sanitize(project.getDevelopmentMethodology()));
-        project.setCodeReviewProcess(JsonSanitizer.sanitize(project.getCodeReviewProcess()));
-        project.setWorkingHours(JsonSanitizer.sanitize(project.getWorkingHours()));
-        project.setTimezone(JsonSanitizer.sanitize(project.getTimezone()));
-        project.setOnsiteRequirements(JsonSanitizer.sanitize(project.getOnsiteRequirements()));
-        project.setOnsiteFrequency(JsonSanitizer.sanitize(project.getOnsiteFrequency()));
-        project.setOfficeLocation(JsonSanitizer.sanitize(project.getOfficeLocation()));
-        project.setBenefits(JsonSanitizer.sanitize(project.getBenefits()));
-        project.setPreferredWorkingHours(JsonSanitizer.sanitize(project.getPreferredWorkingHours()));
-        project.setDeliverables(JsonSanitizer.sanitize(project.getDeliverables()));
-        project.setProjectStages(JsonSanitizer.sanitize(project.getProjectStages()));
-        project.setUrgency(JsonSanitizer.sanitize(project.getUrgency()));
-        project.setBudget(JsonSanitizer.sanitize(project.getBudget()));
-        project.setRequirements(JsonSanitizer.sanitize(project.getRequirements()));
-        
-        return project;
     }
 }
\ No newline at end of file
@@ -0,0 +1,379 @@
+package com.fid.job.service;
+
+import com.fid.job.dto.UniqueViewers;
+import com.fid.job.mapper.UniqueViewerMapper;
+import com.fid.job.util.HyperLogLog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import javax.servlet.http.HttpServletRequest;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 프로젝트/프리랜서 고유 방문자 수 (일별 HyperLogLog 스케치)
+ * - 대상/일자별 스케치 하나(레지스터 512개, 저장 시 384 바이트)에 방문자 키를 기록
+ *   방문자 키: 로그인 사용자는 사용자 ID, 비로그인은 IP + User-Agent 지문
+ *   (X-Forwarded-For 는 app.unique-viewers.trusted-proxies 에 등록된 프록시가 보낸 경우만 사용)
+ * - 오늘 / 최근 7일 / 최근 30일 고유 방문자는 일별 스케치를 병합해 추정 (표준 오차 약 4.6%)
+ * - 대상별 스케치는 메모리(LRU)에 보관, 첫 접근 시 DB 에서 보관 기간만큼 적재
+ * - 변경된 일자 스케치만 주기적으로 일괄 저장, 종료 시에도 저장
+ *   노드마다 자기 행(node_id)에만 저장하고 적재 시 모든 노드 행을 병합 (다른 노드의 기록을 덮어쓰지 않음)
+ * - 테이블은 db/migration/V2__unique_viewer_sketches.sql 로 배포 전에 적용
+ *
+ * 지표 (Micrometer)
+ * - unique.viewers.flushed, unique.viewers.flush.failures
+ */
+@Slf4j
+@Service
+public class UniqueViewerService {
+
+    public enum Kind {
+        PROJECT, FREELANCER
+    }
+
+    private static final int PRECISION = 9;
+    private static final int WEEK_DAYS = 7;
+
+    private final UniqueViewerMapper uniqueViewerMapper;
+    private final Counter flushed;
+    private final Counter failures;
+
+    @Value("${app.unique-viewers.max-entities:20000}")
+    private int maxEntities;
+
+    // 보관 일수 (월간 집계 기간)
+    @Value("${app.unique-viewers.retention-days:30}")
+    private int retentionDays;
+
+    @Value("${app.unique-viewers.batch-size:500}")
+    private int batchSize;
+
+    // 스케치 행 구분용 노드 이름 (노드마다 달라야 함)
+    @Value("${app.unique-viewers.node-id:${HOSTNAME:local}}")
+    private String nodeId;
+
+    // X-Forwarded-For 를 신뢰할 프록시 주소 (쉼표 구분, 비어 있으면 항상 접속 주소 사용)
+    private Set<String> trustedProxies = new HashSet<>();
+
+    // 저장 전에 LRU 에서 밀려난 대상 (다음 저장 주기에 저장)
+    private final ConcurrentLinkedQueue<Sketches> evicted = new ConcurrentLinkedQueue<>();
+
+    // 접근 순서 LinkedHashMap (LRU), entries 로 동기화
+    private final Map<String, Sketches> entries = new LinkedHashMap<String, Sketches>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Sketches> eldest) {
+            if (size() <= maxEntities) {
+                return false;
+            }
+            if (eldest.getValue().isDirty()) {
+                eldest.getValue().evicted = true;
+                evicted.add(eldest.getValue());
+            }
+            return true;
+        }
+    };
+
+    public UniqueViewerService(UniqueViewerMapper uniqueViewerMapper, MeterRegistry meterRegistry) {
+        this.uniqueViewerMapper = uniqueViewerMapper;
+        this.flushed = Counter.builder("unique.viewers.flushed")
+                .description("DB 에 저장된 일별 고유 방문자 스케치 수")
+                .register(meterRegistry);
+        this.failures = Counter.builder("unique.viewers.flush.failures")
+                .register(meterRegistry);
+    }
+
+    @Value("${app.unique-viewers.trusted-proxies:}")
+    public void setTrustedProxies(String proxies) {
+        Set<String> addresses = new HashSet<>();
+        for (String address : proxies.split(",")) {
+            if (!address.trim().isEmpty()) {
+                addresses.add(address.trim());
+            }
+        }
+        this.trustedProxies = addresses;
+    }
+
+    /**
+     * 요청의 방문자 키 (로그인 사용자는 ID, 비로그인은 IP + User-Agent)
+     */
+    public String viewerKey(HttpServletRequest request, Long userId) {
+        if (userId != null) {
+            return "u:" + userId;
+        }
+        if (request == null) {
+            return null;
+        }
+        return anonymousKey(clientAddress(request), request.getHeader("User-Agent"));
+    }
+
+    /**
+     * 클라이언트 주소: 신뢰하는 프록시를 거친 요청만 X-Forwarded-For 를 오른쪽부터 읽어
+     * 신뢰하는 프록시가 아닌 첫 주소를 사용 (클라이언트가 임의로 넣은 왼쪽 값은 무시)
+     */
+    private String clientAddress(HttpServletRequest request) {
+        String address = request.getRemoteAddr();
+        String forwarded = request.getHeader("X-Forwarded-For");
+        if (forwarded == null || !trustedProxies.contains(address)) {
+            return address;
+        }
+        List<String> hops = Arrays.asList(forwarded.split(","));
+        for (int i = hops.size() - 1; i >= 0; i--) {
+            String hop = hops.get(i).trim();
+            if (hop.isEmpty()) {
+                break;
+            }
+            address = hop;
+            if (!trustedProxies.contains(hop)) {
+                break;
+            }
+        }
+        return address;
+    }
+
+    public static String anonymousKey(String address, String userAgent) {
+        return "a:" + address + "|" + (userAgent == null ? "" : userAgent);
+    }
+
+    /**
+     * 오늘 방문 기록
+     */
+    public void record(Kind kind, Long id, String viewerKey) {
+        if (id == null || viewerKey == null) {
+            return;
+        }
+        try {
+            Sketches sketches = sketches(kind, id);
+            long today = LocalDate.now().toEpochDay();
+            synchronized (sketches) {
+                HyperLogLog sketch = sketches.days.get(today);
+                if (sketch == null) {
+                    sketch = new HyperLogLog(PRECISION);
+                    sketches.days.put(today, sketch);
+                }
+                if (sketch.add(viewerKey)) {
+                    sketches.dirty.add(today);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("고유 방문자 기록 실패 - {} {}: {}", kind, id, e.getMessage());
+        }
+    }
+
+    /**
+     * 오늘 / 최근 7일 / 최근 30일(보관 기간) 고유 방문자 추정치
+     */
+    public UniqueViewers counts(Kind kind, Long id) {
+        if (id == null) {
+            return null;
+        }
+        try {
+            Sketches sketches = sketches(kind, id);
+            long today = LocalDate.now().toEpochDay();
+            HyperLogLog daily = new HyperLogLog(PRECISION);
+            HyperLogLog weekly = new HyperLogLog(PRECISION);
+            HyperLogLog monthly = new HyperLogLog(PRECISION);
+            synchronized (sketches) {
+                for (Map.Entry<Long, HyperLogLog> entry : sketches.days.entrySet()) {
+                    long age = today - entry.getKey();
+                    if (age < 0 || age >= retentionDays) {
+                        continue;
+                    }
+                    monthly.merge(entry.getValue());
+                    if (age < WEEK_DAYS) {
+                        weekly.merge(entry.getValue());
+                    }
+                    if (age == 0) {
+                        daily.merge(entry.getValue());
+                    }
+                }
+            }
+            return new UniqueViewers(daily.estimate(), weekly.estimate(), monthly.estimate());
+        } catch (Exception e) {
+            log.warn("고유 방문자 조회 실패 - {} {}: {}", kind, id, e.getMessage());
+            return null;
+        }
+    }
+
+    @Scheduled(initialDelayString = "${app.unique-viewers.flush-ms:60000}",
+               fixedDelayString = "${app.unique-viewers.flush-ms:60000}")
+    public synchronized void flush() {
+        List<Sketches> targets = new ArrayList<>();
+        Sketches evictedSketches;
+        while ((evictedSketches = evicted.poll()) != null) {
+            targets.add(evictedSketches);
+        }
+        synchronized (entries) {
+            for (Sketches sketches : entries.values()) {
+                if (sketches.isDirty()) {
+                    targets.add(sketches);
+                }
+            }
+        }
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        long oldest = LocalDate.now().toEpochDay() - retentionDays + 1;
+        List<Map<String, Object>> rows = new ArrayList<>();
+        Map<Sketches, Set<Long>> taken = new HashMap<>();
+        for (Sketches sketches : targets) {
+            synchronized (sketches) {
+                // 보관 기간이 지난 일자는 메모리에서도 제거
+                sketches.days.keySet().removeIf(day -> day < oldest);
+                Set<Long> days = new HashSet<>();
+                for (Long day : sketches.dirty) {
+                    HyperLogLog sketch = sketches.days.get(day);
+                    if (sketch == null) {
+                        continue;
+                    }
+                    Map<String, Object> row = new HashMap<>();
+                    row.put("entityType", sketches.kind.name());
+                    row.put("entityId", sketches.id);
+                    row.put("day", LocalDate.ofEpochDay(day));
+                    row.put("registers", sketch.toBytes());
+                    rows.add(row);
+                    days.add(day);
+                }
+                sketches.dirty.clear();
+                taken.put(sketches, days);
+            }
+        }
+
+        try {
+            for (int from = 0; from < rows.size(); from += batchSize) {
+                List<Map<String, Object>> batch = rows.subList(from, Math.min(rows.size(), from + batchSize));
+                uniqueViewerMapper.upsertSketches(nodeId, batch);
+                flushed.increment(batch.size());
+            }
+        } catch (Exception e) {
+            failures.increment();
+            log.warn("고유 방문자 스케치 저장 실패 - 다음 주기에 재시도: {}", e.getMessage());
+            // 스케치는 합집합이라 다시 저장해도 안전, 해당 일자를 다시 변경 상태로 표시
+            for (Map.Entry<Sketches, Set<Long>> entry : taken.entrySet()) {
+                Sketches sketches = entry.getKey();
+                synchronized (sketches) {
+                    sketches.dirty.addAll(entry.getValue());
+                }
+                if (sketches.evicted) {
+                    evicted.add(sketches);
+                }
+            }
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 스케치 삭제
+     */
+    @Scheduled(initialDelayString = "${app.unique-viewers.cleanup-ms:3600000}",
+               fixedDelayString = "${app.unique-viewers.cleanup-ms:3600000}")
+    public void cleanup() {
+        try {
+            int deleted = uniqueViewerMapper.deleteSketchesBefore(LocalDate.now().minusDays(retentionDays - 1));
+            if (deleted > 0) {
+                log.info("보관 기간이 지난 고유 방문자 스케치 삭제 - {}건", deleted);
+            }
+        } catch (Exception e) {
+            log.error("고유 방문자 스케치 정리 실패", e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        log.info("종료 전 고유 방문자 스케치 저장 완료");
+    }
+
+    private Sketches sketches(Kind kind, Long id) {
+        String key = kind.name() + ":" + id;
+        synchronized (entries) {
+            Sketches sketches = entries.get(key);
+            if (sketches != null) {
+                return sketches;
+            }
+            // 저장 전에 밀려난 대상이면 DB 대신 그대로 되살림
+            for (Sketches pending : evicted) {
+                if (pending.kind == kind && pending.id.equals(id)) {
+                    evicted.remove(pending);
+                    pending.evicted = false;
+                    entries.put(key, pending);
+                    return pending;
+                }
+            }
+        }
+        Sketches loaded = load(kind, id);
+        synchronized (entries) {
+            // 적재하는 동안 다른 요청이 먼저 등록했으면 그쪽을 사용
+            Sketches existing = entries.get(key);
+            if (existing != null) {
+                return existing;
+            }
+            entries.put(key, loaded);
+            return loaded;
+        }
+    }
+
+    private Sketches load(Kind kind, Long id) {
+        Sketches sketches = new Sketches(kind, id);
+        LocalDate fromDay = LocalDate.now().minusDays(retentionDays - 1);
+        for (Map<String, Object> row : uniqueViewerMapper.findSketches(kind.name(), id, fromDay)) {
+            LocalDate day = toLocalDate(row.get("day"));
+            Object registers = row.get("registers");
+            if (day == null || !(registers instanceof byte[])) {
+                continue;
+            }
+            try {
+                // 노드별 행은 레지스터 최댓값으로 병합 (합집합)
+                sketches.days.merge(day.toEpochDay(), HyperLogLog.fromBytes(PRECISION, (byte[]) registers),
+                        (merged, other) -> {
+                            merged.merge(other);
+                            return merged;
+                        });
+            } catch (IllegalArgumentException e) {
+                log.warn("고유 방문자 스케치 무시 - {} {} {}: {}", kind, id, day, e.getMessage());
+            }
+        }
+        return sketches;
+    }
+
+    private static LocalDate toLocalDate(Object value) {
+        if (value instanceof LocalDate) {
+            return (LocalDate) value;
+        }
+        if (value instanceof java.sql.Date) {
+            return ((java.sql.Date) value).toLocalDate();
+        }
+        return value == null ? null : LocalDate.parse(value.toString().substring(0, 10));
+    }
+
+    private static final class Sketches {
+        private final Kind kind;
+        private final Long id;
+        // epochDay -> 스케치, dirty 는 저장이 필요한 일자 (this 로 동기화)
+        private final Map<Long, HyperLogLog> days = new HashMap<>();
+        private final Set<Long> dirty = new HashSet<>();
+        private volatile boolean evicted;
+
+        private Sketches(Kind kind, Long id) {
+            this.kind = kind;
+            this.id = id;
+        }
+
+        private synchronized boolean isDirty() {
+            return !dirty.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.fid.job.service;
+
+import com.fid.job.event.ViewCountsFlushedEvent;
+import com.fid.job.mapper.ViewCounterMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 조회수 지연 반영(write-behind) 서비스
+ * - 상세 조회마다 실행하던 단건 UPDATE ... + 1 대신 대상/ID 별 LongAdder 에 누적
+ * - 주기적으로 대상별 UPDATE ... CASE id 한 문장(구간 단위)으로 일괄 반영, 종료 시에도 반영
+ * - 반영 실패 시 남은 증가분을 반영 중 값으로 유지하고 다음 주기에 새 증가분과 합쳐 재시도
+ * - pending() 으로 아직 반영되지 않은 증가분(누적기, 정리된 누적기, 반영 중 값)을 제공해 DB 값에 더해 최신 조회수 표시
+ * - 구간을 반영하면 반영 중 값을 비우기 전에 ViewCountsFlushedEvent 발행 (조회수가 든 캐시 행 무효화)
+ */
+@Slf4j
+@Service
+public class ViewCounterService {
+
+    public enum Target {
+        PROJECT("projects", "views"),
+        FREELANCER("freelancers", "view_count"),
+        NOTICE("notices", "read_count");
+
+        private final String table;
+        private final String column;
+
+        Target(String table, String column) {
+            this.table = table;
+            this.column = column;
+        }
+    }
+
+    private final ViewCounterMapper viewCounterMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Map<Target, ConcurrentHashMap<Long, LongAdder>> pending = new EnumMap<>(Target.class);
+    // 한 주기 동안 조회가 없어 pending 에서 뺀 누적기 (빼기 직전에 참조를 얻은 증가분을 다음 주기에 회수)
+    private final Map<Target, ConcurrentHashMap<Long, LongAdder>> retired = new EnumMap<>(Target.class);
+    // 반영 중인 증가분 (조회 스레드에서 함께 읽음, 반영 실패분은 다음 주기까지 유지)
+    private final Map<Target, Map<Long, Long>> inFlight = new ConcurrentHashMap<>();
+    private final Counter flushed;
+    private final Counter failures;
+
+    // UPDATE 한 문장에 담을 최대 ID 수
+    @Value("${app.view-counter.batch-size:500}")
+    private int batchSize;
+
+    public ViewCounterService(ViewCounterMapper viewCounterMapper, ApplicationEventPublisher eventPublisher,
+                              MeterRegistry meterRegistry) {
+        this.viewCounterMapper = viewCounterMapper;
+        this.eventPublisher = eventPublisher;
+        for (Target target : Target.values()) {
+            pending.put(target, new ConcurrentHashMap<>());
+            retired.put(target, new ConcurrentHashMap<>());
+            inFlight.put(target, Collections.emptyMap());
+        }
+        this.flushed = Counter.builder("view.counter.flushed")
+                .description("DB 에 반영된 조회수 증가분")
+                .register(meterRegistry);
+        this.failures = Counter.builder("view.counter.flush.failures")
+                .register(meterRegistry);
+    }
+
+    public void increment(Target target, Long id) {
+        if (id != null) {
+            pending.get(target).computeIfAbsent(id, k -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 증가분 (반영 중인 값 포함)
+     */
+    public long pending(Target target, Long id) {
+        if (id == null) {
+            return 0L;
+        }
+        LongAdder adder = pending.get(target).get(id);
+        LongAdder late = retired.get(target).get(id);
+        Long flushing = inFlight.get(target).get(id);
+        return (adder == null ? 0L : adder.sum()) + (late == null ? 0L : late.sum())
+                + (flushing == null ? 0L : flushing);
+    }
+
+    /**
+     * DB 값에 미반영 증가분을 더한 조회수
+     */
+    public int live(Target target, Long id, Integer stored) {
+        return (int) Math.min(Integer.MAX_VALUE, (stored == null ? 0L : stored) + pending(target, id));
+    }
+
+    @Scheduled(initialDelayString = "${app.view-counter.flush-ms:5000}",
+               fixedDelayString = "${app.view-counter.flush-ms:5000}")
+    public synchronized void flush() {
+        for (Target target : Target.values()) {
+            flush(target);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        log.info("종료 전 조회수 반영 완료");
+    }
+
+    private void flush(Target target) {
+        // 지난 주기에 반영하지 못한 값을 새 반영 중 맵으로 옮겨 한 번에 교체 (조회 시 중복/누락 없음)
+        Map<Long, Long> counts = new ConcurrentHashMap<>(inFlight.get(target));
+        inFlight.put(target, counts);
+        try {
+            // 누적기에서 꺼낸 값은 반영 중 값에 먼저 더한 뒤 누적기에서 빼므로 조회 시 누락되지 않음
+            // (sumThenReset 은 읽기와 초기화 사이의 증가분을 잃을 수 있어 쓰지 않음)
+            Iterator<Map.Entry<Long, LongAdder>> late = retired.get(target).entrySet().iterator();
+            while (late.hasNext()) {
+                Map.Entry<Long, LongAdder> entry = late.next();
+                drain(counts, entry.getKey(), entry.getValue());
+                late.remove();
+            }
+
+            Iterator<Map.Entry<Long, LongAdder>> iterator = pending.get(target).entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Long, LongAdder> entry = iterator.next();
+                if (!drain(counts, entry.getKey(), entry.getValue())) {
+                    // 한 주기 동안 조회가 없던 ID 는 제거 (제거 직전 증가분은 retired 에서 조회되고 다음 주기에 회수)
+                    retired.get(target).put(entry.getKey(), entry.getValue());
+                    iterator.remove();
+                }
+            }
+
+            List<Long> ids = new ArrayList<>(counts.keySet());
+            for (int from = 0; from < ids.size(); from += batchSize) {
+                Map<Long, Long> batch = new LinkedHashMap<>();
+                for (Long id : ids.subList(from, Math.min(ids.size(), from + batchSize))) {
+                    batch.put(id, counts.get(id));
+                }
+                viewCounterMapper.addViewCounts(target.table, target.column, batch);
+                // 캐시된 행을 먼저 버려야 반영 중 값을 비운 뒤 조회수가 줄어 보이지 않음 (잠시 중복으로 더해질 수는 있음)
+                eventPublisher.publishEvent(new ViewCountsFlushedEvent(target.table, new LinkedHashSet<>(batch.keySet())));
+                for (Long id : batch.keySet()) {
+                    flushed.increment(counts.remove(id));
+                }
+            }
+        } catch (Exception e) {
+            // 반영하지 못한 증가분은 반영 중 값으로 남아 계속 조회되고 다음 주기에 함께 반영
+            failures.increment();
+            log.warn("{} 조회수 반영 실패 - 다음 주기에 재시도: {}", target.table, e.getMessage());
+        }
+    }
+
+    /**
+     * @return 옮긴 증가분이 있으면 true
+     */
+    private static boolean drain(Map<Long, Long> counts, Long id, LongAdder adder) {
+        long count = adder.sum();
+        if (count <= 0) {
+            return false;
+        }
+        counts.merge(id, count, Long::sum);
+        adder.add(-count);
+        return true;
+    }
+}
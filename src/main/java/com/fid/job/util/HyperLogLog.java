@@ -0,0 +1,122 @@
+package com.fid.job.util;
+
+/**
+ * 고유 방문자 수 근사용 HyperLogLog 스케치
+ * - 레지스터 2^precision 개 (precision 9 = 512개, 표준 오차 약 4.6%)
+ * - 방문자 수와 무관하게 크기 고정, 스케치끼리 합집합(merge) 가능
+ * - 저장 시 레지스터당 6비트로 압축 (precision 9 = 384 바이트)
+ */
+public final class HyperLogLog {
+
+    private final int precision;
+    private final byte[] registers;
+
+    public HyperLogLog(int precision) {
+        if (precision < 4 || precision > 16) {
+            throw new IllegalArgumentException("지원하지 않는 HyperLogLog 정밀도: " + precision);
+        }
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    public int getPrecision() {
+        return precision;
+    }
+
+    /**
+     * 값 추가
+     *
+     * @return 레지스터가 바뀌었으면 true
+     */
+    public boolean add(String value) {
+        return addHash(hash64(value));
+    }
+
+    public boolean addHash(long hash) {
+        int index = (int) (hash >>> (64 - precision));
+        long rest = hash << precision;
+        int rank = Math.min(Long.numberOfLeadingZeros(rest) + 1, 64 - precision + 1);
+        if (rank > registers[index]) {
+            registers[index] = (byte) rank;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 다른 스케치를 합집합으로 병합 (같은 정밀도만)
+     */
+    public void merge(HyperLogLog other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("정밀도가 다른 HyperLogLog 는 병합할 수 없습니다.");
+        }
+        for (int i = 0; i < registers.length; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+    }
+
+    public long estimate() {
+        int m = registers.length;
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+        double alpha = 0.7213 / (1 + 1.079 / m);
+        double estimate = alpha * m * m / sum;
+        // 작은 범위는 선형 계수(linear counting)로 보정
+        if (estimate <= 2.5 * m && zeros > 0) {
+            estimate = m * Math.log((double) m / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    /**
+     * 레지스터를 6비트씩 압축한 바이트 배열
+     */
+    public byte[] toBytes() {
+        byte[] packed = new byte[(registers.length * 6 + 7) / 8];
+        for (int i = 0; i < registers.length; i++) {
+            int bit = i * 6;
+            int value = registers[i] & 0x3F;
+            packed[bit >> 3] |= (byte) (value << (bit & 7));
+            if ((bit & 7) > 2) {
+                packed[(bit >> 3) + 1] |= (byte) (value >>> (8 - (bit & 7)));
+            }
+        }
+        return packed;
+    }
+
+    public static HyperLogLog fromBytes(int precision, byte[] packed) {
+        HyperLogLog sketch = new HyperLogLog(precision);
+        if (packed == null || packed.length != (sketch.registers.length * 6 + 7) / 8) {
+            throw new IllegalArgumentException("HyperLogLog 데이터 크기가 올바르지 않습니다.");
+        }
+        for (int i = 0; i < sketch.registers.length; i++) {
+            int bit = i * 6;
+            int value = (packed[bit >> 3] & 0xFF) >>> (bit & 7);
+            if ((bit & 7) > 2) {
+                value |= (packed[(bit >> 3) + 1] & 0xFF) << (8 - (bit & 7));
+            }
+            sketch.registers[i] = (byte) (value & 0x3F);
+        }
+        return sketch;
+    }
+
+    // FNV-1a 64 + splitmix64 마무리 (문자열 -> 고르게 분포된 64비트 해시)
+    static long hash64(String value) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        hash = (hash ^ (hash >>> 30)) * 0xBF58476D1CE4E5B9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94D049BB133111EBL;
+        return hash ^ (hash >>> 31);
+    }
+}
@@ -0,0 +1,142 @@
+package com.fid.job.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JSON 배열 컬럼(required_skills, skills 등) 파싱 유틸
+ * - 문자열 배열은 공유 JsonFactory 의 스트리밍 파서로 읽음 (ObjectMapper/중간 객체 생성 없음)
+ * - 스킬/도구처럼 값 종류가 적은 컬럼은 intern 옵션으로 같은 문자열 인스턴스를 공유
+ * - 반환 목록은 수정 불가 (캐시된 행끼리 공유해도 안전)
+ */
+public final class JsonArrayParser {
+
+    private static final JsonFactory FACTORY = new JsonFactory();
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final TypeReference<List<Map<String, Object>>> OBJECT_LIST_TYPE =
+            new TypeReference<List<Map<String, Object>>>() {};
+
+    // intern 값 상한 (자유 입력이 섞여도 무한히 늘지 않도록, 넘으면 공유하지 않음)
+    private static final int MAX_INTERNED = 50000;
+    private static final Map<String, String> INTERNED = new ConcurrentHashMap<>();
+
+    private JsonArrayParser() {
+    }
+
+    /**
+     * JSON 문자열 배열을 파싱 (null/빈 값은 빈 목록)
+     * JSON 형식이 아니면 쉼표 구분 문자열로 간주
+     */
+    public static List<String> parseStrings(String json) {
+        return parseStrings(json, false);
+    }
+
+    /**
+     * @param intern 값 종류가 적은 컬럼(스킬, 도구 등)이면 true
+     */
+    public static List<String> parseStrings(String json, boolean intern) {
+        if (json == null || json.trim().isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> values = new ArrayList<>();
+        String trimmed = json.trim();
+        if (trimmed.startsWith("[")) {
+            try (JsonParser parser = FACTORY.createParser(trimmed)) {
+                parser.nextToken();
+                JsonToken token;
+                while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+                    if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+                        parser.skipChildren();
+                    } else if (token != JsonToken.VALUE_NULL) {
+                        add(values, parser.getText(), intern);
+                    }
+                }
+                return finish(values);
+            } catch (IOException e) {
+                values.clear();
+            }
+        }
+        for (String value : trimmed.split(",")) {
+            add(values, value.replace("\"", "").replace("[", "").replace("]", ""), intern);
+        }
+        return finish(values);
+    }
+
+    /**
+     * 이미 파싱된 목록이 있으면 그대로, 없으면 원본 JSON 을 파싱
+     */
+    public static List<String> parsedOrParse(List<String> parsed, String json) {
+        return parsed != null ? parsed : parseStrings(json);
+    }
+
+    /**
+     * JSON 객체 배열 파싱 (project_stages 등), 형식이 맞지 않으면 빈 목록
+     */
+    public static List<Map<String, Object>> parseObjects(String json) {
+        if (json == null || json.trim().isEmpty()) {
+            return Collections.emptyList();
+        }
+        try {
+            return MAPPER.readValue(json, OBJECT_LIST_TYPE);
+        } catch (Exception e) {
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * 문자열 목록을 JSON 배열 문자열로 변환
+     */
+    public static String toJson(List<String> values) {
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = FACTORY.createGenerator(writer)) {
+            generator.writeStartArray();
+            for (String value : values) {
+                generator.writeString(value);
+            }
+            generator.writeEndArray();
+        } catch (IOException e) {
+            throw new IllegalStateException("JSON 배열 생성 실패", e);
+        }
+        return writer.toString();
+    }
+
+    private static void add(List<String> values, String value, boolean intern) {
+        String cleaned = value.trim();
+        if (!cleaned.isEmpty()) {
+            values.add(intern ? intern(cleaned) : cleaned);
+        }
+    }
+
+    private static String intern(String value) {
+        String shared = INTERNED.get(value);
+        if (shared != null) {
+            return shared;
+        }
+        if (INTERNED.size() >= MAX_INTERNED) {
+            return value;
+        }
+        shared = INTERNED.putIfAbsent(value, value);
+        return shared != null ? shared : value;
+    }
+
+    private static List<String> finish(List<String> values) {
+        if (values.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return values.size() == 1
+                ? Collections.singletonList(values.get(0))
+                : Collections.unmodifiableList(values);
+    }
+}
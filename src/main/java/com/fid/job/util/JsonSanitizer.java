@@ -8,15 +8,22 @@ public class JsonSanitizer {
     /**
      * Remove invalid surrogate characters from string
      * Invalid surrogates are in the range U+D800 to U+DFFF
+     * 짝이 맞지 않는 서로게이트가 없으면 입력 문자열을 그대로 반환 (복사 없음)
      */
     public static String sanitize(String input) {
         if (input == null) {
             return null;
         }
+        int invalid = firstUnpairedSurrogate(input);
+        if (invalid < 0) {
+            return input;
+        }
         
-        // Remove unpaired surrogates
-        StringBuilder result = new StringBuilder();
-        for (int i = 0; i < input.length(); i++) {
+        // 앞부분은 그대로 복사하고 첫 잘못된 문자부터 이어서 검사
+        char[] result = new char[input.length() - 1];
+        input.getChars(0, invalid, result, 0);
+        int length = invalid;
+        for (int i = invalid + 1; i < input.length(); i++) {
             char ch = input.charAt(i);
             
             // Check if this is a high surrogate
@@ -24,19 +31,38 @@ public class JsonSanitizer {
                 // Check if there's a valid low surrogate following
                 if (i + 1 < input.length() && Character.isLowSurrogate(input.charAt(i + 1))) {
                     // Valid surrogate pair, keep both
-                    result.append(ch);
-                    result.append(input.charAt(i + 1));
+                    result[length++] = ch;
+                    result[length++] = input.charAt(i + 1);
                     i++; // Skip the low surrogate
                 }
                 // Otherwise skip this unpaired high surrogate
             } else if (!Character.isLowSurrogate(ch)) {
                 // Not a surrogate, keep it
-                result.append(ch);
+                result[length++] = ch;
             }
             // Skip unpaired low surrogates
         }
         
-        return result.toString();
+        return new String(result, 0, length);
+    }
+    
+    /**
+     * 짝이 맞지 않는 첫 서로게이트 문자의 위치, 없으면 -1
+     */
+    public static int firstUnpairedSurrogate(CharSequence input) {
+        int length = input.length();
+        for (int i = 0; i < length; i++) {
+            char ch = input.charAt(i);
+            if (ch < Character.MIN_SURROGATE || ch > Character.MAX_SURROGATE) {
+                continue;
+            }
+            if (Character.isHighSurrogate(ch) && i + 1 < length && Character.isLowSurrogate(input.charAt(i + 1))) {
+                i++;
+                continue;
+            }
+            return i;
+        }
+        return -1;
     }
     
     /**
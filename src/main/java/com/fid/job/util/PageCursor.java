@@ -0,0 +1,110 @@
+package com.fid.job.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 커서(키셋) 페이징용 불투명 커서
+ * - 이전 페이지 마지막 행의 정렬 키와 ID 를 정렬 기준과 함께 Base64(URL-safe) JSON 으로 인코딩
+ * - 디코딩 결과는 매퍼에서 #{params.keyset.k1} ... #{params.keyset.id} 로 사용
+ */
+public final class PageCursor {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSSSSS");
+
+    private PageCursor() {
+    }
+
+    /**
+     * 커서 생성
+     *
+     * @param sortBy 정렬 기준 (다른 정렬 기준의 커서는 거부)
+     * @param keys   정렬 키 값들, 마지막 값은 행 ID
+     */
+    public static String encode(String sortBy, Object... keys) {
+        List<Object> values = new ArrayList<>(keys.length);
+        for (Object key : keys) {
+            values.add(toJsonValue(key));
+        }
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("s", sortKey(sortBy));
+        body.put("k", values);
+        try {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(MAPPER.writeValueAsBytes(body));
+        } catch (Exception e) {
+            throw new IllegalStateException("커서 생성 실패", e);
+        }
+    }
+
+    /**
+     * 커서 해석
+     *
+     * @return k1, k2 ... 와 마지막 키인 id 를 담은 맵
+     * @throws IllegalArgumentException 형식이 잘못되었거나 정렬 기준이 다른 커서
+     */
+    public static Map<String, Object> decode(String cursor, String sortBy, int keyCount) {
+        try {
+            byte[] json = Base64.getUrlDecoder().decode(cursor.getBytes(StandardCharsets.US_ASCII));
+            Map<?, ?> body = MAPPER.readValue(json, Map.class);
+            Object keys = body.get("k");
+            if (!sortKey(sortBy).equals(body.get("s")) || !(keys instanceof List)
+                    || ((List<?>) keys).size() != keyCount) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+            }
+            List<?> values = (List<?>) keys;
+            Map<String, Object> keyset = new HashMap<>();
+            for (int i = 0; i < keyCount - 1; i++) {
+                keyset.put("k" + (i + 1), values.get(i));
+            }
+            keyset.put("id", values.get(keyCount - 1));
+            return keyset;
+        } catch (IllegalArgumentException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.", e);
+        }
+    }
+
+    private static String sortKey(String sortBy) {
+        return sortBy == null || sortBy.isEmpty() ? "default" : sortBy;
+    }
+
+    private static Object toJsonValue(Object value) {
+        if (value instanceof LocalDateTime) {
+            return ((LocalDateTime) value).format(DATE_TIME);
+        }
+        if (value instanceof java.sql.Timestamp) {
+            return ((java.sql.Timestamp) value).toLocalDateTime().format(DATE_TIME);
+        }
+        if (value instanceof java.sql.Date) {
+            return ((java.sql.Date) value).toLocalDate().toString();
+        }
+        if (value instanceof Date) {
+            return new java.sql.Timestamp(((Date) value).getTime()).toLocalDateTime().format(DATE_TIME);
+        }
+        if (value instanceof LocalDate) {
+            return value.toString();
+        }
+        if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).toPlainString();
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value ? 1 : 0;
+        }
+        return value;
+    }
+}
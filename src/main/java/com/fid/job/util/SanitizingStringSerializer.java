@@ -0,0 +1,39 @@
+package com.fid.job.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
+
+import java.io.IOException;
+
+/**
+ * 문자열 값을 쓰는 시점에 짝이 맞지 않는 서로게이트 문자를 제거하는 Jackson 직렬화기
+ * - 서비스에서 행마다 모든 문자열 필드를 복사하던 정리 작업을 직렬화 단계 한 번의 검사로 대체
+ * - 정상 문자열(대부분)은 검사만 하고 그대로 출력, 잘못된 문자가 있을 때만 정리된 복사본 생성
+ * - module() 을 ObjectMapper 에 등록하면 모든 DTO 의 String 필드/컬렉션 원소/Map 값에 적용
+ */
+public class SanitizingStringSerializer extends StdScalarSerializer<String> {
+
+    public static final SanitizingStringSerializer INSTANCE = new SanitizingStringSerializer();
+
+    public SanitizingStringSerializer() {
+        super(String.class, false);
+    }
+
+    public static SimpleModule module() {
+        SimpleModule module = new SimpleModule("SanitizingStringModule");
+        module.addSerializer(String.class, INSTANCE);
+        return module;
+    }
+
+    @Override
+    public boolean isEmpty(SerializerProvider provider, String value) {
+        return value.isEmpty();
+    }
+
+    @Override
+    public void serialize(String value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeString(JsonSanitizer.sanitize(value));
+    }
+}
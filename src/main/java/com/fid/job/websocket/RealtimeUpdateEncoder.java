@@ -0,0 +1,106 @@
+package com.fid.job.websocket;
+
+import com.corundumstudio.socketio.BroadcastOperations;
+import com.corundumstudio.socketio.SocketIOClient;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fid.job.config.JacksonConfig;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 실시간 이벤트 인코딩 (REST 의 Accept 협상에 해당)
+ * - 연결 시 쿼리 파라미터 encoding=cbor|smile 을 준 클라이언트는 같은 이벤트를 바이너리 첨부(byte[])로 받음
+ * - 파라미터가 없거나 알 수 없는 값이면 기존과 같은 JSON 이벤트
+ * - 룸 브로드캐스트는 형식별로 한 번만 인코딩
+ */
+@Component
+public class RealtimeUpdateEncoder {
+
+    public static final String ENCODING_PARAM = "encoding";
+
+    public enum Format {
+        JSON, CBOR, SMILE;
+
+        static Format of(String value) {
+            if ("cbor".equalsIgnoreCase(value)) {
+                return CBOR;
+            }
+            if ("smile".equalsIgnoreCase(value)) {
+                return SMILE;
+            }
+            return JSON;
+        }
+    }
+
+    private final ObjectMapper cborMapper = JacksonConfig.applyProductionProfile(
+            Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()).build());
+    private final ObjectMapper smileMapper = JacksonConfig.applyProductionProfile(
+            Jackson2ObjectMapperBuilder.json().factory(new SmileFactory()).build());
+
+    public Format formatOf(SocketIOClient client) {
+        return Format.of(client.getHandshakeData().getSingleUrlParam(ENCODING_PARAM));
+    }
+
+    /**
+     * 단일 클라이언트 전송
+     */
+    public void send(SocketIOClient client, String event, Object payload) throws JsonProcessingException {
+        Format format = formatOf(client);
+        if (format == Format.JSON) {
+            client.sendEvent(event, payload);
+        } else {
+            client.sendEvent(event, (Object) encode(format, payload));
+        }
+    }
+
+    /**
+     * 룸 브로드캐스트 (모두 JSON 이면 기존 브로드캐스트 그대로)
+     */
+    public void broadcast(BroadcastOperations room, String event, Object payload) throws JsonProcessingException {
+        Collection<SocketIOClient> clients = room.getClients();
+        boolean binary = false;
+        for (SocketIOClient client : clients) {
+            if (formatOf(client) != Format.JSON) {
+                binary = true;
+                break;
+            }
+        }
+        if (!binary) {
+            room.sendEvent(event, payload);
+            return;
+        }
+
+        Map<Format, byte[]> encoded = new EnumMap<>(Format.class);
+        for (SocketIOClient client : clients) {
+            Format format = formatOf(client);
+            if (format == Format.JSON) {
+                client.sendEvent(event, payload);
+                continue;
+            }
+            byte[] bytes = encoded.get(format);
+            if (bytes == null) {
+                bytes = encode(format, payload);
+                encoded.put(format, bytes);
+            }
+            client.sendEvent(event, (Object) bytes);
+        }
+    }
+
+    public byte[] encode(Format format, Object payload) throws JsonProcessingException {
+        switch (format) {
+            case CBOR:
+                return cborMapper.writeValueAsBytes(payload);
+            case SMILE:
+                return smileMapper.writeValueAsBytes(payload);
+            default:
+                throw new IllegalArgumentException("바이너리 형식이 아님: " + format);
+        }
+    }
+}
@@ -2,8 +2,10 @@ package com.fid.job.websocket;
 
 import com.corundumstudio.socketio.SocketIOClient;
 import com.corundumstudio.socketio.SocketIOServer;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fid.job.service.ProjectService;
 import com.fid.job.service.FreelancerService;
+import com.fid.job.service.UniqueViewerService;
 import com.fid.job.websocket.dto.RealtimeStats;
 import com.fid.job.websocket.dto.RealtimeUpdate;
 import com.fid.job.model.Project;
@@ -24,6 +26,8 @@ public class WebSocketService {
     private final SocketIOServer server;
     private final ProjectService projectService;
     private final FreelancerService freelancerService;
+    private final UniqueViewerService uniqueViewerService;
+    private final RealtimeUpdateEncoder realtimeUpdateEncoder;
     
     // 현재 뷰어 수 추적
     private final Map<String, AtomicInteger> projectViewers = new ConcurrentHashMap<>();
@@ -42,13 +46,14 @@ public class WebSocketService {
             stats.setCurrentViewers(getProjectViewerCount(projectId));
             stats.setApplicationsCount(project.getApplicationsCount());
             stats.setBookmarkCount(project.getBookmarkCount());
+            stats.setUniqueViewers(uniqueViewerService.counts(UniqueViewerService.Kind.PROJECT, project.getId()));
             
             RealtimeUpdate update = new RealtimeUpdate();
             update.setType("stats");
             update.setProjectId(projectId);
             update.setData(stats);
             
-            client.sendEvent("stats_update", update);
+            realtimeUpdateEncoder.send(client, "stats_update", update);
             
         } catch (Exception e) {
             log.error("Error sending project stats", e);
@@ -69,13 +74,14 @@ public class WebSocketService {
             stats.setApplicationsCount(freelancer.getProjectCount());
             stats.setBookmarkCount(0); // 프리랜서 북마크 수는 별도 조회 필요
             stats.setInquiryCount(0); // 프리랜서 문의 수는 별도 조회 필요
+            stats.setUniqueViewers(uniqueViewerService.counts(UniqueViewerService.Kind.FREELANCER, freelancer.getId()));
             
             RealtimeUpdate update = new RealtimeUpdate();
             update.setType("stats");
             update.setFreelancerId(freelancerId);
             update.setData(stats);
             
-            client.sendEvent("stats_update", update);
+            realtimeUpdateEncoder.send(client, "stats_update", update);
             
         } catch (Exception e) {
             log.error("Error sending freelancer stats", e);
@@ -112,7 +118,7 @@ public class WebSocketService {
         update.setData(stats);
         
         // 룸의 모든 클라이언트에게 브로드캐스트
-        server.getRoomOperations(room).sendEvent("realtime_update", update);
+        broadcast(room, update);
     }
     
     /**
@@ -147,7 +153,7 @@ public class WebSocketService {
         update.setData(stats);
         
         // 룸의 모든 클라이언트에게 브로드캐스트
-        server.getRoomOperations(room).sendEvent("realtime_update", update);
+        broadcast(room, update);
     }
     
     /**
@@ -167,7 +173,7 @@ public class WebSocketService {
             update.setData(stats);
             
             String room = "project_" + projectId;
-            server.getRoomOperations(room).sendEvent("realtime_update", update);
+            broadcast(room, update);
             
         } catch (Exception e) {
             log.error("Error notifying project application", e);
@@ -191,7 +197,7 @@ public class WebSocketService {
             update.setData(stats);
             
             String room = "project_" + projectId;
-            server.getRoomOperations(room).sendEvent("realtime_update", update);
+            broadcast(room, update);
             
         } catch (Exception e) {
             log.error("Error notifying bookmark toggle", e);
@@ -214,7 +220,18 @@ public class WebSocketService {
             room = "freelancer_" + id;
         }
         
-        server.getRoomOperations(room).sendEvent("realtime_update", update);
+        broadcast(room, update);
+    }
+    
+    /**
+     * 룸 브로드캐스트 (클라이언트별 인코딩 적용)
+     */
+    private void broadcast(String room, RealtimeUpdate update) {
+        try {
+            realtimeUpdateEncoder.broadcast(server.getRoomOperations(room), "realtime_update", update);
+        } catch (JsonProcessingException e) {
+            log.error("Error encoding realtime update for room {}", room, e);
+        }
     }
     
     private int getCurrentViewerCount(String room) {
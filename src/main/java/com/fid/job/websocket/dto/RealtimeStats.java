@@ -1,5 +1,6 @@
 package com.fid.job.websocket.dto;
 
+import com.fid.job.dto.UniqueViewers;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
@@ -13,4 +14,5 @@ public class RealtimeStats {
     private Integer applicationsCount;
     private Integer bookmarkCount;
     private Integer inquiryCount;
+    private UniqueViewers uniqueViewers;
 }
\ No newline at end of file
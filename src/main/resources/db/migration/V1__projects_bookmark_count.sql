@@ -0,0 +1,15 @@
+-- 프로젝트 북마크 수 집계 컬럼
+-- 애플리케이션은 이 컬럼을 만들지 않으므로 배포 전에 운영 DB 에 적용
+-- 값은 북마크 등록/취소 트랜잭션에서 증감하고 ProjectCounterReconciler 가 주기적으로 보정
+
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS bookmark_count INT NOT NULL DEFAULT 0;
+
+-- 기존 행 초기값 (보정 작업을 기다리지 않도록 적용 시 한 번 채움)
+UPDATE projects p
+JOIN (
+    SELECT project_id, COUNT(*) AS cnt
+    FROM project_bookmarks
+    GROUP BY project_id
+) b ON b.project_id = p.id
+SET p.bookmark_count = b.cnt,
+    p.updated_at = p.updated_at;
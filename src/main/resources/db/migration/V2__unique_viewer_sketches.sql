@@ -0,0 +1,18 @@
+-- 일별 고유 방문자 HyperLogLog 스케치 (레지스터 6비트 압축)
+-- 애플리케이션은 이 테이블을 만들지 않으므로 배포 전에 운영 DB 에 적용
+-- 노드마다 자기 행(node_id)에만 덮어쓰고, 조회 시 같은 대상/일자의 모든 노드 행을 병합
+
+CREATE TABLE IF NOT EXISTS unique_viewer_sketches (
+    entity_type VARCHAR(16) NOT NULL,
+    entity_id BIGINT NOT NULL,
+    day DATE NOT NULL,
+    node_id VARCHAR(64) NOT NULL DEFAULT '',
+    registers VARBINARY(1024) NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    PRIMARY KEY (entity_type, entity_id, day, node_id),
+    KEY idx_unique_viewer_sketches_day (day)
+);
+
+-- 노드 구분 없이 생성된 기존 테이블 변환 (기존 행은 node_id '' 로 남아 조회 시 함께 병합)
+ALTER TABLE unique_viewer_sketches ADD COLUMN IF NOT EXISTS node_id VARCHAR(64) NOT NULL DEFAULT '' AFTER day;
+ALTER TABLE unique_viewer_sketches DROP PRIMARY KEY, ADD PRIMARY KEY (entity_type, entity_id, day, node_id);
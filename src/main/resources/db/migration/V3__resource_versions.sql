@@ -0,0 +1,10 @@
+-- 조건부 조회(ETag / Last-Modified)용 데이터 버전 번호
+-- 애플리케이션은 이 테이블을 만들지 않으므로 배포 전에 운영 DB 에 적용
+-- 모든 노드가 같은 행을 올리고 읽으므로 어느 노드가 응답해도 같은 태그가 나옴
+
+CREATE TABLE IF NOT EXISTS resource_versions (
+    name VARCHAR(64) NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0,
+    modified_at TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+    PRIMARY KEY (name)
+);
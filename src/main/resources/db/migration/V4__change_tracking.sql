@@ -0,0 +1,39 @@
+-- DB 변경 추적 (ChangeTrackingPoller) 용 삭제 기록 테이블, 삭제 트리거, 워터마크 인덱스
+-- 애플리케이션은 이 객체들을 만들지 않고 기동 시 존재 여부만 확인 (하나라도 없으면 변경 추적 비활성)
+-- 트리거 생성 권한이 있는 계정으로 배포 전에 운영 DB 에 적용
+
+CREATE TABLE IF NOT EXISTS change_tombstones (
+    seq BIGINT NOT NULL AUTO_INCREMENT,
+    table_name VARCHAR(32) NOT NULL,
+    entity_id BIGINT NOT NULL,
+    deleted_at TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+    PRIMARY KEY (seq),
+    KEY idx_change_tombstones_deleted_at (deleted_at)
+);
+
+-- 행 삭제 시 tombstone 기록 (트리거 이름은 <테이블>_change_tombstone)
+CREATE TRIGGER IF NOT EXISTS projects_change_tombstone
+AFTER DELETE ON projects
+FOR EACH ROW
+INSERT INTO change_tombstones (table_name, entity_id) VALUES ('projects', OLD.id);
+
+CREATE TRIGGER IF NOT EXISTS freelancers_change_tombstone
+AFTER DELETE ON freelancers
+FOR EACH ROW
+INSERT INTO change_tombstones (table_name, entity_id) VALUES ('freelancers', OLD.id);
+
+CREATE TRIGGER IF NOT EXISTS users_change_tombstone
+AFTER DELETE ON users
+FOR EACH ROW
+INSERT INTO change_tombstones (table_name, entity_id) VALUES ('users', OLD.id);
+
+CREATE TRIGGER IF NOT EXISTS companies_change_tombstone
+AFTER DELETE ON companies
+FOR EACH ROW
+INSERT INTO change_tombstones (table_name, entity_id) VALUES ('companies', OLD.id);
+
+-- 워터마크 조회용 (updated_at, id) 인덱스 (인덱스 이름은 idx_<테이블>_updated_at_id)
+CREATE INDEX IF NOT EXISTS idx_projects_updated_at_id ON projects (updated_at, id);
+CREATE INDEX IF NOT EXISTS idx_freelancers_updated_at_id ON freelancers (updated_at, id);
+CREATE INDEX IF NOT EXISTS idx_users_updated_at_id ON users (updated_at, id);
+CREATE INDEX IF NOT EXISTS idx_companies_updated_at_id ON companies (updated_at, id);
@@ -0,0 +1,23 @@
+-- 목록 정렬/커서(키셋) 페이징용 복합 인덱스
+-- ORDER BY <정렬 컬럼>, id 를 인덱스 순서로 읽고 커서 조건은 인덱스 범위로 시작 위치를 찾음
+-- (ProjectMapper.xml / RemoteProjectMapper.xml OrderByClause, FreelancerMapper.xml SortColumn 과 컬럼 순서를 맞춤)
+-- 애플리케이션은 이 인덱스를 만들지 않으므로 배포 전에 운영 DB 에 적용
+
+-- 프로젝트 목록 (항상 status = 'active' 조건)
+CREATE INDEX IF NOT EXISTS idx_projects_listing_default
+    ON projects (status, is_urgent, is_featured, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_projects_listing_latest ON projects (status, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_projects_listing_deadline ON projects (status, deadline, id);
+CREATE INDEX IF NOT EXISTS idx_projects_listing_budget_max ON projects (status, budget_max, id);
+CREATE INDEX IF NOT EXISTS idx_projects_listing_budget_min ON projects (status, budget_min, id);
+CREATE INDEX IF NOT EXISTS idx_projects_listing_views ON projects (status, views, id);
+CREATE INDEX IF NOT EXISTS idx_projects_listing_applications ON projects (status, applications, id);
+CREATE INDEX IF NOT EXISTS idx_projects_listing_popular ON projects (status, views, applications_count, id);
+
+-- 프리랜서 목록
+CREATE INDEX IF NOT EXISTS idx_freelancers_listing_created_at ON freelancers (created_at, id);
+CREATE INDEX IF NOT EXISTS idx_freelancers_listing_rating ON freelancers (rating, id);
+CREATE INDEX IF NOT EXISTS idx_freelancers_listing_experience ON freelancers (experience_years, id);
+CREATE INDEX IF NOT EXISTS idx_freelancers_listing_view_count ON freelancers (view_count, id);
+CREATE INDEX IF NOT EXISTS idx_freelancers_listing_total_projects ON freelancers (total_projects, id);
+CREATE INDEX IF NOT EXISTS idx_freelancers_listing_hourly_rate ON freelancers (hourly_rate, id);
@@ -0,0 +1,144 @@
+package com.fid.job;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fid.job.config.JacksonConfig;
+import com.fid.job.dto.ApiResponse;
+import com.fid.job.model.Project;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 프로젝트 100건 목록 응답의 직렬화 크기와 시간 비교
+ * - JSON 운영(compact, UTF-8) / 디버그(들여쓰기, 이스케이프)
+ * - JSON / CBOR / Smile (Accept 협상 기본값 선택용, 인코딩과 디코딩 모두 측정)
+ * 측정용이라 기본 test 에서 제외, ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+public class ResponseEncodingBenchmarkTest {
+
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 500;
+
+    @Test
+    public void compareCompactAndDebugProfiles() throws Exception {
+        ObjectMapper objectMapper = JacksonConfig.applyProductionProfile(Jackson2ObjectMapperBuilder.json().build());
+        ObjectWriter compact = objectMapper.writer();
+        ObjectWriter debug = JacksonConfig.debugWriter(objectMapper.writer());
+        ApiResponse<Map<String, Object>> response = ApiResponse.success(listing(100), "프로젝트 목록 조회 성공");
+
+        int compactBytes = compact.writeValueAsBytes(response).length;
+        int debugBytes = debug.writeValueAsBytes(response).length;
+        double compactMicros = measure(compact, response);
+        double debugMicros = measure(debug, response);
+
+        System.out.println("=== 프로젝트 100건 ApiResponse 직렬화 ===");
+        System.out.printf("compact : %,d bytes, %.1f us%n", compactBytes, compactMicros);
+        System.out.printf("debug   : %,d bytes, %.1f us%n", debugBytes, debugMicros);
+        System.out.printf("크기 비율 : %.2fx%n", (double) debugBytes / compactBytes);
+
+        assertTrue(compactBytes < debugBytes);
+    }
+
+    @Test
+    public void compareJsonCborAndSmile() throws Exception {
+        ObjectMapper json = JacksonConfig.applyProductionProfile(Jackson2ObjectMapperBuilder.json().build());
+        ObjectMapper cbor = JacksonConfig.applyProductionProfile(
+                Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()).build());
+        ObjectMapper smile = JacksonConfig.applyProductionProfile(
+                Jackson2ObjectMapperBuilder.json().factory(new SmileFactory()).build());
+        ApiResponse<Map<String, Object>> response = ApiResponse.success(listing(100), "프로젝트 목록 조회 성공");
+
+        byte[] jsonBytes = json.writeValueAsBytes(response);
+        byte[] cborBytes = cbor.writeValueAsBytes(response);
+        byte[] smileBytes = smile.writeValueAsBytes(response);
+
+        System.out.println("=== 프로젝트 100건 ApiResponse 형식별 비교 (인코딩 / 디코딩) ===");
+        System.out.printf("json  : %,d bytes, %.1f us / %.1f us%n", jsonBytes.length,
+                measure(json.writer(), response), measureRead(json, jsonBytes));
+        System.out.printf("cbor  : %,d bytes, %.1f us / %.1f us%n", cborBytes.length,
+                measure(cbor.writer(), response), measureRead(cbor, cborBytes));
+        System.out.printf("smile : %,d bytes, %.1f us / %.1f us%n", smileBytes.length,
+                measure(smile.writer(), response), measureRead(smile, smileBytes));
+
+        // 바이너리 형식도 같은 내용으로 복원되는지 확인 (숫자 표현은 형식마다 다르므로 문자열 필드로 비교)
+        String title = json.readTree(jsonBytes).path("data").path("projects").path(99).path("title").asText();
+        assertEquals(title, cbor.readTree(cborBytes).path("data").path("projects").path(99).path("title").asText());
+        assertEquals(title, smile.readTree(smileBytes).path("data").path("projects").path(99).path("title").asText());
+        assertTrue(smileBytes.length < jsonBytes.length);
+    }
+
+    private static double measureRead(ObjectMapper mapper, byte[] bytes) throws Exception {
+        for (int i = 0; i < WARMUP; i++) {
+            mapper.readTree(bytes);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            mapper.readTree(bytes);
+        }
+        return (System.nanoTime() - start) / 1000.0 / ITERATIONS;
+    }
+
+    private static double measure(ObjectWriter writer, Object value) throws Exception {
+        for (int i = 0; i < WARMUP; i++) {
+            writer.writeValueAsBytes(value);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            writer.writeValueAsBytes(value);
+        }
+        return (System.nanoTime() - start) / 1000.0 / ITERATIONS;
+    }
+
+    private static Map<String, Object> listing(int size) {
+        List<Project> projects = new ArrayList<>();
+        for (int i = 1; i <= size; i++) {
+            Project project = new Project();
+            project.setId((long) i);
+            project.setTitle("대규모 커머스 플랫폼 백엔드 고도화 프로젝트 " + i);
+            project.setDescription("Spring Boot 기반 주문/결제 서비스의 성능 개선과 MSA 전환을 함께 진행할 "
+                    + "시니어 백엔드 개발자를 찾습니다. 상주 근무이며 주 1회 원격 근무가 가능합니다.");
+            project.setCategory("웹개발");
+            project.setCategoryName("웹 개발");
+            project.setCompanyName("주식회사 에프아이디");
+            project.setLocation("서울시 강남구 테헤란로");
+            project.setWorkType("onsite");
+            project.setProjectType("outsourcing");
+            project.setBudgetMin(new BigDecimal("5000000"));
+            project.setBudgetMax(new BigDecimal("7000000"));
+            project.setDuration("6개월");
+            project.setRequiredSkills("[\"Java\",\"Spring Boot\",\"MariaDB\"]");
+            project.setPreferredSkills("[\"Kafka\",\"Redis\"]");
+            project.setExperienceLevel("senior");
+            project.setStatus("active");
+            project.setViews(1200 + i);
+            project.setApplicationsCount(15);
+            project.setBookmarkCount(40);
+            project.setIsUrgent(i % 5 == 0);
+            project.setIsFeatured(i % 7 == 0);
+            project.setDeadline(LocalDate.of(2026, 12, 31));
+            project.setCreatedAt(LocalDateTime.of(2026, 10, 1, 9, 0));
+            projects.add(project);
+        }
+        Map<String, Object> result = new HashMap<>();
+        result.put("projects", projects);
+        result.put("totalCount", size);
+        result.put("currentPage", 1);
+        result.put("hasNext", false);
+        return result;
+    }
+}
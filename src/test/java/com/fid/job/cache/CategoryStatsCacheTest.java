@@ -0,0 +1,105 @@
+package com.fid.job.cache;
+
+import com.fid.job.dto.CategoryDTO;
+import com.fid.job.event.ProjectChangedEvent;
+import com.fid.job.mapper.CategoryMapper;
+import com.fid.job.model.Project;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class CategoryStatsCacheTest {
+
+    @Test
+    public void appliesObservedChangesAsDeltas() {
+        CategoryMapper categoryMapper = mock(CategoryMapper.class);
+        when(categoryMapper.findActiveCategories()).thenReturn(categories());
+        int[] loads = {0};
+        when(categoryMapper.findActiveProjectCategories()).thenAnswer(invocation -> {
+            loads[0]++;
+            return new ArrayList<>(Arrays.asList(row(1L, "dev", "remote"), row(2L, "dev", "onsite"),
+                    row(3L, "design", "hybrid")));
+        });
+        CategoryStatsCache cache = new CategoryStatsCache(categoryMapper, mock(ResourceVersions.class));
+        cache.seed();
+        assertCounts(cache, 10L, 2, 1, 1);
+
+        // 변경 전 행을 모르는 이벤트도 보관한 상태와 비교해 증감
+        cache.onProjectChanged(ProjectChangedEvent.observed(1L, project(1L, 20L, "onsite", "active")));
+        assertCounts(cache, 10L, 1, 1, 0);
+        assertCounts(cache, 20L, 2, 2, 1);
+
+        // 집계 컬럼이 그대로인 변경, 이미 반영된 변경은 무시
+        cache.onProjectChanged(ProjectChangedEvent.observed(1L, project(1L, 20L, "onsite", "active")));
+        cache.onProjectChanged(ProjectChangedEvent.observed(4L, project(4L, 10L, "remote", "closed")));
+        assertCounts(cache, 20L, 2, 2, 1);
+
+        cache.onProjectChanged(ProjectChangedEvent.observed(2L, null));
+        cache.onProjectChanged(ProjectChangedEvent.observed(5L, project(5L, 10L, "remote", "active")));
+        assertCounts(cache, 10L, 1, 0, 1);
+
+        assertEquals(1, loads[0]);
+    }
+
+    @Test
+    public void replaysChangesReceivedDuringLoad() {
+        CategoryMapper categoryMapper = mock(CategoryMapper.class);
+        when(categoryMapper.findActiveCategories()).thenReturn(categories());
+        Deque<Runnable> duringRead = new ArrayDeque<>();
+        CategoryStatsCache cache = new CategoryStatsCache(categoryMapper, mock(ResourceVersions.class));
+        when(categoryMapper.findActiveProjectCategories()).thenAnswer(invocation -> {
+            Runnable commit = duringRead.poll();
+            if (commit != null) {
+                commit.run();
+            }
+            return new ArrayList<>(Arrays.asList(row(1L, "dev", "remote")));
+        });
+
+        // 최초 적재가 DB 를 읽는 동안 커밋된 변경 (읽은 결과에는 반영되지 않음)
+        duringRead.add(() -> cache.onProjectChanged(
+                ProjectChangedEvent.observed(2L, project(2L, 10L, "onsite", "active"))));
+        cache.seed();
+
+        assertCounts(cache, 10L, 2, 1, 1);
+    }
+
+    private static void assertCounts(CategoryStatsCache cache, Long categoryId, int count, int onsite, int remote) {
+        CategoryDTO category = cache.getById(categoryId);
+        assertEquals(count, (int) category.getCount());
+        assertEquals(onsite, (int) category.getOnsiteCount());
+        assertEquals(remote, (int) category.getRemoteCount());
+    }
+
+    private static List<CategoryDTO> categories() {
+        return Arrays.asList(
+                CategoryDTO.builder().id(10L).slug("dev").name("개발").build(),
+                CategoryDTO.builder().id(20L).slug("design").name("디자인").build());
+    }
+
+    private static Map<String, Object> row(Long id, String category, String workType) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("id", id);
+        row.put("category", category);
+        row.put("workType", workType);
+        return row;
+    }
+
+    private static Project project(Long id, Long categoryId, String workType, String status) {
+        Project project = new Project();
+        project.setId(id);
+        project.setCategoryId(categoryId);
+        project.setWorkType(workType);
+        project.setStatus(status);
+        return project;
+    }
+}
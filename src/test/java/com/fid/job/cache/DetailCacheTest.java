@@ -0,0 +1,81 @@
+package com.fid.job.cache;
+
+import com.fid.job.event.ViewCountsFlushedEvent;
+import com.fid.job.mapper.FreelancerMapper;
+import com.fid.job.mapper.ProjectMapper;
+import com.fid.job.mapper.RemoteProjectMapper;
+import com.fid.job.mapper.ViewCounterMapper;
+import com.fid.job.model.Project;
+import com.fid.job.service.ViewCounterService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class DetailCacheTest {
+
+    private static final Long PROJECT_ID = 1L;
+
+    @Test
+    public void viewCountDoesNotDropAcrossFlush() {
+        // DB 의 projects.views
+        Map<Long, Long> stored = new HashMap<>();
+        stored.put(PROJECT_ID, 10L);
+
+        ProjectMapper projectMapper = mock(ProjectMapper.class);
+        when(projectMapper.findById(anyLong())).thenAnswer(invocation -> {
+            Long id = invocation.getArgument(0);
+            Project project = new Project();
+            project.setId(id);
+            project.setViews(stored.get(id).intValue());
+            return project;
+        });
+        DetailCache detailCache = new DetailCache(projectMapper, mock(RemoteProjectMapper.class),
+                mock(FreelancerMapper.class), new SimpleMeterRegistry(), 100, 60000L);
+
+        ViewCounterMapper viewCounterMapper = mock(ViewCounterMapper.class);
+        when(viewCounterMapper.addViewCounts(anyString(), anyString(), any())).thenAnswer(invocation -> {
+            Map<Long, Long> counts = invocation.getArgument(2);
+            counts.forEach((id, count) -> stored.merge(id, count, Long::sum));
+            return counts.size();
+        });
+        List<Integer> duringFlush = new ArrayList<>();
+        ViewCounterService[] holder = new ViewCounterService[1];
+        ViewCounterService viewCounterService = new ViewCounterService(viewCounterMapper, event -> {
+            detailCache.onViewCountsFlushed((ViewCountsFlushedEvent) event);
+            duringFlush.add(views(detailCache, holder[0]));
+        }, new SimpleMeterRegistry());
+        holder[0] = viewCounterService;
+        ReflectionTestUtils.setField(viewCounterService, "batchSize", 500);
+
+        assertEquals(10, views(detailCache, viewCounterService));
+        viewCounterService.increment(ViewCounterService.Target.PROJECT, PROJECT_ID);
+        viewCounterService.increment(ViewCounterService.Target.PROJECT, PROJECT_ID);
+        viewCounterService.increment(ViewCounterService.Target.PROJECT, PROJECT_ID);
+        assertEquals(13, views(detailCache, viewCounterService));
+
+        viewCounterService.flush();
+
+        // 반영 직후 캐시된 값(10) + 미반영분(0) 으로 돌아가지 않음
+        assertEquals(13, views(detailCache, viewCounterService));
+        assertTrue(duringFlush.get(0) >= 13);
+    }
+
+    // ProjectServiceImpl.getProjectById 와 같은 표시 값
+    private static int views(DetailCache detailCache, ViewCounterService viewCounterService) {
+        Project project = detailCache.project(PROJECT_ID);
+        return viewCounterService.live(ViewCounterService.Target.PROJECT, PROJECT_ID, project.getViews());
+    }
+}
@@ -0,0 +1,89 @@
+package com.fid.job.cache;
+
+import com.fid.job.event.ProjectChangedEvent;
+import com.fid.job.model.Project;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class ListingResultCacheTest {
+
+    @Test
+    public void observedChangeEvictsListingsTheNewRowMatches() {
+        ListingResultCache cache = cache();
+        put(cache, "remote", filters("workType", "remote"), 1L, 2L);
+        put(cache, "onsite", filters("workType", "onsite"), 3L);
+        put(cache, "all", filters(), 4L);
+
+        // 변경 전 행을 모르는 이벤트: 변경 후 행이 조건에 맞는 목록만 제거
+        cache.onProjectChanged(ProjectChangedEvent.observed(9L, project(9L, "remote")));
+        assertNull(cache.get("remote"));
+        assertNull(cache.get("all"));
+        assertNotNull(cache.get("onsite"));
+
+        // 조건에 맞지 않게 된 행이라도 페이지에 있던 목록은 제거
+        cache.onProjectChanged(ProjectChangedEvent.observed(3L, null));
+        assertNull(cache.get("onsite"));
+    }
+
+    @Test
+    public void counterEventEvictsPagesShowingTheProject() {
+        ListingResultCache cache = cache();
+        put(cache, "page1", filters("sortBy", "latest"), 1L, 2L);
+        put(cache, "page2", filters("sortBy", "latest"), 3L);
+        put(cache, "byViews", filters("sortBy", "views"), 5L);
+
+        cache.onProjectChanged(ProjectChangedEvent.counters(1L, ProjectChangedEvent.BOOKMARKS));
+        assertNull(cache.get("page1"));
+        assertNotNull(cache.get("page2"));
+        assertNotNull(cache.get("byViews"));
+
+        // 조회수로 정렬된 목록은 페이지에 없는 프로젝트의 조회수 변경에도 제거
+        cache.onProjectChanged(ProjectChangedEvent.counters(7L, ProjectChangedEvent.VIEWS, 3));
+        assertNull(cache.get("byViews"));
+        assertNotNull(cache.get("page2"));
+
+        // 다시 저장된 항목은 새 페이지 기준으로 색인
+        put(cache, "page2", filters("sortBy", "latest"), 4L);
+        cache.onProjectChanged(ProjectChangedEvent.counters(3L, ProjectChangedEvent.APPLICATIONS));
+        assertNotNull(cache.get("page2"));
+        cache.onProjectChanged(ProjectChangedEvent.counters(4L, ProjectChangedEvent.APPLICATIONS));
+        assertNull(cache.get("page2"));
+    }
+
+    private static ListingResultCache cache() {
+        ListingResultCache cache = new ListingResultCache(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(cache, "ttlMs", 60000L);
+        ReflectionTestUtils.setField(cache, "maxEntries", 100);
+        return cache;
+    }
+
+    private static void put(ListingResultCache cache, String key, Map<String, Object> filters, Long... pageIds) {
+        cache.put(key, filters, new HashSet<>(Arrays.asList(pageIds)), new HashMap<>(Collections.singletonMap("key", key)));
+    }
+
+    private static Map<String, Object> filters(String... pairs) {
+        Map<String, Object> filters = new HashMap<>();
+        for (int i = 0; i < pairs.length; i += 2) {
+            filters.put(pairs[i], pairs[i + 1]);
+        }
+        return filters;
+    }
+
+    private static Project project(Long id, String workType) {
+        Project project = new Project();
+        project.setId(id);
+        project.setStatus("active");
+        project.setWorkType(workType);
+        return project;
+    }
+}
@@ -0,0 +1,169 @@
+package com.fid.job.index;
+
+import com.fid.job.event.ProjectChangedEvent;
+import com.fid.job.mapper.FreelancerMapper;
+import com.fid.job.mapper.ProjectMapper;
+import com.fid.job.model.Project;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 변경 배치 반영(copy-on-write)이 이전 테이블을 건드리지 않고, 결과가 전체 재구축과 같은지 확인
+ */
+public class FacetIndexTest {
+
+    private static final List<String> FACETS = Arrays.asList(
+            FacetIndex.WORK_TYPE, FacetIndex.EXPERIENCE_LEVEL, FacetIndex.SKILLS,
+            FacetIndex.LOCATION, FacetIndex.CATEGORY_ID, FacetIndex.BUDGET_BUCKET);
+    private static final String[] WORK_TYPES = {"remote", "onsite", "hybrid"};
+    private static final String[] LEVELS = {"junior", "mid", "senior"};
+    private static final String[] LOCATIONS = {"서울", "경기", "부산", null};
+    private static final String[] SKILLS = {"java", "spring", "react", "python", "aws", "kotlin"};
+
+    @Test
+    public void batchedChangesLeavePreviousTableUntouched() {
+        Random random = new Random(5);
+        Map<Long, Project> rows = new LinkedHashMap<>();
+        for (long id = 1; id <= 200; id++) {
+            Project project = randomProject(random, id);
+            if ("active".equals(project.getStatus())) {
+                rows.put(id, project);
+            }
+        }
+        FacetIndex index = index(new ArrayList<>(rows.values()));
+        Map<String, Object> before = index.projectFacets(new HashMap<>(), FACETS, null, true);
+        Object previousTable = ReflectionTestUtils.getField(index, "projects");
+
+        for (int i = 0; i < 300; i++) {
+            long id = 1 + random.nextInt(250);
+            Project after = random.nextInt(5) == 0 ? null : randomProject(random, id);
+            if (after != null && "active".equals(after.getStatus())) {
+                rows.put(id, after);
+            } else {
+                rows.remove(id);
+            }
+            index.onProjectChanged(ProjectChangedEvent.observed(id, after));
+        }
+        // 반영 전에는 이전 테이블 그대로
+        assertEquals(before, index.projectFacets(new HashMap<>(), FACETS, null, true));
+
+        index.applyPending();
+        Map<String, Object> applied = index.projectFacets(new HashMap<>(), FACETS, null, true);
+
+        assertEquals(facetsOf(new ArrayList<>(rows.values())), applied);
+        assertNotEquals(before, applied);
+        // 이전 테이블의 비트맵은 복사 후 수정되었어야 함
+        ReflectionTestUtils.setField(index, "projects", previousTable);
+        assertEquals(before, index.projectFacets(new HashMap<>(), FACETS, null, true));
+    }
+
+    @Test
+    public void lastChangeOfSameIdWins() {
+        FacetIndex index = index(Collections.singletonList(project(1L, "remote", "java")));
+        index.projectFacets(new HashMap<>(), FACETS, null, true);
+
+        index.onProjectChanged(ProjectChangedEvent.observed(1L, project(1L, "onsite", "react")));
+        index.onProjectChanged(ProjectChangedEvent.observed(2L, project(2L, "onsite", "react")));
+        index.onProjectChanged(ProjectChangedEvent.observed(1L, null));
+        index.applyPending();
+
+        assertEquals(facetsOf(Collections.singletonList(project(2L, "onsite", "react"))),
+                index.projectFacets(new HashMap<>(), FACETS, null, true));
+    }
+
+    @Test
+    public void replaysChangesReceivedDuringReload() {
+        ProjectMapper projectMapper = mock(ProjectMapper.class);
+        FreelancerMapper freelancerMapper = mock(FreelancerMapper.class);
+        FacetIndex index = new FacetIndex(projectMapper, freelancerMapper, new SkillBitmapIndex(projectMapper, freelancerMapper));
+        ReflectionTestUtils.setField(index, "maxValues", 100);
+        ReflectionTestUtils.setField(index, "budgetBuckets", new long[]{1000000, 3000000, 5000000, 10000000});
+        List<Project> rows = new ArrayList<>();
+        Deque<Runnable> duringRead = new ArrayDeque<>();
+        when(projectMapper.findFacetDocuments()).thenAnswer(invocation -> {
+            Runnable commit = duringRead.poll();
+            if (commit != null) {
+                commit.run();
+            }
+            return new ArrayList<>(rows);
+        });
+        rows.add(project(1L, "remote", "java"));
+
+        // 첫 구축 전에는 패싯 없음, 구축 중 커밋된 변경도 반영되어야 함
+        assertNull(index.projectFacets(new HashMap<>(), FACETS, null, true));
+        duringRead.add(() -> index.onProjectChanged(ProjectChangedEvent.observed(2L, project(2L, "onsite", "react"))));
+        index.reconcile();
+        List<Project> expected = Arrays.asList(project(1L, "remote", "java"), project(2L, "onsite", "react"));
+        assertEquals(facetsOf(expected), index.projectFacets(new HashMap<>(), FACETS, null, true));
+
+        rows.add(project(2L, "onsite", "react"));
+
+        // 재구축이 DB 를 읽는 동안 커밋된 변경 (읽은 결과에는 반영되지 않음)
+        duringRead.add(() -> index.onProjectChanged(ProjectChangedEvent.observed(1L, null)));
+        index.reconcile();
+        index.applyPending();
+        assertEquals(facetsOf(Collections.singletonList(project(2L, "onsite", "react"))),
+                index.projectFacets(new HashMap<>(), FACETS, null, true));
+
+        // 다음 재구축에서 조회된 행으로 합쳐짐
+        rows.remove(0);
+        index.reconcile();
+        assertEquals(facetsOf(Collections.singletonList(project(2L, "onsite", "react"))),
+                index.projectFacets(new HashMap<>(), FACETS, null, true));
+    }
+
+    private static Map<String, Object> facetsOf(List<Project> projects) {
+        return index(projects).projectFacets(new HashMap<>(), FACETS, null, true);
+    }
+
+    private static FacetIndex index(List<Project> projects) {
+        ProjectMapper projectMapper = mock(ProjectMapper.class);
+        FreelancerMapper freelancerMapper = mock(FreelancerMapper.class);
+        when(projectMapper.findFacetDocuments()).thenReturn(projects);
+        FacetIndex index = new FacetIndex(projectMapper, freelancerMapper, new SkillBitmapIndex(projectMapper, freelancerMapper));
+        ReflectionTestUtils.setField(index, "maxValues", 100);
+        ReflectionTestUtils.setField(index, "budgetBuckets", new long[]{1000000, 3000000, 5000000, 10000000});
+        index.reconcile();
+        return index;
+    }
+
+    private static Project randomProject(Random random, long id) {
+        Project project = project(id, WORK_TYPES[random.nextInt(WORK_TYPES.length)],
+                SKILLS[random.nextInt(SKILLS.length)], SKILLS[random.nextInt(SKILLS.length)]);
+        project.setStatus(random.nextInt(10) == 0 ? "closed" : "active");
+        project.setExperienceLevel(LEVELS[random.nextInt(LEVELS.length)]);
+        project.setLocation(LOCATIONS[random.nextInt(LOCATIONS.length)]);
+        project.setCategoryId(random.nextInt(3) == 0 ? null : (long) random.nextInt(4));
+        project.setBudgetMax(random.nextInt(4) == 0 ? null : BigDecimal.valueOf(random.nextInt(12) * 1000000L));
+        project.setPreferredSkillList(Collections.singletonList(SKILLS[random.nextInt(SKILLS.length)]));
+        return project;
+    }
+
+    private static Project project(Long id, String workType, String... skills) {
+        Project project = new Project();
+        project.setId(id);
+        project.setStatus("active");
+        project.setWorkType(workType);
+        project.setRequiredSkillList(Arrays.asList(skills));
+        project.setPreferredSkillList(new ArrayList<>());
+        return project;
+    }
+}
@@ -0,0 +1,47 @@
+package com.fid.job.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HangulBigramTokenizerTest {
+
+    @Test
+    public void splitsHangulRunsIntoBigrams() {
+        assertEquals(Arrays.asList("개발", "발자"), HangulBigramTokenizer.tokenize("개발자"));
+        // 한 글자 구간은 그대로
+        assertEquals(Arrays.asList("웹", "개발"), HangulBigramTokenizer.tokenize("웹 개발"));
+    }
+
+    @Test
+    public void keepsLatinWordsLowercasedWithTrailingSymbols() {
+        assertEquals(Arrays.asList("java", "spring", "boot"), HangulBigramTokenizer.tokenize("Java/Spring-Boot"));
+        assertEquals(Arrays.asList("c++", "c#", "net"), HangulBigramTokenizer.tokenize("C++, C# .NET"));
+    }
+
+    @Test
+    public void separatesHangulFromLatinWithoutSpaces() {
+        assertEquals(Arrays.asList("react", "개발", "발자"), HangulBigramTokenizer.tokenize("React개발자"));
+        assertEquals(Arrays.asList("3", "년차"), HangulBigramTokenizer.tokenize("3년차"));
+    }
+
+    @Test
+    public void returnsNothingForEmptyInput() {
+        assertEquals(Collections.emptyList(), HangulBigramTokenizer.tokenize(null));
+        assertEquals(Collections.emptyList(), HangulBigramTokenizer.tokenize(""));
+        assertEquals(Collections.emptyList(), HangulBigramTokenizer.tokenize(" ,.!"));
+    }
+
+    @Test
+    public void recognisesOnlyHangulBigrams() {
+        assertTrue(HangulBigramTokenizer.isBigram("개발"));
+        assertFalse(HangulBigramTokenizer.isBigram("웹"));
+        assertFalse(HangulBigramTokenizer.isBigram("go"));
+        assertFalse(HangulBigramTokenizer.isBigram("개a"));
+    }
+}
@@ -0,0 +1,102 @@
+package com.fid.job.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IndexedHeapTest {
+
+    @Test
+    public void keepsHeapOrderUnderRandomUpdatesAndRemovals() {
+        ProjectRankingIndex.IndexedHeap heap = new ProjectRankingIndex.IndexedHeap();
+        Map<Long, Double> model = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int step = 0; step < 20000; step++) {
+            long id = random.nextInt(300);
+            if (random.nextInt(4) == 0) {
+                heap.remove(id);
+                model.remove(id);
+            } else {
+                // 점수 범위를 좁혀 동점이 자주 생기도록
+                double score = random.nextInt(20) * 0.5;
+                heap.update(id, score);
+                model.put(id, score);
+            }
+
+            assertEquals(model.size(), heap.size());
+            for (int slot = 1; slot < heap.size(); slot++) {
+                assertTrue(heap.compare((slot - 1) / 2, slot) <= 0, "힙 순서 위반 - 슬롯 " + slot);
+            }
+            if (step % 1000 == 0) {
+                assertEquals(expectedOrder(model, 10), top(heap, 10));
+            }
+        }
+        assertEquals(expectedOrder(model, model.size()), top(heap, model.size()));
+    }
+
+    @Test
+    public void breaksTiesByLargerId() {
+        ProjectRankingIndex.IndexedHeap heap = new ProjectRankingIndex.IndexedHeap();
+        heap.update(1L, 5.0);
+        heap.update(3L, 5.0);
+        heap.update(2L, 5.0);
+        heap.update(4L, 1.0);
+
+        assertEquals(Arrays.asList(3L, 2L, 1L, 4L), top(heap, 4));
+
+        // 점수를 낮추면 아래로, 올리면 위로
+        heap.update(3L, 0.5);
+        heap.update(4L, 9.0);
+        assertEquals(4L, heap.idAt(0));
+        heap.remove(4L);
+        heap.remove(4L);
+        assertEquals(2L, heap.idAt(0));
+        assertEquals(3, heap.size());
+
+        heap.clear();
+        assertEquals(0, heap.size());
+        heap.update(7L, 1.0);
+        assertEquals(7L, heap.idAt(0));
+    }
+
+    /**
+     * ProjectRankingIndex.popular 와 같은 방식으로 상위 limit 개 (전체 정렬 없이 힙 배열 탐색)
+     */
+    private static List<Long> top(ProjectRankingIndex.IndexedHeap heap, int limit) {
+        List<Long> ids = new ArrayList<>();
+        PriorityQueue<Integer> frontier = new PriorityQueue<>(heap::compare);
+        if (heap.size() > 0) {
+            frontier.add(0);
+        }
+        while (!frontier.isEmpty() && ids.size() < limit) {
+            int slot = frontier.poll();
+            ids.add(heap.idAt(slot));
+            for (int child = 2 * slot + 1; child <= 2 * slot + 2 && child < heap.size(); child++) {
+                frontier.add(child);
+            }
+        }
+        return ids;
+    }
+
+    private static List<Long> expectedOrder(Map<Long, Double> model, int limit) {
+        List<Map.Entry<Long, Double>> entries = new ArrayList<>(model.entrySet());
+        entries.sort((a, b) -> !a.getValue().equals(b.getValue())
+                ? Double.compare(b.getValue(), a.getValue())
+                : Long.compare(b.getKey(), a.getKey()));
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < Math.min(limit, entries.size()); i++) {
+            ids.add(entries.get(i).getKey());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,198 @@
+package com.fid.job.index;
+
+import com.fid.job.event.ProjectChangedEvent;
+import com.fid.job.mapper.ProjectMapper;
+import com.fid.job.model.Project;
+import com.fid.job.service.ChangeTrackingPoller;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 정렬 키를 행 번호와 묶은 정렬이 ProjectMapper.xml OrderByClause 와 같은 순서인지 확인
+ */
+public class ProjectCatalogTest {
+
+    // p.is_urgent DESC, p.is_featured DESC, p.created_at DESC, p.id DESC (DESC 는 NULL 마지막)
+    private static final Comparator<Project> DEFAULT_ORDER = Comparator
+            .comparing(Project::getIsUrgent, Comparator.nullsLast(Comparator.<Boolean>reverseOrder()))
+            .thenComparing(Project::getIsFeatured, Comparator.nullsLast(Comparator.<Boolean>reverseOrder()))
+            .thenComparing(Comparator.comparing(Project::getCreatedAt).reversed())
+            .thenComparing(Comparator.comparing(Project::getId).reversed());
+
+    // p.created_at DESC, p.id DESC
+    private static final Comparator<Project> LATEST_ORDER = Comparator
+            .comparing(Project::getCreatedAt).reversed()
+            .thenComparing(Comparator.comparing(Project::getId).reversed());
+
+    // p.deadline ASC, p.id ASC (ASC 는 NULL 먼저)
+    private static final Comparator<Project> DEADLINE_ORDER = Comparator
+            .comparing(Project::getDeadline, Comparator.nullsFirst(Comparator.<LocalDate>naturalOrder()))
+            .thenComparing(Project::getId);
+
+    // p.budget_max DESC, p.id DESC
+    private static final Comparator<Project> BUDGET_ORDER = Comparator
+            .comparing(Project::getBudgetMax, Comparator.nullsLast(Comparator.<BigDecimal>reverseOrder()))
+            .thenComparing(Comparator.comparing(Project::getId).reversed());
+
+    @Test
+    public void sortsLikeSql() {
+        List<Project> projects = randomProjects(new Random(7), 3000);
+        ProjectCatalog catalog = catalog(projects, 100000);
+        try {
+            assertOrder(catalog, projects, "default", DEFAULT_ORDER);
+            assertOrder(catalog, projects, "latest", LATEST_ORDER);
+            assertOrder(catalog, projects, "deadline", DEADLINE_ORDER);
+            assertOrder(catalog, projects, "budget", BUDGET_ORDER);
+        } finally {
+            catalog.shutdown();
+        }
+    }
+
+    @Test
+    public void parallelFilterGivesSameOrder() {
+        List<Project> projects = randomProjects(new Random(11), 10000);
+        ProjectCatalog catalog = catalog(projects, 1);
+        try {
+            assertOrder(catalog, projects, "default", DEFAULT_ORDER);
+            assertOrder(catalog, projects, "deadline", DEADLINE_ORDER);
+        } finally {
+            catalog.shutdown();
+        }
+    }
+
+    @Test
+    public void cursorPagesContinueAfterLastId() {
+        List<Project> projects = randomProjects(new Random(3), 500);
+        ProjectCatalog catalog = catalog(projects, 100000);
+        try {
+            List<Long> all = catalog.query(new HashMap<>(), null, null, "budget", null, 0, 1000).getIds();
+            List<Long> paged = new ArrayList<>();
+            Object afterId = null;
+            ProjectCatalog.Page page;
+            do {
+                page = catalog.query(new HashMap<>(), null, null, "budget", afterId, 0, 37);
+                paged.addAll(page.getIds());
+                afterId = page.getIds().isEmpty() ? null : page.getIds().get(page.getIds().size() - 1);
+            } while (page.isHasNext());
+
+            assertEquals(all, paged);
+            assertEquals(500, page.getTotalCount());
+            assertFalse(page.isHasNext());
+        } finally {
+            catalog.shutdown();
+        }
+    }
+
+    @Test
+    public void fallsBackToSqlForNonNumericFilters() {
+        ProjectCatalog catalog = catalog(randomProjects(new Random(5), 10), 100000);
+        try {
+            Map<String, Object> filters = new HashMap<>();
+            filters.put("categoryId", "web");
+            assertNull(catalog.query(filters, null, null, "default", null, 0, 10));
+        } finally {
+            catalog.shutdown();
+        }
+    }
+
+    @Test
+    public void replaysChangesReceivedDuringLoad() throws InterruptedException {
+        List<Project> projects = randomProjects(new Random(9), 20);
+        ProjectMapper projectMapper = mock(ProjectMapper.class);
+        ProjectCatalog catalog = new ProjectCatalog(projectMapper, mock(ChangeTrackingPoller.class), 100000, "", 0);
+        Project added = randomProjects(new Random(13), 1).get(0);
+        added.setId(100000L);
+        Long removed = projects.get(0).getId();
+        when(projectMapper.findFacetDocuments()).thenAnswer(invocation -> {
+            // 적재가 DB 를 읽는 동안 커밋된 변경 (읽은 결과에는 반영되지 않음)
+            catalog.onProjectChanged(ProjectChangedEvent.observed(added.getId(), added));
+            catalog.onProjectChanged(ProjectChangedEvent.observed(removed, null));
+            return projects;
+        });
+        try {
+            catalog.refresh();
+            List<Long> ids = catalog.query(new HashMap<>(), null, null, "latest", null, 0, 100).getIds();
+            // 배열은 백그라운드에서 다시 구성되므로 반영될 때까지 대기
+            for (int i = 0; i < 100 && !ids.contains(added.getId()); i++) {
+                Thread.sleep(20);
+                ids = catalog.query(new HashMap<>(), null, null, "latest", null, 0, 100).getIds();
+            }
+
+            assertTrue(ids.contains(added.getId()));
+            assertFalse(ids.contains(removed));
+            assertEquals(projects.size(), ids.size());
+        } finally {
+            catalog.shutdown();
+        }
+    }
+
+    private static void assertOrder(ProjectCatalog catalog, List<Project> projects, String sortKey,
+                                    Comparator<Project> order) {
+        List<Project> sorted = new ArrayList<>(projects);
+        sorted.sort(order);
+        List<Long> expected = new ArrayList<>(sorted.size());
+        for (Project project : sorted) {
+            expected.add(project.getId());
+        }
+
+        ProjectCatalog.Page page = catalog.query(new HashMap<>(), null, null, sortKey, null, 0, projects.size());
+
+        assertEquals(expected, page.getIds(), sortKey);
+        assertEquals(projects.size(), page.getTotalCount());
+    }
+
+    private static ProjectCatalog catalog(List<Project> projects, int parallelThreshold) {
+        ProjectMapper projectMapper = mock(ProjectMapper.class);
+        when(projectMapper.findFacetDocuments()).thenReturn(projects);
+        return new ProjectCatalog(projectMapper, mock(ChangeTrackingPoller.class), parallelThreshold, "", 200);
+    }
+
+    /**
+     * 값 범위를 좁혀 정렬 키 동률이 자주 생기는 프로젝트 (ID 는 행 순서와 다르게 섞음)
+     */
+    private static List<Project> randomProjects(Random random, int count) {
+        List<Long> ids = new ArrayList<>();
+        for (long id = 1; id <= count * 3L; id += 3) {
+            ids.add(id + random.nextInt(3));
+        }
+        Collections.shuffle(ids, random);
+        LocalDateTime base = LocalDateTime.of(2026, 1, 1, 0, 0);
+        List<Project> projects = new ArrayList<>(count);
+        for (Long id : ids) {
+            Project project = new Project();
+            project.setId(id);
+            project.setStatus("active");
+            project.setIsUrgent(pick(random, Boolean.TRUE, Boolean.FALSE, null));
+            project.setIsFeatured(pick(random, Boolean.TRUE, Boolean.FALSE, null));
+            project.setCreatedAt(base.plusSeconds(random.nextInt(50) * 3600L));
+            project.setDeadline(random.nextInt(4) == 0 ? null : base.toLocalDate().plusDays(random.nextInt(30)));
+            // 원 단위 소수점(x.50)도 섞음
+            project.setBudgetMax(random.nextInt(5) == 0 ? null
+                    : BigDecimal.valueOf(random.nextInt(40) * 25000000L + (random.nextBoolean() ? 0 : 50), 2));
+            projects.add(project);
+        }
+        return projects;
+    }
+
+    @SafeVarargs
+    private static <T> T pick(Random random, T... values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,148 @@
+package com.fid.job.index;
+
+import com.fid.job.event.ProjectChangedEvent;
+import com.fid.job.mapper.ProjectMapper;
+import com.fid.job.model.Project;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ProjectSearchIndexTest {
+
+    @Test
+    public void ranksByBm25() {
+        ProjectSearchIndex index = index(
+                project(1L, "자바 백엔드 개발", "스프링 부트 API", null),
+                project(2L, "프론트엔드", "자바 백엔드 연동 경험 우대", null),
+                project(3L, "자바 백엔드 개발", "자바 백엔드 자바", null));
+
+        // 문서 길이가 같으면 빈도가 높은 쪽, 제목 일치가 설명 일치보다 앞
+        assertEquals(Arrays.asList(3L, 1L, 2L), index.search("자바"));
+    }
+
+    @Test
+    public void breaksTiesByNewestId() {
+        ProjectSearchIndex index = index(
+                project(10L, "파이썬 개발", "", null),
+                project(12L, "파이썬 개발", "", null),
+                project(11L, "파이썬 개발", "", null));
+
+        assertEquals(Arrays.asList(12L, 11L, 10L), index.search("파이썬"));
+    }
+
+    @Test
+    public void matchesLikeSemantics() {
+        ProjectSearchIndex index = index(
+                project(1L, "자바 백엔드 개발", "", null),
+                project(2L, "백엔드 및 프론트 개발", "", null),
+                project(3L, "javascript 개발", "", null),
+                project(4L, "Java 개발", "", "자바소프트"));
+
+        // 모든 토큰이 있어도 원문에 검색어가 그대로 있어야 함
+        assertEquals(Collections.singletonList(1L), index.search("백엔드 개발"));
+        // 영문 단어는 포함하는 용어로 확장 (LIKE '%java%')
+        assertEquals(2, index.search("java").size());
+        // 회사명은 includeCompany 일 때만
+        assertEquals(Arrays.asList(1L, 4L), index.search("자바", true, true));
+        assertEquals(Collections.singletonList(1L), index.search("자바", false, true));
+        assertEquals(Collections.emptyList(), index.search("코틀린"));
+    }
+
+    @Test
+    public void fallsBackToSqlForWildcards() {
+        ProjectSearchIndex index = index(project(1L, "100% 원격", "", null));
+
+        assertNull(index.search("100%"));
+        assertNull(index.search("a_b"));
+        assertNull(index.search("  "));
+    }
+
+    @Test
+    public void appliesChangedRowsBeforeRebuild() {
+        ProjectSearchIndex index = index(
+                project(1L, "자바 백엔드 개발", "", null),
+                project(2L, "자바 배치 개발", "", null));
+
+        index.onProjectChanged(ProjectChangedEvent.observed(3L, active(project(3L, "자바 API 개발", "", null))));
+        index.onProjectChanged(ProjectChangedEvent.observed(1L, active(project(1L, "코틀린 백엔드 개발", "", null))));
+        index.onProjectChanged(ProjectChangedEvent.observed(2L, null));
+        index.onProjectChanged(ProjectChangedEvent.counters(3L, ProjectChangedEvent.VIEWS));
+
+        assertEquals(Collections.singletonList(3L), index.search("자바"));
+        assertEquals(Collections.singletonList(1L), index.search("코틀린"));
+        assertEquals(Arrays.asList(3L, 1L), index.search("개발"));
+        assertEquals(2, index.size());
+
+        // 비활성으로 바뀐 프로젝트는 검색되지 않음
+        Project closed = project(3L, "자바 API 개발", "", null);
+        closed.setStatus("closed");
+        index.onProjectChanged(ProjectChangedEvent.observed(3L, closed));
+        assertEquals(Collections.emptyList(), index.search("자바"));
+    }
+
+    @Test
+    public void replaysChangesReceivedDuringRebuild() {
+        ProjectMapper projectMapper = mock(ProjectMapper.class);
+        ProjectSearchIndex index = new ProjectSearchIndex(projectMapper);
+        ReflectionTestUtils.setField(index, "maxExpansion", 200);
+        ReflectionTestUtils.setField(index, "maxIdList", 5000);
+        List<Project> rows = new ArrayList<>();
+        Deque<Runnable> duringRead = new ArrayDeque<>();
+        when(projectMapper.findSearchDocuments()).thenAnswer(invocation -> {
+            Runnable commit = duringRead.poll();
+            if (commit != null) {
+                commit.run();
+            }
+            return new ArrayList<>(rows);
+        });
+        rows.add(project(1L, "자바 백엔드 개발", "", null));
+        index.refresh();
+
+        // 재색인이 DB 를 읽는 동안 커밋된 변경 (읽은 결과에는 반영되지 않음)
+        duringRead.add(() -> index.onProjectChanged(
+                ProjectChangedEvent.observed(2L, active(project(2L, "자바 배치 개발", "", null)))));
+        index.refresh();
+        assertEquals(Arrays.asList(2L, 1L), index.search("자바"));
+
+        // 다음 재색인에서 조회된 행으로 합쳐짐
+        rows.add(project(2L, "자바 배치 개발", "", null));
+        index.refresh();
+        assertEquals(Arrays.asList(2L, 1L), index.search("자바"));
+        assertEquals(2, index.size());
+    }
+
+    private static ProjectSearchIndex index(Project... projects) {
+        ProjectMapper projectMapper = mock(ProjectMapper.class);
+        when(projectMapper.findSearchDocuments()).thenReturn(Arrays.asList(projects));
+        ProjectSearchIndex index = new ProjectSearchIndex(projectMapper);
+        ReflectionTestUtils.setField(index, "maxExpansion", 200);
+        ReflectionTestUtils.setField(index, "maxIdList", 5000);
+        index.refresh();
+        return index;
+    }
+
+    private static Project active(Project project) {
+        project.setStatus("active");
+        return project;
+    }
+
+    private static Project project(Long id, String title, String description, String companyName) {
+        Project project = new Project();
+        project.setId(id);
+        project.setTitle(title);
+        project.setDescription(description);
+        project.setCompanyName(companyName);
+        return project;
+    }
+}
@@ -0,0 +1,111 @@
+package com.fid.job.index;
+
+import com.fid.job.mapper.ProjectMapper;
+import com.fid.job.model.Project;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class RelatedProjectIndexTest {
+
+    @Test
+    public void computesExactJaccardOnSortedFeatures() {
+        assertEquals(0.4, RelatedProjectIndex.jaccard(new int[]{1, 2, 3}, new int[]{2, 3, 4, 5}), 1e-9);
+        assertEquals(1.0, RelatedProjectIndex.jaccard(new int[]{-7, 4}, new int[]{-7, 4}), 1e-9);
+        assertEquals(0.0, RelatedProjectIndex.jaccard(new int[]{1}, new int[]{2}), 1e-9);
+        assertEquals(0.0, RelatedProjectIndex.jaccard(new int[0], new int[0]), 1e-9);
+    }
+
+    @Test
+    public void signatureAgreementApproximatesJaccard() {
+        // 특성 40개 중 20개 공유 -> Jaccard 20/60
+        int[] a = features(0, 40);
+        int[] b = features(20, 60);
+        double expected = RelatedProjectIndex.jaccard(a, b);
+
+        int[] signatureA = RelatedProjectIndex.signature(a);
+        int[] signatureB = RelatedProjectIndex.signature(b);
+        int same = 0;
+        for (int i = 0; i < signatureA.length; i++) {
+            if (signatureA[i] == signatureB[i]) {
+                same++;
+            }
+        }
+
+        // 해시 64개의 표준 편차 약 0.06, 4배 여유
+        assertEquals(expected, (double) same / signatureA.length, 0.24);
+        assertArrayEquals(signatureA, RelatedProjectIndex.signature(features(0, 40)));
+    }
+
+    @Test
+    public void ignoresSkillSpellingAndOrder() {
+        Project a = project(1L, 10L, "Java", "Spring Boot");
+        Project b = project(2L, 10L, "spring boot", "java");
+
+        assertArrayEquals(RelatedProjectIndex.features(a), RelatedProjectIndex.features(b));
+    }
+
+    @Test
+    public void ranksNeighboursBySimilarity() {
+        ProjectMapper projectMapper = mock(ProjectMapper.class);
+        when(projectMapper.findSkillDocuments()).thenReturn(Arrays.asList(
+                project(1L, 10L, "java", "spring", "jpa", "mysql"),
+                project(2L, 10L, "java", "spring", "jpa", "mysql"),
+                project(3L, 10L, "java", "spring", "jpa", "redis"),
+                project(4L, 20L, "swift", "ios"),
+                project(5L, null)));
+        RelatedProjectIndex index = new RelatedProjectIndex(projectMapper);
+        ReflectionTestUtils.setField(index, "neighbourCount", 20);
+        ReflectionTestUtils.setField(index, "maxBucketScan", 200);
+
+        index.rebuild();
+
+        // 같으면 1.0, 하나 다르면 4/6 (LSH 로 후보가 될 확률이 매우 높은 유사도)
+        assertEquals(Arrays.asList(2L, 3L), index.related(1L, 10));
+        assertEquals(Arrays.asList(2L), index.related(1L, 1));
+        assertTrue(index.related(4L, 10).isEmpty());
+        // 특성이 없는 프로젝트와 모르는 ID 는 색인에 없음
+        assertNull(index.related(5L, 10));
+        assertNull(index.related(99L, 10));
+    }
+
+    private static int[] features(int from, int to) {
+        List<String> skills = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            skills.add("skill" + i);
+        }
+        Project project = new Project();
+        project.setRequiredSkills(json(skills));
+        return RelatedProjectIndex.features(project);
+    }
+
+    private static Project project(Long id, Long categoryId, String... skills) {
+        Project project = new Project();
+        project.setId(id);
+        project.setCategoryId(categoryId);
+        project.setRequiredSkills(json(Arrays.asList(skills)));
+        project.setPreferredSkills("[]");
+        return project;
+    }
+
+    private static String json(List<String> values) {
+        StringBuilder json = new StringBuilder("[");
+        for (String value : values) {
+            if (json.length() > 1) {
+                json.append(',');
+            }
+            json.append('"').append(value).append('"');
+        }
+        return json.append(']').toString();
+    }
+}
@@ -0,0 +1,101 @@
+package com.fid.job.index;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SnapshotFileTest {
+
+    private static final int VERSION = 3;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void roundTripsBody() throws IOException {
+        Path path = directory.resolve("nested/catalog.snapshot");
+        byte[] body = body();
+
+        SnapshotFile.write(path, VERSION, body);
+        SnapshotFile.Contents contents = SnapshotFile.read(path, VERSION);
+
+        ByteBuffer read = contents.getBody();
+        assertEquals(body.length, read.remaining());
+        assertEquals(42L, read.getLong());
+        assertEquals("프로젝트", SnapshotFile.getString(read));
+        assertNull(SnapshotFile.getString(read));
+        assertEquals(-1, read.getInt());
+        assertTrue(contents.getWrittenAt() > 0);
+        // 임시 파일이 남지 않음
+        try (Stream<Path> files = Files.list(path.getParent())) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void returnsNullWhenMissing() throws IOException {
+        assertNull(SnapshotFile.read(directory.resolve("missing.snapshot"), VERSION));
+    }
+
+    @Test
+    public void rejectsCorruptedBody() throws IOException {
+        Path path = directory.resolve("catalog.snapshot");
+        SnapshotFile.write(path, VERSION, body());
+        byte[] bytes = Files.readAllBytes(path);
+        // 본문 마지막 바이트 한 비트만 바꿈
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(path, bytes);
+
+        IOException e = assertThrows(IOException.class, () -> SnapshotFile.read(path, VERSION));
+        assertTrue(e.getMessage().contains("체크섬"));
+    }
+
+    @Test
+    public void rejectsTruncatedOrForeignFiles() throws IOException {
+        Path path = directory.resolve("catalog.snapshot");
+        SnapshotFile.write(path, VERSION, body());
+        byte[] bytes = Files.readAllBytes(path);
+
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 3));
+        assertThrows(IOException.class, () -> SnapshotFile.read(path, VERSION));
+
+        Files.write(path, Arrays.copyOf(bytes, 10));
+        assertThrows(IOException.class, () -> SnapshotFile.read(path, VERSION));
+
+        bytes[0] ^= 0x7F;
+        Files.write(path, bytes);
+        assertThrows(IOException.class, () -> SnapshotFile.read(path, VERSION));
+    }
+
+    @Test
+    public void rejectsOtherVersion() throws IOException {
+        Path path = directory.resolve("catalog.snapshot");
+        SnapshotFile.write(path, VERSION, body());
+
+        assertThrows(IOException.class, () -> SnapshotFile.read(path, VERSION + 1));
+    }
+
+    private static byte[] body() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeLong(42L);
+        SnapshotFile.putString(out, "프로젝트");
+        SnapshotFile.putString(out, null);
+        out.writeInt(-1);
+        out.flush();
+        return bytes.toByteArray();
+    }
+}
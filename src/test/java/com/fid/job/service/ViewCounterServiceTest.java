@@ -0,0 +1,77 @@
+package com.fid.job.service;
+
+import com.fid.job.mapper.ViewCounterMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ViewCounterServiceTest {
+
+    private static final ViewCounterService.Target PROJECT = ViewCounterService.Target.PROJECT;
+
+    @Test
+    public void liveCountStaysStableAcrossFailedFlush() {
+        ViewCounterMapper mapper = mock(ViewCounterMapper.class);
+        Map<Long, Long> stored = new HashMap<>();
+        boolean[] failing = {true};
+        when(mapper.addViewCounts(anyString(), anyString(), any())).thenAnswer(invocation -> {
+            if (failing[0]) {
+                throw new IllegalStateException("DB 연결 실패");
+            }
+            Map<Long, Long> counts = invocation.getArgument(2);
+            counts.forEach((id, count) -> stored.merge(id, count, Long::sum));
+            return counts.size();
+        });
+        ViewCounterService service = service(mapper);
+
+        service.increment(PROJECT, 1L);
+        service.increment(PROJECT, 1L);
+        service.flush();
+        // 반영 실패분은 한 번만 더해짐
+        assertEquals(2L, service.pending(PROJECT, 1L));
+
+        service.increment(PROJECT, 1L);
+        assertEquals(3L, service.pending(PROJECT, 1L));
+
+        failing[0] = false;
+        service.flush();
+        assertEquals(3L, (long) stored.get(1L));
+        assertEquals(0L, service.pending(PROJECT, 1L));
+    }
+
+    @Test
+    public void countsIncrementsOnRetiredAdder() {
+        ViewCounterMapper mapper = mock(ViewCounterMapper.class);
+        ViewCounterService service = service(mapper);
+
+        service.increment(PROJECT, 7L);
+        service.flush();
+        // 조회가 없던 주기에 누적기가 정리된 뒤, 정리 직전에 참조를 얻은 스레드가 더한 경우
+        @SuppressWarnings("unchecked")
+        Map<ViewCounterService.Target, Map<Long, LongAdder>> pending =
+                (Map<ViewCounterService.Target, Map<Long, LongAdder>>) ReflectionTestUtils.getField(service, "pending");
+        LongAdder adder = pending.get(PROJECT).get(7L);
+        service.flush();
+        adder.increment();
+
+        assertEquals(1L, service.pending(PROJECT, 7L));
+        service.increment(PROJECT, 7L);
+        assertEquals(2L, service.pending(PROJECT, 7L));
+    }
+
+    private static ViewCounterService service(ViewCounterMapper mapper) {
+        ViewCounterService service = new ViewCounterService(mapper, event -> { }, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "batchSize", 500);
+        return service;
+    }
+}
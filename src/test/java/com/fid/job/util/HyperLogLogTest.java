@@ -0,0 +1,102 @@
+package com.fid.job.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HyperLogLogTest {
+
+    private static final int PRECISION = 9;
+    // 표준 오차 1.04 / sqrt(512) (약 4.6%)
+    private static final double STANDARD_ERROR = 1.04 / Math.sqrt(1 << PRECISION);
+    private static final int TRIALS = 10;
+
+    @Test
+    public void estimatesWithinErrorBound() {
+        for (int cardinality : new int[]{1000, 10000, 100000}) {
+            // 스케치 하나의 오차는 표준 오차 근처에서 흔들리므로 서로 다른 값 집합 여러 개로 편향과 RMS 를 확인
+            double sum = 0;
+            double squares = 0;
+            for (int trial = 0; trial < TRIALS; trial++) {
+                HyperLogLog sketch = new HyperLogLog(PRECISION);
+                for (int i = 0; i < cardinality; i++) {
+                    sketch.add("user" + trial + ":" + i);
+                }
+                double error = (sketch.estimate() - cardinality) / (double) cardinality;
+                sum += error;
+                squares += error * error;
+            }
+            double bias = sum / TRIALS;
+            double rms = Math.sqrt(squares / TRIALS);
+            assertTrue(Math.abs(bias) < STANDARD_ERROR, cardinality + "건 편향 " + bias);
+            assertTrue(rms < 1.5 * STANDARD_ERROR, cardinality + "건 RMS 오차 " + rms);
+        }
+    }
+
+    @Test
+    public void countsSmallSetsAlmostExactly() {
+        HyperLogLog sketch = new HyperLogLog(PRECISION);
+        assertEquals(0, sketch.estimate());
+        for (int i = 0; i < 20; i++) {
+            sketch.add("visitor-" + i);
+        }
+        assertEquals(20, sketch.estimate(), 1);
+    }
+
+    @Test
+    public void ignoresDuplicates() {
+        HyperLogLog sketch = new HyperLogLog(PRECISION);
+        assertTrue(sketch.add("same"));
+        assertFalse(sketch.add("same"));
+        for (int i = 0; i < 1000; i++) {
+            sketch.add("same");
+        }
+        assertEquals(1, sketch.estimate());
+    }
+
+    @Test
+    public void mergeEqualsSketchOfUnion() {
+        HyperLogLog left = new HyperLogLog(PRECISION);
+        HyperLogLog right = new HyperLogLog(PRECISION);
+        HyperLogLog union = new HyperLogLog(PRECISION);
+        for (int i = 0; i < 30000; i++) {
+            (i % 3 == 0 ? right : left).add("id" + i);
+            union.add("id" + i);
+        }
+        // 겹치는 구간
+        for (int i = 0; i < 5000; i++) {
+            right.add("id" + i);
+        }
+
+        left.merge(right);
+
+        assertArrayEquals(union.toBytes(), left.toBytes());
+        assertEquals(union.estimate(), left.estimate());
+    }
+
+    @Test
+    public void rejectsMergeOfDifferentPrecision() {
+        assertThrows(IllegalArgumentException.class, () -> new HyperLogLog(9).merge(new HyperLogLog(10)));
+        assertThrows(IllegalArgumentException.class, () -> new HyperLogLog(3));
+    }
+
+    @Test
+    public void roundTripsPackedRegisters() {
+        HyperLogLog sketch = new HyperLogLog(PRECISION);
+        for (int i = 0; i < 5000; i++) {
+            sketch.add("member" + i);
+        }
+
+        byte[] packed = sketch.toBytes();
+        HyperLogLog restored = HyperLogLog.fromBytes(PRECISION, packed);
+
+        assertEquals(384, packed.length);
+        assertArrayEquals(packed, restored.toBytes());
+        assertEquals(sketch.estimate(), restored.estimate());
+        assertThrows(IllegalArgumentException.class, () -> HyperLogLog.fromBytes(PRECISION, new byte[10]));
+    }
+}
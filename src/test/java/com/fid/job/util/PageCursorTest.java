@@ -0,0 +1,67 @@
+package com.fid.job.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PageCursorTest {
+
+    @Test
+    public void roundTripsKeysAndId() {
+        LocalDateTime createdAt = LocalDateTime.of(2026, 3, 1, 9, 30, 15, 123456000);
+        String cursor = PageCursor.encode("default", true, false, createdAt, 42L);
+
+        Map<String, Object> keyset = PageCursor.decode(cursor, "default", 4);
+
+        // 매퍼 비교용 값 (불리언은 0/1, 시각은 마이크로초까지)
+        assertEquals(1, keyset.get("k1"));
+        assertEquals(0, keyset.get("k2"));
+        assertEquals("2026-03-01 09:30:15.123456", keyset.get("k3"));
+        assertEquals(42, ((Number) keyset.get("id")).intValue());
+    }
+
+    @Test
+    public void encodesDatesAndDecimalsAsStrings() {
+        String cursor = PageCursor.encode("deadline", LocalDate.of(2026, 12, 31), new BigDecimal("1.50E+6"), 7L);
+
+        Map<String, Object> keyset = PageCursor.decode(cursor, "deadline", 3);
+
+        assertEquals("2026-12-31", keyset.get("k1"));
+        assertEquals("1500000", keyset.get("k2"));
+    }
+
+    @Test
+    public void isUrlSafe() {
+        String cursor = PageCursor.encode("latest", "??>>~~", 1L);
+
+        assertFalse(cursor.contains("+") || cursor.contains("/") || cursor.contains("="));
+    }
+
+    @Test
+    public void treatsMissingSortAsDefault() {
+        String cursor = PageCursor.encode(null, 5L);
+
+        assertEquals(5, ((Number) PageCursor.decode(cursor, "", 1).get("id")).intValue());
+    }
+
+    @Test
+    public void rejectsCursorOfAnotherSortOrShape() {
+        String cursor = PageCursor.encode("latest", LocalDateTime.of(2026, 1, 1, 0, 0), 3L);
+
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decode(cursor, "budget", 2));
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decode(cursor, "latest", 3));
+    }
+
+    @Test
+    public void rejectsMalformedCursor() {
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decode("not a cursor!", "default", 1));
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decode("e30", "default", 1));
+    }
+}